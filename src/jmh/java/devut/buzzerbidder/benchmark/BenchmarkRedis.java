@@ -0,0 +1,70 @@
+package devut.buzzerbidder.benchmark;
+
+import java.net.URI;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 벤치마크용 Redis 연결
+ *
+ * - 기본: 벤치마크 JVM 안에서 redis:7-alpine 컨테이너를 띄우고 종료 시 정리 (외부 인프라 불필요)
+ * - -Dbench.redis.url=redis://host:port/db 를 주면 해당 인스턴스 사용
+ *   (iteration마다 FLUSHDB 하므로 반드시 벤치마크 전용 DB를 지정, db 생략 시 15)
+ */
+final class BenchmarkRedis implements AutoCloseable {
+
+    private static final String URL_PROPERTY = "bench.redis.url";
+    private static final int DEFAULT_EXTERNAL_DB = 15;
+
+    private final GenericContainer<?> container;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+
+    private BenchmarkRedis(GenericContainer<?> container, RedisStandaloneConfiguration config) {
+        this.container = container;
+        this.connectionFactory = new LettuceConnectionFactory(config);
+        this.connectionFactory.afterPropertiesSet();
+        this.template = new StringRedisTemplate(connectionFactory);
+    }
+
+    static BenchmarkRedis start() {
+        String url = System.getProperty(URL_PROPERTY);
+        if (url != null && !url.isBlank()) {
+            URI uri = URI.create(url);
+            RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                    uri.getHost(), uri.getPort() > 0 ? uri.getPort() : 6379);
+            String path = uri.getPath();
+            config.setDatabase(path == null || path.length() <= 1 ? DEFAULT_EXTERNAL_DB : Integer.parseInt(path.substring(1)));
+            return new BenchmarkRedis(null, config);
+        }
+
+        GenericContainer<?> container = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(6379);
+        container.start();
+        return new BenchmarkRedis(container,
+                new RedisStandaloneConfiguration(container.getHost(), container.getMappedPort(6379)));
+    }
+
+    StringRedisTemplate template() {
+        return template;
+    }
+
+    void flushDb() {
+        template.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        connectionFactory.destroy();
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package devut.buzzerbidder.benchmark;
+
+import devut.buzzerbidder.global.security.JwtUtil;
+import devut.buzzerbidder.global.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 요청당 액세스 토큰 검증 비용 (jjwt 파싱/HMAC 검증 vs VerifiedTokenCache)
+ *
+ * - JJWT: 매 요청 JwtUtil.jwt.payloadOrNull (AuthTokenService 기존 경로)
+ * - CACHED: 같은 토큰 반복 요청 (폴링 클라이언트), 첫 요청 이후 SHA-256 다이제스트 + 맵 조회만
+ * - CACHED_INVALID: 위조 토큰 반복 요청 (negative 캐시)
+ *
+ * ./gradlew jmh -PjmhIncludes=JwtVerifyBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtVerifyBenchmark {
+
+    public enum Path { JJWT, CACHED, CACHED_INVALID }
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-bytes-long";
+
+    @Param({"JJWT", "CACHED", "CACHED_INVALID"})
+    public Path path;
+
+    private String token;
+    private VerifiedTokenCache cache;
+
+    @Setup
+    public void setUp() {
+        String valid = JwtUtil.jwt.toString(SECRET, 3600,
+                Map.of("id", 1L, "email", "bench@test.com", "nickname", "bench"));
+        // 서명 마지막 글자만 바꾼 위조 토큰
+        token = path == Path.CACHED_INVALID
+                ? valid.substring(0, valid.length() - 1) + (valid.endsWith("A") ? "B" : "A")
+                : valid;
+        cache = new VerifiedTokenCache(new SimpleMeterRegistry(), true, 100_000, 60_000);
+    }
+
+    @Benchmark
+    public Map<String, Object> verify() {
+        if (path == Path.JJWT) {
+            return JwtUtil.jwt.payloadOrNull(token, SECRET);
+        }
+        return cache.payloadOrNull(token, System.currentTimeMillis(), JwtVerifyBenchmark::verifyWithJjwt);
+    }
+
+    // AuthTokenService.verify와 같은 작업
+    private static VerifiedTokenCache.Verified verifyWithJjwt(String jwt) {
+        Map<String, Object> payload = JwtUtil.jwt.payloadOrNull(jwt, SECRET);
+        if (payload == null) {
+            return null;
+        }
+        return new VerifiedTokenCache.Verified(
+                Map.of("id", ((Number) payload.get("id")).longValue(),
+                        "email", payload.get("email"),
+                        "nickname", payload.get("nickname")),
+                JwtUtil.jwt.expiresAtMs(payload)
+        );
+    }
+}
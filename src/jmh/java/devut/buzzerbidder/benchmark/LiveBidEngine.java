@@ -0,0 +1,185 @@
+package devut.buzzerbidder.benchmark;
+
+import devut.buzzerbidder.domain.auctionroom.service.AuctionRoomViewCache;
+import devut.buzzerbidder.domain.liveBid.dto.LiveBidEvent;
+import devut.buzzerbidder.domain.liveBid.service.AuctionRoomEventLog;
+import devut.buzzerbidder.domain.liveBid.service.BidHoldReconciler;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidService;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidWebSocketService;
+import devut.buzzerbidder.domain.liveBid.service.LiveItemNearCache;
+import devut.buzzerbidder.domain.liveitem.service.LiveItemPriceWriteBehind;
+import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.domain.wallet.service.WalletRedisService;
+import devut.buzzerbidder.domain.wallet.service.WalletService;
+import devut.buzzerbidder.global.jpa.entity.BaseEntity;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisClock;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 벤치마크 대상 입찰 경로 조립
+ *
+ * 입찰 핫패스(LiveBidService.bid → updateMaxBidPriceAtomicWithDeposit → handleBidResult)와
+ * WalletRedisService.changeBizzIfPresent에 필요한 빈만 손으로 엮음
+ * - DB/JPA 의존(WalletService 저장소, write-behind flush)은 핫패스에서 호출되지 않으므로 null
+ * - STOMP 브로드캐스트는 Jackson 직렬화까지만 하고 버리는 채널로 전송
+ */
+final class LiveBidEngine {
+
+    static final Long ROOM_ID = 1L;
+    static final Long SELLER_ID = 1L;
+
+    // 이미 최고 입찰자로 등록된 유저 (-1), 잔액 0인 유저 (-2), Redis에 지갑이 없는 유저 (MISS)
+    static final Long LEADER_ID = 900L;
+    static final Long POOR_ID = 901L;
+    static final Long MISSING_ID = 902L;
+
+    // 스레드별 입찰자 id 범위
+    static final long FIRST_BIDDER_ID = 1_000L;
+    static final int MAX_BIDDERS = 256;
+
+    static final int INITIAL_PRICE = 10_000;
+    static final long RICH_BALANCE = 1_000_000_000_000L;
+
+    final MeterRegistry meterRegistry;
+    final AuctionRedisKeys auctionRedisKeys;
+    final WalletRedisService walletRedisService;
+    final LiveBidRedisService liveBidRedisService;
+    final LiveBidService liveBidService;
+
+    private final StringRedisTemplate template;
+
+    private LiveBidEngine(StringRedisTemplate template, MeterRegistry meterRegistry, AuctionRedisKeys auctionRedisKeys,
+                          LiveBidRedisService liveBidRedisService, WalletRedisService walletRedisService) {
+        this.template = template;
+        this.meterRegistry = meterRegistry;
+        this.auctionRedisKeys = auctionRedisKeys;
+        this.walletRedisService = walletRedisService;
+        this.liveBidRedisService = liveBidRedisService;
+
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> true);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+        this.liveBidService = new LiveBidService(
+                liveBidRedisService,
+                new LiveBidWebSocketService(
+                        new AuctionRoomEventLog(messagingTemplate, meterRegistry, false, false, 256, 10000, 1800000L),
+                        meterRegistry, false, 100L),
+                new WalletService(walletRedisService, null, null, null, null),
+                new LiveItemPriceWriteBehind(null, null),
+                null,
+                new AuctionRoomViewCache(null, null, null, null, meterRegistry, false, 2000L, 1000L, 5000, 3000L),
+                meterRegistry,
+                false
+        );
+    }
+
+    /** 실제 Redis(Lua 포함)를 거치는 조립 */
+    static LiveBidEngine onRedis(StringRedisTemplate template, AuctionRedisKeys.Mode mode) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisScriptRegistry registry = new RedisScriptRegistry(template, meterRegistry);
+        AuctionRedisKeys keys = new AuctionRedisKeys(template, mode, 16);
+        WalletRedisService wallet = new WalletRedisService(template, null, registry, null, keys);
+        RedisClock clock = new RedisClock(template, meterRegistry, true, 10, 3, 200);
+        BidHoldReconciler reconciler = new BidHoldReconciler(template, keys, wallet, meterRegistry, 2000, 600000);
+        return new LiveBidEngine(template, meterRegistry, keys, new LiveBidRedisService(template, registry, keys, wallet, clock, meterRegistry, disabledNearCache(meterRegistry), reconciler), wallet);
+    }
+
+    /**
+     * Redis 없이 스크립트 결과만 흉내내는 조립 (결과 파싱/분기/예외/브로드캐스트 비용만 측정)
+     * - 스트림 XADD, 실패 시 현재가 조회도 네트워크 없이 즉시 반환
+     */
+    static LiveBidEngine inProcess() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisScriptRegistry registry = new StubScriptRegistry(meterRegistry);
+        AuctionRedisKeys keys = new AuctionRedisKeys(null, AuctionRedisKeys.Mode.LEGACY, 16);
+        WalletRedisService wallet = new WalletRedisService(null, null, registry, null, keys);
+
+        LiveBidRedisService liveBid = new LiveBidRedisService(null, registry, keys, wallet, null, meterRegistry, disabledNearCache(meterRegistry), null) {
+            private static final RecordId RECORD_ID = RecordId.of(1L, 0L);
+            private static final String CURRENT_PRICE = String.valueOf(INITIAL_PRICE);
+
+            @Override
+            public RecordId saveBidLogToStream(LiveBidEvent event) {
+                return RECORD_ID;
+            }
+
+            @Override
+            public String getLiveItemField(Long liveItemId, String field) {
+                return CURRENT_PRICE;
+            }
+        };
+        return new LiveBidEngine(null, meterRegistry, keys, liveBid, wallet);
+    }
+
+    /* ==================== 시드 (Redis 조립 전용) ==================== */
+
+    /** 진행 중 아이템 생성. leader가 있으면 이미 그 유저가 최고 입찰자인 상태 */
+    void seedItem(Long liveItemId, Long leaderId) {
+        Map<String, String> data = new HashMap<>();
+        data.put("maxBidPrice", String.valueOf(INITIAL_PRICE));
+        data.put("currentBidderId", leaderId == null ? "" : leaderId.toString());
+        data.put("endTime", String.valueOf(liveBidRedisService.getRedisNowMs() + Duration.ofHours(1).toMillis()));
+        data.put("sellerId", SELLER_ID.toString());
+        data.put("roomId", ROOM_ID.toString());
+        data.put("status", "IN_PROGRESS");
+        liveBidRedisService.initLiveItemHash(liveItemId, data, Duration.ofHours(1));
+    }
+
+    /** 경매 세션 + 잔액 적재 */
+    void seedWallet(Long userId, long balance) {
+        walletRedisService.tryAcquireSessionAndInitBalance(userId, ROOM_ID, balance, null);
+    }
+
+    /** 가격이 상한에 닿은 아이템의 최고가만 초기값으로 되돌림 (int 범위/잔액 소모 방지) */
+    void resetPrice(Long liveItemId) {
+        template.opsForHash().put(
+                auctionRedisKeys.itemForWrite(liveItemId).itemKey(), "maxBidPrice", String.valueOf(INITIAL_PRICE));
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    /** 근거리 캐시 비활성 (입찰 경로는 캐시를 거치지 않음) */
+    private static LiveItemNearCache disabledNearCache(MeterRegistry meterRegistry) {
+        return new LiveItemNearCache(null, null, meterRegistry, false, 0, 0);
+    }
+
+    static User bidder(Long userId) {
+        User user = User.builder()
+                .email("bench" + userId + "@buzzerbidder.dev")
+                .nickname("bench" + userId)
+                .build();
+        try {
+            Field id = BaseEntity.class.getDeclaredField("id");
+            id.setAccessible(true);
+            id.set(user, userId);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return user;
+    }
+
+    /** 스크립트별 결과 코드 분포 (시나리오가 의도한 코드 비율로 돌았는지 확인용) */
+    String resultCodeSummary() {
+        return meterRegistry.find("buzzerbidder.redis.script.result").counters().stream()
+                .map(c -> c.getId().getTag("script") + "[" + c.getId().getTag("code") + "]=" + (long) c.count())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    static long depositOf(int bidPrice) {
+        return (long) Math.ceil(bidPrice * 0.2);
+    }
+}
@@ -0,0 +1,112 @@
+package devut.buzzerbidder.benchmark;
+
+import static devut.buzzerbidder.benchmark.LiveBidEngine.FIRST_BIDDER_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.INITIAL_PRICE;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.LEADER_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.MISSING_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.POOR_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.ROOM_ID;
+
+import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidRequest;
+import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.global.exeption.BusinessException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Redis 왕복을 뺀 입찰 핫패스의 JVM 쪽 비용 (결과 파싱, 분기, 예외 생성, 브로드캐스트 직렬화)
+ *
+ * 스크립트 반환값은 StubScriptRegistry가 흉내냄. Lua 결과 형식이나 handleBidResult를 바꿨을 때
+ * Redis 지연에 묻히지 않고 처리량/할당량(-prof gc) 차이를 보기 위한 용도
+ *
+ * - SUCCESS: 전부 성공
+ * - REJECT_MIX: 0 / -1 / -2 를 1:1:1로 반복
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LiveBidInProcessBenchmark {
+
+    public enum Scenario { SUCCESS, REJECT_MIX }
+
+    private static final Long ITEM_ID = 1L;
+
+    @Param({"SUCCESS", "REJECT_MIX"})
+    public Scenario scenario;
+
+    private LiveBidEngine engine;
+
+    // 요청 객체는 입력이므로 미리 만들어 두고 재사용 (측정 대상 할당에서 제외)
+    private LiveBidRequest validRequest;
+    private LiveBidRequest lowPriceRequest;
+
+    @State(Scope.Thread)
+    public static class Bidder {
+        final User self = LiveBidEngine.bidder(FIRST_BIDDER_ID);
+        final User leader = LiveBidEngine.bidder(LEADER_ID);
+        final User poor = LiveBidEngine.bidder(POOR_ID);
+        long seq;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = LiveBidEngine.inProcess();
+        validRequest = new LiveBidRequest(ITEM_ID, ROOM_ID, INITIAL_PRICE * 2);
+        lowPriceRequest = new LiveBidRequest(ITEM_ID, ROOM_ID, INITIAL_PRICE / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void printResultCodes() {
+        System.out.println("[" + scenario + "] " + engine.resultCodeSummary());
+    }
+
+    @Benchmark
+    public Object serviceBid(Bidder bidder) {
+        User user = bidder.self;
+        LiveBidRequest request = validRequest;
+
+        if (scenario == Scenario.REJECT_MIX) {
+            switch ((int) (bidder.seq++ % 3)) {
+                case 0 -> request = lowPriceRequest;
+                case 1 -> user = bidder.leader;
+                default -> user = bidder.poor;
+            }
+        }
+
+        try {
+            return engine.liveBidService.bid(request, user);
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    @Benchmark
+    public Object changeBizzIfPresent(Bidder bidder) {
+        Long userId = bidder.self.getId();
+
+        if (scenario == Scenario.REJECT_MIX) {
+            switch ((int) (bidder.seq++ % 3)) {
+                case 0 -> { }
+                case 1 -> userId = POOR_ID;
+                default -> userId = MISSING_ID;
+            }
+        }
+
+        try {
+            return engine.walletRedisService.changeBizzIfPresent(userId, 1L, false, "BENCH", null);
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+}
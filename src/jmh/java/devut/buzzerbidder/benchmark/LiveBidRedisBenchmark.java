@@ -0,0 +1,194 @@
+package devut.buzzerbidder.benchmark;
+
+import static devut.buzzerbidder.benchmark.LiveBidEngine.FIRST_BIDDER_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.INITIAL_PRICE;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.LEADER_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.MAX_BIDDERS;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.POOR_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.RICH_BALANCE;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.ROOM_ID;
+
+import devut.buzzerbidder.domain.liveBid.dto.BidAtomicResult;
+import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidRequest;
+import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 실제 Redis(Lua)를 거치는 입찰 핫패스 벤치마크
+ *
+ * - serviceBid: LiveBidService.bid 전체 (스크립트 + 결과 분기 + 스트림 XADD + 브로드캐스트 직렬화)
+ * - bidScript: updateMaxBidPriceAtomicWithDeposit만 (스크립트 + 결과 파싱)
+ *
+ * 시나리오
+ * - HOT_ITEM: 모든 스레드가 아이템 하나에 유효가로 입찰 (성공/0/-1이 경합으로 섞임)
+ * - SPREAD: 1,024개 아이템에 무작위 입찰 (대부분 성공)
+ * - REJECT_MIX: 0(가격 낮음) / -1(이미 최고 입찰자) / -2(잔액 부족)을 1:1:1로 반복
+ *
+ * Throughput + SampleTime(p99) 로 측정, build.gradle의 jmh 설정에서 -prof gc 적용
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LiveBidRedisBenchmark {
+
+    public enum Scenario { HOT_ITEM, SPREAD, REJECT_MIX }
+
+    private static final long HOT_ITEM_ID = 1L;
+    private static final int SPREAD_ITEMS = 1_024;
+    private static final int REJECT_ITEMS = 64;
+
+    // 가격이 이 값을 넘으면 초기가로 되돌림 (Integer 입찰가 범위 안에서 계속 성공 입찰이 나오도록)
+    private static final int PRICE_CAP = 100_000_000;
+
+    @Param({"HOT_ITEM", "SPREAD", "REJECT_MIX"})
+    public Scenario scenario;
+
+    @Param({"LEGACY", "SHARDED"})
+    public AuctionRedisKeys.Mode keySchema;
+
+    private BenchmarkRedis redis;
+    private LiveBidEngine engine;
+
+    // 아이템별 마지막 제출가. Redis를 다시 읽지 않고 다음 유효가를 계산하기 위한 근사치
+    private AtomicIntegerArray submittedPrices;
+    private final AtomicInteger bidderSeq = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Bidder {
+        User self;
+        User leader;
+        User poor;
+        User current;
+        long seq;
+
+        @Setup(Level.Trial)
+        public void init(LiveBidRedisBenchmark benchmark) {
+            self = LiveBidEngine.bidder(FIRST_BIDDER_ID + benchmark.bidderSeq.getAndIncrement() % MAX_BIDDERS);
+            leader = LiveBidEngine.bidder(LEADER_ID);
+            poor = LiveBidEngine.bidder(POOR_ID);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startRedis() {
+        redis = BenchmarkRedis.start();
+        engine = LiveBidEngine.onRedis(redis.template(), keySchema);
+    }
+
+    /** 세션 TTL(35초)이 iteration 중에 끝나지 않도록 iteration마다 새로 적재 */
+    @Setup(Level.Iteration)
+    public void seed() {
+        redis.flushDb();
+
+        int items = switch (scenario) {
+            case HOT_ITEM -> 1;
+            case SPREAD -> SPREAD_ITEMS;
+            case REJECT_MIX -> REJECT_ITEMS;
+        };
+        submittedPrices = new AtomicIntegerArray(items + 1);
+        for (int id = 1; id <= items; id++) {
+            engine.seedItem((long) id, scenario == Scenario.REJECT_MIX ? LEADER_ID : null);
+            submittedPrices.set(id, INITIAL_PRICE);
+        }
+
+        for (int i = 0; i < MAX_BIDDERS; i++) {
+            engine.seedWallet(FIRST_BIDDER_ID + i, RICH_BALANCE);
+        }
+        engine.seedWallet(LEADER_ID, RICH_BALANCE);
+        engine.seedWallet(POOR_ID, 0L);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopRedis() {
+        System.out.println("[" + scenario + "/" + keySchema + "] " + engine.resultCodeSummary());
+        redis.close();
+    }
+
+    @Benchmark
+    public Object serviceBid(Bidder bidder) {
+        LiveBidRequest request = next(bidder);
+        try {
+            return engine.liveBidService.bid(request, bidder.current);
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    @Benchmark
+    public BidAtomicResult bidScript(Bidder bidder) {
+        LiveBidRequest request = next(bidder);
+        return engine.liveBidRedisService.updateMaxBidPriceAtomicWithDeposit(
+                request.liveItemId(),
+                bidder.current.getId(),
+                request.bidPrice(),
+                LiveBidEngine.depositOf(request.bidPrice()),
+                35L,
+                600L
+        );
+    }
+
+    /* ==================== 요청 생성 ==================== */
+
+    private LiveBidRequest next(Bidder bidder) {
+        switch (scenario) {
+            case HOT_ITEM -> {
+                bidder.current = bidder.self;
+                return validBid(HOT_ITEM_ID);
+            }
+            case SPREAD -> {
+                bidder.current = bidder.self;
+                return validBid(1L + ThreadLocalRandom.current().nextInt(SPREAD_ITEMS));
+            }
+            default -> {
+                long itemId = 1L + bidder.seq % REJECT_ITEMS;
+                int kind = (int) (bidder.seq++ % 3);
+                if (kind == 0) {
+                    // 0: 최소 인상폭 미달
+                    bidder.current = bidder.self;
+                    return new LiveBidRequest(itemId, ROOM_ID, INITIAL_PRICE / 2);
+                }
+                // -1: 이미 최고 입찰자 / -2: 가격은 유효하지만 보증금을 낼 잔액 없음
+                bidder.current = kind == 1 ? bidder.leader : bidder.poor;
+                return new LiveBidRequest(itemId, ROOM_ID, INITIAL_PRICE * 2);
+            }
+        }
+    }
+
+    private LiveBidRequest validBid(long itemId) {
+        int index = (int) itemId;
+        int current = submittedPrices.get(index);
+        int price = minNextPrice(current);
+
+        if (price > PRICE_CAP) {
+            if (submittedPrices.compareAndSet(index, current, INITIAL_PRICE)) {
+                engine.resetPrice(itemId);
+            }
+            price = minNextPrice(INITIAL_PRICE);
+        }
+
+        submittedPrices.accumulateAndGet(index, price, Math::max);
+        return new LiveBidRequest(itemId, ROOM_ID, price);
+    }
+
+    // Lua와 같은 규칙: 최고가의 5% 이상, 최소 100
+    private static int minNextPrice(int current) {
+        return current + Math.max((int) Math.ceil(current * 5 / 100.0), 100);
+    }
+}
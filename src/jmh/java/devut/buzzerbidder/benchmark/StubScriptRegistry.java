@@ -0,0 +1,64 @@
+package devut.buzzerbidder.benchmark;
+
+import devut.buzzerbidder.global.redis.RedisLuaScript;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+
+/**
+ * Redis 없이 스크립트 반환값만 돌려주는 레지스트리 (in-process 벤치마크용)
+ *
+ * 실제 스크립트와 같은 규칙으로 입력에 따라 결과 코드를 고름
+ * - livebid.bid: LEADER → -1, POOR → -2, 초기가 미만 → 0, 그 외 성공
+ * - wallet.change_if_present: POOR → 잔액 부족, MISSING → 키 없음(MISS), 그 외 성공
+ * 반환 리스트는 미리 만들어 둔 상수라 측정되는 할당은 호출자 쪽(파싱/분기/예외) 비용만 남음
+ */
+final class StubScriptRegistry extends RedisScriptRegistry {
+
+    private static final String LEADER = LiveBidEngine.LEADER_ID.toString();
+    private static final String POOR = LiveBidEngine.POOR_ID.toString();
+    private static final String MISSING = LiveBidEngine.MISSING_ID.toString();
+
+    private static final String END_TIME = String.valueOf(4_102_444_800_000L);
+
+    // {code, before, after, refundFailed, sellerId, roomId, leaderId, price, endTime} (leaderId/price 빈 값 = 입찰 그대로)
+    private static final List<Object> BID_SUCCESS = List.of(
+            1L, 1_000_000L, 998_000L, 0L, LiveBidEngine.SELLER_ID.toString(), LiveBidEngine.ROOM_ID.toString(),
+            "", "", END_TIME);
+    // 거절: {code, curMax, endTime}
+    private static final List<Object> BID_LOW_PRICE = List.of(0L, (long) LiveBidEngine.INITIAL_PRICE, END_TIME);
+    private static final List<Object> BID_ALREADY_HIGHEST = List.of(-1L, (long) LiveBidEngine.INITIAL_PRICE, END_TIME);
+    private static final List<Object> BID_INSUFFICIENT = List.of(-2L, (long) LiveBidEngine.INITIAL_PRICE, END_TIME);
+
+    // {before, after, version}
+    private static final List<Object> CHANGE_SUCCESS = List.of(1_000_000L, 999_999L, 1L);
+    private static final List<Object> CHANGE_INSUFFICIENT = List.of(0L, -1L, 0L);
+    private static final List<Object> CHANGE_MISS = List.of(-2L, -2L, 0L);
+
+    StubScriptRegistry(MeterRegistry meterRegistry) {
+        super(null, meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(RedisLuaScript<T> luaScript, List<String> keys, String... args) {
+        return (T) switch (luaScript.name()) {
+            case "livebid.bid" -> bid(args[0], Integer.parseInt(args[1]));
+            case "wallet.change_if_present" -> change(args[0]);
+            default -> throw new UnsupportedOperationException("stub 미지원 스크립트: " + luaScript.name());
+        };
+    }
+
+    private static List<Object> bid(String bidderId, int price) {
+        if (LEADER.equals(bidderId)) return BID_ALREADY_HIGHEST;
+        if (POOR.equals(bidderId)) return BID_INSUFFICIENT;
+        if (price < LiveBidEngine.INITIAL_PRICE) return BID_LOW_PRICE;
+        return BID_SUCCESS;
+    }
+
+    private static List<Object> change(String userId) {
+        if (POOR.equals(userId)) return CHANGE_INSUFFICIENT;
+        if (MISSING.equals(userId)) return CHANGE_MISS;
+        return CHANGE_SUCCESS;
+    }
+}
@@ -0,0 +1,107 @@
+package devut.buzzerbidder.benchmark;
+
+import static devut.buzzerbidder.benchmark.LiveBidEngine.FIRST_BIDDER_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.MAX_BIDDERS;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.MISSING_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.POOR_ID;
+import static devut.buzzerbidder.benchmark.LiveBidEngine.RICH_BALANCE;
+
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * WalletRedisService.changeBizzIfPresent 벤치마크 (실제 Redis)
+ *
+ * - HOT_WALLET: 모든 스레드가 한 유저 잔액을 +1/-1
+ * - SPREAD: 스레드마다 다른 유저 잔액을 +1/-1
+ * - REJECT_MIX: 성공 / 잔액 부족(예외) / 키 없음(hit=false)을 1:1:1로 반복
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class WalletChangeRedisBenchmark {
+
+    public enum Scenario { HOT_WALLET, SPREAD, REJECT_MIX }
+
+    private static final Long AMOUNT = 1L;
+
+    @Param({"HOT_WALLET", "SPREAD", "REJECT_MIX"})
+    public Scenario scenario;
+
+    @Param({"LEGACY", "SHARDED"})
+    public AuctionRedisKeys.Mode keySchema;
+
+    private BenchmarkRedis redis;
+    private LiveBidEngine engine;
+    private final AtomicInteger userSeq = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Caller {
+        Long self;
+        long seq;
+
+        @Setup(Level.Trial)
+        public void init(WalletChangeRedisBenchmark benchmark) {
+            self = benchmark.scenario == Scenario.HOT_WALLET
+                    ? FIRST_BIDDER_ID
+                    : FIRST_BIDDER_ID + benchmark.userSeq.getAndIncrement() % MAX_BIDDERS;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startRedis() {
+        redis = BenchmarkRedis.start();
+        engine = LiveBidEngine.onRedis(redis.template(), keySchema);
+    }
+
+    @Setup(Level.Iteration)
+    public void seed() {
+        redis.flushDb();
+        for (int i = 0; i < MAX_BIDDERS; i++) {
+            engine.seedWallet(FIRST_BIDDER_ID + i, RICH_BALANCE);
+        }
+        engine.seedWallet(POOR_ID, 0L);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopRedis() {
+        redis.close();
+    }
+
+    @Benchmark
+    public Object changeBizzIfPresent(Caller caller) {
+        long seq = caller.seq++;
+        Long userId = caller.self;
+        boolean increase = (seq & 1) == 0;
+
+        if (scenario == Scenario.REJECT_MIX) {
+            int kind = (int) (seq % 3);
+            if (kind == 1) {
+                userId = POOR_ID;
+                increase = false;
+            } else if (kind == 2) {
+                userId = MISSING_ID;
+            }
+        }
+
+        try {
+            return engine.walletRedisService.changeBizzIfPresent(userId, AMOUNT, increase, "BENCH", null);
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+}
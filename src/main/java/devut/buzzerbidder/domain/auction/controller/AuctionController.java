@@ -37,7 +37,7 @@ public class AuctionController {
     ) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        Long userId = userDetails != null ? userDetails.getId() : null;
 
         AuctionListResponse response = auctionService.searchAuctions(searchRequest, pageable, userId);
         return ApiResponse.ok("통합 경매 검색", response);
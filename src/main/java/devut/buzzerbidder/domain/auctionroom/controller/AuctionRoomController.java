@@ -4,6 +4,7 @@ import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomListRespons
 import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomResponse;
 import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionScheduleResponse;
 import devut.buzzerbidder.domain.auctionroom.service.AuctionRoomService;
+import devut.buzzerbidder.domain.auctionroom.service.AuctionRoomViewCache;
 import devut.buzzerbidder.global.response.ApiResponse;
 import devut.buzzerbidder.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuctionRoomController {
 
     private final AuctionRoomService auctionRoomService;
+    private final AuctionRoomViewCache auctionRoomViewCache;
 
     @GetMapping
     @Operation(summary = "경매방 다건 조회")
@@ -38,7 +40,7 @@ public class AuctionRoomController {
         Long userId = (userDetails != null) ? userDetails.getId() : null;
 
         AuctionRoomListResponse response =
-            auctionRoomService.getAuctionRooms(targetTime,userId);
+            auctionRoomViewCache.getAuctionRooms(targetTime,userId);
 
         return ApiResponse.ok("경매방 다건 조회", response);
     }
@@ -62,7 +64,8 @@ public class AuctionRoomController {
         @PathVariable Long id
     ) {
 
-        AuctionRoomResponse response = auctionRoomService.getAuctionRoom(id);
+        // 시청자 공용 뷰 (입찰/상품 시작·종료 때만 다시 만듦)
+        AuctionRoomResponse response = auctionRoomViewCache.getAuctionRoom(id);
 
         return ApiResponse.ok("경매방 단건 조회", response);
     }
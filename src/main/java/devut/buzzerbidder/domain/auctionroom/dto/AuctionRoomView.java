@@ -0,0 +1,60 @@
+package devut.buzzerbidder.domain.auctionroom.dto;
+
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomItemDto;
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 경매방 단건 조회 결과를 시청자 공용으로 보관하기 위한 형태
+ *
+ * 남은 시간은 조회 시점마다 달라지므로 기준 시각(deadlineMs, Redis 시각)만 보관하고
+ * toResponse에서 계산
+ *
+ * @param deadlineMs 진행 중 상품의 종료 시각 또는 다음 상품의 시작 예정 시각 (없으면 null)
+ * @param untilStart deadlineMs가 다음 상품의 시작 예정 시각인지 여부
+ */
+public record AuctionRoomView(
+        List<AuctionRoomItemDto> items,
+        Long deadlineMs,
+        boolean untilStart
+) {
+
+    public AuctionRoomResponse toResponse(long redisNowMs, long version) {
+        Long remainingMs = null;
+        if (deadlineMs != null) {
+            long remaining = deadlineMs - redisNowMs;
+            if (!untilStart) {
+                remainingMs = Math.max(0L, remaining);
+            } else if (remaining > 0L) {
+                remainingMs = remaining;
+            }
+        }
+        return new AuctionRoomResponse(remainingMs, items, version);
+    }
+
+    /**
+     * liveItemId의 현재가만 바꾼 뷰 (입찰 순서가 뒤바뀌어 도착해도 높은 가격 유지)
+     * 해당 상품이 없거나 이미 더 높으면 그대로 반환
+     */
+    public AuctionRoomView withPrice(Long liveItemId, long price) {
+        for (int i = 0; i < items.size(); i++) {
+            AuctionRoomItemDto item = items.get(i);
+            if (!Objects.equals(item.id(), liveItemId)) continue;
+            if (item.currentPrice() != null && item.currentPrice() >= price) return this;
+
+            List<AuctionRoomItemDto> patched = new ArrayList<>(items);
+            patched.set(i, new AuctionRoomItemDto(
+                    item.id(),
+                    item.name(),
+                    item.imageUrls(),
+                    item.initPrice(),
+                    price,
+                    item.auctionStatus()
+            ));
+            return new AuctionRoomView(List.copyOf(patched), deadlineMs, untilStart);
+        }
+        return this;
+    }
+}
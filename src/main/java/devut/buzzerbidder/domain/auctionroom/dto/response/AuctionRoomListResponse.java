@@ -2,10 +2,35 @@ package devut.buzzerbidder.domain.auctionroom.dto.response;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 public record AuctionRoomListResponse(
     LocalDateTime startAt,
     List<AuctionRoomDto> rooms
 ) {
 
+    /**
+     * 공용 목록에 사용자별 찜 여부만 덮어쓴 응답
+     */
+    public AuctionRoomListResponse withLiked(Set<Long> likedItemIds) {
+        List<AuctionRoomDto> liked = rooms.stream()
+            .map(room -> new AuctionRoomDto(
+                room.roomId(),
+                room.roomIndex(),
+                room.status(),
+                room.itemCount(),
+                room.items().stream()
+                    .map(item -> new LiveItemDto(
+                        item.id(),
+                        item.title(),
+                        item.amount(),
+                        item.image(),
+                        likedItemIds.contains(item.id())
+                    ))
+                    .toList()
+            ))
+            .toList();
+
+        return new AuctionRoomListResponse(startAt, liked);
+    }
 }
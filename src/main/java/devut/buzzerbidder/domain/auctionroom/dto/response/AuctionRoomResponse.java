@@ -3,11 +3,17 @@ package devut.buzzerbidder.domain.auctionroom.dto.response;
 import devut.buzzerbidder.domain.liveitem.entity.LiveItem.AuctionStatus;
 import java.util.List;
 
+/**
+ * @param version 경매방 뷰 버전 (입찰/상품 시작·종료 반영마다 증가, 캐시를 거치지 않으면 0)
+ *                응답한 노드의 로컬 값이라 노드가 다르면 크기 비교로 최신 여부를 판단할 수 없음
+ */
 public record AuctionRoomResponse(
 
         Long remainingMs,
 
-        List<AuctionRoomItemDto> items
+        List<AuctionRoomItemDto> items,
+
+        long version
 
 ) {
 }
@@ -1,5 +1,6 @@
 package devut.buzzerbidder.domain.auctionroom.service;
 
+import devut.buzzerbidder.domain.auctionroom.dto.AuctionRoomView;
 import devut.buzzerbidder.domain.auctionroom.dto.response.*;
 import devut.buzzerbidder.domain.auctionroom.entity.AuctionRoom;
 import devut.buzzerbidder.domain.auctionroom.entity.AuctionRoom.AuctionStatus;
@@ -8,6 +9,7 @@ import devut.buzzerbidder.domain.auctionroom.entity.RoomCountByStartAtRow;
 import devut.buzzerbidder.domain.auctionroom.event.AuctionRoomStartedEvent;
 import devut.buzzerbidder.domain.auctionroom.repository.AuctionRoomRepository;
 import devut.buzzerbidder.domain.likelive.repository.LikeLiveRepository;
+import devut.buzzerbidder.domain.liveBid.dto.LiveItemSnapshots;
 import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
 import devut.buzzerbidder.domain.liveitem.entity.LiveItem;
 import devut.buzzerbidder.domain.liveitem.entity.LiveItemImage;
@@ -16,7 +18,6 @@ import devut.buzzerbidder.global.exeption.BusinessException;
 import devut.buzzerbidder.global.exeption.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,7 +37,6 @@ public class AuctionRoomService {
     private final ApplicationEventPublisher eventPublisher;
     private final LiveItemRepository liveItemRepository;
     private final LikeLiveRepository likeLiveRepository;
-    private final RedisTemplate<String, String> redisTemplate;
 
     public AuctionRoom assignRoom(LocalDateTime liveTime, long roomIndex) {
 
@@ -140,23 +140,17 @@ public class AuctionRoomService {
             .map(LiveItem::getId)
             .toList();
 
-        Set<Long> likedSet = Collections.emptySet();
-        if (userId != null && !liveItemIds.isEmpty()) {
-            likedSet = new HashSet<>(likeLiveRepository.findLikedLiveItemIds(userId, liveItemIds));
-        }
-        final Set<Long> finalLikedSet = likedSet;
+        final Set<Long> finalLikedSet = getLikedLiveItemIds(userId, liveItemIds);
+
+        // 방 전체 아이템의 현재가를 파이프라인 1회로 조회
+        LiveItemSnapshots snapshots = liveBidRedisService.getLiveItemSnapshots(liveItemIds);
 
         List<AuctionRoomDto> response = rooms.stream()
             .map(room -> {
                 List<LiveItemDto> items = room.getLiveItems().stream()
                     .map(item -> {
 
-                        String redisKey = "liveItem:" + item.getId();
-                        String maxBidPriceStr = liveBidRedisService.getHashField(redisKey, "maxBidPrice");
-
-                        Long currentMaxBidPrice = (maxBidPriceStr != null)
-                            ? Long.parseLong(maxBidPriceStr)
-                            : item.getInitPrice();
+                        Long currentMaxBidPrice = snapshots.maxBidPrice(item.getId(), item.getInitPrice());
 
                         boolean isLiked = finalLikedSet.contains(item.getId());
 
@@ -222,7 +216,27 @@ public class AuctionRoomService {
 
     }
 
+    /**
+     * 사용자가 찜한 라이브 상품 ID (비로그인이면 빈 집합)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getLikedLiveItemIds(Long userId, List<Long> liveItemIds) {
+        if (userId == null || liveItemIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(likeLiveRepository.findLikedLiveItemIds(userId, liveItemIds));
+    }
+
     public AuctionRoomResponse getAuctionRoom(Long auctionRoomId) {
+        return buildAuctionRoomView(auctionRoomId)
+                .toResponse(liveBidRedisService.getRedisNowMs(), 0L);
+    }
+
+    /**
+     * 경매방 단건 조회 결과 (남은 시간은 기준 시각으로 보관)
+     * AuctionRoomViewCache가 상태 변경 시에만 다시 만들어 시청자 전체가 공유
+     */
+    public AuctionRoomView buildAuctionRoomView(Long auctionRoomId) {
 
         AuctionRoom room = auctionRoomRepository.findRoomWithItems(auctionRoomId)
             .orElseThrow(() -> new BusinessException(ErrorCode.AUCTION_ROOM_NOT_FOUND));
@@ -239,18 +253,28 @@ public class AuctionRoomService {
                 .findFirst()
                 .orElse(null);
 
-        Long remainingMs = null;
+        // 방 아이템(+ 진행 중 아이템)의 현재가/종료 시각을 파이프라인 1회로 조회
+        List<Long> snapshotIds = new ArrayList<>(items.size() + 1);
+        items.forEach(item -> snapshotIds.add(item.getId()));
+        if (progressItem != null) snapshotIds.add(progressItem.getId());
+        LiveItemSnapshots snapshots = liveBidRedisService.getLiveItemSnapshots(snapshotIds);
+
+        Long deadlineMs = null;
+        boolean untilStart = false;
         if(progressItem != null) {
-            remainingMs = liveBidRedisService.getCurrentItemRemainingMs(progressItem.getId());
+            long endTimeMs = snapshots.endTimeMs(progressItem.getId());
+            if (endTimeMs != LiveItemSnapshots.MISSING) {
+                deadlineMs = endTimeMs;
+            }
         }
-        if(remainingMs == null && nextItem != null) {
-            remainingMs = liveBidRedisService.getRemainingToStartMs(nextItem.getId());
+        if(deadlineMs == null && nextItem != null) {
+            deadlineMs = liveBidRedisService.getStartingAtMs(nextItem.getId());
+            untilStart = true;
         }
 
         List<AuctionRoomItemDto> response = items.stream()
                 .map(item -> {
-                    Object v = redisTemplate.opsForHash().get("liveItem:" + item.getId(), "maxBidPrice");
-                    Long maxBidPrice = (v == null) ? item.getCurrentPrice() : Long.parseLong(v.toString());
+                    Long maxBidPrice = snapshots.maxBidPrice(item.getId(), item.getCurrentPrice());
 
                     return new AuctionRoomItemDto(
                             item.getId(),
@@ -265,7 +289,7 @@ public class AuctionRoomService {
                 })
                 .toList();
 
-        return new AuctionRoomResponse(remainingMs, response);
+        return new AuctionRoomView(response, deadlineMs, untilStart);
 
     }
 }
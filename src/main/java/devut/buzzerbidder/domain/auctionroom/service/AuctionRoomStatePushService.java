@@ -1,5 +1,7 @@
 package devut.buzzerbidder.domain.auctionroom.service;
 
+import devut.buzzerbidder.global.config.webSocket.SlowConsumerGuard;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -9,13 +11,20 @@ import org.springframework.stereotype.Service;
 public class AuctionRoomStatePushService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final AuctionRoomViewCache auctionRoomViewCache;
 
     private static final String AUCTION_STATE_DEST_PREFIX = "/receive/auction/"; // /receive/auction/{auctionRoomId}
 
+    // 새로고침 신호는 마지막 1건만 의미 있음 (느린 세션에는 중간 신호 생략)
+    private static final Map<String, Object> CONFLATE_REFRESH = Map.of(SlowConsumerGuard.CONFLATE_HEADER, "refresh");
+
     public void pushRefresh(Long auctionRoomId, String reason) {
+        // 새로고침 요청이 몰리기 전에 공용 뷰부터 무효화
+        auctionRoomViewCache.invalidate(auctionRoomId);
         messagingTemplate.convertAndSend(
                 AUCTION_STATE_DEST_PREFIX + auctionRoomId,
-                new AuctionRoomRefreshMessage("AUCTION_REFRESH", reason, System.currentTimeMillis())
+                new AuctionRoomRefreshMessage("AUCTION_REFRESH", reason, System.currentTimeMillis()),
+                CONFLATE_REFRESH
         );
     }
 
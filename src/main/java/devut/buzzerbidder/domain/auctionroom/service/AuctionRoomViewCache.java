@@ -0,0 +1,382 @@
+package devut.buzzerbidder.domain.auctionroom.service;
+
+import devut.buzzerbidder.domain.auctionroom.dto.AuctionRoomView;
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomListResponse;
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomResponse;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 경매방 조회 결과 공용 캐시 (노드 로컬)
+ *
+ * 단건(getAuctionRoom)
+ * - 방마다 마지막으로 만든 뷰 1개를 보관하고 모든 시청자가 공유 (남은 시간만 요청마다 계산)
+ * - 입찰: 해당 상품 현재가만 바꾼 뷰로 교체 (DB/Redis 재조회 없음)
+ * - 상품 시작/종료(pushRefresh): 무효화 → 다음 조회 1건만 다시 만들고 나머지는 그 결과를 기다림
+ *   무효화는 auction:room:view 채널("X:{roomId}:{노드}")로 다른 노드에도 전파 (발행이 실패하면 다른 노드는 ttl-ms 뒤 갱신)
+ * - 다시 만드는 중 들어온 입찰가는 모아뒀다가 완성된 뷰에 반영
+ * - 다른 노드에서 처리된 입찰은 여기까지 오지 않으므로 ttl-ms가 지나면 다시 만듦
+ * - 응답의 version은 이 노드의 뷰가 바뀔 때마다 증가하는 노드 로컬 값
+ *   (노드 간 공유 상태가 아니므로 다른 노드 응답과 비교해 오래된 응답을 가려내는 데 쓸 수 없음)
+ * - 다른 요청이 만드는 뷰를 기다리는 건 wait-timeout-ms까지, 넘으면 직접 조회
+ *
+ * 목록(getAuctionRooms)
+ * - 시간대별 공용 목록을 list-ttl-ms 동안 공유 (만드는 건 동시에 1건), 찜 여부만 사용자별로 덮어씀
+ *
+ * 메트릭: buzzerbidder.auction.room.view.requests{view=room|list, result=hit|build|wait|timeout},
+ *        buzzerbidder.auction.room.view.build{view}, buzzerbidder.auction.room.view.rooms
+ * auction.room.view-cache.enabled=false(기본)면 매 요청 AuctionRoomService로 바로 조회
+ */
+@Slf4j
+@Component
+public class AuctionRoomViewCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "auction:room:view";
+
+    private final AuctionRoomService auctionRoomService;
+    private final LiveBidRedisService liveBidRedisService;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long listTtlNanos;
+    private final int maxRooms;
+    private final long waitTimeoutMs;
+
+    // 자기 노드가 발행한 무효화는 다시 적용하지 않음
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // roomId -> 공용 뷰 (모든 필드는 RoomSlot 락 안에서)
+    private final Map<Long, RoomSlot> rooms = new ConcurrentHashMap<>();
+
+    // 시간대 -> 공용 목록 / 만드는 중인 목록
+    private final Map<LocalDateTime, Built<AuctionRoomListResponse>> lists = new ConcurrentHashMap<>();
+    private final Map<LocalDateTime, CompletableFuture<Built<AuctionRoomListResponse>>> listFlights =
+            new ConcurrentHashMap<>();
+
+    private final Counter roomHits;
+    private final Counter roomBuilds;
+    private final Counter roomWaits;
+    private final Counter roomTimeouts;
+    private final Counter listHits;
+    private final Counter listBuilds;
+    private final Counter listWaits;
+    private final Counter listTimeouts;
+    private final Timer roomBuildTimer;
+    private final Timer listBuildTimer;
+
+    private record Built<T>(T value, long version, long builtAtNanos) {}
+
+    private static final class RoomSlot {
+        private long version;
+        private Built<AuctionRoomView> view;
+        private CompletableFuture<Built<AuctionRoomView>> building;
+        // 다시 만드는 중 들어온 입찰가 (liveItemId -> 최고가)
+        private final Map<Long, Long> pendingPrices = new HashMap<>();
+    }
+
+    public AuctionRoomViewCache(
+            AuctionRoomService auctionRoomService,
+            LiveBidRedisService liveBidRedisService,
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auction.room.view-cache.enabled:false}") boolean enabled,
+            @Value("${auction.room.view-cache.ttl-ms:2000}") long ttlMs,
+            @Value("${auction.room.view-cache.list-ttl-ms:1000}") long listTtlMs,
+            @Value("${auction.room.view-cache.max-rooms:5000}") int maxRooms,
+            @Value("${auction.room.view-cache.wait-timeout-ms:3000}") long waitTimeoutMs
+    ) {
+        this.auctionRoomService = auctionRoomService;
+        this.liveBidRedisService = liveBidRedisService;
+        this.redis = redis;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.listTtlNanos = TimeUnit.MILLISECONDS.toNanos(listTtlMs);
+        this.maxRooms = maxRooms;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        this.roomHits = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "room", "result", "hit");
+        this.roomBuilds = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "room", "result", "build");
+        this.roomWaits = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "room", "result", "wait");
+        this.roomTimeouts = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "room", "result", "timeout");
+        this.listHits = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "list", "result", "hit");
+        this.listBuilds = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "list", "result", "build");
+        this.listWaits = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "list", "result", "wait");
+        this.listTimeouts = meterRegistry.counter("buzzerbidder.auction.room.view.requests", "view", "list", "result", "timeout");
+        this.roomBuildTimer = meterRegistry.timer("buzzerbidder.auction.room.view.build", "view", "room");
+        this.listBuildTimer = meterRegistry.timer("buzzerbidder.auction.room.view.build", "view", "list");
+        Gauge.builder("buzzerbidder.auction.room.view.rooms", rooms, Map::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) return;
+        redisMessageListenerContainer.removeMessageListener(this);
+    }
+
+    /* ==================== 조회 ==================== */
+
+    public AuctionRoomResponse getAuctionRoom(Long auctionRoomId) {
+        if (!enabled) {
+            return auctionRoomService.getAuctionRoom(auctionRoomId);
+        }
+
+        Built<AuctionRoomView> built = currentView(auctionRoomId);
+        return built.value().toResponse(liveBidRedisService.getRedisNowMs(), built.version());
+    }
+
+    public AuctionRoomListResponse getAuctionRooms(LocalDateTime targetTime, Long userId) {
+        if (!enabled) {
+            return auctionRoomService.getAuctionRooms(targetTime, userId);
+        }
+
+        AuctionRoomListResponse shared = currentList(targetTime);
+        if (userId == null) {
+            return shared;
+        }
+
+        List<Long> liveItemIds = shared.rooms().stream()
+                .flatMap(room -> room.items().stream())
+                .map(item -> item.id())
+                .toList();
+        return shared.withLiked(auctionRoomService.getLikedLiveItemIds(userId, liveItemIds));
+    }
+
+    /* ==================== 상태 변경 ==================== */
+
+    /**
+     * 입찰 반영: 공용 뷰의 해당 상품 현재가만 교체
+     */
+    public void onBid(Long auctionRoomId, Long liveItemId, long price) {
+        if (!enabled) return;
+
+        RoomSlot slot = rooms.get(auctionRoomId);
+        if (slot == null) return;
+
+        synchronized (slot) {
+            if (slot.building != null) {
+                slot.pendingPrices.merge(liveItemId, price, Math::max);
+            }
+
+            Built<AuctionRoomView> view = slot.view;
+            if (view == null || view.version() != slot.version) return;
+
+            AuctionRoomView patched = view.value().withPrice(liveItemId, price);
+            if (patched == view.value()) return;
+
+            // 만든 시각은 유지 (다른 노드 입찰 반영은 ttl에 맡김)
+            slot.version++;
+            slot.view = new Built<>(patched, slot.version, view.builtAtNanos());
+        }
+    }
+
+    /**
+     * 상품 시작/종료 등 DB 상태 변경 (커밋 후 호출): 다음 조회 때 다시 만듦 + 다른 노드에 전파
+     */
+    public void invalidate(Long auctionRoomId) {
+        if (!enabled) return;
+
+        invalidateLocal(auctionRoomId);
+        try {
+            redis.convertAndSend(INVALIDATE_CHANNEL, "X:" + auctionRoomId + ":" + nodeId);
+        } catch (Exception e) {
+            log.warn("경매방 뷰 무효화 발행 실패. 다른 노드는 ttl 이후 갱신. roomId={}, error={}",
+                    auctionRoomId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":");
+            if (!"X".equals(parts[0]) || nodeId.equals(parts[2])) return;
+            invalidateLocal(Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("경매방 뷰 무효화 메시지 처리 실패. body={}, error={}", body, e.getMessage());
+        }
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    private void invalidateLocal(Long auctionRoomId) {
+        RoomSlot slot = rooms.get(auctionRoomId);
+        if (slot == null) return;
+
+        synchronized (slot) {
+            slot.version++;
+        }
+    }
+
+    private Built<AuctionRoomView> currentView(Long auctionRoomId) {
+        RoomSlot slot = slot(auctionRoomId);
+
+        CompletableFuture<Built<AuctionRoomView>> flight;
+        long version;
+        synchronized (slot) {
+            Built<AuctionRoomView> view = slot.view;
+            if (view != null && view.version() == slot.version
+                    && System.nanoTime() - view.builtAtNanos() <= ttlNanos) {
+                roomHits.increment();
+                return view;
+            }
+
+            if (slot.building != null) {
+                flight = slot.building;
+                version = -1L;
+            } else {
+                flight = new CompletableFuture<>();
+                slot.building = flight;
+                slot.pendingPrices.clear();
+                version = ++slot.version;
+            }
+        }
+
+        if (version < 0) {
+            roomWaits.increment();
+            return join(flight, roomTimeouts, () -> {
+                AuctionRoomView view = auctionRoomService.buildAuctionRoomView(auctionRoomId);
+                synchronized (slot) {
+                    return new Built<>(view, slot.version, System.nanoTime());
+                }
+            });
+        }
+
+        roomBuilds.increment();
+        try {
+            AuctionRoomView built = roomBuildTimer.record(() -> auctionRoomService.buildAuctionRoomView(auctionRoomId));
+
+            Built<AuctionRoomView> result;
+            synchronized (slot) {
+                for (Map.Entry<Long, Long> e : slot.pendingPrices.entrySet()) {
+                    built = built.withPrice(e.getKey(), e.getValue());
+                }
+                slot.pendingPrices.clear();
+                slot.building = null;
+
+                result = new Built<>(built, version, System.nanoTime());
+                // 만드는 사이 무효화됐으면 보관하지 않음 (이번 대기자에게만 응답)
+                if (slot.version == version) {
+                    slot.view = result;
+                }
+            }
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            synchronized (slot) {
+                slot.pendingPrices.clear();
+                slot.building = null;
+            }
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private AuctionRoomListResponse currentList(LocalDateTime targetTime) {
+        Built<AuctionRoomListResponse> list = lists.get(targetTime);
+        if (list != null && System.nanoTime() - list.builtAtNanos() <= listTtlNanos) {
+            listHits.increment();
+            return list.value();
+        }
+
+        CompletableFuture<Built<AuctionRoomListResponse>> mine = new CompletableFuture<>();
+        CompletableFuture<Built<AuctionRoomListResponse>> flight = listFlights.putIfAbsent(targetTime, mine);
+        if (flight != null) {
+            listWaits.increment();
+            return join(flight, listTimeouts,
+                    () -> new Built<>(auctionRoomService.getAuctionRooms(targetTime, null), 0L, System.nanoTime()))
+                    .value();
+        }
+
+        listBuilds.increment();
+        try {
+            AuctionRoomListResponse built =
+                    listBuildTimer.record(() -> auctionRoomService.getAuctionRooms(targetTime, null));
+            Built<AuctionRoomListResponse> result = new Built<>(built, 0L, System.nanoTime());
+
+            // 지난 시간대 목록이 쌓이지 않도록 만료된 것은 정리
+            long now = System.nanoTime();
+            lists.values().removeIf(l -> now - l.builtAtNanos() > listTtlNanos);
+            lists.put(targetTime, result);
+
+            mine.complete(result);
+            return built;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            listFlights.remove(targetTime, mine);
+        }
+    }
+
+    private RoomSlot slot(Long auctionRoomId) {
+        RoomSlot slot = rooms.get(auctionRoomId);
+        if (slot != null) return slot;
+
+        if (rooms.size() >= maxRooms) {
+            // ttl이 지난(곧 다시 만들어야 하는) 방부터 정리
+            long now = System.nanoTime();
+            rooms.values().removeIf(s -> {
+                synchronized (s) {
+                    return s.building == null
+                            && (s.view == null || now - s.view.builtAtNanos() > ttlNanos);
+                }
+            });
+        }
+        return rooms.computeIfAbsent(auctionRoomId, id -> new RoomSlot());
+    }
+
+    /**
+     * 다른 요청이 만드는 결과를 wait-timeout-ms까지 기다림, 넘으면 fallback으로 직접 조회
+     * 공유 future에 바로 orTimeout을 걸면 다른 대기자와 만든 쪽 결과까지 실패 처리되므로 복사본에 검
+     */
+    private <T> T join(CompletableFuture<T> flight, Counter timeouts, Supplier<T> fallback) {
+        try {
+            return flight.copy().orTimeout(waitTimeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                timeouts.increment();
+                return fallback.get();
+            }
+            // 만든 쪽에서 난 예외(BusinessException 등)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
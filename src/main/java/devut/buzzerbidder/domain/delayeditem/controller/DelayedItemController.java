@@ -77,7 +77,7 @@ public class DelayedItemController {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        Long userId = userDetails != null ? userDetails.getId() : null;
 
         DelayedItemListResponse response =
             delayedItemService.getDelayedItems(reqBody, pageable, userId);
@@ -91,7 +91,7 @@ public class DelayedItemController {
         @PathVariable Long id,
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        Long userId = userDetails != null ? userDetails.getId() : null;
         DelayedItemDetailResponse response = delayedItemService.getDelayedItem(id, userId);
 
         return ApiResponse.ok("%d번 지연 경매 상세 조회".formatted(id), response);
@@ -103,7 +103,7 @@ public class DelayedItemController {
         @RequestParam(defaultValue = "10") int limit,
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        Long userId = userDetails != null ? userDetails.getId() : null;
         DelayedItemListResponse response = delayedItemService.getHotDelayedItems(limit, userId);
 
         return ApiResponse.ok("인기 지연 경매 조회", response);
@@ -115,7 +115,7 @@ public class DelayedItemController {
         @RequestParam(defaultValue = "10") int limit,
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        Long userId = userDetails != null ? userDetails.getId() : null;
         DelayedItemListResponse response = delayedItemService.getMostBiddedDelayedItems(limit, userId);
 
         return ApiResponse.ok("입찰 경쟁 지연 경매 조회", response);
@@ -26,7 +26,7 @@ public class LikeDelayedController {
         @PathVariable Long id,
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        boolean liked = likeDelayedService.toggleLike(userDetails.getUser().getId(), id);
+        boolean liked = likeDelayedService.toggleLike(userDetails.getId(), id);
         return ApiResponse.ok(liked ? "찜 완료" : "찜 취소", liked);
     }
 }
@@ -26,7 +26,7 @@ public class LikeLiveController {
         @PathVariable Long id,
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        boolean liked = likeLiveService.toggleLike(userDetails.getUser().getId(),id);
+        boolean liked = likeLiveService.toggleLike(userDetails.getId(),id);
         return ApiResponse.ok(liked ? "찜 완료" : "찜 취소", liked);
     }
 
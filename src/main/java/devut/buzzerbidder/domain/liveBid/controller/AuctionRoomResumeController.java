@@ -0,0 +1,30 @@
+package devut.buzzerbidder.domain.liveBid.controller;
+
+import devut.buzzerbidder.domain.liveBid.dto.request.AuctionRoomResumeCommand;
+import devut.buzzerbidder.domain.liveBid.dto.response.AuctionRoomReplayMessage;
+import devut.buzzerbidder.domain.liveBid.service.AuctionRoomEventLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 경매방 이어받기 (재접속/늦게 들어온 클라이언트)
+ *
+ * 클라이언트 순서: /receive/auction/{id} 구독 → /send/auction/{id}/resume {"lastSeq": n|null}
+ * → 응답 적용 후 구독 프레임 중 seq가 응답 seq 이하인 것은 무시
+ * (같은 세션 메시지는 순서대로 처리되므로 구독이 먼저 등록됨 - WebSocketConfig)
+ */
+@Controller
+@RequiredArgsConstructor
+public class AuctionRoomResumeController {
+
+    private final AuctionRoomEventLog auctionRoomEventLog;
+
+    @MessageMapping("/auction/{auctionRoomId}/resume") // 클라이언트는 /send/auction/{auctionRoomId}/resume 로 보냄
+    @SendToUser(destinations = "/receive/auction-replay", broadcast = false) // 응답은 /user/receive/auction-replay 구독으로
+    public AuctionRoomReplayMessage resume(@DestinationVariable Long auctionRoomId, AuctionRoomResumeCommand command) {
+        return auctionRoomEventLog.resume(auctionRoomId, command.lastSeq());
+    }
+}
@@ -1,10 +1,13 @@
 package devut.buzzerbidder.domain.liveBid.controller;
 
+import devut.buzzerbidder.domain.liveBid.dto.response.HeartbeatResponse;
 import devut.buzzerbidder.domain.liveBid.service.HeartbeatService;
 import devut.buzzerbidder.global.security.CustomUserDetails;
 import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
@@ -15,14 +18,16 @@ public class HeartbeatController {
     private final HeartbeatService heartbeatService;
 
     @MessageMapping("/auction/heartbeat") // 클라이언트는 /send/auction/heartbeat 로 보냄
-    public void heartbeat(Principal principal) {
+    @SendToUser(destinations = "/receive/heartbeat", broadcast = false) // 응답은 /user/receive/heartbeat 구독으로
+    public CompletableFuture<HeartbeatResponse> heartbeat(Principal principal) {
         Long userId = extractUserId(principal);
-        heartbeatService.heartbeat(userId);
+        // 배치 반영이 끝나면 남은 세션 TTL로 응답
+        return heartbeatService.heartbeat(userId).thenApply(HeartbeatResponse::new);
     }
 
     private Long extractUserId(Principal principal) {
         Authentication auth = (Authentication) principal;
         CustomUserDetails cud = (CustomUserDetails) auth.getPrincipal();
-        return cud.getUser().getId();
+        return cud.getId();
     }
 }
@@ -0,0 +1,132 @@
+package devut.buzzerbidder.domain.liveBid.controller;
+
+import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidCommand;
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidAck;
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidAdmissionControl;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidService;
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.exeption.ErrorCode;
+import devut.buzzerbidder.global.security.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 이미 연결된 STOMP 세션으로 입찰 (HTTP POST /api/v1/auction/live/{itemId}/bid 는 대체 경로로 유지)
+ *
+ * CONNECT 때 인증된 Principal을 그대로 쓰므로 필터 체인/쿠키/JWT 파싱/유저 조회가 없음
+ * 허용 제어와 입찰 처리는 HTTP와 같은 LiveBidAdmissionControl / LiveBidService 사용
+ *
+ * 실패 nack의 code: LiveBidResponse 사유(LOW_PRICE/PROXY_OUTBID/SHED) 또는 ErrorCode (예상 못한 예외는 INTERNAL_ERROR)
+ * ErrorCode nack도 currentPrice에 현재가를 담음 (조회 실패 시 null)
+ *
+ * 메트릭: buzzerbidder.livebid.command{result=ack|nack|shed} (처리 시간)
+ */
+@Slf4j
+@Controller
+public class LiveBidCommandController {
+
+    private final LiveBidService liveBidService;
+    private final LiveBidAdmissionControl liveBidAdmissionControl;
+    private final LiveBidRedisService liveBidRedisService;
+
+    private final Timer ackTimer;
+    private final Timer nackTimer;
+    private final Timer shedTimer;
+
+    public LiveBidCommandController(
+            LiveBidService liveBidService,
+            LiveBidAdmissionControl liveBidAdmissionControl,
+            LiveBidRedisService liveBidRedisService,
+            MeterRegistry meterRegistry
+    ) {
+        this.liveBidService = liveBidService;
+        this.liveBidAdmissionControl = liveBidAdmissionControl;
+        this.liveBidRedisService = liveBidRedisService;
+
+        this.ackTimer = meterRegistry.timer("buzzerbidder.livebid.command", "result", "ack");
+        this.nackTimer = meterRegistry.timer("buzzerbidder.livebid.command", "result", "nack");
+        this.shedTimer = meterRegistry.timer("buzzerbidder.livebid.command", "result", "shed");
+    }
+
+    @MessageMapping("/auction/bid") // 클라이언트는 /send/auction/bid 로 보냄
+    @SendToUser(destinations = "/receive/bid", broadcast = false) // 응답은 /user/receive/bid 구독으로
+    public LiveBidAck bid(LiveBidCommand command, Principal principal) {
+        long start = System.nanoTime();
+        LiveBidAck ack = handle(command, principal);
+
+        Timer timer = ack.accepted() ? ackTimer
+                : LiveBidResponse.SHED.equals(ack.code()) ? shedTimer
+                : nackTimer;
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return ack;
+    }
+
+    private LiveBidAck handle(LiveBidCommand command, Principal principal) {
+        String correlationId = command.correlationId();
+
+        CustomUserDetails userDetails = userDetailsOrNull(principal);
+        if (userDetails == null) {
+            return nack(correlationId, command.liveItemId(), ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        if (command.liveItemId() == null || command.auctionId() == null || command.bidPrice() == null) {
+            return nack(correlationId, command.liveItemId(), ErrorCode.VALIDATION_FAILED);
+        }
+
+        // HTTP 경로와 같은 허용 제어 (연타/봇 요청은 입찰 스크립트 전에 거절)
+        if (liveBidAdmissionControl.tryAdmit(userDetails.getId(), command.liveItemId())
+                != LiveBidAdmissionControl.Decision.ADMITTED) {
+            LiveBidResponse shed = liveBidAdmissionControl.shedResponse(command.liveItemId());
+            return new LiveBidAck(correlationId, false, LiveBidResponse.SHED, shed.message(), shed.bidPrice());
+        }
+
+        try {
+            LiveBidResponse response = liveBidService.bid(command.toRequest(), userDetails.getPrincipal());
+            return new LiveBidAck(
+                    correlationId,
+                    response.isSuccess(),
+                    response.isSuccess() ? null : response.code(),
+                    response.message(),
+                    response.bidPrice()
+            );
+        } catch (BusinessException e) {
+            return nack(correlationId, command.liveItemId(), e.getErrorCode());
+        } catch (RuntimeException e) {
+            // 응답 없이 끊기지 않도록 내부 오류 nack (클라이언트는 correlationId로 대기를 끝냄)
+            log.error("STOMP 입찰 처리 실패. correlationId={}, liveItemId={}", correlationId, command.liveItemId(), e);
+            return nack(correlationId, command.liveItemId(), ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private LiveBidAck nack(String correlationId, Long liveItemId, ErrorCode errorCode) {
+        return new LiveBidAck(correlationId, false, errorCode.getCode(), errorCode.getMessage(), currentPriceOrNull(liveItemId));
+    }
+
+    // nack에 담을 현재가 (허용 거절 응답과 같은 조회, 실패하면 null)
+    private Integer currentPriceOrNull(Long liveItemId) {
+        if (liveItemId == null) return null;
+        try {
+            String price = liveBidRedisService.getLiveItemField(liveItemId, "maxBidPrice");
+            return price != null ? Integer.valueOf(price) : null;
+        } catch (Exception e) {
+            log.debug("nack 응답용 현재가 조회 실패. liveItemId={}, error={}", liveItemId, e.getMessage());
+            return null;
+        }
+    }
+
+    private CustomUserDetails userDetailsOrNull(Principal principal) {
+        if (principal instanceof Authentication auth
+                && auth.getPrincipal() instanceof CustomUserDetails cud) {
+            return cud;
+        }
+        return null;
+    }
+}
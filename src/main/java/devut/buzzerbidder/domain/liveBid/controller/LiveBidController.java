@@ -1,7 +1,9 @@
 package devut.buzzerbidder.domain.liveBid.controller;
 
 import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidRequest;
+import devut.buzzerbidder.domain.liveBid.dto.request.ProxyBidRequest;
 import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidAdmissionControl;
 import devut.buzzerbidder.domain.liveBid.service.LiveBidService;
 import devut.buzzerbidder.global.response.ApiResponse;
 import devut.buzzerbidder.global.security.CustomUserDetails;
@@ -10,6 +12,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class LiveBidController {
 
     private final LiveBidService liveBidService;
+    private final LiveBidAdmissionControl liveBidAdmissionControl;
 
     @PostMapping("{itemId}/bid")
     @Operation(summary = "입찰 하기", description = "특정 라이브 경매 상품에 입찰을 시도합니다.")
@@ -29,9 +34,35 @@ public class LiveBidController {
             @Valid @RequestBody LiveBidRequest request,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        LiveBidResponse response = liveBidService.bid(request, userDetails.getUser());
+        // 연타/봇 요청은 입찰 스크립트 전에 거절 (현재가를 담은 실패 응답)
+        if (liveBidAdmissionControl.tryAdmit(userDetails.getId(), request.liveItemId())
+                != LiveBidAdmissionControl.Decision.ADMITTED) {
+            return ApiResponse.ok("입찰 시도 처리 완료", liveBidAdmissionControl.shedResponse(request.liveItemId()));
+        }
+
+        LiveBidResponse response = liveBidService.bid(request, userDetails.getPrincipal());
 
         // 입찰 성공/실패 여부는 response 내부에 담겨 있으므로 200 OK로 반환
         return ApiResponse.ok("입찰 시도 처리 완료", response);
     }
+
+    @PostMapping("{itemId}/proxy-bid")
+    @Operation(summary = "자동 입찰 등록", description = "최대 입찰가를 등록하면 상회될 때마다 서버가 최소 증가분만큼 대신 입찰합니다.")
+    public ApiResponse<LiveBidResponse> registerProxyBid(
+            @Valid @RequestBody ProxyBidRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        LiveBidResponse response = liveBidService.registerProxyBid(request, userDetails.getPrincipal());
+        return ApiResponse.ok("자동 입찰 등록 처리 완료", response);
+    }
+
+    @DeleteMapping("{itemId}/proxy-bid")
+    @Operation(summary = "자동 입찰 해제", description = "등록한 최대 입찰가를 해제합니다. 이미 반영된 입찰은 유지됩니다.")
+    public ApiResponse<Void> cancelProxyBid(
+            @PathVariable Long itemId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        liveBidService.cancelProxyBid(itemId, userDetails.getPrincipal());
+        return ApiResponse.ok("자동 입찰 해제 완료");
+    }
 }
\ No newline at end of file
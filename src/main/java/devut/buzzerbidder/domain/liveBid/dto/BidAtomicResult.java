@@ -1,5 +1,38 @@
 package devut.buzzerbidder.domain.liveBid.dto;
 
-public record BidAtomicResult(long code, Long balanceBefore, Long balanceAfter, Long refundFailed) {
+/**
+ * @param unrefundedUserId 이번 입찰로 밀려났는데 Redis 지갑으로 보증금을 돌려받지 못한 이전 최고입찰자 (없으면 null)
+ * @param unrefundedAmount 그 보증금 (호출 측이 DB 지갑으로 환불)
+ * @param leaderId 스크립트 처리 후 최고입찰자 (자동 입찰이 이어받았으면 입찰자와 다름)
+ * @param price    성공이면 처리 후 현재가 (자동 입찰 경합이 있었으면 입찰가보다 높음), 거절이면 스크립트(또는 스냅샷)가 본 현재가
+ * @param endTime  스크립트가 본 종료 시각(ms). 모르면 null (분할 모드 지갑 단계 거절은 아이템 스냅샷 값)
+ */
+public record BidAtomicResult(
+        long code,
+        Long balanceBefore,
+        Long balanceAfter,
+        Long unrefundedUserId,
+        Long unrefundedAmount,
+        Long sellerId,
+        Long roomId,
+        Long leaderId,
+        Long price,
+        Long endTime
+) {
+    /** 거절 결과 (현재가/종료 시각만) */
+    public static BidAtomicResult rejected(long code, Long price, Long endTime) {
+        return new BidAtomicResult(code, null, null, null, null, null, null, null, price, endTime);
+    }
+
+    /** 이전 최고입찰자 보증금을 DB로 환불해야 하는지 */
+    public boolean hasUnrefunded() {
+        return unrefundedUserId != null && unrefundedAmount != null && unrefundedAmount > 0;
+    }
+
     public boolean isSuccess() { return code == 1L; }
-}
\ No newline at end of file
+
+    /** 거절 사유. 성공이면 null */
+    public LiveBidRejection rejection() {
+        return isSuccess() ? null : LiveBidRejection.of(code);
+    }
+}
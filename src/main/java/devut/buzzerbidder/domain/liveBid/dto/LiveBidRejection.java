@@ -0,0 +1,51 @@
+package devut.buzzerbidder.domain.liveBid.dto;
+
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.exeption.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 입찰 스크립트 거절 사유 (code는 LiveBidRedisService 입찰 스크립트 반환값)
+ *
+ * 경합 중에는 대부분의 입찰이 거절되므로 사유별 예외를 미리 만들어 두고 재사용
+ * (스택 트레이스 없음, 상태 없음 → 여러 스레드가 같은 인스턴스를 던져도 안전)
+ * LOW_PRICE는 예외가 아니라 현재가를 담은 실패 응답으로 처리
+ */
+@Getter
+public enum LiveBidRejection {
+
+    LOW_PRICE(0L, "low_price", null),
+    ALREADY_HIGHEST(-1L, "already_highest", ErrorCode.LIVEBID_ALREADY_HIGHEST_BIDDER),
+    INSUFFICIENT_BALANCE(-2L, "insufficient_balance", ErrorCode.BIZZ_INSUFFICIENT_BALANCE),
+    SESSION_EXPIRED(-3L, "session_expired", ErrorCode.AUCTION_SESSION_EXPIRED),
+    ENDED(-4L, "ended", ErrorCode.AUCTION_ENDED),
+    NOT_IN_PROGRESS(-5L, "not_in_progress", ErrorCode.LIVEBID_NOT_IN_PROGRESS),
+    OWN_ITEM(-6L, "own_item", ErrorCode.LIVEBID_CANNOT_BID_OWN_ITEM);
+
+    private final long code;
+    // 메트릭 태그 (buzzerbidder.livebid.rejected{reason})
+    private final String tag;
+    private final ErrorCode errorCode;
+    // 미리 만든 예외. LOW_PRICE는 null
+    private final BusinessException exception;
+
+    LiveBidRejection(long code, String tag, ErrorCode errorCode) {
+        this.code = code;
+        this.tag = tag;
+        this.errorCode = errorCode;
+        this.exception = errorCode == null ? null : BusinessException.preallocated(errorCode);
+    }
+
+    /** 스크립트 code -> 거절 사유. 1(성공)이 아닌 알 수 없는 code는 기존처럼 가격 부족으로 취급 */
+    public static LiveBidRejection of(long code) {
+        return switch ((int) code) {
+            case -1 -> ALREADY_HIGHEST;
+            case -2 -> INSUFFICIENT_BALANCE;
+            case -3 -> SESSION_EXPIRED;
+            case -4 -> ENDED;
+            case -5 -> NOT_IN_PROGRESS;
+            case -6 -> OWN_ITEM;
+            default -> LOW_PRICE;
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package devut.buzzerbidder.domain.liveBid.dto;
+
+import java.util.Arrays;
+
+/**
+ * 여러 라이브 아이템의 Redis 스냅샷 (현재가/최고 입찰자/종료 시각)
+ *
+ * 목록 조회용이라 박싱 없이 정렬된 long 배열 + 이진 탐색으로 조회
+ * 값이 없으면(키 없음/필드 없음) MISSING
+ */
+public final class LiveItemSnapshots {
+
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private static final LiveItemSnapshots EMPTY =
+            new LiveItemSnapshots(new long[0], new long[0], new long[0], new long[0]);
+
+    private final long[] ids;
+    private final long[] maxBidPrices;
+    private final long[] currentBidderIds;
+    private final long[] endTimesMs;
+
+    /**
+     * ids는 오름차순 정렬, 중복 없음. 나머지 배열은 같은 위치의 값
+     */
+    public LiveItemSnapshots(long[] ids, long[] maxBidPrices, long[] currentBidderIds, long[] endTimesMs) {
+        if (maxBidPrices.length != ids.length
+                || currentBidderIds.length != ids.length
+                || endTimesMs.length != ids.length) {
+            throw new IllegalArgumentException("스냅샷 배열 길이가 서로 다릅니다.");
+        }
+        this.ids = ids;
+        this.maxBidPrices = maxBidPrices;
+        this.currentBidderIds = currentBidderIds;
+        this.endTimesMs = endTimesMs;
+    }
+
+    public static LiveItemSnapshots empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /** 현재가. 없으면 fallback (보통 DB 값, null일 수 있음) */
+    public Long maxBidPrice(long liveItemId, Long fallback) {
+        long v = get(maxBidPrices, liveItemId);
+        return v == MISSING ? fallback : Long.valueOf(v);
+    }
+
+    /** 현재 최고 입찰자. 없으면 MISSING */
+    public long currentBidderId(long liveItemId) {
+        return get(currentBidderIds, liveItemId);
+    }
+
+    /** 종료 시각(epoch ms). 없으면 MISSING */
+    public long endTimeMs(long liveItemId) {
+        return get(endTimesMs, liveItemId);
+    }
+
+    private long get(long[] values, long liveItemId) {
+        int idx = Arrays.binarySearch(ids, liveItemId);
+        return idx < 0 ? MISSING : values[idx];
+    }
+}
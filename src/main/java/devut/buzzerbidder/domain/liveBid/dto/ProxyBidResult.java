@@ -0,0 +1,29 @@
+package devut.buzzerbidder.domain.liveBid.dto;
+
+/**
+ * 자동 입찰 등록 스크립트 결과
+ *
+ * @param code             1: 등록 + 경합 정리로 최고가 변경, 2: 등록만 (이미 최고입찰자), 그 외는 입찰 code와 동일
+ * @param price            등록/경합 정리 후 현재가, 거절이면 스크립트가 본 현재가
+ * @param unrefundedUserId 밀려난 최고입찰자의 잔액 키가 없어 보증금을 돌려주지 못한 경우 그 유저 (호출 측에서 환불)
+ * @param endTime          스크립트가 본 종료 시각(ms)
+ */
+public record ProxyBidResult(
+        long code,
+        Long sellerId,
+        Long roomId,
+        Long leaderId,
+        Long price,
+        Long unrefundedUserId,
+        Long unrefundedAmount,
+        Long endTime
+) {
+    public boolean isChanged() { return code == 1L; }
+
+    public boolean isRegistered() { return code == 1L || code == 2L; }
+
+    /** 거절 사유. 등록됐으면 null */
+    public LiveBidRejection rejection() {
+        return isRegistered() ? null : LiveBidRejection.of(code);
+    }
+}
@@ -0,0 +1,9 @@
+package devut.buzzerbidder.domain.liveBid.dto.request;
+
+/**
+ * STOMP 경매방 이어받기 요청 (/send/auction/{auctionRoomId}/resume)
+ * @param lastSeq 클라이언트가 마지막으로 반영한 seq (처음 들어왔으면 null)
+ */
+public record AuctionRoomResumeCommand(
+        Long lastSeq
+) {}
@@ -0,0 +1,16 @@
+package devut.buzzerbidder.domain.liveBid.dto.request;
+
+/**
+ * STOMP 입찰 명령 (/send/auction/bid)
+ * @param correlationId 클라이언트가 정한 요청 식별자 (ack/nack에 그대로 돌려줌)
+ */
+public record LiveBidCommand(
+        String correlationId,
+        Long liveItemId,
+        Long auctionId,
+        Integer bidPrice
+) {
+    public LiveBidRequest toRequest() {
+        return new LiveBidRequest(liveItemId, auctionId, bidPrice);
+    }
+}
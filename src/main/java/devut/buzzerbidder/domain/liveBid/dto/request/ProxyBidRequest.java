@@ -0,0 +1,9 @@
+package devut.buzzerbidder.domain.liveBid.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ProxyBidRequest(
+        @NotNull Long liveItemId,
+        @NotNull Long auctionId,
+        @NotNull Integer maxPrice
+) {}
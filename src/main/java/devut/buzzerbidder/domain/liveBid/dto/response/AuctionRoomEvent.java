@@ -0,0 +1,21 @@
+package devut.buzzerbidder.domain.liveBid.dto.response;
+
+/**
+ * /receive/auction/{auctionRoomId} 로 나가는 상태 이벤트 (입찰 갱신, 경매 시작/종료)
+ * AuctionRoomEventLog가 origin/seq를 붙여 보내고, 재접속/늦게 들어온 클라이언트에게 다시 보내줌
+ *
+ * seq는 노드마다 따로 발급 (브로커 브리지로 다른 노드 이벤트도 같은 구독으로 도착)
+ * → 클라이언트는 origin별로 마지막 seq를 기억해 누락/중복을 판단
+ */
+public interface AuctionRoomEvent {
+
+    String type();
+
+    Long liveItemId();
+
+    /** seq를 발급한 노드 (서버가 시작할 때마다 새 값이므로 재시작 후 seq가 1부터 다시 시작해도 구분됨) */
+    String origin();
+
+    /** origin 안에서 경매방별로 단조 증가하는 프레임 번호 */
+    long seq();
+}
@@ -0,0 +1,25 @@
+package devut.buzzerbidder.domain.liveBid.dto.response;
+
+import java.util.List;
+
+/**
+ * 재접속/늦게 들어온 클라이언트용 응답 (/user/receive/auction-replay)
+ *
+ * @param type   REPLAY   : lastSeq 이후 이벤트를 빠짐없이 순서대로 담음
+ *               SNAPSHOT : lastSeq가 없거나 버퍼 범위를 벗어나 상품별 마지막 이벤트만 담음
+ *               RESYNC   : 이 노드에 방 이력이 없음 → REST(경매방 조회)로 다시 불러와야 함
+ * @param origin 응답한 노드. seq는 이 origin 기준
+ * @param seq    응답 시점의 경매방 seq. 이후 /receive/auction/{id} 프레임 중 같은 origin의 seq 이하는 무시
+ * @param events seq 오름차순
+ */
+public record AuctionRoomReplayMessage(
+        String type,
+        Long auctionRoomId,
+        String origin,
+        long seq,
+        List<AuctionRoomEvent> events
+) {
+    public static AuctionRoomReplayMessage resync(Long auctionRoomId, String origin) {
+        return new AuctionRoomReplayMessage("RESYNC", auctionRoomId, origin, 0L, List.of());
+    }
+}
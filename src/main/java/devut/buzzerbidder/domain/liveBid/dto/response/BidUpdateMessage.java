@@ -1,17 +1,15 @@
 package devut.buzzerbidder.domain.liveBid.dto.response;
 
+/**
+ * @param origin seq를 발급한 노드
+ * @param seq    origin 안에서 경매방별로 단조 증가하는 프레임 번호 (클라이언트가 누락/역순 감지용)
+ */
 public record BidUpdateMessage(
         String type,
         Long liveItemId,
         int newPrice,
         Long bidderId,
-        String bidderNickname
-) {
-    public BidUpdateMessage(String type, Long liveItemId, int newPrice, Long bidderId, String bidderNickname) {
-        this.type = type;
-        this.liveItemId = liveItemId;
-        this.newPrice = newPrice;
-        this.bidderId = bidderId;
-        this.bidderNickname = bidderNickname;
-    }
-}
+        String bidderNickname,
+        String origin,
+        long seq
+) implements AuctionRoomEvent {}
@@ -0,0 +1,9 @@
+package devut.buzzerbidder.domain.liveBid.dto.response;
+
+/**
+ * heartbeat 응답 (/user/receive/heartbeat)
+ * @param sessionTtlMs 연장 후 남은 경매 세션 TTL(ms)
+ */
+public record HeartbeatResponse(
+        long sessionTtlMs
+) {}
@@ -0,0 +1,16 @@
+package devut.buzzerbidder.domain.liveBid.dto.response;
+
+/**
+ * STOMP 입찰 결과 (/user/receive/bid)
+ * @param correlationId 요청의 correlationId
+ * @param accepted      입찰 성공 여부 (false면 nack)
+ * @param code          실패 코드 (ErrorCode 코드, 가격 부족은 LOW_PRICE, 요청 제한은 SHED), 성공이면 null
+ * @param currentPrice  성공 시 입찰가, 실패 시 현재가 (알 수 없으면 null)
+ */
+public record LiveBidAck(
+        String correlationId,
+        boolean accepted,
+        String code,
+        String message,
+        Integer currentPrice
+) {}
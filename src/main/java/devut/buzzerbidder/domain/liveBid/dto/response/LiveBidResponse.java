@@ -1,13 +1,22 @@
 package devut.buzzerbidder.domain.liveBid.dto.response;
 
+/**
+ * @param code 실패 사유 (성공이면 null)
+ */
 public record LiveBidResponse(
         boolean isSuccess,
         String message,
-        int bidPrice
+        int bidPrice,
+        String code
 ) {
+    /** 최소 증가폭 미달 */
+    public static final String LOW_PRICE = "LOW_PRICE";
+    /** 입찰/자동 입찰 등록은 반영됐지만 다른 자동 입찰이 바로 상회 */
+    public static final String PROXY_OUTBID = "PROXY_OUTBID";
+    /** 허용 제어에 걸려 입찰 처리 전에 거절 */
+    public static final String SHED = "SHED";
+
     public LiveBidResponse(boolean isSuccess, String message, int bidPrice) {
-        this.isSuccess = isSuccess;
-        this.message = message;
-        this.bidPrice = bidPrice;
+        this(isSuccess, message, bidPrice, null);
     }
 }
@@ -4,6 +4,7 @@ import devut.buzzerbidder.domain.auctionroom.entity.AuctionRoom;
 import devut.buzzerbidder.domain.liveitem.entity.LiveItem;
 import devut.buzzerbidder.domain.user.entity.User;
 import devut.buzzerbidder.global.jpa.entity.BaseEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
@@ -40,13 +41,18 @@ public class LiveBidLog extends BaseEntity {
 
     private LocalDateTime bidTime;
 
+    // Redis Stream 메시지 ID (재전달 시 중복 저장 방지용)
+    @Column(unique = true, length = 32)
+    private String streamId;
+
     @Builder
-    public LiveBidLog(User bidder, LiveItem liveItem, User seller, AuctionRoom auctionRoom, int bidPrice, LocalDateTime bidTime) {
+    public LiveBidLog(User bidder, LiveItem liveItem, User seller, AuctionRoom auctionRoom, int bidPrice, LocalDateTime bidTime, String streamId) {
         this.bidder = bidder;
         this.liveItem = liveItem;
         this.seller = seller;
         this.auctionRoom = auctionRoom;
         this.bidPrice = bidPrice;
         this.bidTime = bidTime;
+        this.streamId = streamId;
     }
 }
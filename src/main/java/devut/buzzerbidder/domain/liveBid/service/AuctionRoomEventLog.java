@@ -0,0 +1,192 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import devut.buzzerbidder.domain.liveBid.dto.response.AuctionRoomEvent;
+import devut.buzzerbidder.domain.liveBid.dto.response.AuctionRoomReplayMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매방 이벤트 seq 발급 + 최근 이벤트 링 버퍼 (노드 로컬)
+ *
+ * - seq는 노드마다 따로 발급하고 모든 프레임에 origin(노드 ID)을 같이 실음
+ *   브로커 브리지로 다른 노드 프레임이 섞여 와도 클라이언트는 origin별 seq로 누락/중복을 판단
+ *   (공유 카운터(Redis INCR)는 입찰 브로드캐스트마다 왕복이 늘고, 노드 간 전달 순서가 seq 순서와 달라 역순이 생김)
+ * - /receive/auction/{id} 로 나가는 입찰 갱신/경매 시작/종료는 모두 publish를 거침
+ *   seq 발급, 버퍼 기록, 전송을 방 단위 락 안에서 수행 → 버퍼 순서 = 전송 순서
+ * - 방마다 최근 capacity건과 상품별 마지막 이벤트를 보관
+ * - resume(lastSeq): 버퍼 안이면 lastSeq 이후 이벤트(REPLAY), 밖이면 상품별 마지막 이벤트(SNAPSHOT),
+ *   이 노드에 방 이력이 없으면 RESYNC(REST 재조회)
+ *   → 재접속/늦게 들어온 클라이언트가 경매방 조회 없이 이어받음
+ * - 방 수가 max-rooms를 넘으면 idle-ms 동안 이벤트가 없던 방만 제거
+ *   활동 중인 방은 제거하지 않음 (seq가 1부터 다시 시작하면 클라이언트가 새 이벤트를 중복으로 버림)
+ *   → 전부 활동 중이면 max-rooms를 잠시 넘겨서 보관
+ *
+ * 메트릭: buzzerbidder.auction.room.resume{result=replay|snapshot|resync}, buzzerbidder.auction.room.event-log.rooms
+ * auction.live.replay.enabled=false(기본)면 seq 발급과 전송만 하고 보관하지 않음 (resume은 항상 RESYNC)
+ * websocket.broker-bridge.enabled=true면 다른 노드 이벤트가 이 버퍼/seq를 거치지 않고 중계되므로 보관하지 않음 (resume은 항상 RESYNC)
+ */
+@Slf4j
+@Component
+public class AuctionRoomEventLog {
+
+    private static final String AUCTION_PREFIX = "/receive/auction/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 이 노드가 발급하는 seq의 출처 (재시작하면 바뀌므로 seq가 1부터 다시 시작해도 이전 프레임과 섞이지 않음)
+    private final String origin = UUID.randomUUID().toString();
+
+    private final int capacity;
+    private final int maxRooms;
+    private final long idleNanos;
+
+    // roomId -> seq/버퍼 (모든 접근은 RoomLog 락 안에서)
+    private final Map<Long, RoomLog> rooms = new ConcurrentHashMap<>();
+
+    private final Counter replayed;
+    private final Counter snapshots;
+    private final Counter resyncs;
+
+    /** (origin, seq) -> 보낼 메시지 */
+    @FunctionalInterface
+    public interface EventFactory {
+        AuctionRoomEvent create(String origin, long seq);
+    }
+
+    private static final class RoomLog {
+        private long seq;
+        private final AuctionRoomEvent[] ring;
+        // liveItemId -> 마지막 이벤트
+        private final Map<Long, AuctionRoomEvent> latest = new LinkedHashMap<>();
+        private volatile long touchedAtNanos = System.nanoTime();
+
+        private RoomLog(int capacity) {
+            this.ring = capacity > 0 ? new AuctionRoomEvent[capacity] : null;
+        }
+    }
+
+    public AuctionRoomEventLog(
+            SimpMessagingTemplate messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.replay.enabled:false}") boolean enabled,
+            @Value("${websocket.broker-bridge.enabled:false}") boolean brokerBridgeEnabled,
+            @Value("${auction.live.replay.capacity:256}") int capacity,
+            @Value("${auction.live.replay.max-rooms:10000}") int maxRooms,
+            @Value("${auction.live.replay.idle-ms:1800000}") long idleMs
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        if (enabled && brokerBridgeEnabled) {
+            log.warn("브로커 브리지 사용 중에는 경매방 이벤트 재전송을 끔 (seq/버퍼가 노드 로컬). resume은 항상 RESYNC");
+        }
+        this.capacity = enabled && !brokerBridgeEnabled ? capacity : 0;
+        this.maxRooms = maxRooms;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+
+        this.replayed = meterRegistry.counter("buzzerbidder.auction.room.resume", "result", "replay");
+        this.snapshots = meterRegistry.counter("buzzerbidder.auction.room.resume", "result", "snapshot");
+        this.resyncs = meterRegistry.counter("buzzerbidder.auction.room.resume", "result", "resync");
+        Gauge.builder("buzzerbidder.auction.room.event-log.rooms", rooms, Map::size)
+                .register(meterRegistry);
+    }
+
+    /* ==================== 전송 ==================== */
+
+    /**
+     * seq를 발급해 메시지를 만들고 버퍼에 기록한 뒤 경매방 구독자에게 전송
+     *
+     * @param factory (origin, seq) -> 보낼 메시지
+     * @param headers 전송 헤더 (conflate 등, 없으면 null)
+     * @return 발급한 seq
+     */
+    public long publish(Long auctionRoomId, EventFactory factory, Map<String, Object> headers) {
+        RoomLog room = room(auctionRoomId);
+        String destination = AUCTION_PREFIX + auctionRoomId;
+
+        synchronized (room) {
+            long seq = ++room.seq;
+            AuctionRoomEvent event = factory.create(origin, seq);
+
+            if (room.ring != null) {
+                room.ring[(int) (seq % room.ring.length)] = event;
+                if (event.liveItemId() != null) {
+                    room.latest.put(event.liveItemId(), event);
+                }
+            }
+            room.touchedAtNanos = System.nanoTime();
+
+            // 구독자들에게 메시지 전송
+            messagingTemplate.convertAndSend(destination, event, headers);
+            return seq;
+        }
+    }
+
+    /* ==================== 이어받기 ==================== */
+
+    /**
+     * 클라이언트가 lastSeq까지 반영한 상태에서 이어받을 이벤트
+     * 같은 락 안에서 읽으므로 응답 seq 이후 프레임은 모두 구독으로 도착함 (중복은 seq로 걸러냄)
+     */
+    public AuctionRoomReplayMessage resume(Long auctionRoomId, Long lastSeq) {
+        RoomLog room = rooms.get(auctionRoomId);
+        if (room == null || room.ring == null) {
+            resyncs.increment();
+            return AuctionRoomReplayMessage.resync(auctionRoomId, origin);
+        }
+
+        synchronized (room) {
+            long seq = room.seq;
+            int length = room.ring.length;
+
+            // lastSeq+1 ~ seq 가 모두 버퍼에 남아 있을 때만 그대로 재전송 (음수 lastSeq는 SNAPSHOT)
+            if (lastSeq != null && lastSeq >= 0 && lastSeq <= seq && lastSeq >= seq - length) {
+                List<AuctionRoomEvent> events = new ArrayList<>((int) (seq - lastSeq));
+                for (long s = lastSeq + 1; s <= seq; s++) {
+                    events.add(room.ring[(int) (s % length)]);
+                }
+                replayed.increment();
+                return new AuctionRoomReplayMessage("REPLAY", auctionRoomId, origin, seq, events);
+            }
+
+            List<AuctionRoomEvent> events = new ArrayList<>(room.latest.values());
+            events.sort(Comparator.comparingLong(AuctionRoomEvent::seq));
+            snapshots.increment();
+            return new AuctionRoomReplayMessage("SNAPSHOT", auctionRoomId, origin, seq, events);
+        }
+    }
+
+    /** 이 노드가 발급하는 seq의 출처 */
+    public String getOrigin() {
+        return origin;
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    private RoomLog room(Long auctionRoomId) {
+        RoomLog room = rooms.get(auctionRoomId);
+        if (room != null) return room;
+
+        if (rooms.size() >= maxRooms) {
+            evict();
+        }
+        return rooms.computeIfAbsent(auctionRoomId, id -> new RoomLog(capacity));
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        rooms.values().removeIf(r -> now - r.touchedAtNanos > idleNanos);
+    }
+}
@@ -0,0 +1,158 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import devut.buzzerbidder.domain.wallet.service.WalletRedisService;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반영 여부를 모르는 입찰 보증금 홀드 정리 (분할 모드)
+ *
+ * 아이템 스크립트 호출이 예외로 끝나면 응답만 유실됐는지 실제로 실패했는지 알 수 없음
+ * → 추측해서 취소/유지하지 않고 홀드(이벤트 ID, 유저, 금액)를 기록해 두고 min-age 뒤 다시 확인
+ *
+ * - 입찰자가 최고입찰자이고 deposits에 보증금이 있으면: 반영됨 → 기록만 제거
+ * - 현재가가 입찰가보다 낮으면: 반영될 수 없었음(가격은 내려가지 않음) → 홀드 취소
+ * - 그 외(다른 사람이 더 높게 입찰, 해시 없음, 확인 실패): 다시 확인
+ *   max-age가 지나도 모르면 auction:bid:hold:unresolved 해시(field=홀드 이벤트 ID)에 남기고 수동 정산
+ *
+ * 메트릭: buzzerbidder.livebid.hold.unresolved{result=recorded|applied|cancelled|manual},
+ *        buzzerbidder.livebid.hold.unresolved.pending
+ */
+@Slf4j
+@Component
+public class BidHoldReconciler {
+
+    /** 자동으로 정리하지 못한 홀드 (field=홀드 이벤트 ID, value=liveItemId:userId:bidPrice:deposit) */
+    public static final String UNRESOLVED_KEY = "auction:bid:hold:unresolved";
+
+    /**
+     * @param eventId 홀드 BID 이벤트의 스트림 ID (취소 시 히스토리 상쇄용)
+     */
+    public record Hold(Long liveItemId, Long userId, long bidPrice, long deposit, String eventId, String traceId) {}
+
+    enum Outcome { APPLIED, CANCELLED, UNKNOWN }
+
+    private record Pending(Hold hold, long recordedAtNanos) {}
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AuctionRedisKeys auctionRedisKeys;
+    private final WalletRedisService walletRedisService;
+
+    private final long minAgeNanos;
+    private final long maxAgeNanos;
+
+    // 홀드 이벤트 ID -> 확인 대기
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private final Counter recorded;
+    private final Counter applied;
+    private final Counter cancelled;
+    private final Counter manual;
+
+    public BidHoldReconciler(
+            RedisTemplate<String, String> redisTemplate,
+            AuctionRedisKeys auctionRedisKeys,
+            WalletRedisService walletRedisService,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.hold-reconcile.min-age-ms:2000}") long minAgeMs,
+            @Value("${auction.live.hold-reconcile.max-age-ms:600000}") long maxAgeMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.auctionRedisKeys = auctionRedisKeys;
+        this.walletRedisService = walletRedisService;
+        this.minAgeNanos = TimeUnit.MILLISECONDS.toNanos(minAgeMs);
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+
+        this.recorded = meterRegistry.counter("buzzerbidder.livebid.hold.unresolved", "result", "recorded");
+        this.applied = meterRegistry.counter("buzzerbidder.livebid.hold.unresolved", "result", "applied");
+        this.cancelled = meterRegistry.counter("buzzerbidder.livebid.hold.unresolved", "result", "cancelled");
+        this.manual = meterRegistry.counter("buzzerbidder.livebid.hold.unresolved", "result", "manual");
+        Gauge.builder("buzzerbidder.livebid.hold.unresolved.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 반영 여부를 모르는 홀드 기록 (Redis 장애 중일 수 있으므로 메모리에 두고 나중에 확인)
+     */
+    public void record(Hold hold) {
+        if (hold.eventId() == null) {
+            log.error("이벤트 ID 없는 입찰 보증금 홀드, 수동 정산 필요. hold={}", hold);
+            manual.increment();
+            return;
+        }
+        pending.put(hold.eventId(), new Pending(hold, System.nanoTime()));
+        recorded.increment();
+        log.warn("입찰 반영 여부 확인 불가, 보증금 홀드 기록 후 재확인 예정. hold={}", hold);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.live.hold-reconcile.interval-ms:1000}")
+    public void reconcile() {
+        if (pending.isEmpty()) return;
+
+        long now = System.nanoTime();
+        for (Pending p : pending.values()) {
+            long age = now - p.recordedAtNanos();
+            if (age < minAgeNanos) continue;
+
+            Hold hold = p.hold();
+            try {
+                Outcome outcome = resolve(hold);
+                if (outcome == Outcome.APPLIED) {
+                    applied.increment();
+                    pending.remove(hold.eventId());
+                } else if (outcome == Outcome.CANCELLED) {
+                    cancelled.increment();
+                    pending.remove(hold.eventId());
+                } else if (age >= maxAgeNanos) {
+                    redisTemplate.opsForHash().put(UNRESOLVED_KEY, hold.eventId(),
+                            hold.liveItemId() + ":" + hold.userId() + ":" + hold.bidPrice() + ":" + hold.deposit());
+                    manual.increment();
+                    pending.remove(hold.eventId());
+                    log.error("입찰 보증금 홀드 자동 정리 실패, 수동 정산 필요 ({}). hold={}", UNRESOLVED_KEY, hold);
+                }
+            } catch (Exception e) {
+                // Redis 확인 실패 → 다음 주기에 다시 확인 (기록은 메모리에 유지)
+                log.warn("입찰 보증금 홀드 재확인 실패. hold={}, error={}", hold, e.getMessage());
+            }
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    private Outcome resolve(Hold hold) {
+        AuctionRedisKeys.ItemKeys item = auctionRedisKeys.item(hold.liveItemId());
+        String userId = hold.userId().toString();
+
+        List<Object> fields = redisTemplate.opsForHash()
+                .multiGet(item.itemKey(), List.of("currentBidderId", "maxBidPrice"));
+        Object leader = fields.get(0);
+        Object maxBidPrice = fields.get(1);
+
+        if (leader != null && userId.equals(leader.toString())
+                && redisTemplate.opsForHash().get(item.depositsKey(), userId) != null) {
+            return Outcome.APPLIED;
+        }
+
+        if (maxBidPrice != null && Long.parseLong(maxBidPrice.toString()) < hold.bidPrice()) {
+            walletRedisService.cancelBidDeposit(hold.userId(), hold.deposit(), hold.eventId(), hold.traceId());
+            return Outcome.CANCELLED;
+        }
+        return Outcome.UNKNOWN;
+    }
+}
@@ -1,36 +1,202 @@
 package devut.buzzerbidder.domain.liveBid.service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import devut.buzzerbidder.global.exeption.BusinessException;
 import devut.buzzerbidder.global.exeption.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisLuaScript;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+/**
+ * 경매 세션 heartbeat
+ *
+ * - 세션/잔액/버전 TTL 연장은 스크립트 하나로 처리 (기존 EXPIRE 3회 → EVALSHA 1회)
+ * - batch-window-ms 동안 들어온 heartbeat를 모아서 파이프라인 1회 + 만료 ZSET ZADD 1회로 반영
+ *   (같은 창에서 같은 유저가 여러 번 보내면 한 번만 처리)
+ * - 결과는 남은 세션 TTL(ms). 세션이 없으면 AUCTION_SESSION_EXPIRED
+ *
+ * batch-window-ms=0 이면 요청 스레드에서 바로 처리
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class HeartbeatService {
 
-    private final StringRedisTemplate redis;
-
     private static final String SESSION_EXP_ZSET = "auction:sessions:exp";
     private static final Duration SESSION_TTL = Duration.ofSeconds(35);
     private static final Duration BALANCE_TTL = Duration.ofMinutes(10);
 
-    public void heartbeat(Long userId) {
-        String sesKey = "auction:session:" + userId;
-        String balKey = "auction:bizz:" + userId;
-        String verKey = "auction:bizzver:" + userId;
+    /**
+     * KEYS[1]: 세션, KEYS[2]: 잔액, KEYS[3]: 버전 (SHARDED에서도 같은 해시태그)
+     * ARGV[1]: 세션 TTL(ms), ARGV[2]: 잔액/버전 TTL(ms)
+     * 반환: 남은 세션 TTL(ms), 세션이 없으면 -2
+     */
+    private static final String LUA_HEARTBEAT = """
+        if redis.call('PEXPIRE', KEYS[1], ARGV[1]) == 0 then
+          return -2
+        end
+        redis.call('PEXPIRE', KEYS[2], ARGV[2])
+        redis.call('PEXPIRE', KEYS[3], ARGV[2])
+        return redis.call('PTTL', KEYS[1])
+        """;
+
+    private static final RedisLuaScript<Long> HEARTBEAT_SCRIPT =
+            RedisLuaScript.of("session.heartbeat", LUA_HEARTBEAT, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final AuctionRedisKeys auctionRedisKeys;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final long batchWindowMs;
+    private final int maxBatchSize;
+
+    // userId -> 이번 창에서 응답을 기다리는 heartbeat
+    private final Map<Long, CompletableFuture<Long>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    public HeartbeatService(
+            StringRedisTemplate redis,
+            AuctionRedisKeys auctionRedisKeys,
+            RedisScriptRegistry redisScriptRegistry,
+            @Value("${auction.live.heartbeat.batch-window-ms:50}") long batchWindowMs,
+            @Value("${auction.live.heartbeat.max-batch-size:500}") int maxBatchSize
+    ) {
+        this.redis = redis;
+        this.auctionRedisKeys = auctionRedisKeys;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        redisScriptRegistry.register(HEARTBEAT_SCRIPT);
+        if (batchWindowMs <= 0) return;
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "heartbeat-batcher");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, batchWindowMs, batchWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher == null) return;
+
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * heartbeat 등록. 완료 값은 남은 세션 TTL(ms)
+     */
+    public CompletableFuture<Long> heartbeat(Long userId) {
+        if (flusher == null) {
+            CompletableFuture<Long> result = new CompletableFuture<>();
+            apply(Map.of(userId, result));
+            return result;
+        }
+
+        CompletableFuture<Long> result = pending.computeIfAbsent(userId, k -> new CompletableFuture<>());
+        if (pending.size() >= maxBatchSize) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 stop()의 마지막 flush가 처리
+            }
+        }
+        return result;
+    }
+
+    /* ==================== 배치 반영 ==================== */
 
-        Boolean exists = redis.expire(sesKey, SESSION_TTL);
-        if (!Boolean.TRUE.equals(exists)) {
-            throw new BusinessException(ErrorCode.AUCTION_SESSION_EXPIRED);
+    private void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<Long, CompletableFuture<Long>> batch = new LinkedHashMap<>();
+        for (Long userId : new ArrayList<>(pending.keySet())) {
+            CompletableFuture<Long> future = pending.remove(userId);
+            if (future != null) {
+                batch.put(userId, future);
+            }
         }
+        apply(batch);
+    }
+
+    private void apply(Map<Long, CompletableFuture<Long>> batch) {
+        if (batch.isEmpty()) return;
+
+        List<Long> userIds = new ArrayList<>(batch.keySet());
+        try {
+            List<RedisScriptRegistry.ScriptCall> calls = new ArrayList<>(userIds.size());
+            List<String> ttlArgs = List.of(
+                    String.valueOf(SESSION_TTL.toMillis()),
+                    String.valueOf(BALANCE_TTL.toMillis())
+            );
+            for (Long userId : userIds) {
+                AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
+                calls.add(new RedisScriptRegistry.ScriptCall(
+                        List.of(keys.sessionKey(), keys.balanceKey(), keys.versionKey()),
+                        ttlArgs
+                ));
+            }
 
-        redis.expire(balKey, BALANCE_TTL);
-        redis.expire(verKey, BALANCE_TTL);
-        long expireAtMs = System.currentTimeMillis() + SESSION_TTL.toMillis();
-        redis.opsForZSet().add(SESSION_EXP_ZSET, userId.toString(), expireAtMs);
+            List<RedisScriptRegistry.ScriptResult<Long>> ttls = redisScriptRegistry.executePipelined(HEARTBEAT_SCRIPT, calls);
+
+            // 살아있는 세션만 만료 ZSET에 한 번에 반영
+            long nowMs = System.currentTimeMillis();
+            Set<ZSetOperations.TypedTuple<String>> alive = new HashSet<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                Long ttl = ttls.get(i).value();
+                if (ttl != null && ttl > 0) {
+                    alive.add(new DefaultTypedTuple<>(userIds.get(i).toString(), (double) (nowMs + ttl)));
+                }
+            }
+            if (!alive.isEmpty()) {
+                redis.opsForZSet().add(SESSION_EXP_ZSET, alive);
+            }
+
+            for (int i = 0; i < userIds.size(); i++) {
+                RedisScriptRegistry.ScriptResult<Long> result = ttls.get(i);
+                Long ttl = result.value();
+                CompletableFuture<Long> future = batch.get(userIds.get(i));
+                if (!result.isOk()) {
+                    future.completeExceptionally(result.error());
+                } else if (ttl == null || ttl <= 0) {
+                    future.completeExceptionally(new BusinessException(ErrorCode.AUCTION_SESSION_EXPIRED));
+                } else {
+                    future.complete(ttl);
+                }
+            }
+        } catch (Exception e) {
+            log.error("heartbeat 배치 반영 실패. size={}, error={}", userIds.size(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
     }
 }
@@ -0,0 +1,245 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import devut.buzzerbidder.domain.liveBid.service.LiveAuctionDispatcher.Kind;
+import devut.buzzerbidder.global.timer.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 라이브 경매 시작/종료 시각을 JVM 안의 계층형 타이밍 휠로 감지
+ *
+ * - ending/starting ZSET이 원본. 기동 시와 reconcile 주기마다 가까운 항목을 휠에 적재
+ * - 종료 연장(입찰 스크립트)/시작·종료 등록은 auction:live:deadline 채널로 알림 받아 즉시 반영
+ * - 휠에서 만료되면 claim 스크립트로 ZSET에서 선점한 노드만 LiveAuctionDispatcher로 넘김
+ *   (아직 Redis 시각 기준 due가 아니면 남은 시각으로 재등록)
+ * - 알림 유실/노드 재시작은 LiveAuctionRedisScheduler의 느린 스윕이 보정
+ *
+ * auction.live.timing-wheel.enabled=false(기본)면 아무것도 하지 않고 기존 200ms 폴링만 동작
+ */
+@Slf4j
+@Component
+public class LiveAuctionDeadlineWheel implements MessageListener {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_LEVELS = 3;
+    private static final int LOAD_LIMIT_PER_KEY = 1_000;
+    private static final long RETRY_DELAY_MS = 1_000L;
+
+    record DeadlineKey(Kind kind, Long liveItemId) {}
+
+    private final LiveBidRedisService liveBidRedisService;
+    private final LiveAuctionDispatcher liveAuctionDispatcher;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final long tickMs;
+    private final long horizonMs;
+    private final long reconcileMs;
+    private final int workerThreads;
+
+    private HierarchicalTimingWheel<DeadlineKey> wheel;
+    private ExecutorService firePool;
+    private Thread ticker;
+    private volatile boolean running = false;
+    private Timer lateness;
+
+    public LiveAuctionDeadlineWheel(
+            LiveBidRedisService liveBidRedisService,
+            LiveAuctionDispatcher liveAuctionDispatcher,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.timing-wheel.enabled:false}") boolean enabled,
+            @Value("${auction.live.timing-wheel.tick-ms:10}") long tickMs,
+            @Value("${auction.live.timing-wheel.horizon-ms:600000}") long horizonMs,
+            @Value("${auction.live.timing-wheel.reconcile-ms:5000}") long reconcileMs,
+            @Value("${auction.live.timing-wheel.worker-threads:4}") int workerThreads
+    ) {
+        this.liveBidRedisService = liveBidRedisService;
+        this.liveAuctionDispatcher = liveAuctionDispatcher;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.tickMs = tickMs;
+        this.horizonMs = horizonMs;
+        this.reconcileMs = reconcileMs;
+        this.workerThreads = workerThreads;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        wheel = new HierarchicalTimingWheel<>(tickMs, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+        AtomicInteger seq = new AtomicInteger();
+        firePool = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread t = new Thread(r, "auction-deadline-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        lateness = Timer.builder("buzzerbidder.auction.deadline.lateness")
+                .description("데드라인 대비 타이밍 휠 만료 지연")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("buzzerbidder.auction.deadline.scheduled", wheel, HierarchicalTimingWheel::size)
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(LiveBidRedisService.DEADLINE_CHANNEL));
+
+        running = true;
+        ticker = new Thread(this::tickLoop, "auction-deadline-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+
+        reconcile();
+        log.info("경매 데드라인 타이밍 휠 시작: tickMs={}, horizonMs={}, reconcileMs={}", tickMs, horizonMs, reconcileMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) return;
+
+        running = false;
+        redisMessageListenerContainer.removeMessageListener(this);
+        if (ticker != null) ticker.interrupt();
+        if (firePool != null) {
+            firePool.shutdown();
+            try {
+                firePool.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 휠이 켜져 있을 때 ZSET 스윕 주기 (LiveAuctionRedisScheduler가 참고) */
+    public long getReconcileMs() {
+        return reconcileMs;
+    }
+
+    /* ==================== 적재/알림 ==================== */
+
+    /**
+     * ZSET에서 horizon 안의 시작/종료 항목을 휠에 다시 적재 (알림 유실 보정)
+     */
+    @Scheduled(fixedDelayString = "${auction.live.timing-wheel.reconcile-ms:5000}")
+    public void reconcile() {
+        if (!running) return;
+
+        try {
+            long untilMs = System.currentTimeMillis() + horizonMs;
+            scheduleAll(Kind.END, liveBidRedisService.findUpcomingEndings(untilMs, LOAD_LIMIT_PER_KEY));
+            scheduleAll(Kind.START, liveBidRedisService.findUpcomingStartings(untilMs, LOAD_LIMIT_PER_KEY));
+        } catch (Exception e) {
+            log.warn("타이밍 휠 재조정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * payload: "E:{itemId}:{endMs}" | "S:{itemId}:{startMs}"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!running) return;
+
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split(":");
+        if (parts.length != 3) {
+            log.warn("잘못된 데드라인 알림: {}", payload);
+            return;
+        }
+
+        try {
+            Kind kind = "E".equals(parts[0]) ? Kind.END : Kind.START;
+            wheel.schedule(new DeadlineKey(kind, Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 데드라인 알림: {}", payload);
+        }
+    }
+
+    private void scheduleAll(Kind kind, Map<Long, Long> deadlines) {
+        deadlines.forEach((itemId, deadlineMs) -> wheel.schedule(new DeadlineKey(kind, itemId), deadlineMs));
+    }
+
+    /* ==================== 만료 처리 ==================== */
+
+    private void tickLoop() {
+        while (running) {
+            try {
+                List<HierarchicalTimingWheel.Expired<DeadlineKey>> due = wheel.advanceTo(System.currentTimeMillis());
+                for (HierarchicalTimingWheel.Expired<DeadlineKey> expired : due) {
+                    firePool.execute(() -> fire(expired.key(), expired.deadlineMs()));
+                }
+
+                long sleepMs = wheel.nextTickAtMs() - System.currentTimeMillis();
+                if (sleepMs > 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMs));
+                }
+            } catch (Exception e) {
+                if (!running) break;
+                log.error("타이밍 휠 tick 처리 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void fire(DeadlineKey key, long deadlineMs) {
+        Long itemId = key.liveItemId();
+        long nowMs = System.currentTimeMillis();
+
+        try {
+            long claim = key.kind() == Kind.END
+                    ? liveBidRedisService.claimDueEnding(itemId)
+                    : liveBidRedisService.claimDueStarting(itemId);
+
+            if (claim < 0) {
+                // 다른 노드/스윕이 이미 처리
+                return;
+            }
+            if (claim > 0) {
+                // 연장됐거나 로컬 시계가 Redis보다 빠름 → 남은 시각으로 재등록
+                wheel.schedule(key, Math.max(claim, nowMs + tickMs));
+                return;
+            }
+
+            lateness.record(Duration.ofMillis(Math.max(0L, nowMs - deadlineMs)));
+            meterRegistry.counter("buzzerbidder.auction.deadline.fired", "kind", key.kind().name()).increment();
+
+            liveAuctionDispatcher.dispatch(key.kind(), Map.of(itemId, deadlineMs));
+        } catch (Exception e) {
+            log.error("타이밍 휠 경매 {} 선점 실패 - Item ID: {}, Error: {}", key.kind(), itemId, e.getMessage());
+            // 선점 응답만 유실됐을 수 있으므로 ZSET에 다시 등록 (알림으로 휠에도 다시 들어옴, 시작/종료 처리는 멱등)
+            if (key.kind() == Kind.END) {
+                liveBidRedisService.upsertEndingZset(itemId, nowMs + RETRY_DELAY_MS);
+            } else {
+                liveBidRedisService.upsertStartingZset(itemId, nowMs + RETRY_DELAY_MS);
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import devut.buzzerbidder.domain.liveitem.service.LiveItemService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * due가 된 경매 시작/종료 처리 디스패치
+ *
+ * - 다른 경매방끼리는 고정 크기 풀에서 병렬 실행 (endAuction이 DB 락/정산까지 하므로 커넥션 풀을 넘지 않게 bounded)
+ * - 같은 경매방 안에서는 제출 순서대로 하나씩 실행 (방별 큐, 한 번에 한 작업만 풀에 올라감)
+ * - 한 작업이 끝나면 같은 방의 다음 작업을 다시 풀에 제출해서 방 하나가 스레드를 독점하지 않게 함
+ * - 실패하면 1초 뒤로 ZSET 재등록 (기존 스케줄러와 같은 재시도)
+ */
+@Slf4j
+@Component
+public class LiveAuctionDispatcher {
+
+    private static final long RETRY_DELAY_MS = 1_000L;
+
+    public enum Kind { END, START }
+
+    private record Task(Kind kind, Long liveItemId, long deadlineMs) {}
+
+    private final LiveItemService liveItemService;
+    private final LiveBidRedisService liveBidRedisService;
+    private final MeterRegistry meterRegistry;
+    private final int threads;
+
+    // roomKey -> 대기 작업 (맵에 있으면 그 방의 작업이 풀에 올라가 있는 상태)
+    private final Map<Long, ArrayDeque<Task>> roomQueues = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private ExecutorService pool;
+    private Timer endLag;
+    private Timer startLag;
+
+    public LiveAuctionDispatcher(
+            LiveItemService liveItemService,
+            LiveBidRedisService liveBidRedisService,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.dispatch.threads:8}") int threads
+    ) {
+        this.liveItemService = liveItemService;
+        this.liveBidRedisService = liveBidRedisService;
+        this.meterRegistry = meterRegistry;
+        this.threads = threads;
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "auction-dispatch-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        endLag = lagTimer("end");
+        startLag = lagTimer("start");
+
+        Gauge.builder("buzzerbidder.auction.dispatch.queued", queued, AtomicInteger::get)
+                .description("실행 대기 중인 경매 시작/종료 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("buzzerbidder.auction.dispatch.rooms", roomQueues, Map::size)
+                .description("작업이 진행/대기 중인 경매방 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * due 항목 일괄 제출 (liveItemId -> 예정 시각 ms). 경매방 id는 배치당 한 번 조회
+     */
+    public void dispatch(Kind kind, Map<Long, Long> dueItems) {
+        if (dueItems.isEmpty()) return;
+
+        Map<Long, Long> roomIds;
+        try {
+            roomIds = liveItemService.findAuctionRoomIds(dueItems.keySet());
+        } catch (Exception e) {
+            log.warn("경매방 조회 실패, 아이템 단위로 실행: {}", e.getMessage());
+            roomIds = Map.of();
+        }
+
+        for (Map.Entry<Long, Long> due : dueItems.entrySet()) {
+            Long itemId = due.getKey();
+            // 경매방을 모르면 아이템 자체를 순서 단위로 사용 (음수로 방 id와 겹치지 않게)
+            Long roomKey = roomIds.getOrDefault(itemId, -itemId);
+            submit(roomKey, new Task(kind, itemId, due.getValue()));
+        }
+    }
+
+    /* ==================== 방별 직렬 실행 ==================== */
+
+    private void submit(Long roomKey, Task task) {
+        if (pool.isShutdown()) {
+            retryLater(task);
+            return;
+        }
+
+        queued.incrementAndGet();
+        boolean first;
+        synchronized (roomQueues) {
+            ArrayDeque<Task> queue = roomQueues.get(roomKey);
+            first = queue == null;
+            if (first) {
+                queue = new ArrayDeque<>();
+                roomQueues.put(roomKey, queue);
+            }
+            queue.addLast(task);
+        }
+
+        if (first) {
+            schedule(roomKey);
+        }
+    }
+
+    private void schedule(Long roomKey) {
+        try {
+            pool.execute(() -> runNext(roomKey));
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 이미 ZSET에서 꺼낸 작업이므로 유실되지 않게 다시 등록
+            ArrayDeque<Task> queue;
+            synchronized (roomQueues) {
+                queue = roomQueues.remove(roomKey);
+            }
+            if (queue == null) return;
+            queued.addAndGet(-queue.size());
+            queue.forEach(this::retryLater);
+        }
+    }
+
+    private void runNext(Long roomKey) {
+        Task task;
+        synchronized (roomQueues) {
+            task = roomQueues.get(roomKey).peekFirst();
+        }
+        queued.decrementAndGet();
+
+        try {
+            run(task);
+        } finally {
+            boolean more;
+            synchronized (roomQueues) {
+                ArrayDeque<Task> queue = roomQueues.get(roomKey);
+                queue.pollFirst();
+                more = !queue.isEmpty();
+                if (!more) {
+                    roomQueues.remove(roomKey);
+                }
+            }
+            if (more) {
+                schedule(roomKey);
+            }
+        }
+    }
+
+    private void run(Task task) {
+        try {
+            if (task.kind() == Kind.END) {
+                liveItemService.endAuction(task.liveItemId());
+                endLag.record(Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - task.deadlineMs())));
+            } else {
+                liveItemService.startAuction(task.liveItemId());
+                startLag.record(Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - task.deadlineMs())));
+            }
+        } catch (Exception e) {
+            log.error("경매 {} 처리 실패 - Item ID: {}, Error: {}", task.kind(), task.liveItemId(), e.getMessage());
+            retryLater(task);
+        }
+    }
+
+    private void retryLater(Task task) {
+        long retryAtMs = System.currentTimeMillis() + RETRY_DELAY_MS;
+        if (task.kind() == Kind.END) {
+            liveBidRedisService.upsertEndingZset(task.liveItemId(), retryAtMs);
+        } else {
+            liveBidRedisService.upsertStartingZset(task.liveItemId(), retryAtMs);
+        }
+    }
+
+    private Timer lagTimer(String kind) {
+        return Timer.builder("buzzerbidder.auction.dispatch.lag")
+                .description("실제 시작/종료 처리 완료 시각 - 예정 시각(ZSET score)")
+                .tag("kind", kind)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,12 +1,11 @@
 package devut.buzzerbidder.domain.liveBid.service;
 
-import devut.buzzerbidder.domain.liveitem.service.LiveItemService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -14,45 +13,43 @@ import java.util.List;
 public class LiveAuctionRedisScheduler {
 
     private final LiveBidRedisService liveBidRedisService;
-    private final LiveItemService liveItemService;
+    private final LiveAuctionDispatcher liveAuctionDispatcher;
+    private final LiveAuctionDeadlineWheel liveAuctionDeadlineWheel;
+
+    // 타이밍 휠이 켜져 있으면 ZSET 폴링은 reconcile 주기마다만 수행 (알림 유실/재시작 보정용 스윕)
+    private long lastEndingSweepMs = 0L;
+    private long lastStartingSweepMs = 0L;
 
     /**
      * ending ZSET 기반 종료 처리
-     * - score(endTimeMs) <= nowMs 인 itemId를 pop 해서 endAuction 호출
+     * - score(endTimeMs) <= nowMs 인 itemId를 pop 해서 디스패처에 넘김 (방 단위 순서 보장, 방끼리는 병렬)
      */
     @Scheduled(fixedDelay = 200) // 0.2초마다
     public void processEndings() {
         long nowMs = System.currentTimeMillis();
-        List<Long> itemIds = liveBidRedisService.popDueEndingItems(nowMs, 50);
-
-        for (Long itemId : itemIds) {
-            try {
-                liveItemService.endAuction(itemId);
-            } catch (Exception e) {
-                log.error("경매 종료 처리 실패 - Item ID: {}, Error: {}", itemId, e.getMessage());
-                // 실패 시 재시도
-                liveBidRedisService.upsertEndingZset(itemId, nowMs + 1000);
-            }
-        }
+        if (skipSweep(nowMs, lastEndingSweepMs)) return;
+        lastEndingSweepMs = nowMs;
+
+        Map<Long, Long> dueItems = liveBidRedisService.popDueEndingItems(nowMs, 50);
+        liveAuctionDispatcher.dispatch(LiveAuctionDispatcher.Kind.END, dueItems);
     }
 
     /**
      * starting ZSET 기반 시작 처리
-     * - score(startTimeMs) <= nowMs 인 itemId를 pop 해서 startAuction 호출
+     * - score(startTimeMs) <= nowMs 인 itemId를 pop 해서 디스패처에 넘김
      */
     @Scheduled(fixedDelay = 200)
     public void processStartings() {
         long nowMs = System.currentTimeMillis();
-        List<Long> itemIds = liveBidRedisService.popDueStartingItems(nowMs, 50);
-
-        for (Long itemId : itemIds) {
-            try {
-                liveItemService.startAuction(itemId);
-            } catch (Exception e) {
-                log.error("경매 시작 처리 실패 - Item ID: {}, Error: {}", itemId, e.getMessage());
-                // 실패 시 재시도
-                liveBidRedisService.upsertStartingZset(itemId, nowMs + 1000);
-            }
-        }
+        if (skipSweep(nowMs, lastStartingSweepMs)) return;
+        lastStartingSweepMs = nowMs;
+
+        Map<Long, Long> dueItems = liveBidRedisService.popDueStartingItems(nowMs, 50);
+        liveAuctionDispatcher.dispatch(LiveAuctionDispatcher.Kind.START, dueItems);
+    }
+
+    private boolean skipSweep(long nowMs, long lastSweepMs) {
+        return liveAuctionDeadlineWheel.isEnabled()
+                && nowMs - lastSweepMs < liveAuctionDeadlineWheel.getReconcileMs();
     }
 }
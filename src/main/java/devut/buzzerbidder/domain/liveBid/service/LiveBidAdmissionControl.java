@@ -0,0 +1,187 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
+import devut.buzzerbidder.global.ratelimit.LocalTokenBuckets;
+import devut.buzzerbidder.global.redis.RedisLuaScript;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 라이브 입찰 사전 허용 제어 (유저별/아이템별 토큰 버킷)
+ *
+ * 연타/봇 요청이 입찰 Lua까지 가지 않도록 입찰 컨트롤러(HTTP/STOMP)에서 먼저 걸러냄
+ * - LOCAL: 노드별 JVM 버킷 (한도도 노드별)
+ * - REDIS: 버킷을 Redis에 두고 모든 노드가 공유 (키 하나짜리 스크립트라 클러스터에서도 안전)
+ * - Redis 오류 시에는 허용 (입찰 자체는 Lua가 다시 검증)
+ *
+ * 거절 시 에러 대신 현재가를 담은 입찰 실패 응답을 돌려줌
+ */
+@Slf4j
+@Component
+public class LiveBidAdmissionControl {
+
+    public enum Mode { LOCAL, REDIS }
+
+    public enum Decision { ADMITTED, USER_LIMITED, ITEM_LIMITED }
+
+    private static final String USER_BUCKET_PREFIX = "auction:admission:user:";
+    private static final String ITEM_BUCKET_PREFIX = "auction:admission:item:";
+
+    /**
+     * KEYS[1]: 버킷 해시 (tokens, ts)
+     * ARGV[1]: capacity, ARGV[2]: 초당 충전량
+     * 반환: 1 허용, 0 거절
+     */
+    private static final String LUA_TOKEN_BUCKET = """
+        local capacity = tonumber(ARGV[1])
+        local perMs = tonumber(ARGV[2]) / 1000
+
+        local t = redis.call('TIME')
+        local nowMs = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+        local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+        local tokens = tonumber(state[1]) or capacity
+        local ts = tonumber(state[2]) or nowMs
+        if nowMs > ts then
+          tokens = math.min(capacity, tokens + (nowMs - ts) * perMs)
+        end
+
+        local allowed = 0
+        if tokens >= 1 then
+          tokens = tokens - 1
+          allowed = 1
+        end
+
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(nowMs))
+        -- 다시 가득 찰 시간이 지나면 키가 없어도 같은 상태
+        redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / perMs) + 1000)
+        return allowed
+        """;
+
+    private static final RedisLuaScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisLuaScript.of("livebid.admission_bucket", LUA_TOKEN_BUCKET, Long.class);
+
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final LiveBidRedisService liveBidRedisService;
+
+    private final boolean enabled;
+    private final Mode mode;
+    private final long userCapacity;
+    private final double userRefillPerSecond;
+    private final long itemCapacity;
+    private final double itemRefillPerSecond;
+
+    private final LocalTokenBuckets<Long> userBuckets;
+    private final LocalTokenBuckets<Long> itemBuckets;
+
+    private final Counter userShed;
+    private final Counter itemShed;
+    private final Counter failOpen;
+
+    public LiveBidAdmissionControl(
+            RedisScriptRegistry redisScriptRegistry,
+            LiveBidRedisService liveBidRedisService,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.admission.enabled:true}") boolean enabled,
+            @Value("${auction.live.admission.mode:LOCAL}") Mode mode,
+            @Value("${auction.live.admission.user.capacity:5}") long userCapacity,
+            @Value("${auction.live.admission.user.refill-per-second:3}") double userRefillPerSecond,
+            @Value("${auction.live.admission.item.capacity:200}") long itemCapacity,
+            @Value("${auction.live.admission.item.refill-per-second:100}") double itemRefillPerSecond
+    ) {
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.liveBidRedisService = liveBidRedisService;
+        this.enabled = enabled;
+        this.mode = mode;
+        this.userCapacity = userCapacity;
+        this.userRefillPerSecond = userRefillPerSecond;
+        this.itemCapacity = itemCapacity;
+        this.itemRefillPerSecond = itemRefillPerSecond;
+
+        this.userBuckets = new LocalTokenBuckets<>(userCapacity, userRefillPerSecond);
+        this.itemBuckets = new LocalTokenBuckets<>(itemCapacity, itemRefillPerSecond);
+
+        this.userShed = meterRegistry.counter("buzzerbidder.livebid.admission.shed", "reason", "user");
+        this.itemShed = meterRegistry.counter("buzzerbidder.livebid.admission.shed", "reason", "item");
+        this.failOpen = meterRegistry.counter("buzzerbidder.livebid.admission.fail_open");
+    }
+
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register(TOKEN_BUCKET_SCRIPT);
+    }
+
+    /**
+     * 유저 버킷 → 아이템 버킷 순으로 토큰 소비
+     * (유저 단계에서 걸러진 요청이 아이템 토큰을 깎지 않도록)
+     */
+    public Decision tryAdmit(Long userId, Long liveItemId) {
+        if (!enabled) return Decision.ADMITTED;
+
+        if (!acquire(userBuckets, USER_BUCKET_PREFIX, userId, userCapacity, userRefillPerSecond)) {
+            userShed.increment();
+            return Decision.USER_LIMITED;
+        }
+        if (!acquire(itemBuckets, ITEM_BUCKET_PREFIX, liveItemId, itemCapacity, itemRefillPerSecond)) {
+            itemShed.increment();
+            return Decision.ITEM_LIMITED;
+        }
+        return Decision.ADMITTED;
+    }
+
+    /**
+     * 거절된 입찰에 돌려줄 응답 (일반 입찰 실패와 같은 형태, 현재가 포함)
+     */
+    public LiveBidResponse shedResponse(Long liveItemId) {
+        int currentPrice = 0;
+        try {
+            String price = liveBidRedisService.getLiveItemField(liveItemId, "maxBidPrice");
+            if (price != null) currentPrice = Integer.parseInt(price);
+        } catch (Exception e) {
+            log.debug("허용 거절 응답용 현재가 조회 실패. liveItemId={}, error={}", liveItemId, e.getMessage());
+        }
+        return new LiveBidResponse(
+                false,
+                "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요. 현재가: " + currentPrice,
+                currentPrice,
+                LiveBidResponse.SHED
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${auction.live.admission.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        if (!enabled || mode != Mode.LOCAL) return;
+
+        long now = System.nanoTime();
+        userBuckets.evictIdle(now);
+        itemBuckets.evictIdle(now);
+    }
+
+    private boolean acquire(LocalTokenBuckets<Long> local, String prefix, Long id, long capacity, double refillPerSecond) {
+        if (mode == Mode.LOCAL) {
+            return local.tryAcquire(id, System.nanoTime());
+        }
+
+        try {
+            Long allowed = redisScriptRegistry.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(prefix + id),
+                    String.valueOf(capacity),
+                    String.valueOf(refillPerSecond)
+            );
+            return allowed == null || allowed == 1L;
+        } catch (Exception e) {
+            failOpen.increment();
+            log.warn("입찰 허용 버킷 조회 실패, 허용 처리. key={}, error={}", prefix + id, e.getMessage());
+            return true;
+        }
+    }
+}
@@ -1,42 +1,59 @@
 package devut.buzzerbidder.domain.liveBid.service;
 
-import lombok.RequiredArgsConstructor;
+import devut.buzzerbidder.global.redis.RedisStreamBatchConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * 비동기 저장 흐름:
- * 1. Redis Stream에서 메시지 수신
- * 2. LiveBidLogPersistService를 통해 DB 저장 (재시도 + 트랜잭션 적용)
- * 3. 저장 성공 시 ACK 전송
+ * 1. Redis Stream에서 XREADGROUP으로 최대 batchSize 건을 한 번에 수신
+ * 2. LiveBidLogPersistService를 통해 JDBC batch insert (단일 트랜잭션 + 재시도)
+ * 3. 저장 성공 시 배치 전체를 XACK 한 번으로 ACK
+ *
+ * consumer 이름은 인스턴스마다 고유하므로 여러 노드가 같은 group을 나눠서 소비하고,
+ * 죽은 노드가 남긴(또는 실패로 남겨둔) pending 레코드는 XPENDING + XCLAIM으로 회수함
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class LiveBidLogConsumer implements StreamListener<String, MapRecord<String, String, String>> {
-
-    private final LiveBidLogPersistService liveBidLogPersistService;
-    private final RedisTemplate<String, String> redisTemplate;
+public class LiveBidLogConsumer extends RedisStreamBatchConsumer {
 
     private static final String BID_LOG_STREAM_KEY = "auction:bid:log:stream";
     private static final String BID_LOG_GROUP = "bid-log-group";
+    private static final String BID_LOG_DEAD_LETTER_KEY = "auction:bid:log:dlq";
 
-    @Override
-    public void onMessage(MapRecord<String, String, String> message) {
-        try {
-            liveBidLogPersistService.processAndSave(message);
-
-            // 비즈니스 로직이 예외 없이 성공했을 때만 ACK를 전송
-            redisTemplate.opsForStream().acknowledge(BID_LOG_STREAM_KEY, BID_LOG_GROUP, message.getId());
-            log.debug("입찰 로그 처리 완료 및 ACK 전송: msgId={}", message.getId());
+    private final LiveBidLogPersistService liveBidLogPersistService;
 
-        } catch (Exception e) {
-            // 3회 재시도 후에도 실패한 경우
-            log.error("입찰 로그 최종 저장 실패. MsgId: {}, Error: {}", message.getId(), e.getMessage());
-        }
+    public LiveBidLogConsumer(
+            LiveBidLogPersistService liveBidLogPersistService,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auction.bid-log.consumer-name:}") String consumerName,
+            @Value("${auction.bid-log.batch-size:200}") int batchSize,
+            @Value("${auction.bid-log.block-ms:1000}") long blockMs,
+            @Value("${auction.bid-log.claim-min-idle-ms:60000}") long claimMinIdleMs
+    ) {
+        super(redisTemplate, meterRegistry, new Settings(
+                List.of(BID_LOG_STREAM_KEY),
+                BID_LOG_GROUP,
+                consumerName,
+                batchSize,
+                Duration.ofMillis(blockMs),
+                Duration.ofMillis(claimMinIdleMs),
+                BID_LOG_DEAD_LETTER_KEY
+        ));
+        this.liveBidLogPersistService = liveBidLogPersistService;
     }
 
-}
\ No newline at end of file
+    @Override
+    protected void handleBatch(List<MapRecord<String, String, String>> records) {
+        int inserted = liveBidLogPersistService.saveAll(records);
+        log.debug("입찰 로그 배치 저장 완료: received={}, inserted={}", records.size(), inserted);
+    }
+}
@@ -1,39 +1,49 @@
 package devut.buzzerbidder.domain.liveBid.service;
 
-import devut.buzzerbidder.domain.auctionroom.entity.AuctionRoom;
-import devut.buzzerbidder.domain.liveBid.entity.LiveBidLog;
-import devut.buzzerbidder.domain.liveBid.repository.LiveBidLogRepository;
-import devut.buzzerbidder.domain.liveitem.entity.LiveItem;
-import devut.buzzerbidder.domain.user.entity.User;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 입찰 로그 DB 저장을 담당하는 서비스
  * 별도 Bean으로 분리하여 @Transactional, @Retryable 프록시가 정상 동작하도록 함
+ *
+ * LiveBidLog는 IDENTITY 전략이라 JPA로는 insert 배치가 되지 않으므로 JdbcTemplate batchUpdate 사용
+ * stream_id 유니크 키로 PEL 회수(XCLAIM) 재전달 시 중복 저장을 막음
+ * sellerId가 없거나 "null"인 레코드는 live_item의 판매자로 채움 (한 건 때문에 배치 전체가 재시도/DLQ로 가지 않도록)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LiveBidLogPersistService {
 
-    private final LiveBidLogRepository liveBidLogRepository;
-    private final EntityManager entityManager;
+    private static final String INSERT_SQL = """
+            INSERT INTO live_bid_log
+                (stream_id, auction_id, item_id, bidder_id, seller_id, bid_price, bid_time, create_date, modify_date)
+            VALUES (?, ?, ?, ?, COALESCE(?, (SELECT li.seller_user_id FROM live_item li WHERE li.id = ?)), ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE stream_id = stream_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 실제 DB 저장 로직 (재시도 대상)
      * 예외 발생 시: 1초 대기 후 재시도, 최대 3회 시도
+     *
+     * @return 새로 저장된 행 수 (중복으로 무시된 행 제외)
      */
     @Retryable(
             retryFor = Exception.class,
@@ -41,43 +51,55 @@ public class LiveBidLogPersistService {
             backoff = @Backoff(delay = 1000)
     )
     @Transactional
-    public void processAndSave(MapRecord<String, String, String> message) {
-        Map<String, String> data = message.getValue();
+    public int saveAll(List<MapRecord<String, String, String>> messages) {
+        if (messages.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(messages.size());
+
+        for (MapRecord<String, String, String> message : messages) {
+            Map<String, String> data = message.getValue();
 
-        Long auctionId = Long.parseLong(data.get("auctionId"));
-        Long liveItemId = Long.parseLong(data.get("liveItemId"));
-        Long bidderId = Long.parseLong(data.get("bidderId"));
-        Long sellerId = Long.parseLong(data.get("sellerId"));
-        int bidPrice = Integer.parseInt(data.get("bidPrice"));
+            String occurredAtStr = data.get("occurredAt");
+            LocalDateTime occurredAt;
 
-        String occurredAtStr = data.get("occurredAt");
-        LocalDateTime occurredAt;
+            if (occurredAtStr != null) {
+                long timestamp = Long.parseLong(occurredAtStr);
+                occurredAt = Instant.ofEpochMilli(timestamp)
+                        .atZone(ZoneId.systemDefault())
+                        .toLocalDateTime();
+            } else {
+                occurredAt = LocalDateTime.now();
+            }
 
-        if (occurredAtStr != null) {
-            long timestamp = Long.parseLong(occurredAtStr);
-            occurredAt = Instant.ofEpochMilli(timestamp)
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDateTime();
-        } else {
-            occurredAt = LocalDateTime.now();
+            Long liveItemId = Long.parseLong(data.get("liveItemId"));
+            batchArgs.add(new Object[]{
+                    message.getId().getValue(),
+                    Long.parseLong(data.get("auctionId")),
+                    liveItemId,
+                    Long.parseLong(data.get("bidderId")),
+                    parseLongOrNull(data.get("sellerId")),
+                    liveItemId,
+                    Integer.parseInt(data.get("bidPrice")),
+                    Timestamp.valueOf(occurredAt),
+                    now,
+                    now
+            });
         }
 
-        User bidderProxy = entityManager.getReference(User.class, bidderId);
-        User sellerProxy = entityManager.getReference(User.class, sellerId);
-        LiveItem itemProxy = entityManager.getReference(LiveItem.class, liveItemId);
-        AuctionRoom roomProxy = entityManager.getReference(AuctionRoom.class, auctionId);
+        int[] results = jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
 
-        LiveBidLog bidLog = LiveBidLog.builder()
-                .bidder(bidderProxy)
-                .seller(sellerProxy)
-                .liveItem(itemProxy)
-                .auctionRoom(roomProxy)
-                .bidPrice(bidPrice)
-                .bidTime(occurredAt)
-                .build();
+        // MySQL: 신규 insert 1, 중복 무시 0 (드라이버에 따라 SUCCESS_NO_INFO(-2)일 수 있음)
+        int inserted = 0;
+        for (int r : results) {
+            if (r != 0) inserted++;
+        }
+        return inserted;
+    }
 
-        liveBidLogRepository.save(bidLog);
-        log.debug("입찰 로그 DB 저장 성공: item={}, price={}", liveItemId, bidPrice);
+    // 필드가 없거나 빈 값/"null"로 기록된 경우 null
+    private static Long parseLongOrNull(String value) {
+        if (value == null || value.isBlank() || "null".equals(value)) return null;
+        return Long.parseLong(value);
     }
 }
-
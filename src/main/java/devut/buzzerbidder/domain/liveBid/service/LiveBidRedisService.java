@@ -2,77 +2,230 @@ package devut.buzzerbidder.domain.liveBid.service;
 
 import devut.buzzerbidder.domain.liveBid.dto.BidAtomicResult;
 import devut.buzzerbidder.domain.liveBid.dto.LiveBidEvent;
+import devut.buzzerbidder.domain.liveBid.dto.LiveItemSnapshots;
+import devut.buzzerbidder.domain.liveBid.dto.ProxyBidResult;
+import devut.buzzerbidder.domain.wallet.service.WalletRedisService;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisClock;
+import devut.buzzerbidder.global.redis.RedisLuaScript;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
 import io.micrometer.core.annotation.Timed;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.connection.stream.StringRecord;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
-@RequiredArgsConstructor()
 public class LiveBidRedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
-
-    // 종료 감지용 ZSET 키
-    private static final String ENDING_ZSET_KEY = "auction:live:ending";
-
-    // 시작 감지용 ZSET 키
-    private static final String STARTING_ZSET_KEY = "auction:live:starting";
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final AuctionRedisKeys auctionRedisKeys;
+    private final WalletRedisService walletRedisService;
+    private final RedisClock redisClock;
+    private final LiveItemNearCache liveItemNearCache;
+    private final BidHoldReconciler bidHoldReconciler;
+
+    // 스냅샷 1회 조회당 상품 수
+    private final DistributionSummary snapshotItems;
+
+    public LiveBidRedisService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            AuctionRedisKeys auctionRedisKeys,
+            WalletRedisService walletRedisService,
+            RedisClock redisClock,
+            MeterRegistry meterRegistry,
+            LiveItemNearCache liveItemNearCache,
+            BidHoldReconciler bidHoldReconciler
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.auctionRedisKeys = auctionRedisKeys;
+        this.walletRedisService = walletRedisService;
+        this.redisClock = redisClock;
+        this.liveItemNearCache = liveItemNearCache;
+        this.bidHoldReconciler = bidHoldReconciler;
+
+        this.snapshotItems = DistributionSummary.builder("buzzerbidder.livebid.snapshot.items")
+                .register(meterRegistry);
+    }
 
     // 입찰 로그용 Stream Key
     private static final String BID_LOG_STREAM_KEY = "auction:bid:log:stream";
 
+    // 시작/종료 시각 변경 알림 채널 (payload: "E:{itemId}:{endMs}" | "S:{itemId}:{startMs}")
+    // 입찰 스크립트의 종료 연장 PUBLISH와 같은 채널명
+    public static final String DEADLINE_CHANNEL = "auction:live:deadline";
+
+    // 버킷 ZSET 스캔 시작 위치 (매 호출마다 돌려서 특정 버킷만 먼저 처리되지 않게 함)
+    private final AtomicInteger scanCursor = new AtomicInteger();
+
     /** 경매 종료 시각 등록/갱신 (score=endTimeMs, member=liveItemId) */
     public void upsertEndingZset(Long liveItemId, long endTimeMs) {
-        redisTemplate.opsForZSet().add(ENDING_ZSET_KEY, liveItemId.toString(), (double) endTimeMs);
-    }
-
-    /** 경매 종료 감지용 ZSET key getter */
-    public String getEndingZsetKey() {
-        return ENDING_ZSET_KEY;
+        redisTemplate.opsForZSet().add(auctionRedisKeys.item(liveItemId).endingKey(), liveItemId.toString(), (double) endTimeMs);
+        redisTemplate.convertAndSend(DEADLINE_CHANNEL, "E:" + liveItemId + ":" + endTimeMs);
     }
 
     /** 경매 시작 시각 등록/갱신 (score=startTimeMs, member=liveItemId) */
     public void upsertStartingZset(Long liveItemId, long startTimeMs) {
-        redisTemplate.opsForZSet().add(STARTING_ZSET_KEY, liveItemId.toString(), (double) startTimeMs);
+        redisTemplate.opsForZSet().add(auctionRedisKeys.item(liveItemId).startingKey(), liveItemId.toString(), (double) startTimeMs);
+        redisTemplate.convertAndSend(DEADLINE_CHANNEL, "S:" + liveItemId + ":" + startTimeMs);
     }
 
-    /** 경매 시작 감지용 ZSET key getter */
-    public String getStartingZsetKey() {
-        return STARTING_ZSET_KEY;
+    /**
+     * 경매 시작 시 liveItem 해시 최초 적재
+     * (DUAL 모드에서도 새 아이템은 SHARDED 키에 씀)
+     */
+    public void initLiveItemHash(Long liveItemId, Map<String, String> data, Duration ttl) {
+        String itemKey = auctionRedisKeys.itemForWrite(liveItemId).itemKey();
+        redisTemplate.opsForHash().putAll(itemKey, data);
+        redisTemplate.expire(itemKey, ttl);
+        liveItemNearCache.invalidate(liveItemId);
     }
 
-    // Redis HASH에 데이터 저장
-    public void setHash(String key, Map<String, String> data) {
-        redisTemplate.opsForHash().putAll(key, data);
+    /**
+     * 경매 시작 트랜잭션이 롤백됐을 때 initLiveItem이 쓴 상태 제거 (해시 + 종료 ZSET)
+     * 시작 ZSET은 건드리지 않음 (다음 시작 시도 대상 유지)
+     */
+    public void discardLiveItemInit(Long liveItemId) {
+        for (AuctionRedisKeys.ItemKeys keys : auctionRedisKeys.itemAllLayouts(liveItemId)) {
+            redisTemplate.delete(keys.itemKey());
+            redisTemplate.opsForZSet().remove(keys.endingKey(), liveItemId.toString());
+        }
+        liveItemNearCache.invalidate(liveItemId);
     }
 
-    // Redis HASH에서 필드 값 조회
-    public String getHashField(String key, String field) {
-        Object result = redisTemplate.opsForHash().get(key, field);
+    // liveItem 해시에서 필드 값 조회
+    public String getLiveItemField(Long liveItemId, String field) {
+        Object result = redisTemplate.opsForHash().get(auctionRedisKeys.item(liveItemId).itemKey(), field);
         return result != null ? result.toString() : null;
     }
+
+    // 목록 조회용 스냅샷 필드 (LiveItemSnapshots 순서와 동일)
+    private static final byte[][] SNAPSHOT_FIELDS = {
+            "maxBidPrice".getBytes(StandardCharsets.UTF_8),
+            "currentBidderId".getBytes(StandardCharsets.UTF_8),
+            "endTime".getBytes(StandardCharsets.UTF_8)
+    };
+
+    /**
+     * 여러 아이템의 현재가/최고 입찰자/종료 시각을 파이프라인 1회(HMGET × N)로 조회
+     * - 근거리 캐시(LiveItemNearCache)가 켜져 있으면 캐시에 없는 아이템만 Redis에서 읽고 캐시에 적재
+     * - DUAL 모드면 두 레이아웃을 모두 HMGET 하고 LEGACY에 값이 있으면 그쪽 사용 (아이템별 hasKey 왕복 없음)
+     * - 호출당 아이템 수는 buzzerbidder.livebid.snapshot.items로 기록
+     */
+    public LiveItemSnapshots getLiveItemSnapshots(Collection<Long> liveItemIds) {
+        long[] ids = liveItemIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+
+        snapshotItems.record(ids.length);
+        if (ids.length == 0) return LiveItemSnapshots.empty();
+
+        long[] prices = new long[ids.length];
+        long[] bidders = new long[ids.length];
+        long[] endTimes = new long[ids.length];
+
+        // 1) 근거리 캐시
+        long nowNanos = System.nanoTime();
+        int[] missIdx = new int[ids.length];
+        int misses = 0;
+        for (int i = 0; i < ids.length; i++) {
+            LiveItemNearCache.Entry cached = liveItemNearCache.get(ids[i], nowNanos);
+            if (cached == null) {
+                missIdx[misses++] = i;
+                continue;
+            }
+            prices[i] = cached.maxBidPrice();
+            bidders[i] = cached.currentBidderId();
+            endTimes[i] = cached.endTimeMs();
+        }
+        if (misses == 0) return new LiveItemSnapshots(ids, prices, bidders, endTimes);
+
+        // 2) 나머지는 Redis 파이프라인
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        List<byte[]> keys = new ArrayList<>(misses * 2);
+        int layouts = 0;
+        for (int m = 0; m < misses; m++) {
+            List<AuctionRedisKeys.ItemKeys> itemLayouts = auctionRedisKeys.itemAllLayouts(ids[missIdx[m]]);
+            layouts = itemLayouts.size();
+            for (AuctionRedisKeys.ItemKeys itemKeys : itemLayouts) {
+                keys.add(serializer.serialize(itemKeys.itemKey()));
+            }
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] key : keys) {
+                connection.hashCommands().hMGet(key, SNAPSHOT_FIELDS);
+            }
+            return null;
+        }, serializer);
+
+        for (int m = 0; m < misses; m++) {
+            int i = missIdx[m];
+            List<?> values = firstPresent(results, m * layouts, layouts);
+            prices[i] = parseLongOrMissing(values, 0);
+            bidders[i] = parseLongOrMissing(values, 1);
+            endTimes[i] = parseLongOrMissing(values, 2);
+            liveItemNearCache.put(ids[i], prices[i], bidders[i], endTimes[i], nowNanos);
+        }
+        return new LiveItemSnapshots(ids, prices, bidders, endTimes);
+    }
+
+    // 레이아웃 순서대로 보고 값이 하나라도 있는 HMGET 결과
+    private static List<?> firstPresent(List<Object> results, int from, int count) {
+        for (int j = from; j < from + count; j++) {
+            if (results.get(j) instanceof List<?> values && values.stream().anyMatch(Objects::nonNull)) {
+                return values;
+            }
+        }
+        return List.of();
+    }
+
+    private static long parseLongOrMissing(List<?> values, int idx) {
+        if (idx >= values.size() || values.get(idx) == null) return LiveItemSnapshots.MISSING;
+
+        String s = values.get(idx).toString().trim();
+        if (s.isEmpty()) return LiveItemSnapshots.MISSING;
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            return LiveItemSnapshots.MISSING;
+        }
+    }
+
+    // liveItem deposits 해시에서 입찰자의 보증금 조회
+    public Long getLiveItemDeposit(Long liveItemId, String bidderId) {
+        Object result = redisTemplate.opsForHash().get(auctionRedisKeys.item(liveItemId).depositsKey(), bidderId);
+        return result != null ? Long.parseLong(result.toString()) : null;
+    }
+
     // Redis 서버 시간(ms) 조회: JVM 시간 차이로 인한 조기/지연 종료 방지용
+    // (RedisClock이 주기적으로 맞춘 추정값, 오차 상한 내. 입찰 스크립트는 Lua 안의 TIME 사용)
     public long getRedisNowMs() {
-        final String LUA_TIME_MS = """
-            local t = redis.call('TIME')
-            return tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
-        """;
-
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>(LUA_TIME_MS, Long.class);
-        Long nowMs = redisTemplate.execute(script, Collections.emptyList());
-        if (nowMs == null) {
-            throw new IllegalStateException("Redis TIME 조회 결과가 null입니다.");
-        }
-        return nowMs;
+        return redisClock.redisNowMs();
+    }
+
+    // 실제 Redis 시각이 이 값 이상임이 보장되는 시각(ms): 마감이 지났는지 판단할 때 사용
+    public long getRedisNowLowerBoundMs() {
+        return redisClock.redisNowLowerBoundMs();
     }
 
     /**
@@ -80,7 +233,7 @@ public class LiveBidRedisService {
      * - 없으면 null 반환 (아직 initLiveItem 안 됐거나 키가 삭제된 상태)
      */
     public Long getCurrentItemEndTimeMs(Long liveItemId) {
-        String liveKey = "liveItem:" + liveItemId;
+        String liveKey = auctionRedisKeys.item(liveItemId).itemKey();
 
         Object v = redisTemplate.opsForHash().get(liveKey, "endTime");
         if (v == null) return null;
@@ -116,13 +269,15 @@ public class LiveBidRedisService {
      * auction:live:starting(ZSET)에서 liveItemId의 시작 예정 시각을 조회합니다.
      */
     public Long getStartingAtMs(Long liveItemId) {
-        Double score = redisTemplate.opsForZSet()
-                .score(getStartingZsetKey(), liveItemId.toString());
+        // DUAL 모드면 LEGACY/SHARDED 어느 쪽에 등록됐는지 모르므로 둘 다 확인
+        for (AuctionRedisKeys.ItemKeys keys : auctionRedisKeys.itemAllLayouts(liveItemId)) {
+            Double score = redisTemplate.opsForZSet()
+                    .score(keys.startingKey(), liveItemId.toString());
 
-        if (score == null) return null;
-
-        // Redis ZSET score는 Double로 오므로 ms 단위 long으로 변환
-        return score.longValue();
+            // Redis ZSET score는 Double로 오므로 ms 단위 long으로 변환
+            if (score != null) return score.longValue();
+        }
+        return null;
     }
 
     /**
@@ -142,6 +297,170 @@ public class LiveBidRedisService {
     }
 
 
+    /**
+     * 자동 입찰(프록시) 공용 Lua 함수 (LEGACY 지갑 키 전용, 입찰/등록 스크립트 앞에 붙여 사용)
+     *
+     * resolveProxies: 최고입찰자 leader가 price로 앞서 있는 상태에서 등록된 최대가들끼리 경합을 한 번에 정리
+     * - 각 자동 입찰의 실효 최대가 = min(등록 최대가, 잔액(+이미 맡긴 보증금)으로 감당 가능한 입찰가)
+     *   세션/지갑 키가 없는 유저는 제외 (수동 입찰의 -3과 같은 조건)
+     * - 실효 최대가가 가장 높은 쪽이 이김 (동률이면 현재 최고입찰자, 그다음은 먼저 조회된 쪽)
+     * - 이긴 쪽은 2등 최대가 + 최소 증가분(5%, 최소 100)까지만 올림 (자기 최대가를 넘지 않음)
+     * - 보증금(입찰가의 20%)은 새 최고입찰자에게서 차감, 밀려난 쪽에는 반환 (지갑 이벤트도 기록)
+     * 반환: winner, newPrice, 환불 못 한 userId(''), 환불 못 한 금액
+     */
+    private static final String LUA_PROXY_FUNCTIONS = """
+        local function minIncrement(price)
+          local inc = math.ceil(price * 5 / 100)
+          if inc < 100 then
+            inc = 100
+          end
+          return inc
+        end
+
+        -- LiveBidService와 같은 규칙 (입찰가의 20% 올림)
+        local function bidDeposit(price)
+          return math.ceil(price * 0.2)
+        end
+
+        local function affordable(maxPrice, funds)
+          local eff = math.min(maxPrice, funds * 5)
+          while eff > 0 and bidDeposit(eff) > funds do
+            eff = eff - 1
+          end
+          return eff
+        end
+
+        -- 세션/버전 키가 살아있는 유저의 잔액 (없으면 nil)
+        local function liveBalance(userId)
+          if redis.call('EXISTS', 'auction:session:' .. userId) == 0 then return nil end
+          if redis.call('EXISTS', 'auction:bizzver:' .. userId) == 0 then return nil end
+          local balStr = redis.call('GET', 'auction:bizz:' .. userId)
+          if not balStr then return nil end
+          return tonumber(balStr)
+        end
+
+        -- 잔액 변경 + 지갑 이벤트 기록 (잔액/버전 키가 없으면 false)
+        local function changeBalance(userId, amount, isIncrease, reason, liveItemId, balanceTtl)
+          local balKey = 'auction:bizz:' .. userId
+          local verKey = 'auction:bizzver:' .. userId
+          local balStr = redis.call('GET', balKey)
+          if (not balStr) or redis.call('EXISTS', verKey) == 0 then
+            return false
+          end
+
+          local before = tonumber(balStr)
+          local after = before - amount
+          if isIncrease then after = before + amount end
+          redis.call('SET', balKey, after)
+          local ver = redis.call('INCR', verKey)
+
+          redis.call('XADD', 'auction:bizz:events', '*',
+            'event', 'CHANGE',
+            'userId', userId,
+            'before', tostring(before),
+            'after', tostring(after),
+            'amount', tostring(amount),
+            'isIncrease', isIncrease and '1' or '0',
+            'version', tostring(ver),
+            'reason', reason,
+            'traceId', 'liveItem:' .. liveItemId
+          )
+
+          if balanceTtl and balanceTtl > 0 then
+            redis.call('EXPIRE', balKey, balanceTtl)
+            redis.call('EXPIRE', verKey, balanceTtl)
+          end
+          return true
+        end
+
+        local function resolveProxies(proxyKey, depositsKey, leader, price, liveItemId, balanceTtl)
+          local need = price + minIncrement(price)
+
+          -- 현재 최고입찰자의 실효 최대가 (자동 입찰이 없으면 현재가 그대로)
+          local leaderDep = 0
+          local leaderMax = nil
+          if leader ~= '' then
+            leaderDep = tonumber(redis.call('HGET', depositsKey, leader) or '0')
+            leaderMax = price
+            local leaderProxy = redis.call('ZSCORE', proxyKey, leader)
+            local leaderBal = leaderProxy and liveBalance(leader)
+            if leaderBal then
+              leaderMax = math.max(price, affordable(tonumber(leaderProxy), leaderBal + leaderDep))
+            end
+          end
+
+          -- 도전자: 최소 입찰가 이상을 등록한 자동 입찰 중 실효 최대가 1, 2등
+          local top = nil
+          local topMax = -1
+          local second = -1
+          local rows = redis.call('ZREVRANGEBYSCORE', proxyKey, '+inf', need, 'WITHSCORES', 'LIMIT', 0, 32)
+          for i = 1, #rows, 2 do
+            local userId = rows[i]
+            if userId ~= leader then
+              local bal = liveBalance(userId)
+              local eff = -1
+              if bal then eff = affordable(tonumber(rows[i + 1]), bal) end
+              if eff >= need then
+                if eff > topMax then
+                  second = topMax
+                  top = userId
+                  topMax = eff
+                elseif eff > second then
+                  second = eff
+                end
+              end
+            end
+          end
+
+          if not top then
+            return leader, price, '', 0
+          end
+
+          local winner = top
+          local newPrice = need
+          if leaderMax ~= nil and leaderMax >= topMax then
+            winner = leader
+            newPrice = math.min(leaderMax, topMax + minIncrement(topMax))
+          else
+            local runnerUp = second
+            if leaderMax ~= nil and leaderMax > runnerUp then runnerUp = leaderMax end
+            if runnerUp >= 0 then
+              newPrice = math.max(need, math.min(topMax, runnerUp + minIncrement(runnerUp)))
+            end
+          end
+
+          -- 보증금 이동 (실효 최대가 계산에서 잔액은 이미 확인)
+          local refundUser = ''
+          local refundAmount = 0
+          local newDep = bidDeposit(newPrice)
+          if winner == leader then
+            local topUp = newDep - leaderDep
+            if topUp > 0 then
+              changeBalance(leader, topUp, false, 'BID', liveItemId, balanceTtl)
+              redis.call('HSET', depositsKey, leader, tostring(newDep))
+            end
+          else
+            changeBalance(winner, newDep, false, 'BID', liveItemId, balanceTtl)
+            redis.call('HSET', depositsKey, winner, tostring(newDep))
+            if leader ~= '' then
+              redis.call('HDEL', depositsKey, leader)
+              if leaderDep > 0 and not changeBalance(leader, leaderDep, true, 'BID_DEPOSIT_RETURN', liveItemId, balanceTtl) then
+                refundUser = leader
+                refundAmount = leaderDep
+              end
+            end
+          end
+
+          -- 최대가가 현재가보다 낮아진 자동 입찰은 더 이상 대응할 수 없으므로 정리
+          redis.call('ZREMRANGEBYSCORE', proxyKey, '-inf', '(' .. newPrice)
+          if balanceTtl and balanceTtl > 0 then
+            redis.call('EXPIRE', proxyKey, balanceTtl)
+          end
+
+          return winner, newPrice, refundUser, refundAmount
+        end
+""";
+
     // 현재 최고가보다 높을 경우에만 갱신 (원자성 보장)
     // KEYS[1]: redisKey
     // KEYS[2] 가격 필터용 ZSET 키
@@ -151,17 +470,25 @@ public class LiveBidRedisService {
     // ARGV[3]:
 
     /**
-     *  1: 성공(가격 갱신 + deposit 차감 + 이전 최고입찰자 환불)
+     *  1: 성공(가격 갱신 + deposit 차감 + 이전 최고입찰자 환불 + 자동 입찰 경합 정리)
      *  0: 가격 낮음/같음
      * -1: 본인이 이미 최고입찰자
      * -2: 잔액 부족(deposit 차감 불가)
      * -3: 세션 없음(auction:session:{userId} 없음)
+     * -4: 종료 시각 경과
+     * -5: 경매 진행 중이 아님(liveItem 해시의 status != IN_PROGRESS)
+     * -6: 판매자 본인 입찰
+     *
+     * 반환: 거절 {code, curMax, endTime}
+     *      | 성공 {1, bal, afterBal, refundFailed, sellerId, roomId, leaderId, price, endTime, unrefundedUserId, unrefundedAmount}
+     *      (unrefunded*: 이전 최고입찰자 지갑에 돌려주지 못한 보증금, 없으면 '')
      */
-    private static final String LUA_BID_SCRIPT = """
+    private static final String LUA_BID_SCRIPT = LUA_PROXY_FUNCTIONS + """
         local liveKey = KEYS[1]
         local endingZsetKey = KEYS[2]
         local bidZKey = KEYS[3]
         local hasBidKey = KEYS[4]
+        local proxyKey = KEYS[5]
         local depositsKey = liveKey .. ':deposits'
         
         local newBidderId = tostring(ARGV[1])
@@ -175,16 +502,38 @@ public class LiveBidRedisService {
         local t = redis.call('TIME')             -- {sec, usec}
         local nowMs = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
         
+        -- 검증에 쓰는 스냅샷 필드는 한 번에 읽음
+        -- 거절 응답에도 현재가/종료 시각을 실어 호출 측이 다시 조회하지 않도록 함: {code, curMax, endTime}
+        local snap = redis.call('HMGET', liveKey, 'status', 'sellerId', 'roomId', 'endTime', 'maxBidPrice', 'currentBidderId')
+        local itemStatus = snap[1]
+        local sellerId = snap[2] or ''
+        local roomId = snap[3] or ''
+        local endTimeStr = snap[4]
+        local maxPriceStr = snap[5]
+        local prevBidder = snap[6] or ''
+        local curMax = 0
+        if maxPriceStr then curMax = tonumber(maxPriceStr) end
+        local rejectEnd = endTimeStr or ''
+        
+        -- 경매 상태 확인 (DB 대신 initLiveItem이 적재한 스냅샷으로 검증)
+        if (not itemStatus) or itemStatus ~= 'IN_PROGRESS' then
+          return {-5, curMax, rejectEnd}
+        end
+        
+        -- 판매자 본인 입찰 불가
+        if sellerId == newBidderId then
+          return {-6, curMax, rejectEnd}
+        end
+        
         -- 추가: endTime 확인 (없으면 초기화 안 된 것)
-        local endTimeStr = redis.call('HGET', liveKey, 'endTime')
-        if (not endTimeStr) or (endTimeStr == false) then
-          return {-3}
+        if not endTimeStr then
+          return {-3, curMax, rejectEnd}
         end
         local endTime = tonumber(endTimeStr)
                         
         -- 추가: 이미 종료 시간이 지났으면 입찰 거절
         if nowMs >= endTime then
-          return {-4}
+          return {-4, curMax, rejectEnd}
         end
                         
         -- wallet keys
@@ -194,27 +543,22 @@ public class LiveBidRedisService {
         
         -- 세션 없으면 실패
         if redis.call('EXISTS', sesKey) == 0 then
-          return {-3}
+          return {-3, curMax, rejectEnd}
         end
         
         -- verKey 없으면 실패 (TTL 꼬임/상태 이상 방지)
         if redis.call('EXISTS', verKey) == 0 then
-          return {-3}
+          return {-3, curMax, rejectEnd}
         end
         
-        local maxPriceStr = redis.call('HGET', liveKey, 'maxBidPrice')
-        local prevBidder = redis.call('HGET', liveKey, 'currentBidderId') or ''
-        local curMax = 0
-        if maxPriceStr and maxPriceStr ~= false then curMax = tonumber(maxPriceStr) end
-        
         -- 이미 본인이 최고입찰자면 실패
         if prevBidder == newBidderId then
-          return {-1}
+          return {-1, curMax, rejectEnd}
         end
         
         -- deposits에 bidderId가 남아있으면(정상이라면 없어야 함) -1 반환
         if redis.call('HEXISTS', depositsKey, newBidderId) == 1 then
-          return {-1}
+          return {-1, curMax, rejectEnd}
         end
         
         -- 현재 최고 입찰 금액이 최소 5% 이상, 5%가 100보다 작으면 100 이상
@@ -226,7 +570,7 @@ public class LiveBidRedisService {
         local minPrice = curMax + inc
         
         if newPrice < minPrice then
-          return {0}
+          return {0, curMax, rejectEnd}
         end
         
         -- 환불 실패 플래그 (0=정상, 1=환불 실패)
@@ -237,6 +581,8 @@ public class LiveBidRedisService {
         local prevBalKey = nil
         local prevVerKey = nil
         local prevBal = nil
+        -- Redis 지갑에 돌려주지 못한 이전 최고입찰자 보증금 (호출 측이 DB로 환불)
+        local unrefundedDep = nil
         
         if prevBidder ~= '' then
           local prevDepStr = redis.call('HGET', depositsKey, prevBidder)
@@ -249,6 +595,7 @@ public class LiveBidRedisService {
             -- 여기서는 리턴하지 않고 "환불 실패"로만 표시하고 계속 진행
             if (not prevBalStr) or (redis.call('EXISTS', prevVerKey) == 0) then
               refundFailed = 1
+              unrefundedDep = prevDep
               prevDep = nil
             else
               prevBal = tonumber(prevBalStr)
@@ -259,17 +606,30 @@ public class LiveBidRedisService {
         -- deposit 차감: 잔액 체크 후 차감
         local balStr = redis.call('GET', balKey)
         if not balStr then
-          return {-3}
+          return {-3, curMax, rejectEnd}
         end
         
         local bal = tonumber(balStr)
         if bal < deposit then
-          return {-2, bal, bal}
+          return {-2, curMax, rejectEnd}
         end
         
         local afterBal = bal - deposit
         redis.call('SET', balKey, afterBal)
-        redis.call('INCR', verKey)
+        local ver = redis.call('INCR', verKey)
+        
+        -- 지갑 이벤트 기록 (WalletHistoryProjector가 BID 히스토리로 투영)
+        redis.call('XADD', 'auction:bizz:events', '*',
+          'event', 'CHANGE',
+          'userId', newBidderId,
+          'before', tostring(bal),
+          'after', tostring(afterBal),
+          'amount', tostring(deposit),
+          'isIncrease', '0',
+          'version', tostring(ver),
+          'reason', 'BID',
+          'traceId', 'liveItem:' .. liveItemId
+        )
         
         -- deposits에 deposit 기록
         redis.call('HSET', depositsKey, newBidderId, tostring(deposit))
@@ -281,15 +641,32 @@ public class LiveBidRedisService {
           end)
           if not ok1 then
             refundFailed = 1
+            unrefundedDep = prevDep
           end
         
+          local prevVer = nil
           local ok2, err2 = pcall(function()
-            redis.call('INCR', prevVerKey)
+            prevVer = redis.call('INCR', prevVerKey)
           end)
           if not ok2 then
             refundFailed = 1
           end
         
+          -- 보증금 반환 이벤트 (reason이 거래 유형이 아니므로 히스토리로 투영되지는 않음)
+          if refundFailed == 0 then
+            redis.call('XADD', 'auction:bizz:events', '*',
+              'event', 'CHANGE',
+              'userId', prevBidder,
+              'before', tostring(prevBal),
+              'after', tostring(prevBal + prevDep),
+              'amount', tostring(prevDep),
+              'isIncrease', '1',
+              'version', tostring(prevVer),
+              'reason', 'BID_DEPOSIT_RETURN',
+              'traceId', 'liveItem:' .. liveItemId
+            )
+          end
+        
           -- TTL은 부가 처리(실패해도 플래그만)
           if balanceTtl and balanceTtl > 0 then
             local ok3, err3 = pcall(function()
@@ -307,16 +684,26 @@ public class LiveBidRedisService {
           end)
           if not ok4 then refundFailed = 1 end
         end
+
+        -- DB로 환불할 보증금은 deposits에서 빼서 종료 정산 때 다시 반환되지 않게 함
+        if unrefundedDep ~= nil then
+          redis.call('HDEL', depositsKey, prevBidder)
+        end
         
+        -- 자동 입찰 경합 정리 (등록된 자동 입찰이 없으면 이번 입찰 그대로)
+        -- 밀려나는 쪽은 방금 보증금을 낸 입찰자 본인이라 환불 실패는 없음
+        local leader, finalPrice = resolveProxies(proxyKey, depositsKey, newBidderId, newPrice, liveItemId, balanceTtl)
+
         -- 최고가 갱신
-        redis.call('HSET', liveKey, 'maxBidPrice', tostring(newPrice))
-        redis.call('HSET', liveKey, 'currentBidderId', newBidderId)
+        redis.call('HSET', liveKey, 'maxBidPrice', tostring(finalPrice))
+        redis.call('HSET', liveKey, 'currentBidderId', leader)
         
-        -- 30초 미만 입찰 시 30초로 초기화
+        -- 30초 미만 입찰 시 30초로 초기화 (연장되면 각 노드 타이밍 휠에 알림)
         local minEnd = nowMs + 30000
         if endTime < minEnd then
           endTime = minEnd
           redis.call('HSET', liveKey, 'endTime', tostring(endTime))
+          redis.call('PUBLISH', 'auction:live:deadline', 'E:' .. liveItemId .. ':' .. endTime)
         end
         
         -- 종료 감지 ZSET score 갱신
@@ -324,7 +711,7 @@ public class LiveBidRedisService {
                         
         -- 가격 필터링용 bidZKey, hasBidKey 갱신
         if bidZKey and bidZKey ~= '' then
-            redis.call('ZADD', bidZKey, newPrice, liveItemId)
+            redis.call('ZADD', bidZKey, finalPrice, liveItemId)
         end
         
         if hasBidKey and hasBidKey ~= '' then
@@ -343,10 +730,281 @@ public class LiveBidRedisService {
           redis.call('EXPIRE', liveKey, balanceTtl)
         end
         
-        -- ✅ 성공 + 환불 실패 여부 같이 반환
-        return {1, bal, afterBal, refundFailed}
+        -- ✅ 성공 + 환불 실패 여부 + 판매자/경매방 + 최종 최고입찰자/현재가 같이 반환
+        local unrefundedUser = ''
+        if unrefundedDep ~= nil then unrefundedUser = prevBidder end
+        return {1, bal, afterBal, refundFailed, sellerId, roomId, leader, finalPrice, endTime,
+          unrefundedUser, tostring(unrefundedDep or '')}
 """;
 
+    /**
+     * 자동 입찰 등록 (LEGACY 전용): 최대가를 proxy ZSET에 저장하고 바로 경합 정리
+     * - 검증은 입찰 스크립트와 같음 (-3/-4/-5/-6), 최대가가 최소 입찰가보다 낮으면 0, 감당 못 하면 -2
+     * - 이미 최고입찰자면 최대가만 갱신하고 2 (다음 입찰부터 자동 대응)
+     *
+     * 반환: 거절 {code, curMax, endTime} | {1|2, sellerId, roomId, leaderId, price, 환불 못 한 userId, 환불 못 한 금액, endTime}
+     */
+    private static final String LUA_PROXY_REGISTER = LUA_PROXY_FUNCTIONS + """
+        local liveKey = KEYS[1]
+        local depositsKey = KEYS[2]
+        local proxyKey = KEYS[3]
+        local endingZsetKey = KEYS[4]
+        local bidZKey = KEYS[5]
+        local hasBidKey = KEYS[6]
+
+        local userId = tostring(ARGV[1])
+        local maxPrice = tonumber(ARGV[2])
+        local sessionTtl = tonumber(ARGV[3])
+        local balanceTtl = tonumber(ARGV[4])
+        local liveItemId = tostring(ARGV[5])
+
+        local t = redis.call('TIME')
+        local nowMs = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+        local snap = redis.call('HMGET', liveKey, 'status', 'sellerId', 'roomId', 'endTime', 'maxBidPrice', 'currentBidderId')
+        local itemStatus = snap[1]
+        local sellerId = snap[2] or ''
+        local roomId = snap[3] or ''
+        local endTimeStr = snap[4]
+        local curMax = tonumber(snap[5] or '0')
+        local leader = snap[6] or ''
+        local rejectEnd = endTimeStr or ''
+
+        if (not itemStatus) or itemStatus ~= 'IN_PROGRESS' then
+          return {-5, curMax, rejectEnd}
+        end
+        if sellerId == userId then
+          return {-6, curMax, rejectEnd}
+        end
+        if not endTimeStr then
+          return {-3, curMax, rejectEnd}
+        end
+        local endTime = tonumber(endTimeStr)
+        if nowMs >= endTime then
+          return {-4, curMax, rejectEnd}
+        end
+
+        local bal = liveBalance(userId)
+        if not bal then
+          return {-3, curMax, rejectEnd}
+        end
+
+        if leader == userId then
+          if maxPrice <= curMax then
+            return {0, curMax, rejectEnd}
+          end
+          redis.call('ZADD', proxyKey, maxPrice, userId)
+          if balanceTtl and balanceTtl > 0 then
+            redis.call('EXPIRE', proxyKey, balanceTtl)
+          end
+          return {2, sellerId, roomId, leader, curMax, '', 0, endTime}
+        end
+
+        local need = curMax + minIncrement(curMax)
+        if maxPrice < need then
+          return {0, curMax, rejectEnd}
+        end
+        if affordable(maxPrice, bal) < need then
+          return {-2, curMax, rejectEnd}
+        end
+
+        redis.call('ZADD', proxyKey, maxPrice, userId)
+        if sessionTtl and sessionTtl > 0 then
+          redis.call('EXPIRE', 'auction:session:' .. userId, sessionTtl)
+        end
+
+        -- 등록한 유저가 도전자로 참여하므로 최고가는 반드시 바뀜
+        local winner, price, refundUser, refundAmount = resolveProxies(proxyKey, depositsKey, leader, curMax, liveItemId, balanceTtl)
+
+        redis.call('HSET', liveKey, 'maxBidPrice', tostring(price), 'currentBidderId', winner)
+
+        local minEnd = nowMs + 30000
+        if endTime < minEnd then
+          endTime = minEnd
+          redis.call('HSET', liveKey, 'endTime', tostring(endTime))
+          redis.call('PUBLISH', 'auction:live:deadline', 'E:' .. liveItemId .. ':' .. endTime)
+        end
+        redis.call('ZADD', endingZsetKey, endTime, liveItemId)
+
+        redis.call('ZADD', bidZKey, price, liveItemId)
+        redis.call('SADD', hasBidKey, liveItemId)
+
+        if balanceTtl and balanceTtl > 0 then
+          redis.call('EXPIRE', depositsKey, balanceTtl)
+          redis.call('EXPIRE', liveKey, balanceTtl)
+        end
+
+        return {1, sellerId, roomId, winner, price, refundUser, refundAmount, endTime}
+    """;
+
+    // ZSET에서 due를 뽑고, 뽑은 애들을 ZREM으로 제거하는 Lua
+    private static final String LUA_POP_DUE = """
+        local zkey = KEYS[1]
+        local now = tonumber(ARGV[1])
+        local lim = tonumber(ARGV[2])
+
+        -- items = {member1, score1, member2, score2, ...} (score는 종료/시작 예정 시각, lag 측정용)
+        local items = redis.call('ZRANGEBYSCORE', zkey, '-inf', now, 'WITHSCORES', 'LIMIT', 0, lim)
+        if #items == 0 then
+          return {}
+        end
+
+        local members = {}
+        for i = 1, #items, 2 do
+          members[#members + 1] = items[i]
+        end
+
+        -- ZREM은 unpack이 필요 (members가 1개여도 안전)
+        redis.call('ZREM', zkey, unpack(members))
+        return items
+    """;
+
+    // 해시가 있을 때만 status 갱신 (삭제된 키를 status 필드만으로 되살리지 않도록)
+    private static final String LUA_SET_STATUS_IF_PRESENT = """
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+          return 0
+        end
+        redis.call('HSET', KEYS[1], 'status', ARGV[1])
+        return 1
+    """;
+
+    /**
+     * 분할 모드(DUAL/SHARDED) 입찰의 아이템 슬롯 단계
+     * - 같은 해시태그 키만 만짐: liveItem 해시, deposits, ending/가격 인덱스 버킷
+     * - 보증금 차감/이전 입찰자 환불은 지갑 슬롯 스크립트(WalletRedisService)가 앞뒤로 처리
+     *
+     * 반환: 거절 시 {code, curMax, endTime}, 성공 시 {1, sellerId, roomId, prevBidderId, prevDeposit, endTime}
+     * code 의미는 LUA_BID_SCRIPT와 동일 (지갑 관련 -2/-3 제외)
+     */
+    private static final String LUA_ITEM_BID_SCRIPT = """
+        local liveKey = KEYS[1]
+        local depositsKey = KEYS[2]
+        local endingZsetKey = KEYS[3]
+        local bidZKey = KEYS[4]
+        local hasBidKey = KEYS[5]
+
+        local newBidderId = tostring(ARGV[1])
+        local newPrice = tonumber(ARGV[2])
+        local deposit = tonumber(ARGV[3])
+        local balanceTtl = tonumber(ARGV[4])
+        local liveItemId = tostring(ARGV[5])
+
+        local t = redis.call('TIME')
+        local nowMs = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+        local snap = redis.call('HMGET', liveKey, 'status', 'sellerId', 'roomId', 'endTime', 'maxBidPrice', 'currentBidderId')
+        local itemStatus = snap[1]
+        local sellerId = snap[2] or ''
+        local roomId = snap[3] or ''
+        local endTimeStr = snap[4]
+        local maxPriceStr = snap[5]
+        local prevBidder = snap[6] or ''
+        local curMax = 0
+        if maxPriceStr then curMax = tonumber(maxPriceStr) end
+        local rejectEnd = endTimeStr or ''
+
+        if (not itemStatus) or itemStatus ~= 'IN_PROGRESS' then
+          return {-5, curMax, rejectEnd}
+        end
+
+        if sellerId == newBidderId then
+          return {-6, curMax, rejectEnd}
+        end
+
+        if not endTimeStr then
+          return {-3, curMax, rejectEnd}
+        end
+        local endTime = tonumber(endTimeStr)
+        if nowMs >= endTime then
+          return {-4, curMax, rejectEnd}
+        end
+
+        if prevBidder == newBidderId then
+          return {-1, curMax, rejectEnd}
+        end
+        if redis.call('HEXISTS', depositsKey, newBidderId) == 1 then
+          return {-1, curMax, rejectEnd}
+        end
+
+        local inc = math.ceil(curMax * 5 / 100)
+        if inc < 100 then
+          inc = 100
+        end
+        if newPrice < curMax + inc then
+          return {0, curMax, rejectEnd}
+        end
+
+        -- 이전 최고입찰자 보증금은 여기서 떼어내고, 반환은 호출자가 그 유저 지갑 슬롯에서 수행
+        local prevDep = ''
+        if prevBidder ~= '' then
+          prevDep = redis.call('HGET', depositsKey, prevBidder) or ''
+          redis.call('HDEL', depositsKey, prevBidder)
+        end
+        redis.call('HSET', depositsKey, newBidderId, tostring(deposit))
+
+        redis.call('HSET', liveKey, 'maxBidPrice', tostring(newPrice), 'currentBidderId', newBidderId)
+
+        local minEnd = nowMs + 30000
+        if endTime < minEnd then
+          endTime = minEnd
+          redis.call('HSET', liveKey, 'endTime', tostring(endTime))
+          redis.call('PUBLISH', 'auction:live:deadline', 'E:' .. liveItemId .. ':' .. endTime)
+        end
+        redis.call('ZADD', endingZsetKey, endTime, liveItemId)
+
+        redis.call('ZADD', bidZKey, newPrice, liveItemId)
+        redis.call('SADD', hasBidKey, liveItemId)
+
+        if balanceTtl and balanceTtl > 0 then
+          redis.call('EXPIRE', depositsKey, balanceTtl)
+          redis.call('EXPIRE', liveKey, balanceTtl)
+        end
+
+        return {1, sellerId, roomId, prevBidder, prevDep, endTime}
+    """;
+
+    // 타이밍 휠 만료 시 단건 선점: Redis 시각 기준으로 due면 ZREM 후 0, 아직이면 현재 score, 없으면 -1
+    private static final String LUA_CLAIM_DUE = """
+        local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+        if not score then
+          return -1
+        end
+
+        local t = redis.call('TIME')
+        local nowMs = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+        if tonumber(score) <= nowMs then
+          redis.call('ZREM', KEYS[1], ARGV[1])
+          return 0
+        end
+        return tonumber(score)
+    """;
+
+    /* ==================== Script 정의 (SHA1은 한 번만 계산, 실행은 EVALSHA) ==================== */
+
+    private static final RedisLuaScript<List<Object>> BID_SCRIPT =
+            RedisLuaScript.ofList("livebid.bid", LUA_BID_SCRIPT);
+
+    private static final RedisLuaScript<List<Object>> ITEM_BID_SCRIPT =
+            RedisLuaScript.ofList("livebid.item_bid", LUA_ITEM_BID_SCRIPT);
+
+    private static final RedisLuaScript<List<Object>> PROXY_REGISTER_SCRIPT =
+            RedisLuaScript.ofList("livebid.proxy_register", LUA_PROXY_REGISTER);
+
+    private static final RedisLuaScript<List<Object>> POP_DUE_SCRIPT =
+            RedisLuaScript.ofList("livebid.pop_due", LUA_POP_DUE);
+
+    private static final RedisLuaScript<Long> CLAIM_DUE_SCRIPT =
+            RedisLuaScript.of("livebid.claim_due", LUA_CLAIM_DUE, Long.class);
+
+    private static final RedisLuaScript<Long> SET_STATUS_IF_PRESENT_SCRIPT =
+            RedisLuaScript.of("livebid.set_status_if_present", LUA_SET_STATUS_IF_PRESENT, Long.class);
+
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register(BID_SCRIPT, ITEM_BID_SCRIPT, PROXY_REGISTER_SCRIPT, POP_DUE_SCRIPT, CLAIM_DUE_SCRIPT, SET_STATUS_IF_PRESENT_SCRIPT);
+    }
+
 
     @Timed(
             value = "buzzerbidder.redis.livebid",
@@ -354,7 +1012,6 @@ public class LiveBidRedisService {
             histogram = true
     )
     public BidAtomicResult updateMaxBidPriceAtomicWithDeposit(
-            String redisKey,
             Long liveItemId,
             Long bidderId,
             Integer bidPrice,
@@ -362,17 +1019,43 @@ public class LiveBidRedisService {
             Long sessionTtlSeconds,
             Long balanceTtlSeconds
     ) {
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        DefaultRedisScript<List> script = new DefaultRedisScript<>(LUA_BID_SCRIPT, List.class);
+        BidAtomicResult result = auctionRedisKeys.isSplitMode()
+                ? bidSplit(liveItemId, bidderId, bidPrice, depositAmount, sessionTtlSeconds, balanceTtlSeconds)
+                : bidSingleScript(liveItemId, bidderId, bidPrice, depositAmount, sessionTtlSeconds, balanceTtlSeconds);
+
+        if (result.isSuccess()) {
+            // 자동 입찰이 이어받았으면 최종 최고입찰자/현재가 기준
+            liveItemNearCache.onBidAccepted(
+                    liveItemId,
+                    result.price() != null ? result.price() : bidPrice,
+                    result.leaderId() != null ? result.leaderId() : bidderId
+            );
+        }
+        return result;
+    }
+
+    /**
+     * LEGACY: 입찰자 지갑 + 아이템 + 이전 입찰자 환불을 스크립트 하나로 처리 (단일 Redis 전용)
+     */
+    private BidAtomicResult bidSingleScript(
+            Long liveItemId,
+            Long bidderId,
+            Integer bidPrice,
+            Long depositAmount,
+            Long sessionTtlSeconds,
+            Long balanceTtlSeconds
+    ) {
+        AuctionRedisKeys.ItemKeys item = auctionRedisKeys.item(liveItemId);
 
         try {
-            List<?> raw = redisTemplate.execute(
-                    script,
+            List<Object> raw = redisScriptRegistry.execute(
+                    BID_SCRIPT,
                     List.of(
-                            redisKey,                 // KEYS[1] 기존 LiveItem 키
-                            ENDING_ZSET_KEY,           // KEYS[2] ending zset
-                            "liveItems:currentPrice",  // KEYS[3] 가격 필터용 ZSET 키
-                            "liveItems:hasBid"         // KEYS[4] 입찰 존재 SET 키
+                            item.itemKey(),            // KEYS[1] 기존 LiveItem 키
+                            item.endingKey(),          // KEYS[2] ending zset
+                            item.priceIndexKey(),      // KEYS[3] 가격 필터용 ZSET 키
+                            item.hasBidKey(),          // KEYS[4] 입찰 존재 SET 키
+                            item.proxyKey()            // KEYS[5] 자동 입찰 최대가 ZSET 키
                     ),
                     bidderId.toString(),             // ARGV[1]
                     bidPrice.toString(),             // ARGV[2]
@@ -383,151 +1066,387 @@ public class LiveBidRedisService {
             );
 
             if (raw == null || raw.isEmpty()) {
-                throw new IllegalStateException("Redis LUA 반환이 null/empty 입니다. redisKey=" + redisKey);
+                throw new IllegalStateException("Redis LUA 반환이 null/empty 입니다. redisKey=" + item.itemKey());
             }
 
             long code = Long.parseLong(String.valueOf(raw.get(0)));
+            redisScriptRegistry.recordResultCode(BID_SCRIPT, String.valueOf(code));
 
-            Long before = null;
-            Long after = null;
-            Long refundFailed = null;
-
-            if (raw.size() >= 4) {
-                before = Long.parseLong(String.valueOf(raw.get(1)));
-                after = Long.parseLong(String.valueOf(raw.get(2)));
-                refundFailed = Long.parseLong(String.valueOf(raw.get(3)));
+            if (code != 1L) {
+                // 거절: {code, curMax, endTime}
+                return rejectedResult(code, raw);
             }
 
-            return new BidAtomicResult(code, before, after, refundFailed);
+            // raw[3] refundFailed 플래그는 스크립트 지표용, 환불 대상은 raw[9], raw[10]
+            return new BidAtomicResult(
+                    code,
+                    Long.parseLong(String.valueOf(raw.get(1))),
+                    Long.parseLong(String.valueOf(raw.get(2))),
+                    raw.size() > 10 ? parseLongOrNull(raw.get(9)) : null,
+                    raw.size() > 10 ? parseLongOrNull(raw.get(10)) : null,
+                    parseLongOrNull(raw.get(4)),
+                    parseLongOrNull(raw.get(5)),
+                    parseLongOrNull(raw.get(6)),
+                    parseLongOrNull(raw.get(7)),
+                    parseLongOrNull(raw.get(8))
+            );
 
         } catch (DataAccessException e) {
-            throw new IllegalStateException("Redis LUA 실행 실패. redisKey=" + redisKey + ", bidderId=" + bidderId, e);
+            throw new IllegalStateException("Redis LUA 실행 실패. redisKey=" + item.itemKey() + ", bidderId=" + bidderId, e);
         } catch (RuntimeException e) {
             // 파싱 실패 등
-            throw new IllegalStateException("Redis LUA 반환 파싱 실패. redisKey=" + redisKey + ", bidderId=" + bidderId, e);
+            throw new IllegalStateException("Redis LUA 반환 파싱 실패. redisKey=" + item.itemKey() + ", bidderId=" + bidderId, e);
         }
     }
 
+    /**
+     * DUAL/SHARDED: 슬롯이 다른 키를 한 스크립트에서 만지지 않도록 3단계로 나눠 처리
+     * 1) 입찰자 지갑 슬롯: 보증금 홀드(차감 + BID 이벤트)
+     * 2) 아이템 슬롯: 상태/가격 검증 + 최고가 갱신 (실패하면 1의 홀드를 취소)
+     * 3) 이전 최고입찰자 지갑 슬롯: 보증금 반환 (실패하면 unrefundedUserId/Amount, LEGACY와 같은 후처리)
+     */
+    private BidAtomicResult bidSplit(
+            Long liveItemId,
+            Long bidderId,
+            Integer bidPrice,
+            Long depositAmount,
+            Long sessionTtlSeconds,
+            Long balanceTtlSeconds
+    ) {
+        AuctionRedisKeys.ItemKeys item = auctionRedisKeys.item(liveItemId);
+        String traceId = "liveItem:" + liveItemId;
+
+        // 1) 보증금 홀드
+        WalletRedisService.BidDepositHold hold = walletRedisService.holdBidDeposit(
+                bidderId, depositAmount, sessionTtlSeconds, balanceTtlSeconds, traceId);
+        if (hold.code() != 1L) {
+            redisScriptRegistry.recordResultCode(ITEM_BID_SCRIPT, String.valueOf(hold.code()));
+            // 거절 응답에도 현재가를 담음 (근거리 캐시 우선, 없으면 HMGET 1회)
+            LiveItemSnapshots snapshot = getLiveItemSnapshots(List.of(liveItemId));
+            long endTimeMs = snapshot.endTimeMs(liveItemId);
+            return new BidAtomicResult(hold.code(), hold.before(), hold.after(), null, null, null, null, null,
+                    snapshot.maxBidPrice(liveItemId, null),
+                    endTimeMs == LiveItemSnapshots.MISSING ? null : endTimeMs);
+        }
+
+        // 2) 아이템 갱신
+        List<Object> raw;
+        try {
+            raw = redisScriptRegistry.execute(
+                    ITEM_BID_SCRIPT,
+                    List.of(item.itemKey(), item.depositsKey(), item.endingKey(), item.priceIndexKey(), item.hasBidKey()),
+                    bidderId.toString(),
+                    bidPrice.toString(),
+                    depositAmount.toString(),
+                    balanceTtlSeconds.toString(),
+                    liveItemId.toString()
+            );
+        } catch (RuntimeException e) {
+            // 응답만 유실됐을 수 있어 반영 여부를 지금 알 수 없음 → 홀드를 기록해 두고 나중에 재확인
+            bidHoldReconciler.record(new BidHoldReconciler.Hold(
+                    liveItemId, bidderId, bidPrice, depositAmount, hold.eventId(), traceId));
+            throw new IllegalStateException("Redis LUA 실행 실패. redisKey=" + item.itemKey() + ", bidderId=" + bidderId, e);
+        }
+
+        if (raw == null || raw.isEmpty()) {
+            walletRedisService.cancelBidDeposit(bidderId, depositAmount, hold.eventId(), traceId);
+            throw new IllegalStateException("Redis LUA 반환이 null/empty 입니다. redisKey=" + item.itemKey());
+        }
+
+        long code = Long.parseLong(String.valueOf(raw.get(0)));
+        redisScriptRegistry.recordResultCode(ITEM_BID_SCRIPT, String.valueOf(code));
+
+        if (code != 1L) {
+            walletRedisService.cancelBidDeposit(bidderId, depositAmount, hold.eventId(), traceId);
+            return rejectedResult(code, raw);
+        }
+
+        Long sellerId = parseLongOrNull(raw.get(1));
+        Long roomId = parseLongOrNull(raw.get(2));
+        Long prevBidderId = parseLongOrNull(raw.get(3));
+        Long prevDeposit = parseLongOrNull(raw.get(4));
+        Long endTime = parseLongOrNull(raw.get(5));
+
+        // 3) 이전 최고입찰자 보증금 반환 (실패하면 그 사람/금액을 돌려줘 호출 측이 DB로 환불)
+        boolean returned = true;
+        if (prevBidderId != null && prevDeposit != null) {
+            try {
+                returned = walletRedisService.returnBidDeposit(prevBidderId, prevDeposit, balanceTtlSeconds, traceId);
+            } catch (RuntimeException e) {
+                returned = false;
+            }
+        }
+
+        // 분할 모드는 자동 입찰 경합을 하지 않으므로 이번 입찰이 그대로 최종 상태
+        return new BidAtomicResult(1L, hold.before(), hold.after(),
+                returned ? null : prevBidderId, returned ? null : prevDeposit,
+                sellerId, roomId, bidderId, bidPrice.longValue(), endTime);
+    }
 
     /**
-     * ending ZSET에서 (score <= nowMs) 인 liveItemId들을 limit 만큼 꺼냄
-     * 여러 서버/스레드가 돌아도 같은 itemId를 중복 처리하지 않게 하려고 ZREM까지 같이 함
+     * 자동 입찰 사용 가능 여부
+     * 경합 정리가 여러 유저 지갑을 한 스크립트에서 만지므로 단일 슬롯(LEGACY)에서만 지원
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    public List<Long> popDueEndingItems(long nowMs, int limit) {
+    public boolean supportsProxyBid() {
+        return !auctionRedisKeys.isSplitMode();
+    }
 
-        // ZSET에서 due를 뽑고, 뽑은 애들을 ZREM으로 제거하는 Lua
-        final String LUA_POP_DUE = """
-        local zkey = KEYS[1]
-        local now = tonumber(ARGV[1])
-        local lim = tonumber(ARGV[2])
+    /**
+     * 자동 입찰 최대가 등록 + 즉시 경합 정리 (LEGACY 전용)
+     */
+    @Timed(
+            value = "buzzerbidder.redis.livebid",
+            extraTags = {"op", "proxy_register"},
+            histogram = true
+    )
+    public ProxyBidResult registerProxyBid(
+            Long liveItemId,
+            Long userId,
+            Integer maxPrice,
+            Long sessionTtlSeconds,
+            Long balanceTtlSeconds
+    ) {
+        AuctionRedisKeys.ItemKeys item = auctionRedisKeys.item(liveItemId);
 
-        local items = redis.call('ZRANGEBYSCORE', zkey, '-inf', now, 'LIMIT', 0, lim)
-        if #items == 0 then
-          return {}
-        end
+        List<Object> raw;
+        try {
+            raw = redisScriptRegistry.execute(
+                    PROXY_REGISTER_SCRIPT,
+                    List.of(item.itemKey(), item.depositsKey(), item.proxyKey(),
+                            item.endingKey(), item.priceIndexKey(), item.hasBidKey()),
+                    userId.toString(),
+                    maxPrice.toString(),
+                    sessionTtlSeconds.toString(),
+                    balanceTtlSeconds.toString(),
+                    liveItemId.toString()
+            );
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Redis LUA 실행 실패. redisKey=" + item.proxyKey() + ", userId=" + userId, e);
+        }
 
-        -- ZREM은 unpack이 필요 (items가 1개여도 안전)
-        redis.call('ZREM', zkey, unpack(items))
-        return items
-    """;
+        if (raw == null || raw.isEmpty()) {
+            throw new IllegalStateException("Redis LUA 반환이 null/empty 입니다. redisKey=" + item.proxyKey());
+        }
 
-        DefaultRedisScript<List> script = new DefaultRedisScript<>(LUA_POP_DUE, List.class);
+        long code = Long.parseLong(String.valueOf(raw.get(0)));
+        redisScriptRegistry.recordResultCode(PROXY_REGISTER_SCRIPT, String.valueOf(code));
+        if (code != 1L && code != 2L) {
+            // 거절: {code, curMax, endTime}
+            BidAtomicResult rejected = rejectedResult(code, raw);
+            return new ProxyBidResult(code, null, null, null, rejected.price(), null, null, rejected.endTime());
+        }
 
-        List<?> raw = redisTemplate.execute(
-                script,
-                List.of(ENDING_ZSET_KEY),
-                String.valueOf(nowMs),
-                String.valueOf(limit)
+        ProxyBidResult result = new ProxyBidResult(
+                code,
+                parseLongOrNull(raw.get(1)),
+                parseLongOrNull(raw.get(2)),
+                parseLongOrNull(raw.get(3)),
+                parseLongOrNull(raw.get(4)),
+                parseLongOrNull(raw.get(5)),
+                parseLongOrNull(raw.get(6)),
+                parseLongOrNull(raw.get(7))
         );
+        if (result.isChanged()) {
+            liveItemNearCache.onBidAccepted(liveItemId, result.price(), result.leaderId());
+        }
+        return result;
+    }
 
-        if (raw == null || raw.isEmpty()) return List.of();
+    /**
+     * 자동 입찰 해제 (이미 최고입찰자로 걸린 입찰/보증금은 그대로)
+     */
+    public void cancelProxyBid(Long liveItemId, Long userId) {
+        redisTemplate.opsForZSet().remove(auctionRedisKeys.item(liveItemId).proxyKey(), userId.toString());
+    }
 
-        return raw.stream()
-                .map(String::valueOf)
-                .map(Long::parseLong)
-                .toList();
+    // 거절 반환 {code, curMax, endTime} (값이 없으면 null)
+    private BidAtomicResult rejectedResult(long code, List<Object> raw) {
+        return BidAtomicResult.rejected(
+                code,
+                raw.size() >= 2 ? parseLongOrNull(raw.get(1)) : null,
+                raw.size() >= 3 ? parseLongOrNull(raw.get(2)) : null
+        );
     }
 
     /**
-     * starting ZSET에서 (score <= nowMs) 인 liveItemId들을 limit 만큼 꺼냄
+     * ending ZSET에서 (score <= nowMs) 인 liveItemId들을 limit 만큼 꺼냄 (liveItemId -> 종료 예정 시각, score 오름차순)
      * 여러 서버/스레드가 돌아도 같은 itemId를 중복 처리하지 않게 하려고 ZREM까지 같이 함
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    public List<Long> popDueStartingItems(long nowMs, int limit) {
+    public Map<Long, Long> popDueEndingItems(long nowMs, int limit) {
+        return popDueItems(auctionRedisKeys.endingKeys(), nowMs, limit);
+    }
 
-        // ZSET에서 due를 뽑고, 뽑은 애들을 ZREM으로 제거하는 Lua
-        final String LUA_POP_DUE = """
-        local zkey = KEYS[1]
-        local now = tonumber(ARGV[1])
-        local lim = tonumber(ARGV[2])
+    /**
+     * starting ZSET에서 (score <= nowMs) 인 liveItemId들을 limit 만큼 꺼냄 (liveItemId -> 시작 예정 시각)
+     * 여러 서버/스레드가 돌아도 같은 itemId를 중복 처리하지 않게 하려고 ZREM까지 같이 함
+     */
+    public Map<Long, Long> popDueStartingItems(long nowMs, int limit) {
+        return popDueItems(auctionRedisKeys.startingKeys(), nowMs, limit);
+    }
 
-        local items = redis.call('ZRANGEBYSCORE', zkey, '-inf', now, 'LIMIT', 0, lim)
-        if #items == 0 then
-          return {}
-        end
+    /**
+     * 버킷 ZSET 여러 개를 돌면서 limit 만큼 pop (버킷마다 별도 스크립트 호출 → 같은 슬롯 키만 만짐)
+     */
+    private Map<Long, Long> popDueItems(List<String> zsetKeys, long nowMs, int limit) {
+        if (zsetKeys.size() == 1) {
+            return popDueItems(zsetKeys.get(0), nowMs, limit);
+        }
 
-        -- ZREM은 unpack이 필요 (items가 1개여도 안전)
-        redis.call('ZREM', zkey, unpack(items))
-        return items
-    """;
+        Map<Long, Long> out = new LinkedHashMap<>();
+        int size = zsetKeys.size();
+        int start = Math.floorMod(scanCursor.getAndIncrement(), size);
 
-        DefaultRedisScript<List> script = new DefaultRedisScript<>(LUA_POP_DUE, List.class);
+        for (int i = 0; i < size && out.size() < limit; i++) {
+            out.putAll(popDueItems(zsetKeys.get((start + i) % size), nowMs, limit - out.size()));
+        }
+        return out;
+    }
 
-        List<?> raw = redisTemplate.execute(
-                script,
-                List.of(STARTING_ZSET_KEY),
+    private Map<Long, Long> popDueItems(String zsetKey, long nowMs, int limit) {
+        List<Object> raw = redisScriptRegistry.execute(
+                POP_DUE_SCRIPT,
+                List.of(zsetKey),
                 String.valueOf(nowMs),
                 String.valueOf(limit)
         );
 
-        if (raw == null || raw.isEmpty()) return List.of();
+        if (raw == null || raw.isEmpty()) return Map.of();
 
-        return raw.stream()
-                .map(String::valueOf)
-                .map(Long::parseLong)
-                .toList();
+        // raw = [member, score, member, score, ...]
+        Map<Long, Long> out = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < raw.size(); i += 2) {
+            out.put(
+                    Long.parseLong(String.valueOf(raw.get(i))),
+                    (long) Double.parseDouble(String.valueOf(raw.get(i + 1)))
+            );
+        }
+        return out;
     }
 
-    public void deleteLiveItemRedisKeys(Long liveItemId) {
-        String liveKey = "liveItem:" + liveItemId;
-        String depositsKey = liveKey + ":deposits";
+    /**
+     * 타이밍 휠에서 만료된 아이템 하나를 ending/starting ZSET에서 선점
+     * @return 0: 선점 성공(처리해야 함), -1: 이미 다른 노드/스윕이 처리함, 그 외: 아직 due가 아님(현재 score ms)
+     */
+    public long claimDueEnding(Long liveItemId) {
+        return claimDue(auctionRedisKeys.item(liveItemId).endingKey(), liveItemId);
+    }
+
+    public long claimDueStarting(Long liveItemId) {
+        return claimDue(auctionRedisKeys.item(liveItemId).startingKey(), liveItemId);
+    }
+
+    private long claimDue(String zsetKey, Long liveItemId) {
+        Long result = redisScriptRegistry.execute(CLAIM_DUE_SCRIPT, List.of(zsetKey), liveItemId.toString());
+        return result == null ? -1L : result;
+    }
+
+    /**
+     * score <= untilMs 인 ending 항목 (liveItemId -> endTimeMs), 타이밍 휠 적재/재조정용
+     */
+    public Map<Long, Long> findUpcomingEndings(long untilMs, int limitPerKey) {
+        return findUpcoming(auctionRedisKeys.endingKeys(), untilMs, limitPerKey);
+    }
+
+    public Map<Long, Long> findUpcomingStartings(long untilMs, int limitPerKey) {
+        return findUpcoming(auctionRedisKeys.startingKeys(), untilMs, limitPerKey);
+    }
+
+    private Map<Long, Long> findUpcoming(List<String> zsetKeys, long untilMs, int limitPerKey) {
+        Map<Long, Long> out = new LinkedHashMap<>();
+        for (String zsetKey : zsetKeys) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(zsetKey, Double.NEGATIVE_INFINITY, untilMs, 0, limitPerKey);
+            if (tuples == null) continue;
+
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() == null || tuple.getScore() == null) continue;
+                out.put(Long.parseLong(tuple.getValue()), tuple.getScore().longValue());
+            }
+        }
+        return out;
+    }
 
-        redisTemplate.delete(List.of(liveKey, depositsKey));
+    /**
+     * liveItem:{liveItemId} 해시의 경매 상태 스냅샷 갱신
+     * - 해시가 없으면(아직 시작 전이거나 이미 정리됨) 아무것도 하지 않음
+     */
+    public void updateLiveItemStatusIfPresent(Long liveItemId, String status) {
+        redisScriptRegistry.execute(
+                SET_STATUS_IF_PRESENT_SCRIPT,
+                List.of(auctionRedisKeys.item(liveItemId).itemKey()),
+                status
+        );
+    }
+
+    public void deleteLiveItemRedisKeys(Long liveItemId) {
+        // DUAL 모드면 양쪽 레이아웃 모두 멱등 정리
+        for (AuctionRedisKeys.ItemKeys keys : auctionRedisKeys.itemAllLayouts(liveItemId)) {
+            redisTemplate.delete(List.of(keys.itemKey(), keys.depositsKey(), keys.proxyKey()));
 
-        // 멱등 정리
-        redisTemplate.opsForZSet().remove(getEndingZsetKey(), liveItemId.toString());
-        redisTemplate.opsForZSet().remove(getStartingZsetKey(), liveItemId.toString());
+            redisTemplate.opsForZSet().remove(keys.endingKey(), liveItemId.toString());
+            redisTemplate.opsForZSet().remove(keys.startingKey(), liveItemId.toString());
+        }
+        liveItemNearCache.invalidate(liveItemId);
     }
 
-    public List<Long> zRangeByScoreAsLong(String zsetKey, long min, long max) {
-        Set<String> members = redisTemplate.opsForZSet().rangeByScore(zsetKey, min, max);
-        if (members == null || members.isEmpty()) return List.of();
-        return members.stream().map(Long::valueOf).toList();
+    /**
+     * 가격 필터용: 현재 입찰가가 [min, max] 범위인 liveItemId (모든 버킷 합산)
+     */
+    public List<Long> findItemIdsByCurrentPrice(long min, long max) {
+        List<Long> out = new ArrayList<>();
+        for (String zsetKey : auctionRedisKeys.priceIndexKeys()) {
+            Set<String> members = redisTemplate.opsForZSet().rangeByScore(zsetKey, min, max);
+            if (members == null) continue;
+            members.forEach(m -> out.add(Long.valueOf(m)));
+        }
+        return out;
     }
 
-    public List<Boolean> sIsMemberBatch(String setKey, List<Long> ids) {
+    /**
+     * 가격 필터용: 아이템별 입찰 존재 여부 (ids 순서 유지)
+     * 아이템마다 자기 버킷의 hasBid SET을 조회 (DUAL이면 양쪽 레이아웃 중 하나라도 있으면 true)
+     */
+    public List<Boolean> hasBidBatch(List<Long> ids) {
         if (ids == null || ids.isEmpty()) return List.of();
 
+        List<List<AuctionRedisKeys.ItemKeys>> layouts = ids.stream()
+                .map(auctionRedisKeys::itemAllLayouts)
+                .toList();
+
         @SuppressWarnings("unchecked")
         List<Object> raw = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-            byte[] key = redisTemplate.getStringSerializer().serialize(setKey);
-            for (Long id : ids) {
-                byte[] member = redisTemplate.getStringSerializer().serialize(id.toString());
-                connection.sIsMember(key, member);
+            for (int i = 0; i < ids.size(); i++) {
+                byte[] member = redisTemplate.getStringSerializer().serialize(ids.get(i).toString());
+                for (AuctionRedisKeys.ItemKeys keys : layouts.get(i)) {
+                    byte[] key = redisTemplate.getStringSerializer().serialize(keys.hasBidKey());
+                    connection.sIsMember(key, member);
+                }
             }
             return null;
         });
 
         // sIsMember는 Boolean(또는 0/1)로 돌아올 수 있음
-        return raw.stream().map(v -> {
-            if (v instanceof Boolean b) return b;
-            if (v instanceof Long l) return l == 1L;
-            return false;
-        }).toList();
+        List<Boolean> out = new ArrayList<>(ids.size());
+        int idx = 0;
+        for (List<AuctionRedisKeys.ItemKeys> itemLayouts : layouts) {
+            boolean hasBid = false;
+            for (int j = 0; j < itemLayouts.size(); j++) {
+                Object v = raw.get(idx++);
+                if (v instanceof Boolean b && b) hasBid = true;
+                if (v instanceof Long l && l == 1L) hasBid = true;
+            }
+            out.add(hasBid);
+        }
+        return out;
     }
 
 
+    private Long parseLongOrNull(Object v) {
+        if (v == null) return null;
+        String str = String.valueOf(v).trim();
+        return str.isEmpty() ? null : Long.parseLong(str);
+    }
+
     /**
      * 입찰 성공 로그를 Redis Stream에 적재
      */
@@ -1,92 +1,111 @@
 package devut.buzzerbidder.domain.liveBid.service;
 
+import devut.buzzerbidder.domain.auctionroom.service.AuctionRoomViewCache;
 import devut.buzzerbidder.domain.liveBid.dto.BidAtomicResult;
 import devut.buzzerbidder.domain.liveBid.dto.LiveBidEvent;
+import devut.buzzerbidder.domain.liveBid.dto.LiveBidRejection;
+import devut.buzzerbidder.domain.liveBid.dto.ProxyBidResult;
 import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidRequest;
+import devut.buzzerbidder.domain.liveBid.dto.request.ProxyBidRequest;
 import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
-import devut.buzzerbidder.domain.liveitem.entity.LiveItem;
-import devut.buzzerbidder.domain.liveitem.repository.LiveItemRepository;
+import devut.buzzerbidder.domain.liveitem.service.LiveItemPriceWriteBehind;
 import devut.buzzerbidder.domain.user.entity.User;
-import devut.buzzerbidder.domain.wallet.enums.WalletTransactionType;
-import devut.buzzerbidder.domain.wallet.service.WalletHistoryService;
 import devut.buzzerbidder.domain.wallet.service.WalletService;
 import devut.buzzerbidder.global.exeption.BusinessException;
 import devut.buzzerbidder.global.exeption.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import devut.buzzerbidder.global.security.UserPrincipal;
+import devut.buzzerbidder.global.security.UserPrincipalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class LiveBidService {
 
-    private final LiveItemRepository liveItemRepository;
     private final LiveBidRedisService liveBidRedisService;
     private final LiveBidWebSocketService liveBidWebSocketService;
-    private final WalletHistoryService walletHistoryService;
     private final WalletService walletService;
+    private final LiveItemPriceWriteBehind liveItemPriceWriteBehind;
+    private final UserPrincipalCache userPrincipalCache;
+    private final AuctionRoomViewCache auctionRoomViewCache;
+
+    // 자동 입찰(최대가 등록) 허용 여부. 경합 정리는 LEGACY 키 스키마에서만 동작
+    private final boolean proxyBidEnabled;
+
+    // 거절 사유별 카운터 (buzzerbidder.livebid.rejected{reason}), 거절마다 태그를 새로 만들지 않도록 미리 등록
+    private final Map<LiveBidRejection, Counter> rejectedCounters = new EnumMap<>(LiveBidRejection.class);
 
-    private static final String REDIS_KEY_PREFIX = "liveItem:";
     private static final String BID_TOPIC = "live-bid-events";
 
-    public LiveBidResponse bid(LiveBidRequest request, User bidder) {
-        // DB 조회 및 기본 검증
-        LiveItem liveItem = liveItemRepository.findById(request.liveItemId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.LIVEITEM_NOT_FOUND));
+    private static final long SESSION_TTL_SECONDS = 35L;
+    private static final long BALANCE_TTL_SECONDS = 600L;
 
-        String redisKey = REDIS_KEY_PREFIX + request.liveItemId();
+    private static final String LOW_PRICE_MESSAGE = "입찰 실패. 현재 최고가보다 5% 이상, 100bizz 이상 입력해주세요.";
 
-        // 입력값 검증
-        validateBidRequest(liveItem, bidder, redisKey);
+    public LiveBidService(
+            LiveBidRedisService liveBidRedisService,
+            LiveBidWebSocketService liveBidWebSocketService,
+            WalletService walletService,
+            LiveItemPriceWriteBehind liveItemPriceWriteBehind,
+            UserPrincipalCache userPrincipalCache,
+            AuctionRoomViewCache auctionRoomViewCache,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.proxy-bid.enabled:false}") boolean proxyBidEnabled
+    ) {
+        this.liveBidRedisService = liveBidRedisService;
+        this.liveBidWebSocketService = liveBidWebSocketService;
+        this.walletService = walletService;
+        this.liveItemPriceWriteBehind = liveItemPriceWriteBehind;
+        this.userPrincipalCache = userPrincipalCache;
+        this.auctionRoomViewCache = auctionRoomViewCache;
+        this.proxyBidEnabled = proxyBidEnabled;
+
+        for (LiveBidRejection rejection : LiveBidRejection.values()) {
+            rejectedCounters.put(rejection,
+                    meterRegistry.counter("buzzerbidder.livebid.rejected", "reason", rejection.getTag()));
+        }
+    }
 
-        long depositAmount = (long) Math.ceil(request.bidPrice() * 0.2);
+    public LiveBidResponse bid(LiveBidRequest request, User bidder) {
+        return bid(request, UserPrincipal.from(bidder));
+    }
 
-        long sessionTtlSeconds = 35L;
-        long balanceTtlSeconds = 600L;
+    /**
+     * 입찰 (인증 스냅샷만 사용, User 엔티티 조회 없음)
+     */
+    public LiveBidResponse bid(LiveBidRequest request, UserPrincipal bidder) {
+        // 판매자/경매 상태 검증은 DB 대신 Redis 스냅샷(liveItem 해시)으로 Lua 안에서 수행
+        long depositAmount = (long) Math.ceil(request.bidPrice() * 0.2);
 
-        // redis 입찰가 갱신 시도
+        // redis 입찰가 갱신 시도 (등록된 자동 입찰과의 경합도 같은 스크립트 안에서 정리)
         BidAtomicResult result = liveBidRedisService.updateMaxBidPriceAtomicWithDeposit(
-                redisKey,
                 request.liveItemId(),
-                bidder.getId(),
+                bidder.id(),
                 request.bidPrice(),
                 depositAmount,
-                sessionTtlSeconds,
-                balanceTtlSeconds
+                SESSION_TTL_SECONDS,
+                BALANCE_TTL_SECONDS
         );
 
         // 입찰 시도 결과에 따른 분기 처리
-        return handleBidResult(result, request, bidder, liveItem, redisKey, depositAmount);
-    }
-
-    /**
-     * 입찰 전 필수 비즈니스 로직 검증
-     */
-    private void validateBidRequest(LiveItem liveItem, User bidder, String redisKey) {
-        // 판매자 본인 입찰 불가 검증
-        if(liveItem.getSellerUserId().equals(bidder.getId())) {
-            throw new BusinessException(ErrorCode.LIVEBID_CANNOT_BID_OWN_ITEM);
-        }
-
-        // 경매 진행 중인 상품에만 입찰 가능
-        if(liveItem.getAuctionStatus() != LiveItem.AuctionStatus.IN_PROGRESS) {
-            throw new BusinessException(ErrorCode.LIVEBID_NOT_IN_PROGRESS);
-        }
-
+        return handleBidResult(result, request, bidder);
     }
 
     /**
      * 입찰 결과 분기 처리
-     * @return result 값이 1인 경우 입찰 성공, -1 또는 0인 경우 입찰 실패
+     * @return result 값이 1인 경우 입찰 성공, 0인 경우 입찰 실패 (그 외 거절은 미리 만든 예외)
      */
     private LiveBidResponse handleBidResult(
             BidAtomicResult result,
             LiveBidRequest request,
-            User bidder,
-            LiveItem liveItem,
-            String redisKey,
-            long depositAmount
+            UserPrincipal bidder
     ) {
         if (result == null) {
             throw new BusinessException(ErrorCode.UNEXPECTED_REDIS_SCRIPT_RETURN);
@@ -95,87 +114,164 @@ public class LiveBidService {
         long code = result.code();
 
         if (code == 1L) {
-            Long balanceBefore = result.balanceBefore();
-            Long balanceAfter = result.balanceAfter();
-            if (balanceBefore == null || balanceAfter == null) {
+            if (result.balanceBefore() == null || result.balanceAfter() == null) {
                 throw new BusinessException(ErrorCode.UNEXPECTED_REDIS_SCRIPT_RETURN);
             }
 
-            processSuccessfulBid(request, bidder, liveItem.getSellerUserId());
-            if(result.refundFailed() != null && result.refundFailed() > 0) {
-                log.warn("이전 최고 입찰자 환불 실패. refundBidBizz로 환불 진행: {}bizz",
-                        depositAmount);
-                walletService.refundBidBizz(bidder, depositAmount);
+            processSuccessfulBid(request, bidder, result);
+            if (result.hasUnrefunded()) {
+                log.warn("이전 최고 입찰자 환불 실패. refundBidBizz로 환불 진행: userId={}, {}bizz",
+                        result.unrefundedUserId(), result.unrefundedAmount());
+                walletService.refundBidBizz(result.unrefundedUserId(), result.unrefundedAmount());
+            }
+
+            // BID 히스토리는 입찰 스크립트가 남긴 CHANGE 이벤트를 WalletHistoryProjector가 투영
+
+            int finalPrice = result.price() != null ? result.price().intValue() : request.bidPrice();
+
+            // DB currentPrice는 write-behind (아이템당 주기별 UPDATE 1회, 최종값은 endAuction에서 확정)
+            liveItemPriceWriteBehind.markDirty(request.liveItemId(), finalPrice);
+
+            if (result.leaderId() != null && !result.leaderId().equals(bidder.id())) {
+                // 입찰은 반영됐지만 등록된 자동 입찰이 바로 상회
+                return new LiveBidResponse(false, "자동 입찰에 의해 상회되었습니다. 현재가: " + finalPrice, finalPrice,
+                        LiveBidResponse.PROXY_OUTBID);
             }
+            return new LiveBidResponse(true, "입찰 성공.", finalPrice);
+        }
+
+        // 거절: 스크립트가 현재가를 같이 돌려주므로 추가 조회 없음
+        return handleRejection(result.rejection(), result.price(), request.liveItemId());
+    }
 
-            walletHistoryService.recordWalletHistory(
-                    bidder,
-                    depositAmount,
-                    WalletTransactionType.BID,
-                    balanceBefore,
-                    balanceAfter
-            );
+    /**
+     * 자동 입찰 등록: 최대가까지 최소 증가분만큼 서버가 대신 응찰
+     * 등록 즉시 현재 최고가와 경합을 정리하고, 이후 들어오는 입찰마다 입찰 스크립트 안에서 대응
+     */
+    public LiveBidResponse registerProxyBid(ProxyBidRequest request, UserPrincipal bidder) {
+        if (!proxyBidEnabled || !liveBidRedisService.supportsProxyBid()) {
+            throw new BusinessException(ErrorCode.LIVEBID_PROXY_BID_UNAVAILABLE);
+        }
 
-            liveItem.setCurrentPrice(Long.valueOf(request.bidPrice()));
-            liveItemRepository.save(liveItem);
+        ProxyBidResult result = liveBidRedisService.registerProxyBid(
+                request.liveItemId(),
+                bidder.id(),
+                request.maxPrice(),
+                SESSION_TTL_SECONDS,
+                BALANCE_TTL_SECONDS
+        );
+        if (result == null) {
+            throw new BusinessException(ErrorCode.UNEXPECTED_REDIS_SCRIPT_RETURN);
+        }
 
-            return new LiveBidResponse(true, "입찰 성공.", request.bidPrice());
+        if (!result.isRegistered()) {
+            return handleRejection(result.rejection(), result.price(), request.liveItemId());
         }
 
-        if (code == -1L) {
-            // 본인이 이미 최고입찰자인 경우 입찰 실패
-            throw new BusinessException(ErrorCode.LIVEBID_ALREADY_HIGHEST_BIDDER);
+        if (result.leaderId() == null || result.price() == null) {
+            throw new BusinessException(ErrorCode.UNEXPECTED_REDIS_SCRIPT_RETURN);
         }
 
-        if (code == -2L) {
-            throw new BusinessException(ErrorCode.BIZZ_INSUFFICIENT_BALANCE);
+        int price = result.price().intValue();
+        if (result.isChanged()) {
+            Long auctionRoomId = result.roomId() != null ? result.roomId() : request.auctionId();
+            recordBid(auctionRoomId, request.liveItemId(), result.leaderId(), result.sellerId(), price,
+                    nicknameOf(result.leaderId(), bidder));
+
+            if (result.unrefundedUserId() != null && result.unrefundedAmount() != null && result.unrefundedAmount() > 0) {
+                log.warn("자동 입찰로 밀려난 최고 입찰자 환불 실패. refundBidBizz로 환불 진행: userId={}, {}bizz",
+                        result.unrefundedUserId(), result.unrefundedAmount());
+                walletService.refundBidBizz(result.unrefundedUserId(), result.unrefundedAmount());
+            }
+            liveItemPriceWriteBehind.markDirty(request.liveItemId(), price);
         }
 
-        if (code == -3L) {
-            throw new BusinessException(ErrorCode.AUCTION_SESSION_EXPIRED);
+        if (!result.leaderId().equals(bidder.id())) {
+            return new LiveBidResponse(false, "자동 입찰 등록. 더 높은 자동 입찰이 있어 상회되었습니다. 현재가: " + price, price,
+                    LiveBidResponse.PROXY_OUTBID);
         }
+        return new LiveBidResponse(true, "자동 입찰 등록. 현재 최고 입찰자입니다.", price);
+    }
 
-        if (code == -4L) {
-            throw new BusinessException(ErrorCode.AUCTION_ENDED);
+    public void cancelProxyBid(Long liveItemId, UserPrincipal bidder) {
+        liveBidRedisService.cancelProxyBid(liveItemId, bidder.id());
+    }
+
+    /**
+     * 입찰/자동 입찰 등록 공통 거절 처리
+     * - 사유별 카운트 후, 가격 부족 외에는 미리 만든(스택 트레이스 없는) 예외를 그대로 던짐
+     * - 가격 부족은 스크립트가 본 현재가로 실패 응답 (현재가를 모를 때만 Redis 조회)
+     */
+    private LiveBidResponse handleRejection(LiveBidRejection rejection, Long currentPrice, Long liveItemId) {
+        rejectedCounters.get(rejection).increment();
+
+        if (rejection.getException() != null) {
+            throw rejection.getException();
+        }
+
+        if (currentPrice == null) {
+            return handleFailedBid(liveItemId);
+        }
+        return new LiveBidResponse(false, LOW_PRICE_MESSAGE + " 현재가: " + currentPrice, currentPrice.intValue(),
+                LiveBidResponse.LOW_PRICE);
+    }
+
+    private void processSuccessfulBid(LiveBidRequest request, UserPrincipal bidder, BidAtomicResult result) {
+        // 경매방/판매자는 Redis 스냅샷 값을 신뢰 (없으면 요청값 사용)
+        Long auctionRoomId = result.roomId() != null ? result.roomId() : request.auctionId();
+        Long sellerId = result.sellerId();
+
+        Long leaderId = result.leaderId() != null ? result.leaderId() : bidder.id();
+        int finalPrice = result.price() != null ? result.price().intValue() : request.bidPrice();
+
+        if (leaderId.equals(bidder.id()) && finalPrice == request.bidPrice()) {
+            recordBid(auctionRoomId, request.liveItemId(), bidder.id(), sellerId, request.bidPrice(), bidder.nickname());
+            return;
         }
 
-        // result가 0인 경우 (입찰가 낮음)
-        return handleFailedBid(redisKey);
+        // 자동 입찰이 이어받은 경우: 들어온 입찰은 로그만 남기고 브로드캐스트는 최종 상태 1회
+        liveBidRedisService.saveBidLogToStream(new LiveBidEvent(
+                auctionRoomId, request.liveItemId(), bidder.id(), sellerId, request.bidPrice()));
+        recordBid(auctionRoomId, request.liveItemId(), leaderId, sellerId, finalPrice, nicknameOf(leaderId, bidder));
     }
 
-    private void processSuccessfulBid(LiveBidRequest request, User bidder, Long sellerId) {
+    private void recordBid(Long auctionRoomId, Long liveItemId, Long bidderId, Long sellerId, int bidPrice, String nickname) {
         // redis 최고가 갱신 성공.
         LiveBidEvent event = new LiveBidEvent(
-                request.auctionId(),
-                request.liveItemId(),
-                bidder.getId(),
+                auctionRoomId,
+                liveItemId,
+                bidderId,
                 sellerId,
-                request.bidPrice()
+                bidPrice
         );
 
         liveBidRedisService.saveBidLogToStream(event);
 
-        log.info("라이브 입찰 성공. Item: {} Price: {}", request.liveItemId(), request.bidPrice());
+        log.info("라이브 입찰 성공. Item: {} Price: {}", liveItemId, bidPrice);
 
         // 웹소켓을 통해 클라이언트에게 최고가 갱신 브로드캐스트
         // destination: "/receive/auction/{auctionId}"
-        liveBidWebSocketService.broadcastNewBid(
-                request.auctionId(), request.liveItemId(), request.bidPrice(), bidder.getId(), bidder.getNickname()
-        );
+        liveBidWebSocketService.broadcastNewBid(auctionRoomId, liveItemId, bidPrice, bidderId, nickname);
 
+        // 경매방 조회 공용 뷰의 현재가 갱신
+        auctionRoomViewCache.onBid(auctionRoomId, liveItemId, bidPrice);
+    }
+
+    // 자동 입찰로 최고입찰자가 된 유저는 요청자가 아니므로 인증 캐시에서 닉네임 조회
+    private String nicknameOf(Long userId, UserPrincipal requester) {
+        if (Objects.equals(userId, requester.id())) return requester.nickname();
 
+        UserPrincipal principal = userPrincipalCache.get(userId);
+        return principal != null ? principal.nickname() : null;
     }
 
-    private LiveBidResponse handleFailedBid(String redisKey) {
+    private LiveBidResponse handleFailedBid(Long liveItemId) {
         // 현재 최고가를 Redis에서 다시 읽어와서 반환
-        String currentMaxPriceStr = liveBidRedisService.getHashField(redisKey, "maxBidPrice");
+        String currentMaxPriceStr = liveBidRedisService.getLiveItemField(liveItemId, "maxBidPrice");
         int currentMaxPrice = (currentMaxPriceStr != null) ? Integer.parseInt(currentMaxPriceStr) : 0;
 
-        return new LiveBidResponse(
-                false,
-                "입찰 실패. 현재 최고가보다 5% 이상, 100bizz 이상 입력해주세요. 현재가: " + currentMaxPrice,
-                currentMaxPrice
-        );
+        return new LiveBidResponse(false, LOW_PRICE_MESSAGE + " 현재가: " + currentMaxPrice, currentMaxPrice,
+                LiveBidResponse.LOW_PRICE);
     }
 
 }
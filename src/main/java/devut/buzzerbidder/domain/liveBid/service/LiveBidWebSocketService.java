@@ -1,17 +1,85 @@
 package devut.buzzerbidder.domain.liveBid.service; // 위치 조정 필요
 
 import devut.buzzerbidder.domain.liveBid.dto.response.BidUpdateMessage;
-import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import devut.buzzerbidder.global.config.webSocket.SlowConsumerGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 갱신 브로드캐스트
+ *
+ * coalesce 모드(auction.live.broadcast.coalesce.enabled=true)에서는 입찰마다 바로 보내지 않고
+ * 경매방별 최신 상태만 남겨두었다가 tick(기본 100ms)마다 최대 1프레임만 전송함
+ * -> 전송량이 입찰 수가 아니라 (경매방 수 x tick 빈도)에 비례
+ *
+ * 경매 시작/종료 메시지는 LiveItemWebSocketService가 즉시 보내며, 보내기 전에 flushRoom으로
+ * 대기 중인 입찰 프레임을 먼저 내보내 순서를 맞춤
+ * seq 발급/전송은 AuctionRoomEventLog가 방 단위로 처리 (재접속 클라이언트 이어받기용 버퍼에도 기록)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class LiveBidWebSocketService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    // 느린 세션에는 최신 입찰 상태만 전달 (SlowConsumerGuard)
+    private static final Map<String, Object> CONFLATE_BID = Map.of(SlowConsumerGuard.CONFLATE_HEADER, "bid");
+
+    private final AuctionRoomEventLog auctionRoomEventLog;
+    private final boolean coalesceEnabled;
+    private final long tickMs;
+
+    private final Counter bidCounter;
+    private final Counter frameCounter;
+
+    // roomId -> 아직 전송하지 않은 최신 입찰 상태 (coalesce 모드 전용)
+    private final Map<Long, PendingBid> pendingBids = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    private record PendingBid(Long liveItemId, int newPrice, Long bidderId, String bidderNickname) {}
 
-    private static final String AUCTION_PREFIX = "/receive/auction/";
+    public LiveBidWebSocketService(
+            AuctionRoomEventLog auctionRoomEventLog,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.broadcast.coalesce.enabled:false}") boolean coalesceEnabled,
+            @Value("${auction.live.broadcast.coalesce.tick-ms:100}") long tickMs
+    ) {
+        this.auctionRoomEventLog = auctionRoomEventLog;
+        this.coalesceEnabled = coalesceEnabled;
+        this.tickMs = tickMs;
+        this.bidCounter = meterRegistry.counter("buzzerbidder.livebid.broadcast", "kind", "bid");
+        this.frameCounter = meterRegistry.counter("buzzerbidder.livebid.broadcast", "kind", "frame");
+    }
+
+    @PostConstruct
+    void startFlusher() {
+        if (!coalesceEnabled) return;
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "live-bid-broadcast-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushAll, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        log.info("입찰 브로드캐스트 coalesce 모드 활성화: tickMs={}", tickMs);
+    }
+
+    @PreDestroy
+    void stopFlusher() {
+        if (flusher == null) return;
+        flusher.shutdown();
+        flushAll();
+    }
 
     /**
      * 입찰 성공 시, 연결된 모든 클라이언트에게 새로운 최고가 정보를 브로드캐스트.
@@ -22,14 +90,52 @@ public class LiveBidWebSocketService {
      * @param bidderId      새로운 최고 입찰자 ID
      */
     public void broadcastNewBid(Long auctionRoomId, Long liveItemId, int newPrice, Long bidderId, String bidderNickname) {
-        // 전송할 메시지 구조
-        BidUpdateMessage update = new BidUpdateMessage("LIVE_BID", liveItemId, newPrice, bidderId, bidderNickname);
+        bidCounter.increment();
+        PendingBid bid = new PendingBid(liveItemId, newPrice, bidderId, bidderNickname);
 
-        String destination = AUCTION_PREFIX + auctionRoomId;
+        if (!coalesceEnabled) {
+            send(auctionRoomId, bid);
+            return;
+        }
 
-        // 구독자들에게 메시지 전송
-        messagingTemplate.convertAndSend(destination, update);
+        // 같은 상품이면 더 높은 가격만 유지 (요청 스레드 간 경합으로 순서가 뒤바뀌어도 최고가가 남도록)
+        pendingBids.merge(auctionRoomId, bid, (prev, next) ->
+                prev.liveItemId().equals(next.liveItemId()) && prev.newPrice() >= next.newPrice() ? prev : next);
     }
-}
 
+    /**
+     * 해당 경매방에 대기 중인 입찰 프레임을 즉시 전송 (경매 시작/종료 메시지 직전에 호출)
+     */
+    public void flushRoom(Long auctionRoomId) {
+        if (!coalesceEnabled) return;
+
+        PendingBid bid = pendingBids.remove(auctionRoomId);
+        if (bid != null) {
+            send(auctionRoomId, bid);
+        }
+    }
 
+    private void flushAll() {
+        for (Long roomId : pendingBids.keySet()) {
+            try {
+                flushRoom(roomId);
+            } catch (Exception e) {
+                log.error("입찰 브로드캐스트 flush 실패: roomId={}, error={}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    private void send(Long auctionRoomId, PendingBid bid) {
+        // 전송할 메시지 구조
+        auctionRoomEventLog.publish(auctionRoomId, (origin, seq) -> new BidUpdateMessage(
+                "LIVE_BID",
+                bid.liveItemId(),
+                bid.newPrice(),
+                bid.bidderId(),
+                bid.bidderNickname(),
+                origin,
+                seq
+        ), CONFLATE_BID);
+        frameCounter.increment();
+    }
+}
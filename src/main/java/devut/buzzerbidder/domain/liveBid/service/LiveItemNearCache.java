@@ -0,0 +1,241 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 라이브 아이템 현재가/최고 입찰자/종료 시각 JVM 근거리 캐시 (목록/방 조회용)
+ *
+ * - 엔트리는 ttl-ms 동안만 사용 → 알림이 유실돼도 오래된 값은 최대 ttl-ms
+ * - 입찰 성공 시 auction:live:price 채널로 "B:{itemId}:{price}:{bidderId}" 발행, 모든 노드가 갱신
+ *   (가격은 오르기만 하므로 늦게 온 낮은 가격은 무시)
+ * - 경매 종료/키 삭제/초기 적재 시 "X:{itemId}"로 무효화
+ * - 종료 연장은 기존 데드라인 채널(E:{itemId}:{endMs})로 반영
+ * - 발행은 입찰 스레드를 막지 않도록 아이템별로 합쳐서 별도 스레드가 파이프라인으로 전송
+ * - max-entries를 넘으면 만료된 것부터, 그래도 넘치면 임의로 일부 제거
+ *
+ * 메트릭: buzzerbidder.livebid.nearcache.requests{result=hit|miss}, .size
+ * auction.live.near-cache.enabled=false(기본)면 항상 miss (조회는 Redis 파이프라인)
+ */
+@Slf4j
+@Component
+public class LiveItemNearCache implements MessageListener {
+
+    public static final String PRICE_CHANNEL = "auction:live:price";
+
+    /** 캐시 값. 없는 필드는 LiveItemSnapshots.MISSING */
+    public record Entry(long maxBidPrice, long currentBidderId, long endTimeMs, long loadedAtNanos) {}
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 발행 대기 (itemId -> 마지막 메시지)
+    private final Map<Long, String> pendingPublishes = new ConcurrentHashMap<>();
+    private final AtomicBoolean publishing = new AtomicBoolean(false);
+    private ExecutorService publisher;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public LiveItemNearCache(
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.near-cache.enabled:false}") boolean enabled,
+            @Value("${auction.live.near-cache.max-entries:10000}") int maxEntries,
+            @Value("${auction.live.near-cache.ttl-ms:1000}") long ttlMs
+    ) {
+        this.redis = redis;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+
+        this.hits = meterRegistry.counter("buzzerbidder.livebid.nearcache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("buzzerbidder.livebid.nearcache.requests", "result", "miss");
+        Gauge.builder("buzzerbidder.livebid.nearcache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        publisher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "live-price-publisher");
+            t.setDaemon(true);
+            return t;
+        });
+        redisMessageListenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(PRICE_CHANNEL),
+                new ChannelTopic(LiveBidRedisService.DEADLINE_CHANNEL)
+        ));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) return;
+
+        redisMessageListenerContainer.removeMessageListener(this);
+        publisher.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /* ==================== 조회/적재 ==================== */
+
+    /** ttl 안의 엔트리, 없거나 지났으면 null */
+    public Entry get(long liveItemId, long nowNanos) {
+        if (!enabled) return null;
+
+        Entry e = entries.get(liveItemId);
+        if (e == null || nowNanos - e.loadedAtNanos() > ttlNanos) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e;
+    }
+
+    /** Redis에서 읽은 값 적재 (없는 아이템도 MISSING으로 적재해 반복 조회를 막음) */
+    public void put(long liveItemId, long maxBidPrice, long currentBidderId, long endTimeMs, long nowNanos) {
+        if (!enabled) return;
+
+        if (entries.size() >= maxEntries && !entries.containsKey(liveItemId)) {
+            evict(nowNanos);
+        }
+        entries.put(liveItemId, new Entry(maxBidPrice, currentBidderId, endTimeMs, nowNanos));
+    }
+
+    /* ==================== 갱신/무효화 ==================== */
+
+    /** 입찰 성공 반영 + 다른 노드에 전파 */
+    public void onBidAccepted(long liveItemId, long bidPrice, long bidderId) {
+        if (!enabled) return;
+
+        applyBid(liveItemId, bidPrice, bidderId);
+        enqueue(liveItemId, "B:" + liveItemId + ":" + bidPrice + ":" + bidderId);
+    }
+
+    /** 아이템 캐시 무효화 + 다른 노드에 전파 */
+    public void invalidate(long liveItemId) {
+        if (!enabled) return;
+
+        entries.remove(liveItemId);
+        enqueue(liveItemId, "X:" + liveItemId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":");
+            long liveItemId = Long.parseLong(parts[1]);
+            switch (parts[0]) {
+                case "B" -> applyBid(liveItemId, Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+                case "X" -> entries.remove(liveItemId);
+                case "E" -> entries.computeIfPresent(liveItemId, (id, e) ->
+                        new Entry(e.maxBidPrice(), e.currentBidderId(), Long.parseLong(parts[2]), e.loadedAtNanos()));
+                default -> { /* S: 시작 시각은 캐시하지 않음 */ }
+            }
+        } catch (RuntimeException e) {
+            log.warn("가격 캐시 메시지 처리 실패. body={}, error={}", body, e.getMessage());
+        }
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    // 적재 시각은 유지 (다른 필드의 오래됨 상한이 늘어나지 않도록)
+    private void applyBid(long liveItemId, long bidPrice, long bidderId) {
+        entries.computeIfPresent(liveItemId, (id, e) -> bidPrice > e.maxBidPrice()
+                ? new Entry(bidPrice, bidderId, e.endTimeMs(), e.loadedAtNanos())
+                : e);
+    }
+
+    private void evict(long nowNanos) {
+        entries.values().removeIf(e -> nowNanos - e.loadedAtNanos() > ttlNanos);
+
+        // 전부 살아있으면 1/10 정도 임의 제거
+        int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<Long> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private void enqueue(long liveItemId, String message) {
+        pendingPublishes.put(liveItemId, message);
+        if (publishing.compareAndSet(false, true)) {
+            try {
+                publisher.execute(this::drainPublishes);
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 다른 노드는 ttl로 정리
+                publishing.set(false);
+            }
+        }
+    }
+
+    private void drainPublishes() {
+        try {
+            while (!pendingPublishes.isEmpty()) {
+                List<String> batch = new ArrayList<>(pendingPublishes.size());
+                for (Long liveItemId : new ArrayList<>(pendingPublishes.keySet())) {
+                    String message = pendingPublishes.remove(liveItemId);
+                    if (message != null) batch.add(message);
+                }
+
+                byte[] channel = PRICE_CHANNEL.getBytes(StandardCharsets.UTF_8);
+                redis.executePipelined((RedisCallback<Object>) connection -> {
+                    for (String message : batch) {
+                        connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                });
+            }
+        } catch (Exception e) {
+            log.warn("가격 캐시 알림 발행 실패. 다른 노드는 ttl 이후 갱신. error={}", e.getMessage());
+        } finally {
+            publishing.set(false);
+            if (!pendingPublishes.isEmpty() && publishing.compareAndSet(false, true)) {
+                try {
+                    publisher.execute(this::drainPublishes);
+                } catch (RejectedExecutionException e) {
+                    publishing.set(false);
+                }
+            }
+        }
+    }
+}
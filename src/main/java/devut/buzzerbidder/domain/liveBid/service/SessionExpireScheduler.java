@@ -1,30 +1,47 @@
 package devut.buzzerbidder.domain.liveBid.service;
 
-import devut.buzzerbidder.domain.wallet.service.WalletRedisService;
-import lombok.RequiredArgsConstructor;
+import devut.buzzerbidder.global.redis.RedisLuaScript;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매 세션 만료 ZSET 스윕
+ *
+ * 만료 ZSET에서 due 유저를 최대 batch-size명 꺼내 SessionExpiryProcessor로 넘김
+ * 꺼낸 배치가 가득 차 있으면 같은 주기 안에서 max-batches-per-run까지 이어서 처리
+ *
+ * 만료 키 이벤트(SessionExpiryListener)가 켜져 있으면 스윕은 sweep-ms 주기로만 수행 (이벤트 유실 보정용)
+ * 메트릭: 남은 due 건수(buzzerbidder.session.expire.backlog)
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SessionExpireScheduler {
 
     private final StringRedisTemplate redis;
-    private final WalletRedisService walletRedisService;
+    private final SessionExpiryProcessor sessionExpiryProcessor;
+    private final SessionExpiryListener sessionExpiryListener;
+    private final RedisScriptRegistry redisScriptRegistry;
 
-    private static final String SESSION_PREFIX = "auction:session:";
-    private static final String SESSION_EXP_ZSET = "auction:sessions:exp";
+    private static final String SESSION_EXP_ZSET = SessionExpiryProcessor.SESSION_EXP_ZSET;
 
     // 한 번에 처리할 최대 개수(배치 제한)
-    private static final int BATCH_SIZE = 100;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private long lastSweepMs = 0L;
 
     /**
      * score <= nowMs 인 멤버를 최대 limit개 꺼내고, 같은 스크립트 안에서 제거까지 수행
@@ -47,63 +64,89 @@ public class SessionExpireScheduler {
         return members
     """;
 
-    private final DefaultRedisScript<List<String>> popDueMembersScript = buildPopDueMembersScript();
+    private static final RedisLuaScript<List<String>> POP_DUE_MEMBERS =
+            RedisLuaScript.ofList("session.pop_due_members", POP_DUE_MEMBERS_SCRIPT);
+
+    public SessionExpireScheduler(
+            StringRedisTemplate redis,
+            SessionExpiryProcessor sessionExpiryProcessor,
+            SessionExpiryListener sessionExpiryListener,
+            RedisScriptRegistry redisScriptRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.session-expire.batch-size:100}") int batchSize,
+            @Value("${auction.live.session-expire.max-batches-per-run:10}") int maxBatchesPerRun
+    ) {
+        this.redis = redis;
+        this.sessionExpiryProcessor = sessionExpiryProcessor;
+        this.sessionExpiryListener = sessionExpiryListener;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        Gauge.builder("buzzerbidder.session.expire.backlog", backlog, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register(POP_DUE_MEMBERS);
+    }
 
     @Scheduled(fixedDelay = 500)
     public void processExpiredSessions() {
         long nowMs = System.currentTimeMillis();
+        if (skipSweep(nowMs)) return;
+        lastSweepMs = nowMs;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (processBatch() < batchSize) break;
+        }
+
+        // 이번 주기에 다 못 비운 due 건수
+        Long due = redis.opsForZSet().count(SESSION_EXP_ZSET, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        backlog.set(due == null ? 0 : due);
+    }
+
+    /**
+     * 배치 하나 처리
+     *
+     * @return 꺼낸 유저 수
+     */
+    int processBatch() {
+        long nowMs = System.currentTimeMillis();
 
         // 원자적으로 due userId들을 꺼냄(다른 서버와 경합해도 중복 감소)
-        List<String> userIds = executeStringList(
-                popDueMembersScript,
+        List<String> members = executeStringList(
+                POP_DUE_MEMBERS,
                 List.of(SESSION_EXP_ZSET),
                 String.valueOf(nowMs),
-                String.valueOf(BATCH_SIZE)
+                String.valueOf(batchSize)
         );
 
-        if (userIds.isEmpty()) return;
-
-        for (String userIdStr : userIds) {
-            String sessionKey = SESSION_PREFIX + userIdStr;
+        if (members.isEmpty()) return 0;
 
+        List<Long> userIds = new ArrayList<>(members.size());
+        for (String member : members) {
             try {
-                // 1) 진짜 만료됐는지 최종 확인
-                Boolean exists = redis.hasKey(sessionKey);
-                if (Boolean.TRUE.equals(exists)) {
-                    // 아직 살아있으면(heartbeat가 늦게 갱신) TTL로 다시 스케줄
-                    Long ttlSec = redis.getExpire(sessionKey, TimeUnit.SECONDS);
-                    if (ttlSec != null && ttlSec > 0) {
-                        long expireAtMs = System.currentTimeMillis() + ttlSec * 1000L;
-                        redis.opsForZSet().add(SESSION_EXP_ZSET, userIdStr, expireAtMs);
-                    }
-                    continue;
-                }
-
-                // 2) 만료 확정이면 flush
-                walletRedisService.flushBalanceAndClearSession(Long.parseLong(userIdStr), null);
-
-            } catch (Exception e) {
-                // 실패 시 로그
-                log.error("SessionExpireScheduler failed. userId={}", userIdStr, e);
+                userIds.add(Long.parseLong(member));
+            } catch (NumberFormatException e) {
+                log.error("SessionExpireScheduler 잘못된 멤버. member={}", member);
             }
         }
-    }
 
-    /* ==================== Lua Script 빌더/실행 헬퍼 ==================== */
-
-    private DefaultRedisScript<List<String>> buildPopDueMembersScript() {
-        DefaultRedisScript<List<String>> script = new DefaultRedisScript<>();
-
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        Class<List<String>> listClass = (Class) List.class;
-        script.setResultType(listClass);
+        sessionExpiryProcessor.process(userIds, SessionExpiryProcessor.Source.SWEEP);
+        return members.size();
+    }
 
-        script.setScriptText(POP_DUE_MEMBERS_SCRIPT);
-        return script;
+    private boolean skipSweep(long nowMs) {
+        return sessionExpiryListener.isEnabled()
+                && nowMs - lastSweepMs < sessionExpiryListener.getSweepMs();
     }
 
-    private List<String> executeStringList(DefaultRedisScript<List<String>> script, List<String> keys, String... args) {
-        List<String> result = redis.execute(script, keys, (Object[]) args);
+    /* ==================== Lua Script 실행 헬퍼 ==================== */
+
+    private List<String> executeStringList(RedisLuaScript<List<String>> script, List<String> keys, String... args) {
+        List<String> result = redisScriptRegistry.execute(script, keys, args);
         return Objects.requireNonNullElse(result, List.of());
     }
 }
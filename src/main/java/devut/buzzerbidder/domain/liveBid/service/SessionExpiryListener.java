@@ -0,0 +1,192 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis 만료 키 이벤트(__keyevent@*__:expired)로 세션 만료를 즉시 처리
+ *
+ * - auction:session:* 키가 TTL로 사라지면 해당 유저를 SessionExpiryProcessor로 바로 넘김
+ *   (이벤트가 몰리면 쌓인 만큼 한 배치로 처리)
+ * - 모든 노드가 같은 이벤트를 받지만 flush 스크립트가 원자적이라 한 노드만 잔액을 꺼냄
+ * - pub/sub은 유실될 수 있고 Cluster에서는 구독한 노드의 이벤트만 오므로,
+ *   SessionExpireScheduler의 ZSET 스윕이 sweep-ms 주기로 보정
+ *
+ * auction.live.session-expire.keyspace.enabled=false(기본)면 아무것도 하지 않고 기존 500ms 폴링만 동작
+ * configure-notifications=true면 기동 시 notify-keyspace-events에 Ex를 추가
+ * (CONFIG가 막힌 관리형 Redis에서는 직접 설정해야 함)
+ */
+@Slf4j
+@Component
+public class SessionExpiryListener implements MessageListener {
+
+    private static final String EXPIRED_PATTERN = "__keyevent@*__:expired";
+
+    private final SessionExpiryProcessor sessionExpiryProcessor;
+    private final AuctionRedisKeys auctionRedisKeys;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final boolean enabled;
+    private final long sweepMs;
+    private final boolean configureNotifications;
+    private final int maxBatchSize;
+    private final Counter notified;
+
+    // 처리 대기 중인 userId (같은 유저 이벤트가 겹쳐도 한 번만)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private ExecutorService worker;
+
+    public SessionExpiryListener(
+            SessionExpiryProcessor sessionExpiryProcessor,
+            AuctionRedisKeys auctionRedisKeys,
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.session-expire.keyspace.enabled:false}") boolean enabled,
+            @Value("${auction.live.session-expire.keyspace.sweep-ms:10000}") long sweepMs,
+            @Value("${auction.live.session-expire.keyspace.configure-notifications:true}") boolean configureNotifications,
+            @Value("${auction.live.session-expire.batch-size:100}") int maxBatchSize
+    ) {
+        this.sessionExpiryProcessor = sessionExpiryProcessor;
+        this.auctionRedisKeys = auctionRedisKeys;
+        this.redis = redis;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.sweepMs = sweepMs;
+        this.configureNotifications = configureNotifications;
+        this.maxBatchSize = maxBatchSize;
+        this.notified = meterRegistry.counter("buzzerbidder.session.expire.notified");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        if (configureNotifications) {
+            configureExpiredEvents();
+        }
+
+        worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "session-expiry");
+            t.setDaemon(true);
+            return t;
+        });
+        redisMessageListenerContainer.addMessageListener(this, new PatternTopic(EXPIRED_PATTERN));
+        log.info("세션 만료 키 이벤트 구독 시작: sweepMs={}", sweepMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) return;
+
+        redisMessageListenerContainer.removeMessageListener(this);
+        worker.shutdown();
+        try {
+            worker.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getSweepMs() {
+        return sweepMs;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long userId = auctionRedisKeys.sessionUserId(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (userId == null) return;
+
+        notified.increment();
+        pending.add(userId);
+        if (draining.compareAndSet(false, true)) {
+            try {
+                worker.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 스윕이 처리
+                draining.set(false);
+            }
+        }
+    }
+
+    /* ==================== 처리 ==================== */
+
+    private void drain() {
+        try {
+            while (!pending.isEmpty()) {
+                List<Long> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+                for (Long userId : pending) {
+                    if (batch.size() >= maxBatchSize) break;
+                    if (pending.remove(userId)) batch.add(userId);
+                }
+                sessionExpiryProcessor.process(batch, SessionExpiryProcessor.Source.NOTIFICATION);
+            }
+        } finally {
+            draining.set(false);
+            // 빠져나오는 사이에 들어온 이벤트 처리
+            if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    worker.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+    }
+
+    private void configureExpiredEvents() {
+        try {
+            redis.execute((RedisCallback<Void>) connection -> {
+                String current = currentNotifyFlags(connection);
+                String flags = current;
+                if (!flags.contains("E")) flags += "E";
+                if (!flags.contains("x") && !flags.contains("A")) flags += "x";
+                if (!flags.equals(current)) {
+                    connection.serverCommands().setConfig("notify-keyspace-events", flags);
+                    log.info("notify-keyspace-events 설정: {} -> {}", current, flags);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("notify-keyspace-events 설정 실패. Redis에서 직접 Ex를 켜야 합니다. error={}", e.getMessage());
+        }
+    }
+
+    private static String currentNotifyFlags(RedisConnection connection) {
+        Properties config = connection.serverCommands().getConfig("notify-keyspace-events");
+        if (config == null) return "";
+        String value = config.getProperty("notify-keyspace-events");
+        return value == null ? "" : value;
+    }
+}
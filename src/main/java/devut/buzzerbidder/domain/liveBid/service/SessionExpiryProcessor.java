@@ -0,0 +1,217 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import devut.buzzerbidder.domain.wallet.service.WalletBalancePersistService;
+import devut.buzzerbidder.domain.wallet.service.WalletRedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 만료 후보 세션 배치 처리 (ZSET 스윕과 만료 키 이벤트가 같이 사용)
+ *
+ * - Redis: 유저별 "살아있는지 확인 + 만료면 잔액 꺼내고 키 삭제" 스크립트를 파이프라인 1회로 실행
+ * - 살아있는 세션: 남은 TTL로 ZADD 1회에 다시 스케줄
+ * - 만료된 세션: 최종 잔액을 UPDATE 배치 1회로 DB 반영, 커밋 후 flush 대기 해시에서 제거
+ *   (DB 반영이 실패하면 대기 해시에 남은 잔액을 recoverFlushPending이 다시 반영)
+ * - 스크립트 호출이 실패한 유저: 키가 남아있으므로 retry-delay 뒤에 다시 확인하도록 스케줄
+ *
+ * 메트릭: 배치 처리 시간(buzzerbidder.session.expire.flush, source별), 배치 크기, 결과별 건수,
+ *        DB 반영 실패(buzzerbidder.session.expire.persist.failed), 복구(buzzerbidder.session.expire.persist.recovered)
+ */
+@Slf4j
+@Component
+public class SessionExpiryProcessor {
+
+    public enum Source { SWEEP, NOTIFICATION }
+
+    static final String SESSION_EXP_ZSET = "auction:sessions:exp";
+    private static final Duration SESSION_TTL = Duration.ofSeconds(35);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate redis;
+    private final WalletRedisService walletRedisService;
+    private final WalletBalancePersistService walletBalancePersistService;
+
+    // 이 시간 이상 DB 반영이 확인되지 않은 flush 잔액만 복구 (진행 중인 persist와 겹치지 않도록)
+    private final long recoveryAgeMs;
+
+    private final Map<Source, Timer> flushTimers;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter flushedCounter;
+    private final Counter rescheduledCounter;
+    private final Counter missedCounter;
+    private final Counter failedCounter;
+    private final Counter persistFailedCounter;
+    private final Counter persistRecoveredCounter;
+
+    public SessionExpiryProcessor(
+            StringRedisTemplate redis,
+            WalletRedisService walletRedisService,
+            WalletBalancePersistService walletBalancePersistService,
+            MeterRegistry meterRegistry,
+            @Value("${auction.live.session-expire.flush-recovery-age-ms:60000}") long recoveryAgeMs
+    ) {
+        this.redis = redis;
+        this.walletRedisService = walletRedisService;
+        this.walletBalancePersistService = walletBalancePersistService;
+        this.recoveryAgeMs = recoveryAgeMs;
+
+        this.flushTimers = Map.of(
+                Source.SWEEP, flushTimer(meterRegistry, "sweep"),
+                Source.NOTIFICATION, flushTimer(meterRegistry, "notification")
+        );
+        this.batchSizeSummary = DistributionSummary.builder("buzzerbidder.session.expire.batch.size")
+                .register(meterRegistry);
+        this.flushedCounter = meterRegistry.counter("buzzerbidder.session.expire.sessions", "result", "flushed");
+        this.rescheduledCounter = meterRegistry.counter("buzzerbidder.session.expire.sessions", "result", "rescheduled");
+        this.missedCounter = meterRegistry.counter("buzzerbidder.session.expire.sessions", "result", "missed");
+        this.failedCounter = meterRegistry.counter("buzzerbidder.session.expire.sessions", "result", "failed");
+        this.persistFailedCounter = meterRegistry.counter("buzzerbidder.session.expire.persist.failed");
+        this.persistRecoveredCounter = meterRegistry.counter("buzzerbidder.session.expire.persist.recovered");
+    }
+
+    /**
+     * 만료 후보 유저 처리. 예외는 밖으로 던지지 않음
+     * 이벤트로 들어온 유저는 처리가 끝난(flush/키 없음) 경우에만 ZSET에서 빼서 스윕이 같은 유저를 다시 보지 않도록 함
+     * 배치 전체가 실패하면 모든 유저를 ZSET에 다시 넣음 (스윕은 꺼낼 때 이미 ZREM 했으므로)
+     */
+    public void process(List<Long> userIds, Source source) {
+        if (userIds.isEmpty()) return;
+
+        Timer.Sample sample = Timer.start();
+        try {
+            WalletRedisService.SessionExpiryBatch batch = walletRedisService.flushExpiredSessions(userIds, null);
+
+            // 1) 아직 살아있으면(heartbeat가 늦게 갱신) 남은 TTL로 다시 스케줄
+            reschedule(batch.aliveTtlMs());
+
+            // 2) 만료 확정된 잔액은 한 번에 DB 반영 (일부 호출이 실패해도 성공한 건은 모두 반영)
+            persist(batch.flushedBalances());
+
+            // 3) 스크립트가 실패한 유저만 잠시 뒤 다시 처리
+            requeue(batch.failedUserIds());
+
+            // 4) 이벤트로 들어온 유저 중 처리가 끝난 유저만 ZSET에서 제거 (살아있는/실패한 유저는 위에서 다시 스케줄)
+            if (source == Source.NOTIFICATION) {
+                Object[] done = userIds.stream()
+                        .filter(id -> !batch.aliveTtlMs().containsKey(id) && !batch.failedUserIds().contains(id))
+                        .map(String::valueOf)
+                        .toArray();
+                if (done.length > 0) {
+                    redis.opsForZSet().remove(SESSION_EXP_ZSET, done);
+                }
+            }
+
+            batchSizeSummary.record(userIds.size());
+            flushedCounter.increment(batch.flushedBalances().size());
+            rescheduledCounter.increment(batch.aliveTtlMs().size());
+            missedCounter.increment(batch.missed());
+            failedCounter.increment(batch.failedUserIds().size());
+        } catch (Exception e) {
+            // 잔액이 DB에 반영되지 않은 채 안전망 ZSET에서 빠지지 않도록 다시 스케줄
+            log.error("세션 만료 처리 실패. 다시 스케줄합니다. source={}, userIds={}", source, userIds, e);
+            try {
+                requeue(userIds);
+            } catch (Exception requeueError) {
+                log.error("세션 만료 재스케줄 실패. userIds={}", userIds, requeueError);
+            }
+        } finally {
+            sample.stop(flushTimers.get(source));
+        }
+    }
+
+    private void reschedule(Map<Long, Long> aliveTtlMs) {
+        if (aliveTtlMs.isEmpty()) return;
+
+        long nowMs = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        aliveTtlMs.forEach((userId, ttlMs) -> {
+            // TTL이 없는 세션(-1)은 기본 세션 TTL 뒤에 다시 확인
+            long delayMs = ttlMs > 0 ? ttlMs : SESSION_TTL.toMillis();
+            tuples.add(new DefaultTypedTuple<>(userId.toString(), (double) (nowMs + delayMs)));
+        });
+        redis.opsForZSet().add(SESSION_EXP_ZSET, tuples);
+    }
+
+    private void requeue(List<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        double retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Long userId : userIds) {
+            tuples.add(new DefaultTypedTuple<>(userId.toString(), retryAt));
+        }
+        redis.opsForZSet().add(SESSION_EXP_ZSET, tuples);
+    }
+
+    private void persist(Map<Long, Long> balances) {
+        if (balances.isEmpty()) return;
+
+        try {
+            walletBalancePersistService.saveAll(balances);
+        } catch (Exception e) {
+            // Redis 잔액 키는 이미 삭제됐지만 flush 대기 해시에 남아있으므로 recoverFlushPending이 다시 반영
+            persistFailedCounter.increment(balances.size());
+            log.error("세션 만료 잔액 DB 반영 실패. 복구 대상으로 남김. balances={}", balances, e);
+            return;
+        }
+        ackFlushed(balances);
+    }
+
+    /**
+     * DB 반영이 확인되지 않은 채 recovery-age가 지난 flush 잔액을 다시 반영
+     * 최종 잔액을 덮어쓰는 것이라 여러 노드가 같이 돌거나 중복 반영돼도 결과는 같음
+     */
+    @Scheduled(fixedDelayString = "${auction.live.session-expire.flush-recovery-ms:30000}")
+    public void recoverFlushPending() {
+        Map<Long, Long> stale;
+        try {
+            stale = walletRedisService.findStaleFlushPending(recoveryAgeMs);
+        } catch (Exception e) {
+            log.warn("flush 대기 잔액 조회 실패. 다음 주기에 다시 시도합니다. error={}", e.getMessage());
+            return;
+        }
+        if (stale.isEmpty()) return;
+
+        try {
+            walletBalancePersistService.saveAll(stale);
+        } catch (Exception e) {
+            persistFailedCounter.increment(stale.size());
+            log.error("flush 대기 잔액 DB 복구 실패. 다음 주기에 다시 시도합니다. balances={}", stale, e);
+            return;
+        }
+        persistRecoveredCounter.increment(stale.size());
+        log.warn("flush 대기 잔액 DB 복구 완료. balances={}", stale);
+        ackFlushed(stale);
+    }
+
+    // 커밋된 잔액을 대기 해시에서 제거 (실패해도 복구가 같은 값을 다시 반영할 뿐)
+    private void ackFlushed(Map<Long, Long> balances) {
+        try {
+            walletRedisService.ackFlushed(balances);
+        } catch (Exception e) {
+            log.warn("flush 대기 잔액 제거 실패. balances={}, error={}", balances, e.getMessage());
+        }
+    }
+
+    private static Timer flushTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("buzzerbidder.session.expire.flush")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
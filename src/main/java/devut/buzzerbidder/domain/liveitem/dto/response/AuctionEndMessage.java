@@ -1,5 +1,7 @@
 package devut.buzzerbidder.domain.liveitem.dto.response;
 
+import devut.buzzerbidder.domain.liveBid.dto.response.AuctionRoomEvent;
+
 public record AuctionEndMessage(
     String type,
     Long liveItemId,
@@ -7,9 +9,12 @@ public record AuctionEndMessage(
     String result,
     Long winnerId,
     Integer finalPrice,
-    String winnerNickname
-) {
-    public AuctionEndMessage(Long liveItemId, String liveItemName, String result, Long winnerId, Integer finalPrice, String winnerNickname) {
-        this("AUCTION_END", liveItemId, liveItemName, result, winnerId, finalPrice, winnerNickname);
+    String winnerNickname,
+    String origin,
+    long seq
+) implements AuctionRoomEvent {
+    public AuctionEndMessage(Long liveItemId, String liveItemName, String result, Long winnerId, Integer finalPrice,
+        String winnerNickname, String origin, long seq) {
+        this("AUCTION_END", liveItemId, liveItemName, result, winnerId, finalPrice, winnerNickname, origin, seq);
     }
 }
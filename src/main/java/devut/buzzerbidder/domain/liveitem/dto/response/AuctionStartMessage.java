@@ -1,12 +1,16 @@
 package devut.buzzerbidder.domain.liveitem.dto.response;
 
+import devut.buzzerbidder.domain.liveBid.dto.response.AuctionRoomEvent;
+
 public record AuctionStartMessage(
     String type,
     Long liveItemId,
     String itemName,
-    Integer initPrice
-) {
-    public AuctionStartMessage(Long liveItemId, String itemName, Integer initPrice) {
-        this("AUCTION_START", liveItemId, itemName, initPrice);
+    Integer initPrice,
+    String origin,
+    long seq
+) implements AuctionRoomEvent {
+    public AuctionStartMessage(Long liveItemId, String itemName, Integer initPrice, String origin, long seq) {
+        this("AUCTION_START", liveItemId, itemName, initPrice, origin, seq);
     }
 }
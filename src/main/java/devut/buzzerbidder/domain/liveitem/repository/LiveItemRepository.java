@@ -16,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -247,7 +248,16 @@ public interface LiveItemRepository extends JpaRepository<LiveItem, Long> {
             Pageable pageable
     );
 
+    // 시작/종료 디스패치용 경매방 조회: [liveItemId, auctionRoomId]
+    @Query("select li.id, li.auctionRoom.id from LiveItem li where li.id in :ids")
+    List<Object[]> findAuctionRoomIdsByIds(@Param("ids") Collection<Long> ids);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select li from LiveItem li where li.id = :id")
     Optional<LiveItem> findByIdWithLock(@Param("id") Long id);
+
+    // 입찰가 write-behind: 더 높은 가격일 때만 반영 (노드 간 flush 순서가 뒤섞여도 가격이 뒤로 가지 않음)
+    @Modifying
+    @Query("UPDATE LiveItem li SET li.currentPrice = :price WHERE li.id = :id AND li.currentPrice < :price")
+    int updateCurrentPriceIfHigher(@Param("id") Long id, @Param("price") Long price);
 }
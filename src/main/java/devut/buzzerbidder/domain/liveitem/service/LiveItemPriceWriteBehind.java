@@ -0,0 +1,74 @@
+package devut.buzzerbidder.domain.liveitem.service;
+
+import devut.buzzerbidder.domain.liveitem.repository.LiveItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라이브 경매 현재가(DB live_item.current_price) write-behind 버퍼
+ *
+ * - 입찰 성공 시 DB에 바로 쓰지 않고 아이템별 최고가만 메모리에 모아둠
+ * - 주기마다 아이템당 UPDATE 1번으로 합쳐서 반영 (한 트랜잭션)
+ * - 최종 가격은 endAuction에서 확정 저장하므로 여기서는 목록 조회용 근사값만 책임짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveItemPriceWriteBehind {
+
+    private final LiveItemRepository liveItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // liveItemId -> 아직 DB에 반영되지 않은 최고가
+    private final ConcurrentHashMap<Long, Long> pendingPrices = new ConcurrentHashMap<>();
+
+    /** 입찰 성공가 기록 (같은 아이템의 연속 입찰은 최고가 하나로 합쳐짐) */
+    public void markDirty(Long liveItemId, long price) {
+        pendingPrices.merge(liveItemId, price, Math::max);
+    }
+
+    /** endAuction에서 최종 가격을 직접 저장하는 경우 대기 중인 값 폐기 */
+    public void discard(Long liveItemId) {
+        pendingPrices.remove(liveItemId);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.live.price-write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (pendingPrices.isEmpty()) return;
+
+        // 스냅샷을 떼어낸 뒤 반영 (flush 중 들어온 입찰은 다음 주기에 반영)
+        Map<Long, Long> batch = new HashMap<>();
+        for (Long itemId : pendingPrices.keySet()) {
+            Long price = pendingPrices.remove(itemId);
+            if (price != null) {
+                batch.put(itemId, price);
+            }
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach(liveItemRepository::updateCurrentPriceIfHigher)
+            );
+            log.debug("라이브 현재가 write-behind 반영: items={}", batch.size());
+        } catch (Exception e) {
+            // 실패 시 다음 주기에 다시 시도
+            log.warn("라이브 현재가 write-behind 반영 실패. 다음 주기에 재시도: items={}, error={}",
+                    batch.size(), e.getMessage());
+            batch.forEach((itemId, price) -> pendingPrices.merge(itemId, price, Math::max));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -7,6 +7,7 @@ import devut.buzzerbidder.domain.chat.service.ChatRoomParticipantService;
 import devut.buzzerbidder.domain.deal.service.LiveDealService;
 import devut.buzzerbidder.domain.likelive.repository.LikeLiveRepository;
 import devut.buzzerbidder.domain.likelive.service.LikeLiveService;
+import devut.buzzerbidder.domain.liveBid.dto.LiveItemSnapshots;
 import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
 import devut.buzzerbidder.domain.liveitem.dto.request.LiveItemCreateRequest;
 import devut.buzzerbidder.domain.liveitem.dto.request.LiveItemModifyRequest;
@@ -32,7 +33,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -65,8 +65,8 @@ public class LiveItemService {
     private final LikeLiveRepository likeLiveRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final LiveItemWebSocketService liveItemWebSocketService;
-    private final RedisTemplate<String, String> redisTemplate;
     private final ChatRoomParticipantService chatRoomParticipantService;
+    private final LiveItemPriceWriteBehind liveItemPriceWriteBehind;
 
 
     @Timed(
@@ -382,9 +382,7 @@ public class LiveItemService {
         }
         long likeCount = likeLiveService.countByLiveItemId(id);
 
-        String redisKey = "liveItem:" + liveItem.getId();
-
-        String currentMaxPriceStr = liveBidRedisService.getHashField(redisKey, "maxBidPrice");
+        String currentMaxPriceStr = liveBidRedisService.getLiveItemField(liveItem.getId(), "maxBidPrice");
         Long currentMaxPrice = (currentMaxPriceStr != null) ? Integer.parseInt(currentMaxPriceStr) : liveItem.getCurrentPrice();
 
         return new LiveItemDetailResponse(
@@ -440,7 +438,7 @@ public class LiveItemService {
             long hi = (max != null) ? max : Long.MAX_VALUE;
 
             // 1) Redis(ZSET): 입찰 있는 아이템 중 현재가 범위 통과 id 리스트
-            List<Long> a = liveBidRedisService.zRangeByScoreAsLong("liveItems:currentPrice", lo, hi);
+            List<Long> a = liveBidRedisService.findItemIdsByCurrentPrice(lo, hi);
 
             // 2) DB(initPrice): 기본필터 + initPrice 범위 통과 후보
             List<Long> b = liveItemRepository.findIdsByInitPriceRangeWithBaseFilters(
@@ -452,7 +450,7 @@ public class LiveItemService {
             );
 
             // 3) b 중에서 hasBid=true 제거 (입찰 있는 애는 initPrice로 판단하면 안 됨)
-            List<Boolean> hasBidFlags = liveBidRedisService.sIsMemberBatch("liveItems:hasBid", b);
+            List<Boolean> hasBidFlags = liveBidRedisService.hasBidBatch(b);
 
             Set<Long> candidateIds = new HashSet<>(a);
             for (int i = 0; i < b.size(); i++) {
@@ -486,15 +484,11 @@ public class LiveItemService {
 
         final Set<Long> finalLikedSet = likedSet;
 
-        // 2. Redis에서 현재 입찰가 가져오기 + 찜 여부 넣기
+        // 2. Redis에서 현재 입찰가 가져오기(파이프라인 1회) + 찜 여부 넣기
+        LiveItemSnapshots snapshots = liveBidRedisService.getLiveItemSnapshots(liveItemIds);
         List<LiveItemResponse> dtoList = page.getContent().stream()
                 .map(item -> {
-                    String redisKey = "liveItem:" + item.id();
-                    String maxBidPriceStr = liveBidRedisService.getHashField(redisKey, "maxBidPrice");
-
-                    Long currentMaxBidPrice = (maxBidPriceStr != null)
-                            ? Long.parseLong(maxBidPriceStr)
-                            : item.currentPrice();
+                    Long currentMaxBidPrice = snapshots.maxBidPrice(item.id(), item.currentPrice());
 
                     boolean isLiked = finalLikedSet.contains(item.id());
 
@@ -529,6 +523,13 @@ public class LiveItemService {
 
         liveItem.changeAuctionStatus(auctionStatus);
 
+        // 입찰 검증용 Redis 스냅샷도 커밋 후 동기화
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                liveBidRedisService.updateLiveItemStatusIfPresent(id, auctionStatus.name());
+            }
+        });
     }
 
     @Transactional(readOnly = true)
@@ -548,14 +549,10 @@ public class LiveItemService {
 
         final Set<Long> finalLikedSet = likedSet;
 
+        LiveItemSnapshots snapshots = liveBidRedisService.getLiveItemSnapshots(liveItemIds);
         List<LiveItemResponse> dtoList = beforeBidPrice.stream()
                 .map(item -> {
-                    String redisKey = "liveItem:" + item.id();
-                    String maxBidPriceStr = liveBidRedisService.getHashField(redisKey, "maxBidPrice");
-
-                    Long currentMaxBidPrice = (maxBidPriceStr != null)
-                            ? Long.parseLong(maxBidPriceStr)
-                            : item.currentPrice(); // DB 값 fallback
+                    Long currentMaxBidPrice = snapshots.maxBidPrice(item.id(), item.currentPrice()); // DB 값 fallback
 
                     boolean isLiked = finalLikedSet.contains(item.id());
 
@@ -596,29 +593,50 @@ public class LiveItemService {
         liveItem.changeAuctionStatus(AuctionStatus.IN_PROGRESS);
         liveItemRepository.saveAndFlush(liveItem); // 커밋 전 DB 반영 확인
 
+        // Redis 상태는 트랜잭션 안에서 먼저 쓰고(실패하면 DB 롤백), 롤백되면 지워서 DB와 맞춤
+        // 시작 알림은 커밋이 확정된 뒤에만 전송
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                liveItemWebSocketService.broadcastAuctionStart(
+                    liveItem.getAuctionRoom().getId(),
+                    liveItem.getId(),
+                    liveItem.getName(),
+                    liveItem.getInitPrice().intValue()
+                );
+                auctionRoomStatePushService.pushRefresh(liveItem.getAuctionRoom().getId(), "경매 시작");
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    liveBidRedisService.discardLiveItemInit(itemId);
+                }
+            }
+        });
+
         // 4. Redis 초기화
         try {
             initLiveItem(liveItem);
-
-            liveItemWebSocketService.broadcastAuctionStart(
-                liveItem.getAuctionRoom().getId(),
-                liveItem.getId(),
-                liveItem.getName(),
-                liveItem.getInitPrice().intValue()
-            );
         } catch (Exception e) {
             // Redis 실패 시 강제 예외 발생 -> DB 롤백 유도
             log.error("Redis 초기화 실패. Transaction Rollback. ItemId: {}", itemId, e);
             throw new BusinessException(ErrorCode.LIVEBID_INITIALIZATION_FAILED);
         }
+    }
 
+    /**
+     * 아이템별 경매방 id (시작/종료 디스패처가 방 단위 순서 보장에 사용)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findAuctionRoomIds(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) return Map.of();
 
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                auctionRoomStatePushService.pushRefresh(liveItem.getAuctionRoom().getId(), "경매 시작");
-            }
-        });
+        Map<Long, Long> out = new HashMap<>();
+        for (Object[] row : liveItemRepository.findAuctionRoomIdsByIds(itemIds)) {
+            out.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return out;
     }
 
     @Transactional
@@ -631,13 +649,11 @@ public class LiveItemService {
             return;
         }
 
-        String redisKey = "liveItem:" + itemId;
-
         // ending ZSET pop 레이스 방지, Redis endTime을 재검증해서 아직 시간이 남았으면 종료하지 않음
-        String endTimeStr = liveBidRedisService.getHashField(redisKey, "endTime");
+        String endTimeStr = liveBidRedisService.getLiveItemField(itemId, "endTime");
         if (endTimeStr != null && !endTimeStr.isBlank()) {
             long endTimeMs = Long.parseLong(endTimeStr);
-            long nowMs = liveBidRedisService.getRedisNowMs();
+            long nowMs = liveBidRedisService.getRedisNowLowerBoundMs();
 
             if (nowMs < endTimeMs) {
                 // 아직 종료 시각이 안 됐는데 스케줄러가 먼저 pop 해버린 케이스 → 다시 등록하고 종료하지 않음
@@ -646,8 +662,8 @@ public class LiveItemService {
             }
         }
 
-        String currentBidderIdStr = liveBidRedisService.getHashField(redisKey, "currentBidderId");
-        String maxBidPriceStr = liveBidRedisService.getHashField(redisKey, "maxBidPrice");
+        String currentBidderIdStr = liveBidRedisService.getLiveItemField(itemId, "currentBidderId");
+        String maxBidPriceStr = liveBidRedisService.getLiveItemField(itemId, "maxBidPrice");
 
         if (currentBidderIdStr == null || currentBidderIdStr.isEmpty()) { // 유찰
             liveItem.changeAuctionStatus(AuctionStatus.FAILED);
@@ -660,16 +676,13 @@ public class LiveItemService {
             Long currentBidderId = Long.parseLong(currentBidderIdStr);
             Long maxBidPrice = Long.parseLong(maxBidPriceStr);
 
+            // 최종 가격 확정 저장 (write-behind 대기값은 폐기)
+            liveItemPriceWriteBehind.discard(itemId);
             liveItem.setCurrentPrice(maxBidPrice);
 
             Long winnerDeposit = null;
             if (currentBidderIdStr != null && !currentBidderIdStr.isBlank()) {
-                String depositsKey = "liveItem:" + itemId + ":deposits";
-                Object depObj = redisTemplate.opsForHash().get(depositsKey, currentBidderIdStr);
-
-                if (depObj != null) {
-                    winnerDeposit = Long.parseLong(depObj.toString());
-                }
+                winnerDeposit = liveBidRedisService.getLiveItemDeposit(itemId, currentBidderIdStr);
             }
 
             User seller = userService.findById(liveItem.getSellerUserId());
@@ -744,8 +757,6 @@ public class LiveItemService {
      * @param liveItem 라이브 경매품 엔티티
      */
     public void initLiveItem(LiveItem liveItem) {
-        String redisKey = "liveItem:" + liveItem.getId();
-
         Map<String, String> initData = new HashMap<>();
 
         // 종료 시간 설정, luaScript에서 읽을 수 있도록 UNIX Timestamp로 변환
@@ -756,8 +767,12 @@ public class LiveItemService {
         initData.put("currentBidderId", "");
         initData.put("endTime", String.valueOf(endTime));
 
-        liveBidRedisService.setHash(redisKey, initData);
-        redisTemplate.expire(redisKey, Duration.ofMinutes(30));
+        // 입찰 검증용 스냅샷 (Lua에서 판매자 본인 입찰/경매 상태를 DB 조회 없이 검증)
+        initData.put("sellerId", String.valueOf(liveItem.getSellerUserId()));
+        initData.put("roomId", String.valueOf(liveItem.getAuctionRoom().getId()));
+        initData.put("status", liveItem.getAuctionStatus().name());
+
+        liveBidRedisService.initLiveItemHash(liveItem.getId(), initData, Duration.ofMinutes(30));
 
         liveBidRedisService.upsertEndingZset(liveItem.getId(), endTime);
     }
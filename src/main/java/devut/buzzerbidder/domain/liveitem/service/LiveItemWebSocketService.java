@@ -1,18 +1,18 @@
 package devut.buzzerbidder.domain.liveitem.service;
 
+import devut.buzzerbidder.domain.liveBid.service.AuctionRoomEventLog;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidWebSocketService;
 import devut.buzzerbidder.domain.liveitem.dto.response.AuctionEndMessage;
 import devut.buzzerbidder.domain.liveitem.dto.response.AuctionStartMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class LiveItemWebSocketService {
 
-    private final SimpMessagingTemplate messagingTemplate;
-
-    private static final String AUCTION_PREFIX = "/receive/auction/";
+    private final AuctionRoomEventLog auctionRoomEventLog;
+    private final LiveBidWebSocketService liveBidWebSocketService;
 
     /**
      * 경매 시작시, 연결된 모든 클라이언트에게 경매 시작 정보를 브로드캐스트.
@@ -24,13 +24,11 @@ public class LiveItemWebSocketService {
     public void broadcastAuctionStart(Long auctionRoomId, Long liveItemId,
         String itemName, Integer initPrice) {
 
-        AuctionStartMessage message = new AuctionStartMessage(
-            liveItemId, itemName, initPrice
-        );
-
-        String destination = AUCTION_PREFIX + auctionRoomId;
-
-        messagingTemplate.convertAndSend(destination, message);
+        // 시작/종료는 coalesce 없이 즉시 전송 (대기 중인 입찰 프레임을 먼저 내보냄)
+        liveBidWebSocketService.flushRoom(auctionRoomId);
+        auctionRoomEventLog.publish(auctionRoomId, (origin, seq) -> new AuctionStartMessage(
+            liveItemId, itemName, initPrice, origin, seq
+        ), null);
     }
 
     /**
@@ -46,12 +44,12 @@ public class LiveItemWebSocketService {
         String liveItemName, boolean success, Long winnerId, Integer finalPrice, String winnerNickname) {
         // 전송할 메시지 구조
         String result = success ? "SUCCESS" : "FAILED";
-        AuctionEndMessage message = new AuctionEndMessage(liveItemId, liveItemName, result, winnerId, finalPrice, winnerNickname);
-
-        String destination = AUCTION_PREFIX + auctionRoomId;
 
         // 구독자들에게 메시지 전송
-        messagingTemplate.convertAndSend(destination, message);
+        liveBidWebSocketService.flushRoom(auctionRoomId);
+        auctionRoomEventLog.publish(auctionRoomId, (origin, seq) -> new AuctionEndMessage(
+            liveItemId, liveItemName, result, winnerId, finalPrice, winnerNickname, origin, seq
+        ), null);
     }
 
 }
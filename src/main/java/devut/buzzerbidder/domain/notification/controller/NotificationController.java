@@ -1,6 +1,5 @@
 package devut.buzzerbidder.domain.notification.controller;
 
-import devut.buzzerbidder.domain.user.entity.User;
 import devut.buzzerbidder.domain.notification.dto.NotificationDto;
 import devut.buzzerbidder.domain.notification.dto.NotificationListResponse;
 import devut.buzzerbidder.domain.notification.service.NotificationService;
@@ -29,9 +28,9 @@ public class NotificationController {
     @GetMapping
     @Operation(summary = "알림 목록 조회", description = "현재 사용자의 모든 알림 목록을 조회합니다.")
     public ApiResponse<NotificationListResponse> getNotifications() {
-        User user = requestContext.getCurrentUser();
-        List<NotificationDto> notifications = notificationService.getNotifications(user.getId());
-        Long unreadCount = notificationService.getUnreadCount(user.getId());
+        Long userId = requestContext.getCurrentUserId();
+        List<NotificationDto> notifications = notificationService.getNotifications(userId);
+        Long unreadCount = notificationService.getUnreadCount(userId);
 
         return ApiResponse.ok(
             "알림 목록을 조회했습니다.",
@@ -42,9 +41,9 @@ public class NotificationController {
     @GetMapping("/unread")
     @Operation(summary = "읽지 않은 알림 조회", description = "현재 사용자의 읽지 않은 알림 목록을 조회합니다.")
     public ApiResponse<NotificationListResponse> getUnreadNotifications() {
-        User user = requestContext.getCurrentUser();
-        List<NotificationDto> notifications = notificationService.getUnreadNotifications(user.getId());
-        Long unreadCount = notificationService.getUnreadCount(user.getId());
+        Long userId = requestContext.getCurrentUserId();
+        List<NotificationDto> notifications = notificationService.getUnreadNotifications(userId);
+        Long unreadCount = notificationService.getUnreadCount(userId);
 
         return ApiResponse.ok(
             "읽지 않은 알림을 조회했습니다.",
@@ -55,8 +54,8 @@ public class NotificationController {
     @GetMapping("/unread/count")
     @Operation(summary = "읽지 않은 알림 개수 조회", description = "현재 사용자의 읽지 않은 알림 개수를 조회합니다.")
     public ApiResponse<Long> getUnreadCount() {
-        User user = requestContext.getCurrentUser();
-        Long count = notificationService.getUnreadCount(user.getId());
+        Long userId = requestContext.getCurrentUserId();
+        Long count = notificationService.getUnreadCount(userId);
 
         return ApiResponse.ok("읽지 않은 알림 개수를 조회했습니다.", count);
     }
@@ -64,8 +63,8 @@ public class NotificationController {
     @PatchMapping("/{id}/read")
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음 처리합니다.")
     public ApiResponse<Void> markAsRead(@PathVariable Long id) {
-        User user = requestContext.getCurrentUser();
-        notificationService.markAsRead(id, user.getId());
+        Long userId = requestContext.getCurrentUserId();
+        notificationService.markAsRead(id, userId);
 
         return ApiResponse.ok("알림을 읽음 처리했습니다.");
     }
@@ -73,8 +72,8 @@ public class NotificationController {
     @PatchMapping("/read-all")
     @Operation(summary = "모든 알림 읽음 처리", description = "현재 사용자의 읽지 않은 모든 알림을 읽음 처리합니다.")
     public ApiResponse<Void> markAllAsRead() {
-        User user = requestContext.getCurrentUser();
-        int updatedCount = notificationService.markAllAsRead(user.getId());
+        Long userId = requestContext.getCurrentUserId();
+        int updatedCount = notificationService.markAllAsRead(userId);
 
         return ApiResponse.ok(updatedCount + "개의 알림을 읽음 처리했습니다.");
     }
@@ -82,8 +81,8 @@ public class NotificationController {
     @DeleteMapping("/{id}")
     @Operation(summary = "알림 삭제", description = "특정 알림을 삭제합니다.")
     public ApiResponse<Void> deleteNotification(@PathVariable Long id) {
-        User user = requestContext.getCurrentUser();
-        notificationService.deleteNotification(id, user.getId());
+        Long userId = requestContext.getCurrentUserId();
+        notificationService.deleteNotification(id, userId);
 
         return ApiResponse.ok("알림을 삭제했습니다.");
     }
@@ -1,6 +1,5 @@
 package devut.buzzerbidder.domain.notification.controller;
 
-import devut.buzzerbidder.domain.user.entity.User;
 import devut.buzzerbidder.domain.notification.service.SseEmitterPool;
 import devut.buzzerbidder.global.requestcontext.RequestContext;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,7 +27,7 @@ public class NotificationSseController {
         produces = "text/event-stream")
     @Operation(summary = "알림 구독", description = "SSE를 통해 실시간 알림을 구독합니다.")
     public SseEmitter subscribe() {
-        User user = requestContext.getCurrentUser();
-        return emitterPool.subscribe("user:" + user.getId());
+        Long userId = requestContext.getCurrentUserId();
+        return emitterPool.subscribe("user:" + userId);
     }
 }
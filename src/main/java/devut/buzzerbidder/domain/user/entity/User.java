@@ -1,6 +1,7 @@
 package devut.buzzerbidder.domain.user.entity;
 
 import devut.buzzerbidder.global.jpa.entity.BaseEntity;
+import devut.buzzerbidder.global.security.UserPrincipalInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserPrincipalInvalidationListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
@@ -5,6 +5,7 @@ import devut.buzzerbidder.domain.user.repository.UserRepository;
 import devut.buzzerbidder.global.exeption.BusinessException;
 import devut.buzzerbidder.global.exeption.ErrorCode;
 import devut.buzzerbidder.global.security.JwtUtil;
+import devut.buzzerbidder.global.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ public class AuthTokenService {
 
     private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Value("${custom.jwt.secretPattern}")
     private String secretPattern;
@@ -51,6 +53,11 @@ public class AuthTokenService {
     }
 
     public Map<String, Object> payloadOrNull(String jwt) {
+        // 같은 토큰은 exp까지 서명 검증 결과를 재사용
+        return verifiedTokenCache.payloadOrNull(jwt, System.currentTimeMillis(), this::verify);
+    }
+
+    private VerifiedTokenCache.Verified verify(String jwt) {
         Map<String, Object> payload = JwtUtil.jwt.payloadOrNull(jwt, secretPattern);
 
         if (payload == null) {
@@ -62,7 +69,10 @@ public class AuthTokenService {
         String email = (String) payload.get("email");
         String nickname = (String) payload.get("nickname");
 
-        return Map.of("id", id, "email", email, "nickname", nickname);
+        return new VerifiedTokenCache.Verified(
+                Map.of("id", id, "email", email, "nickname", nickname),
+                JwtUtil.jwt.expiresAtMs(payload)
+        );
     }
 
     /**
@@ -8,6 +8,7 @@ import devut.buzzerbidder.domain.deal.entity.DelayedDeal;
 import devut.buzzerbidder.domain.deal.entity.LiveDeal;
 import devut.buzzerbidder.domain.deal.repository.DelayedDealRepository;
 import devut.buzzerbidder.domain.deal.repository.LiveDealRepository;
+import devut.buzzerbidder.domain.liveBid.dto.LiveItemSnapshots;
 import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
 import devut.buzzerbidder.domain.liveitem.entity.LiveItem;
 import devut.buzzerbidder.domain.liveitem.repository.LiveItemRepository;
@@ -305,6 +306,9 @@ public class UserService {
             }
         }
 
+        // 라이브 아이템 현재 입찰가는 파이프라인 1회로 조회
+        LiveItemSnapshots liveSnapshots = liveBidRedisService.getLiveItemSnapshots(liveItemMap.keySet());
+
         // 최종 결과 조립 (순서 유지)
         List<MyItemResponse> items = new ArrayList<>();
         for (Object[] row : results) {
@@ -314,12 +318,8 @@ public class UserService {
             if ("LIVE".equals(type)) {
                 LiveItem item = liveItemMap.get(id);
                 if (item != null) {
-                    // Redis에서 현재 입찰가 가져오기
-                    String redisKey = "liveItem:" + item.getId();
-                    String maxBidPriceStr = liveBidRedisService.getHashField(redisKey, "maxBidPrice");
-                    Long currentPrice = (maxBidPriceStr != null)
-                        ? Long.parseLong(maxBidPriceStr)
-                        : item.getInitPrice(); // Redis에 없으면 초기 가격 사용
+                    // Redis에서 현재 입찰가 가져오기 (Redis에 없으면 초기 가격 사용)
+                    Long currentPrice = liveSnapshots.maxBidPrice(item.getId(), item.getInitPrice());
                     
                     // 찜 여부 확인
                     Boolean wish = isLikedItems || likedLiveItemIds.contains(id);
@@ -0,0 +1,19 @@
+package devut.buzzerbidder.domain.wallet.dto;
+
+import devut.buzzerbidder.domain.wallet.enums.WalletTransactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * auction:bizz:events 스트림 이벤트에서 뽑아낸 지갑 히스토리 한 건
+ * sourceEventId = "{streamId}:{userId}" (TRANSFER 이벤트는 송금/수신 두 건으로 나뉨)
+ */
+public record WalletHistoryEvent(
+        String sourceEventId,
+        Long userId,
+        Long amount,
+        WalletTransactionType type,
+        Long balanceBefore,
+        Long balanceAfter,
+        LocalDateTime occurredAt
+) {}
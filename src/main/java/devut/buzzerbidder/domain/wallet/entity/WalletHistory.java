@@ -29,4 +29,8 @@ public class WalletHistory extends BaseEntity {
 
     @Column(nullable = false)
     private Long bizzBalanceAfter;
+
+    // auction:bizz:events 스트림에서 투영된 경우 "{streamId}:{userId}" (중복 투영 방지용)
+    @Column(unique = true, length = 64)
+    private String sourceEventId;
 }
@@ -27,4 +27,13 @@ public enum WalletTransactionType {
     DEAL_SETTLEMENT(true);
 
     private final boolean isIncrease;
+
+    // 송금 유형에 대응하는 수신 유형 (송금 유형이 아니면 null)
+    public WalletTransactionType transferReceiveType() {
+        return switch (this) {
+            case PAY_SETTLEMENT -> RECEIVE_SETTLEMENT;
+            case PAY_TO_USER -> RECEIVE_FROM_USER;
+            default -> null;
+        };
+    }
 }
\ No newline at end of file
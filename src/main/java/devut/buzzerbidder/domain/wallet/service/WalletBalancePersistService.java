@@ -0,0 +1,71 @@
+package devut.buzzerbidder.domain.wallet.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis에서 꺼낸 최종 잔액을 DB에 한 번에 반영하는 서비스
+ * 별도 Bean으로 분리하여 @Transactional, @Retryable 프록시가 정상 동작하도록 함
+ *
+ * 유저마다 비관적 락 조회 + dirty checking 하던 것을 UPDATE 배치 1회로 처리
+ * (최종 잔액을 그대로 덮어쓰는 것이라 재시도해도 결과가 같음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WalletBalancePersistService {
+
+    private static final String UPDATE_SQL = """
+            UPDATE wallet
+               SET bizz = ?, modify_date = ?
+             WHERE user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예외 발생 시: 1초 대기 후 재시도, 최대 3회 시도
+     *
+     * @param balances userId -> 최종 잔액
+     * @return 갱신된 지갑 수
+     */
+    @Retryable(
+            retryFor = Exception.class,
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 1000)
+    )
+    @Transactional
+    public int saveAll(Map<Long, Long> balances) {
+        if (balances.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(balances.size());
+        balances.forEach((userId, bizz) -> batchArgs.add(new Object[]{bizz, now, userId}));
+
+        int[] results = jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+
+        int updated = 0;
+        int i = 0;
+        for (Long userId : balances.keySet()) {
+            int r = results[i++];
+            if (r == 0) {
+                log.warn("잔액 반영 대상 지갑이 없습니다. userId={}, bizz={}", userId, balances.get(userId));
+            } else {
+                // 드라이버에 따라 SUCCESS_NO_INFO(-2)일 수 있음
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,143 @@
+package devut.buzzerbidder.domain.wallet.service;
+
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisLuaScript;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지갑 이벤트 스트림(auction:bizz:events) 정리
+ *
+ * XADD에 MAXLEN을 두면 컨슈머 장애/입찰 폭주 때 아직 투영되지 않은 이벤트까지 잘려 히스토리가 유실됨
+ * → XADD는 길이 제한 없이 쌓고, 주기적으로 "모든 그룹이 이미 처리한 구간"만 XTRIM MINID로 잘라냄
+ *
+ * - 그룹별 하한: pending이 있으면 가장 오래된 pending ID, 없으면 last-delivered-id
+ * - 모든 그룹 하한 중 가장 작은 ID 이전만 삭제 (PEL에 남은 레코드는 XCLAIM으로 다시 읽을 수 있어야 함)
+ * - 그룹이 하나도 없으면 아직 읽는 쪽이 없으므로 자르지 않음
+ * - 정리 후에도 길이가 warn-length를 넘으면 경고 (컨슈머 지연/장애 신호, buzzerbidder.stream.length 게이지로도 노출)
+ *
+ * 메트릭: buzzerbidder.stream.trimmed{stream}, buzzerbidder.stream.length{stream}
+ */
+@Slf4j
+@Component
+public class WalletEventStreamTrimmer {
+
+    /**
+     * KEYS[1]: 스트림
+     * 반환: {삭제 개수, 정리 후 길이}
+     */
+    private static final String LUA_TRIM_BEHIND_GROUPS = """
+        local stream = KEYS[1]
+        if redis.call('EXISTS', stream) == 0 then
+          return {0, 0}
+        end
+
+        local groups = redis.call('XINFO', 'GROUPS', stream)
+        if #groups == 0 then
+          return {0, redis.call('XLEN', stream)}
+        end
+
+        -- a < b (스트림 ID 비교)
+        local function lessThan(a, b)
+          local am, as = string.match(a, '(%d+)-(%d+)')
+          local bm, bs = string.match(b, '(%d+)-(%d+)')
+          am, as, bm, bs = tonumber(am), tonumber(as), tonumber(bm), tonumber(bs)
+          return am < bm or (am == bm and as < bs)
+        end
+
+        local floor = nil
+        for _, g in ipairs(groups) do
+          local name, lastDelivered, pending
+          for i = 1, #g, 2 do
+            if g[i] == 'name' then name = g[i + 1]
+            elseif g[i] == 'last-delivered-id' then lastDelivered = g[i + 1]
+            elseif g[i] == 'pending' then pending = tonumber(g[i + 1]) end
+          end
+
+          local groupFloor = lastDelivered
+          if pending and pending > 0 then
+            local summary = redis.call('XPENDING', stream, name)
+            if summary[2] then groupFloor = summary[2] end
+          end
+
+          if floor == nil or lessThan(groupFloor, floor) then
+            floor = groupFloor
+          end
+        end
+
+        local trimmed = 0
+        if floor ~= '0-0' then
+          trimmed = redis.call('XTRIM', stream, 'MINID', '~', floor)
+        end
+        return {trimmed, redis.call('XLEN', stream)}
+        """;
+
+    private static final RedisLuaScript<List<Long>> TRIM_BEHIND_GROUPS_SCRIPT =
+            RedisLuaScript.ofList("wallet.events_trim_behind_groups", LUA_TRIM_BEHIND_GROUPS);
+
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final List<String> streamKeys;
+    private final boolean enabled;
+    private final long warnLength;
+
+    private final Counter trimmed;
+    private final AtomicLong length = new AtomicLong();
+
+    public WalletEventStreamTrimmer(
+            RedisScriptRegistry redisScriptRegistry,
+            AuctionRedisKeys auctionRedisKeys,
+            MeterRegistry meterRegistry,
+            @Value("${wallet.event-stream.trim.enabled:true}") boolean enabled,
+            @Value("${wallet.event-stream.trim.warn-length:500000}") long warnLength
+    ) {
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.streamKeys = auctionRedisKeys.walletEventStreamKeys();
+        this.enabled = enabled;
+        this.warnLength = warnLength;
+
+        this.trimmed = meterRegistry.counter("buzzerbidder.stream.trimmed", "stream", "wallet-events");
+        Gauge.builder("buzzerbidder.stream.length", length, AtomicLong::get)
+                .tag("stream", "wallet-events")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register(TRIM_BEHIND_GROUPS_SCRIPT);
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.event-stream.trim.interval-ms:60000}")
+    public void trim() {
+        if (!enabled) return;
+
+        long total = 0L;
+        for (String streamKey : streamKeys) {
+            try {
+                // result: [삭제 개수, 정리 후 길이]
+                List<Long> result = redisScriptRegistry.execute(TRIM_BEHIND_GROUPS_SCRIPT, List.of(streamKey));
+                if (result == null || result.size() != 2) continue;
+
+                trimmed.increment(result.get(0));
+                total += result.get(1);
+                if (result.get(1) > warnLength) {
+                    log.warn("지갑 이벤트 스트림이 처리되지 않고 쌓이는 중. 컨슈머 상태 확인 필요: stream={}, length={}",
+                            streamKey, result.get(1));
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도 (정리가 늦어질 뿐 이벤트는 유실되지 않음)
+                log.warn("지갑 이벤트 스트림 정리 실패: stream={}, error={}", streamKey, e.getMessage());
+            }
+        }
+        length.set(total);
+    }
+}
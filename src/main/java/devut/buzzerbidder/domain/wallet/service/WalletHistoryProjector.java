@@ -0,0 +1,148 @@
+package devut.buzzerbidder.domain.wallet.service;
+
+import devut.buzzerbidder.domain.wallet.dto.WalletHistoryEvent;
+import devut.buzzerbidder.domain.wallet.enums.WalletTransactionType;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisStreamBatchConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * auction:bizz:events 스트림 -> WalletHistory 투영
+ *
+ * Redis가 잔액의 진실인 동안(경매 세션 중) 발생한 변경은 요청 스레드에서 히스토리를 쓰지 않고,
+ * Lua 스크립트가 남긴 CHANGE/TRANSFER 이벤트를 배치로 읽어 일괄 저장함
+ *
+ * - CHANGE: reason이 WalletTransactionType 이름인 이벤트만 투영 (보상/내부 이동 reason은 제외)
+ * - TRANSFER: reason(송금 유형) 기준으로 송금/수신 두 건 투영
+ * - INIT, FLUSH_CLEAR: 잔액 변동이 아니므로 무시
+ * - BID_CANCEL(CHANGE): 분할 입찰에서 보증금 홀드 후 입찰이 거절된 경우. 홀드(BID) 히스토리는 그대로 두고
+ *   반대 방향의 BID_REFUND 히스토리를 한 건 더 남김 (append-only, 컨슈머가 여러 개라 홀드/취소 처리 순서가 바뀌어도 결과가 같음)
+ *
+ * 소비 스트림은 AuctionRedisKeys 키 스키마를 따름 (SHARDED면 버킷별 스트림 전부)
+ */
+@Service
+@Slf4j
+public class WalletHistoryProjector extends RedisStreamBatchConsumer {
+
+    private static final String BID_CANCEL_REASON = "BID_CANCEL";
+    private static final String WALLET_HISTORY_GROUP = "wallet-history-group";
+    private static final String WALLET_HISTORY_DEAD_LETTER_KEY = "auction:bizz:events:dlq";
+
+    private final WalletHistoryService walletHistoryService;
+
+    public WalletHistoryProjector(
+            WalletHistoryService walletHistoryService,
+            AuctionRedisKeys auctionRedisKeys,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${wallet.history-projector.consumer-name:}") String consumerName,
+            @Value("${wallet.history-projector.batch-size:200}") int batchSize,
+            @Value("${wallet.history-projector.block-ms:1000}") long blockMs,
+            @Value("${wallet.history-projector.claim-min-idle-ms:60000}") long claimMinIdleMs
+    ) {
+        super(redisTemplate, meterRegistry, new Settings(
+                auctionRedisKeys.walletEventStreamKeys(),
+                WALLET_HISTORY_GROUP,
+                consumerName,
+                batchSize,
+                Duration.ofMillis(blockMs),
+                Duration.ofMillis(claimMinIdleMs),
+                WALLET_HISTORY_DEAD_LETTER_KEY
+        ));
+        this.walletHistoryService = walletHistoryService;
+    }
+
+    @Override
+    protected void handleBatch(List<MapRecord<String, String, String>> records) {
+        List<WalletHistoryEvent> events = new ArrayList<>(records.size() * 2);
+        for (MapRecord<String, String, String> record : records) {
+            toHistoryEvents(record, events);
+        }
+
+        int inserted = walletHistoryService.saveProjectedHistories(events);
+        log.debug("지갑 히스토리 투영 완료: records={}, histories={}, inserted={}",
+                records.size(), events.size(), inserted);
+    }
+
+    /**
+     * 스트림 레코드 한 건을 0~2건의 히스토리로 변환
+     */
+    static void toHistoryEvents(MapRecord<String, String, String> record, List<WalletHistoryEvent> out) {
+        Map<String, String> data = record.getValue();
+        String streamId = record.getId().getValue();
+        LocalDateTime occurredAt = Instant.ofEpochMilli(record.getId().getTimestamp())
+                .atZone(ZoneId.systemDefault())
+                .toLocalDateTime();
+
+        String event = data.get("event");
+        if ("CHANGE".equals(event)) {
+            // 보증금 홀드 취소는 홀드(BID)를 되돌리는 환불 히스토리로 기록
+            WalletTransactionType type = BID_CANCEL_REASON.equals(data.get("reason"))
+                    ? WalletTransactionType.BID_REFUND
+                    : parseType(data.get("reason"));
+            if (type == null) return;
+
+            Long userId = Long.parseLong(data.get("userId"));
+            out.add(new WalletHistoryEvent(
+                    streamId + ":" + userId,
+                    userId,
+                    Long.parseLong(data.get("amount")),
+                    type,
+                    Long.parseLong(data.get("before")),
+                    Long.parseLong(data.get("after")),
+                    occurredAt
+            ));
+            return;
+        }
+
+        if ("TRANSFER".equals(event)) {
+            WalletTransactionType sendType = parseType(data.get("reason"));
+            if (sendType == null || sendType.transferReceiveType() == null) return;
+
+            Long fromUserId = Long.parseLong(data.get("fromUserId"));
+            Long toUserId = Long.parseLong(data.get("toUserId"));
+            Long amount = Long.parseLong(data.get("amount"));
+
+            out.add(new WalletHistoryEvent(
+                    streamId + ":" + fromUserId,
+                    fromUserId,
+                    amount,
+                    sendType,
+                    Long.parseLong(data.get("fromBefore")),
+                    Long.parseLong(data.get("fromAfter")),
+                    occurredAt
+            ));
+            out.add(new WalletHistoryEvent(
+                    streamId + ":" + toUserId,
+                    toUserId,
+                    amount,
+                    sendType.transferReceiveType(),
+                    Long.parseLong(data.get("toBefore")),
+                    Long.parseLong(data.get("toAfter")),
+                    occurredAt
+            ));
+        }
+    }
+
+    private static WalletTransactionType parseType(String reason) {
+        if (reason == null || reason.isBlank()) return null;
+        try {
+            return WalletTransactionType.valueOf(reason);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
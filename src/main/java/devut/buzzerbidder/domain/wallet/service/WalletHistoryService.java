@@ -1,6 +1,7 @@
 package devut.buzzerbidder.domain.wallet.service;
 
 import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.domain.wallet.dto.WalletHistoryEvent;
 import devut.buzzerbidder.domain.wallet.entity.WalletHistory;
 import devut.buzzerbidder.domain.wallet.enums.WalletTransactionType;
 import devut.buzzerbidder.domain.wallet.repository.WalletHistoryRepository;
@@ -11,14 +12,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class WalletHistoryService {
 
+    private static final String INSERT_PROJECTED_SQL = """
+            INSERT INTO wallet_history
+                (source_event_id, user_id, amount, type, bizz_balance_before, bizz_balance_after, create_date, modify_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE source_event_id = source_event_id
+            """;
+
     private final WalletHistoryRepository walletHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     // 로그 확인
     @Transactional(readOnly = true)
@@ -43,4 +59,43 @@ public class WalletHistoryService {
         walletHistoryRepository.save(walletHistory);
     }
 
+    /**
+     * 스트림에서 투영된 히스토리 일괄 저장 (JDBC batch, 단일 트랜잭션)
+     * source_event_id 유니크 키로 재전달/재처리 시 중복 insert 무시
+     * createDate는 이벤트 발생 시각(스트림 ID 시각)을 사용해 목록 정렬 순서를 유지
+     *
+     * @return 새로 저장된 행 수
+     */
+    @Retryable(
+            retryFor = Exception.class,
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 1000)
+    )
+    @Transactional
+    public int saveProjectedHistories(List<WalletHistoryEvent> events) {
+        if (events.isEmpty()) return 0;
+
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (WalletHistoryEvent e : events) {
+            Timestamp occurredAt = Timestamp.valueOf(e.occurredAt());
+            batchArgs.add(new Object[]{
+                    e.sourceEventId(),
+                    e.userId(),
+                    e.amount(),
+                    e.type().name(),
+                    e.balanceBefore(),
+                    e.balanceAfter(),
+                    occurredAt,
+                    occurredAt
+            });
+        }
+
+        int[] results = jdbcTemplate.batchUpdate(INSERT_PROJECTED_SQL, batchArgs);
+
+        int inserted = 0;
+        for (int r : results) {
+            if (r != 0) inserted++;
+        }
+        return inserted;
+    }
 }
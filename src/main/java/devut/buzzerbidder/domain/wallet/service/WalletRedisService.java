@@ -1,19 +1,28 @@
 package devut.buzzerbidder.domain.wallet.service;
 
 import devut.buzzerbidder.domain.wallet.entity.Wallet;
+import devut.buzzerbidder.domain.wallet.enums.WalletTransactionType;
 import devut.buzzerbidder.domain.wallet.repository.WalletRepository;
 import devut.buzzerbidder.global.exeption.BusinessException;
 import devut.buzzerbidder.global.exeption.ErrorCode;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisLuaScript;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
 import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -23,16 +32,14 @@ public class WalletRedisService {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final WalletRepository walletRepository;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final WalletHistoryService walletHistoryService;
 
     /* ==================== Redis Key 규칙 ==================== */
 
-    // 경매 진행 중 잔액은 auction 네임스페이스로 통일
-    private static final String SESSION_KEY_PREFIX = "auction:session:";  // value = roomId
-    private static final String BAL_KEY_PREFIX = "auction:bizz:";         // value = balance
-    private static final String VER_KEY_PREFIX = "auction:bizzver:";      // value = version(sequence)
-
-    // 잔액 변경/flush 이벤트를 쌓는 Redis Stream
-    private static final String EVENT_STREAM = "auction:bizz:events";
+    // 세션(value=roomId)/잔액/버전 키와 잔액 변경 이벤트 스트림은 AuctionRedisKeys가 관리
+    // (SHARDED 모드에서는 한 유저의 키와 그 유저가 속한 버킷의 이벤트 스트림이 같은 해시태그)
+    private final AuctionRedisKeys auctionRedisKeys;
 
     // SESSION_TTL은 heartbeat(주기적으로 연결이 살아있는지 확인하는 신호) 또는 잔액 변경 때마다 연장
     private static final Duration SESSION_TTL = Duration.ofSeconds(35);
@@ -44,23 +51,49 @@ public class WalletRedisService {
     // Lua에서 '잔액 부족'을 표현하기 위한 값
     private static final long INSUFFICIENT = -1L;
 
-    // 이벤트 스트림의 최대 기록 개수
-    private static final Long STREAM_MAXLEN = 100_000L;
+    // 이벤트 스트림은 XADD 시 길이 제한을 두지 않음
+    // (읽지 않은 이벤트가 잘리지 않도록 WalletEventStreamTrimmer가 가장 느린 그룹 뒤쪽만 정리)
 
 
     /* ==================== Script 정의 ==================== */
 
     // 1) 세션 획득 + (balance/version 초기화) + stream 로그
-    private final DefaultRedisScript<Long> acquireAndInitScript = buildAcquireAndInitScript();
+    private static final RedisLuaScript<Long> ACQUIRE_AND_INIT_SCRIPT = buildAcquireAndInitScript();
 
     // 2) balance 키가 존재하면 원자적으로 증감 + version 증가 + TTL 연장 + stream 로그
-    private final DefaultRedisScript<List<Long>> changeIfPresentScript = buildChangeIfPresentScript();
+    private static final RedisLuaScript<List<Long>> CHANGE_IF_PRESENT_SCRIPT = buildChangeIfPresentScript();
 
     // 3) transfer: 두 유저 balance가 존재할 때만 원자 송금 + version 증가 + TTL 연장 + stream 로그
-    private final DefaultRedisScript<List<Long>> transferIfPresentScript = buildTransferIfPresentScript();
+    private static final RedisLuaScript<List<Long>> TRANSFER_IF_PRESENT_SCRIPT = buildTransferIfPresentScript();
 
     // 4) flush: 최종 잔액/버전/roomId를 얻고 키 삭제 + stream 로그
-    private final DefaultRedisScript<List<String>> flushAndClearScript = buildFlushAndClearScript();
+    private static final RedisLuaScript<List<String>> FLUSH_AND_CLEAR_SCRIPT = buildFlushAndClearScript();
+
+    // 5) 입찰 보증금 홀드: 세션/잔액 검증 후 차감 + BID 이벤트 (분할 입찰 1단계)
+    private static final RedisLuaScript<List<Object>> BID_HOLD_SCRIPT = buildBidHoldScript();
+
+    // 6) 세션 없이도 잔액 키가 있으면 입금 + 이벤트 (홀드 취소, 이전 입찰자 보증금 반환)
+    private static final RedisLuaScript<List<Long>> CREDIT_IF_PRESENT_SCRIPT = buildCreditIfPresentScript();
+
+    // 7) 만료 후보 세션: 살아있으면 남은 TTL만, 만료됐으면 4)와 같은 flush (만료 스케줄러 배치용)
+    private static final RedisLuaScript<List<String>> FLUSH_IF_EXPIRED_SCRIPT = buildFlushIfExpiredScript();
+
+    // 8) DB 반영이 끝난 잔액을 flush 대기 해시에서 제거 (그 사이 다시 flush돼 잔액이 바뀌었으면 유지)
+    private static final RedisLuaScript<Long> FLUSH_ACK_SCRIPT = buildFlushAckScript();
+
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register(
+                ACQUIRE_AND_INIT_SCRIPT,
+                CHANGE_IF_PRESENT_SCRIPT,
+                TRANSFER_IF_PRESENT_SCRIPT,
+                FLUSH_AND_CLEAR_SCRIPT,
+                BID_HOLD_SCRIPT,
+                CREDIT_IF_PRESENT_SCRIPT,
+                FLUSH_IF_EXPIRED_SCRIPT,
+                FLUSH_ACK_SCRIPT
+        );
+    }
 
     /* ==================== 결과 DTO ==================== */
 
@@ -100,10 +133,36 @@ public class WalletRedisService {
             Long version
     ) {}
 
+    /**
+     * 만료 후보 세션 일괄 처리 결과
+     * flushedBalances: Redis에서 꺼낸 최종 잔액 (userId -> bizz), DB에 반영해야 함
+     * aliveTtlMs: 아직 살아있는 세션의 남은 TTL (userId -> ms), 다시 스케줄해야 함
+     * missed: 세션/잔액 키가 이미 없던 건수
+     * failedUserIds: 스크립트 호출이 실패한 유저 (키가 그대로 남아있으므로 다시 스케줄해야 함)
+     */
+    public record SessionExpiryBatch(
+            Map<Long, Long> flushedBalances,
+            Map<Long, Long> aliveTtlMs,
+            int missed,
+            List<Long> failedUserIds
+    ) {}
+
+    /**
+     * 입찰 보증금 홀드 결과
+     * code: 1 성공, -2 잔액 부족, -3 세션/잔액 없음 (입찰 스크립트 코드와 동일)
+     * eventId: 성공 시 BID 이벤트의 스트림 ID (홀드 취소 시 히스토리 상쇄용)
+     */
+    public record BidDepositHold(
+            long code,
+            Long before,
+            Long after,
+            String eventId
+    ) {}
+
     /* ==================== public ==================== */
 
     public Long getBizzBalance(Long userId) {
-        String key = "auction:bizz:" + userId;
+        String key = auctionRedisKeys.wallet(userId).balanceKey();
         String redisBizzStr = stringRedisTemplate.opsForValue().get(key);
 
         if(redisBizzStr != null && !redisBizzStr.isBlank()) {
@@ -130,21 +189,17 @@ public class WalletRedisService {
             histogram = true
     )
     public boolean tryAcquireSessionAndInitBalance(Long userId, Long roomId, Long balanceFromDb, String traceId) {
-        String sKey = SESSION_KEY_PREFIX + userId;
-        String bKey = BAL_KEY_PREFIX + userId;
-        String vKey = VER_KEY_PREFIX + userId;
+        AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
 
         // result: 성공 시 1, 실패 시 0
-        Long result = Objects.requireNonNull(stringRedisTemplate.execute(
-                        acquireAndInitScript,
-                        List.of(sKey, bKey, vKey),
+        Long result = Objects.requireNonNull(redisScriptRegistry.execute(
+                        ACQUIRE_AND_INIT_SCRIPT,
+                        List.of(keys.sessionKey(), keys.balanceKey(), keys.versionKey(), keys.eventStreamKey()),
                         userId.toString(),
                         roomId.toString(),
                         balanceFromDb.toString(),
                         String.valueOf(SESSION_TTL.getSeconds()),
                         String.valueOf(BALANCE_TTL.getSeconds()),
-                        EVENT_STREAM,
-                        STREAM_MAXLEN.toString(),
                         traceId == null ? "" : traceId
                 ),
                 "Redis script가 null을 반환했습니다."
@@ -171,23 +226,19 @@ public class WalletRedisService {
             String reason,
             String traceId
     ) {
-        String sKey = SESSION_KEY_PREFIX + userId;
-        String bKey = BAL_KEY_PREFIX + userId;
-        String vKey = VER_KEY_PREFIX + userId;
+        AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
 
         // result: [before, after, version]
         List<Long> result = executeLongList(
-                changeIfPresentScript,
-                List.of(bKey, vKey, sKey),
+                CHANGE_IF_PRESENT_SCRIPT,
+                List.of(keys.balanceKey(), keys.versionKey(), keys.sessionKey(), keys.eventStreamKey()),
                 userId.toString(),
                 amount.toString(),
                 isIncrease ? "1" : "0",
                 reason == null ? "" : reason,
                 traceId == null ? "" : traceId,
                 String.valueOf(SESSION_TTL.getSeconds()),
-                String.valueOf(BALANCE_TTL.getSeconds()),
-                EVENT_STREAM,
-                STREAM_MAXLEN.toString()
+                String.valueOf(BALANCE_TTL.getSeconds())
         );
         if (result.size() != 3) {
             log.error("Redis change 스크립트 반환 형식이 예상과 다릅니다. userId={}, result={}", userId, result);
@@ -237,27 +288,29 @@ public class WalletRedisService {
             throw new BusinessException(ErrorCode.INVALID_WALLET_AMOUNT);
         }
 
-        String fromSKey = SESSION_KEY_PREFIX + fromUserId;
-        String fromBKey = BAL_KEY_PREFIX + fromUserId;
-        String fromVKey = VER_KEY_PREFIX + fromUserId;
+        AuctionRedisKeys.WalletKeys from = auctionRedisKeys.wallet(fromUserId);
+        AuctionRedisKeys.WalletKeys to = auctionRedisKeys.wallet(toUserId);
 
-        String toSKey = SESSION_KEY_PREFIX + toUserId;
-        String toBKey = BAL_KEY_PREFIX + toUserId;
-        String toVKey = VER_KEY_PREFIX + toUserId;
+        // 두 유저가 다른 슬롯이면 스크립트 하나로 묶을 수 없으므로 출금/입금을 나눠서 처리
+        if (auctionRedisKeys.isCrossSlot(from, to)) {
+            return transferAcrossSlots(fromUserId, toUserId, amount, reason, traceId);
+        }
 
         // result: [fromBefore, fromAfter, fromVer, toBefore, toAfter, toVer]
         List<Long> result = executeLongList(
-                transferIfPresentScript,
-                List.of(fromBKey, fromVKey, fromSKey, toBKey, toVKey, toSKey),
+                TRANSFER_IF_PRESENT_SCRIPT,
+                List.of(
+                        from.balanceKey(), from.versionKey(), from.sessionKey(),
+                        to.balanceKey(), to.versionKey(), to.sessionKey(),
+                        from.eventStreamKey()
+                ),
                 fromUserId.toString(),
                 toUserId.toString(),
                 amount.toString(),
                 reason == null ? "" : reason,
                 traceId == null ? "" : traceId,
                 String.valueOf(SESSION_TTL.getSeconds()),
-                String.valueOf(BALANCE_TTL.getSeconds()),
-                EVENT_STREAM,
-                STREAM_MAXLEN.toString()
+                String.valueOf(BALANCE_TTL.getSeconds())
         );
 
         if (result.size() != 6) {
@@ -286,6 +339,136 @@ public class WalletRedisService {
         return new RedisTransferResult(true, fromBefore, fromAfter, fromVer, toBefore, toAfter, toVer);
     }
 
+    /**
+     * SHARDED 모드에서 슬롯이 다른 두 유저 간 송금
+     * 출금(reason=송금 유형) -> 입금(reason=수신 유형) 순서로 처리하고,
+     * 입금이 MISS/실패면 출금액을 REFUND로 되돌린 뒤 hit=false 반환
+     * (호출자 DB 트랜잭션 안에서 실행, 되돌릴 잔액 키가 이미 사라졌으면 DB 지갑에 입금)
+     */
+    private RedisTransferResult transferAcrossSlots(Long fromUserId, Long toUserId, Long amount, String reason, String traceId) {
+        RedisBizzChangeResult out = changeBizzIfPresent(fromUserId, amount, false, reason, traceId);
+        if (!out.hit()) {
+            return new RedisTransferResult(false, null, null, null, null, null, null);
+        }
+
+        RedisBizzChangeResult in;
+        try {
+            in = changeBizzIfPresent(toUserId, amount, true, receiveReasonOf(reason), traceId);
+        } catch (RuntimeException e) {
+            log.error("슬롯 간 송금 입금 실패. from={}, to={}, amount={}", fromUserId, toUserId, amount, e);
+            in = null;
+        }
+
+        if (in == null || !in.hit()) {
+            refundTransferOut(fromUserId, amount, traceId);
+            return new RedisTransferResult(false, null, null, null, null, null, null);
+        }
+
+        return new RedisTransferResult(true, out.before(), out.after(), out.version(), in.before(), in.after(), in.version());
+    }
+
+    /**
+     * 슬롯 간 송금 출금 되돌리기
+     * - 세션이 끊겨도 잔액 키가 남아있으면 Redis에 입금 (REFUND 이벤트 -> 히스토리 투영)
+     * - 잔액 키까지 없으면 이미 DB로 flush된 상태이므로 DB 지갑에 입금하고 히스토리 직접 기록
+     */
+    private void refundTransferOut(Long fromUserId, Long amount, String traceId) {
+        boolean refunded;
+        try {
+            refunded = creditIfPresent(fromUserId, amount, BALANCE_TTL.getSeconds(),
+                    WalletTransactionType.REFUND.name(), traceId, "");
+        } catch (RuntimeException e) {
+            log.error("슬롯 간 송금 출금 환불(Redis) 실패. DB로 환불합니다. from={}, amount={}", fromUserId, amount, e);
+            refunded = false;
+        }
+        if (refunded) return;
+
+        log.warn("슬롯 간 송금 환불 대상 잔액 키 없음. DB 지갑에 환불: from={}, amount={}", fromUserId, amount);
+        Wallet wallet = findByUserIdWithLockOrThrow(fromUserId);
+        Long before = wallet.getBizz();
+        wallet.increaseBizz(amount);
+        walletHistoryService.recordWalletHistory(wallet.getUser(), amount, WalletTransactionType.REFUND, before, wallet.getBizz());
+    }
+
+    private String receiveReasonOf(String sendReason) {
+        try {
+            WalletTransactionType receiveType = WalletTransactionType.valueOf(sendReason).transferReceiveType();
+            return receiveType != null ? receiveType.name() : sendReason;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return sendReason;
+        }
+    }
+
+    /**
+     * 입찰 보증금 홀드 (분할 입찰 1단계)
+     * - 세션/버전/잔액 키가 모두 있어야 하고, 잔액이 deposit 이상이면 차감 + BID 이벤트 기록
+     */
+    @Timed(
+            value = "buzzerbidder.redis.wallet",
+            extraTags = {"op", "bid_hold"},
+            histogram = true
+    )
+    public BidDepositHold holdBidDeposit(Long userId, Long deposit, Long sessionTtlSeconds, Long balanceTtlSeconds, String traceId) {
+        AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
+
+        // result: {code} | {-2, bal, bal} | {1, before, after, eventId}
+        List<Object> result = Objects.requireNonNull(redisScriptRegistry.execute(
+                        BID_HOLD_SCRIPT,
+                        List.of(keys.sessionKey(), keys.balanceKey(), keys.versionKey(), keys.eventStreamKey()),
+                        userId.toString(),
+                        deposit.toString(),
+                        sessionTtlSeconds.toString(),
+                        balanceTtlSeconds.toString(),
+                        traceId == null ? "" : traceId
+                ),
+                "Redis script가 null을 반환했습니다."
+        );
+
+        long code = Long.parseLong(String.valueOf(result.get(0)));
+        Long before = result.size() >= 3 ? Long.parseLong(String.valueOf(result.get(1))) : null;
+        Long after = result.size() >= 3 ? Long.parseLong(String.valueOf(result.get(2))) : null;
+        String eventId = result.size() >= 4 ? String.valueOf(result.get(3)) : null;
+
+        return new BidDepositHold(code, before, after, eventId);
+    }
+
+    /**
+     * 보증금 홀드 취소 (아이템 단계에서 입찰이 거절된 경우)
+     * BID_CANCEL 이벤트(cancels=홀드 이벤트 ID)는 WalletHistoryProjector가 BID_REFUND 히스토리로 기록
+     */
+    public boolean cancelBidDeposit(Long userId, Long deposit, String holdEventId, String traceId) {
+        boolean credited = creditIfPresent(userId, deposit, BALANCE_TTL.getSeconds(), "BID_CANCEL", traceId, holdEventId);
+        if (!credited) {
+            log.error("입찰 보증금 홀드 취소 실패(잔액 키 없음). userId={}, deposit={}, holdEventId={}",
+                    userId, deposit, holdEventId);
+        }
+        return credited;
+    }
+
+    /**
+     * 이전 최고입찰자 보증금 반환 (세션이 없어도 잔액 키가 남아있으면 반환)
+     */
+    public boolean returnBidDeposit(Long userId, Long deposit, Long balanceTtlSeconds, String traceId) {
+        return creditIfPresent(userId, deposit, balanceTtlSeconds, "BID_DEPOSIT_RETURN", traceId, "");
+    }
+
+    private boolean creditIfPresent(Long userId, Long amount, long balanceTtlSeconds, String reason, String traceId, String cancels) {
+        AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
+
+        // result: {0} | {1, before, after}
+        List<Long> result = executeLongList(
+                CREDIT_IF_PRESENT_SCRIPT,
+                List.of(keys.balanceKey(), keys.versionKey(), keys.eventStreamKey()),
+                userId.toString(),
+                amount.toString(),
+                String.valueOf(balanceTtlSeconds),
+                reason,
+                traceId == null ? "" : traceId,
+                cancels == null ? "" : cancels
+        );
+        return !result.isEmpty() && result.get(0) == 1L;
+    }
+
 
     /**
      * Redis에 잔액이 올라와 있으면 최종 값을 꺼내고, 관련 키를 삭제
@@ -300,17 +483,14 @@ public class WalletRedisService {
     )
     @Transactional
     public RedisFlushResult flushBalanceAndClearSession(Long userId, String traceId) {
-        String sKey = SESSION_KEY_PREFIX + userId;
-        String bKey = BAL_KEY_PREFIX + userId;
-        String vKey = VER_KEY_PREFIX + userId;
+        AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
 
         // result: [hit, roomId, finalBalance, version]
         List<String> result = executeStringList(
-                flushAndClearScript,
-                List.of(sKey, bKey, vKey),
+                FLUSH_AND_CLEAR_SCRIPT,
+                List.of(keys.sessionKey(), keys.balanceKey(), keys.versionKey(), keys.eventStreamKey(),
+                        keys.flushPendingKey()),
                 userId.toString(),
-                EVENT_STREAM,
-                STREAM_MAXLEN.toString(),
                 traceId == null ? "" : traceId
         );
         if (result.size() != 4) {
@@ -323,21 +503,139 @@ public class WalletRedisService {
             return new RedisFlushResult(false, null, null, null);
         }
 
-        saveBalanceToDb(userId, Long.parseLong(result.get(2)));
+        Long finalBalance = Long.parseLong(result.get(2));
+        saveBalanceToDb(userId, finalBalance);
+        ackFlushedAfterCommit(Map.of(userId, finalBalance));
 
         return new RedisFlushResult(
                 true,
                 result.get(1),
-                Long.parseLong(result.get(2)),
+                finalBalance,
                 Long.parseLong(result.get(3))
         );
     }
 
+    /**
+     * 만료 후보 세션들을 한 번에 정리 (파이프라인 1회)
+     *
+     * - 유저별로 "살아있는지 확인 + 만료면 잔액 꺼내고 키 삭제"를 한 스크립트에서 원자적으로 처리
+     *   (확인과 삭제 사이에 heartbeat가 끼어드는 경쟁이 없음)
+     * - DB 반영은 하지 않음. 호출자가 flushedBalances를 한 번에 저장하고 커밋 후 ackFlushed 호출
+     *   (그 전까지 잔액은 flush 대기 해시에 남아있음)
+     */
+    public SessionExpiryBatch flushExpiredSessions(List<Long> userIds, String traceId) {
+        if (userIds.isEmpty()) return new SessionExpiryBatch(Map.of(), Map.of(), 0, List.of());
+
+        List<RedisScriptRegistry.ScriptCall> calls = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
+            calls.add(new RedisScriptRegistry.ScriptCall(
+                    List.of(keys.sessionKey(), keys.balanceKey(), keys.versionKey(), keys.eventStreamKey(),
+                            keys.flushPendingKey()),
+                    List.of(userId.toString(), traceId == null ? "" : traceId)
+            ));
+        }
+
+        // result: [status(1 flush, 0 없음, 2 살아있음), roomId 또는 남은 TTL, finalBalance, version]
+        // 한 건이 실패해도 나머지는 이미 키를 지웠으므로 성공한 결과는 모두 돌려줌
+        List<RedisScriptRegistry.ScriptResult<List<String>>> results =
+                redisScriptRegistry.executePipelined(FLUSH_IF_EXPIRED_SCRIPT, calls);
+
+        Map<Long, Long> flushed = new LinkedHashMap<>();
+        Map<Long, Long> alive = new LinkedHashMap<>();
+        List<Long> failed = new ArrayList<>();
+        int missed = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            RedisScriptRegistry.ScriptResult<List<String>> call = results.get(i);
+            if (!call.isOk()) {
+                log.warn("세션 만료 flush 스크립트 실패. 다시 스케줄합니다. userId={}, error={}",
+                        userId, call.error().getMessage());
+                failed.add(userId);
+                continue;
+            }
+
+            List<String> result = call.value();
+            if (result == null || result.size() != 4) {
+                log.error("Redis flush 스크립트 반환 형식이 예상과 다릅니다. userId={}, result={}", userId, result);
+                failed.add(userId);
+                continue;
+            }
+
+            switch (result.get(0)) {
+                case "1" -> flushed.put(userId, Long.parseLong(result.get(2)));
+                case "2" -> alive.put(userId, Long.parseLong(result.get(1)));
+                case "E" -> {
+                    log.warn("세션 만료 flush 스크립트 실패. 다시 스케줄합니다. userId={}, error={}", userId, result.get(1));
+                    failed.add(userId);
+                }
+                default -> missed++;
+            }
+        }
+        return new SessionExpiryBatch(flushed, alive, missed, failed);
+    }
+
+    /**
+     * DB 반영이 커밋된 잔액을 flush 대기 해시에서 제거
+     * - 그 사이 같은 유저가 다시 flush돼 잔액이 바뀌었으면 새 값은 남겨둠
+     * - 실패해도 대기 해시에 남을 뿐이고 복구가 같은 잔액을 다시 덮어쓰므로 결과는 같음
+     */
+    public void ackFlushed(Map<Long, Long> balances) {
+        if (balances.isEmpty()) return;
+
+        List<Long> userIds = new ArrayList<>();
+        List<RedisScriptRegistry.ScriptCall> calls = new ArrayList<>();
+        balances.forEach((userId, bizz) -> {
+            for (String pendingKey : auctionRedisKeys.walletFlushPendingKeys(userId)) {
+                userIds.add(userId);
+                calls.add(new RedisScriptRegistry.ScriptCall(
+                        List.of(pendingKey), List.of(userId.toString(), bizz.toString())));
+            }
+        });
+
+        List<RedisScriptRegistry.ScriptResult<Long>> results =
+                redisScriptRegistry.executePipelined(FLUSH_ACK_SCRIPT, calls);
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).isOk()) {
+                log.warn("flush 대기 잔액 제거 실패. 복구 시 다시 반영됩니다. userId={}, error={}",
+                        userIds.get(i), results.get(i).error().getMessage());
+            }
+        }
+    }
+
+    /**
+     * flush된 지 olderThanMs 이상 지났는데 아직 DB 반영이 확인되지 않은 잔액 (userId -> bizz)
+     * 그 사이 다시 세션을 잡아 잔액 키가 살아있는 유저는 제외 (다음 flush가 값을 덮어씀)
+     */
+    public Map<Long, Long> findStaleFlushPending(long olderThanMs) {
+        long cutoff = System.currentTimeMillis() - olderThanMs;
+        Map<Long, Long> stale = new LinkedHashMap<>();
+
+        for (String pendingKey : auctionRedisKeys.walletFlushPendingKeys()) {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(pendingKey);
+            entries.forEach((field, value) -> {
+                // value = 잔액:버전:flush 시각(ms)
+                String[] parts = value.toString().split(":");
+                Long userId = Long.parseLong(field.toString());
+                if (parts.length != 3 || Long.parseLong(parts[2]) > cutoff) return;
+
+                if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(auctionRedisKeys.wallet(userId).balanceKey()))) {
+                    log.error("DB 반영 전 flush 잔액이 있는데 세션이 다시 초기화됐습니다. 수동 확인 필요. userId={}, pending={}",
+                            userId, value);
+                    return;
+                }
+                stale.put(userId, Long.parseLong(parts[0]));
+            });
+        }
+        return stale;
+    }
+
     /** 세션/잔액/버전 키의 TTL을 연장 */
     public void extendTtl(Long userId) {
-        stringRedisTemplate.expire(SESSION_KEY_PREFIX + userId, SESSION_TTL);
-        stringRedisTemplate.expire(BAL_KEY_PREFIX + userId, BALANCE_TTL);
-        stringRedisTemplate.expire(VER_KEY_PREFIX + userId, BALANCE_TTL);
+        AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
+        stringRedisTemplate.expire(keys.sessionKey(), SESSION_TTL);
+        stringRedisTemplate.expire(keys.balanceKey(), BALANCE_TTL);
+        stringRedisTemplate.expire(keys.versionKey(), BALANCE_TTL);
     }
 
     /**
@@ -350,15 +648,28 @@ public class WalletRedisService {
     public boolean isRedisActive(Long userId) {
         if (userId == null) return false;
 
-        String sKey = SESSION_KEY_PREFIX + userId;
-        String bKey = BAL_KEY_PREFIX + userId;
+        AuctionRedisKeys.WalletKeys keys = auctionRedisKeys.wallet(userId);
 
-        Boolean sessionExists = stringRedisTemplate.hasKey(sKey);
-        Boolean balanceExists = stringRedisTemplate.hasKey(bKey);
+        Boolean sessionExists = stringRedisTemplate.hasKey(keys.sessionKey());
+        Boolean balanceExists = stringRedisTemplate.hasKey(keys.balanceKey());
 
         return Boolean.TRUE.equals(sessionExists) && Boolean.TRUE.equals(balanceExists);
     }
 
+    // 트랜잭션 안이면 커밋 뒤에 제거 (롤백되면 대기 해시에 남아 복구 대상)
+    private void ackFlushedAfterCommit(Map<Long, Long> balances) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ackFlushed(balances);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ackFlushed(balances);
+            }
+        });
+    }
+
     @Transactional
     public void saveBalanceToDb(Long userId, Long amount) {
         Wallet wallet = findByUserIdWithLockOrThrow(userId);
@@ -367,30 +678,28 @@ public class WalletRedisService {
 
     /* ==================== execute 헬퍼 (unchecked 경고를 한 곳에만 모음) ==================== */
 
-    private List<Long> executeLongList(DefaultRedisScript<List<Long>> script, List<String> keys, String... args) {
+    private List<Long> executeLongList(RedisLuaScript<List<Long>> script, List<String> keys, String... args) {
         return Objects.requireNonNull(
-                stringRedisTemplate.execute(script, keys, (Object[]) args),
+                redisScriptRegistry.execute(script, keys, args),
                 "Redis script가 null을 반환했습니다."
         );
     }
 
-    private List<String> executeStringList(DefaultRedisScript<List<String>> script, List<String> keys, String... args) {
+    private List<String> executeStringList(RedisLuaScript<List<String>> script, List<String> keys, String... args) {
         return Objects.requireNonNull(
-                stringRedisTemplate.execute(script, keys, (Object[]) args),
+                redisScriptRegistry.execute(script, keys, args),
                 "Redis script가 null을 반환했습니다."
         );
     }
 
     /* ==================== Lua Script 빌더 ==================== */
 
-    private DefaultRedisScript<Long> buildAcquireAndInitScript() {
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setResultType(Long.class);
-
-        script.setScriptText("""
+    private static RedisLuaScript<Long> buildAcquireAndInitScript() {
+        return RedisLuaScript.of("wallet.acquire_init", """
             local sKey = KEYS[1]
             local bKey = KEYS[2]
             local vKey = KEYS[3]
+            local stream = KEYS[4]
 
             local userId = ARGV[1]
             local roomId = ARGV[2]
@@ -398,10 +707,8 @@ public class WalletRedisService {
         
             local sessionTtl = tonumber(ARGV[4])   -- SESSION_TTL.getSeconds()
             local balanceTtl = tonumber(ARGV[5])   -- BALANCE_TTL.getSeconds()
-        
-            local stream = ARGV[6]
-            local maxlen = tonumber(ARGV[7])
-            local traceId = ARGV[8]
+
+            local traceId = ARGV[6]
 
             -- 세션이 이미 있으면 “획득 실패”
             if redis.call('EXISTS', sKey) == 1 then
@@ -414,7 +721,7 @@ public class WalletRedisService {
             redis.call('SET', vKey, '0', 'EX', balanceTtl)
 
             -- INIT 이벤트 기록 (Kafka는 별도 워커가 Stream을 읽어 발행)
-            redis.call('XADD', stream, 'MAXLEN', '~', maxlen, '*',
+            redis.call('XADD', stream, '*',
               'event', 'INIT',
               'userId', userId,
               'roomId', roomId,
@@ -423,22 +730,15 @@ public class WalletRedisService {
             )
 
             return 1
-        """);
-
-        return script;
+        """, Long.class);
     }
 
-    private DefaultRedisScript<List<Long>> buildChangeIfPresentScript() {
-        DefaultRedisScript<List<Long>> script = new DefaultRedisScript<>();
-
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        Class<List<Long>> listClass = (Class) List.class;
-        script.setResultType(listClass);
-
-        script.setScriptText("""
+    private static RedisLuaScript<List<Long>> buildChangeIfPresentScript() {
+        return RedisLuaScript.ofList("wallet.change_if_present", """
             local balKey = KEYS[1]
             local verKey = KEYS[2]
             local sesKey = KEYS[3]
+            local stream = KEYS[4]
 
             local userId = ARGV[1]
             local amount = tonumber(ARGV[2])
@@ -447,8 +747,6 @@ public class WalletRedisService {
             local traceId = ARGV[5]
             local sessionTtl = tonumber(ARGV[6])
             local balanceTtl = tonumber(ARGV[7])
-            local stream = ARGV[8]
-            local maxlen = tonumber(ARGV[9])
 
             --세션이 없으면 MISS
             if redis.call('EXISTS', sesKey) == 0 then
@@ -483,7 +781,7 @@ public class WalletRedisService {
             redis.call('EXPIRE', verKey, balanceTtl)
 
             -- 이벤트 기록
-            redis.call('XADD', stream, 'MAXLEN', '~', maxlen, '*',
+            redis.call('XADD', stream, '*',
               'event', 'CHANGE',
               'userId', userId,
               'before', tostring(cur),
@@ -497,24 +795,17 @@ public class WalletRedisService {
 
             return { cur, newv, ver }
         """.formatted(MISS, MISS, MISS, MISS, INSUFFICIENT));
-
-        return script;
     }
 
-    private DefaultRedisScript<List<Long>> buildTransferIfPresentScript() {
-        DefaultRedisScript<List<Long>> script = new DefaultRedisScript<>();
-
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        Class<List<Long>> listClass = (Class) List.class;
-        script.setResultType(listClass);
-
-        script.setScriptText("""
+    private static RedisLuaScript<List<Long>> buildTransferIfPresentScript() {
+        return RedisLuaScript.ofList("wallet.transfer_if_present", """
         local fromBalKey = KEYS[1]
         local fromVerKey = KEYS[2]
         local fromSesKey = KEYS[3]
         local toBalKey   = KEYS[4]
         local toVerKey   = KEYS[5]
         local toSesKey   = KEYS[6]
+        local stream     = KEYS[7]
 
         local fromUserId = ARGV[1]
         local toUserId   = ARGV[2]
@@ -523,8 +814,6 @@ public class WalletRedisService {
         local traceId    = ARGV[5]
         local sessionTtl = tonumber(ARGV[6])
         local balanceTtl = tonumber(ARGV[7])
-        local stream     = ARGV[8]
-        local maxlen     = tonumber(ARGV[9])
 
         -- 1) 세션 검증: 둘 중 하나라도 세션이 없으면 MISS (그리고 해당 유저 키 정리)
         if redis.call('EXISTS', fromSesKey) == 0 then
@@ -574,7 +863,7 @@ public class WalletRedisService {
         redis.call('EXPIRE', toVerKey, balanceTtl)
 
         -- 7) 이벤트 기록(TRANSFER)
-        redis.call('XADD', stream, 'MAXLEN', '~', maxlen, '*',
+        redis.call('XADD', stream, '*',
           'event', 'TRANSFER',
           'fromUserId', fromUserId,
           'toUserId', toUserId,
@@ -596,28 +885,14 @@ public class WalletRedisService {
                 MISS, MISS, MISS, MISS,          // 잔액 키 없음
                 INSUFFICIENT                     // 잔액 부족 표시
         ));
-
-        return script;
     }
 
 
-    private DefaultRedisScript<List<String>> buildFlushAndClearScript() {
-        DefaultRedisScript<List<String>> script = new DefaultRedisScript<>();
-
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        Class<List<String>> listClass = (Class) List.class;
-        script.setResultType(listClass);
-
-        script.setScriptText("""
-            local sKey = KEYS[1]
-            local bKey = KEYS[2]
-            local vKey = KEYS[3]
-
-            local userId = ARGV[1]
-            local stream = ARGV[2]
-            local maxlen = tonumber(ARGV[3])
-            local traceId = ARGV[4]
-
+    /**
+     * 잔액/버전/roomId를 꺼내 flush 대기 해시에 남기고 키 삭제 + FLUSH_CLEAR 이벤트 (flush_clear, flush_if_expired 공용)
+     * sKey, bKey, vKey, stream, pending, userId, traceId 가 먼저 선언되어 있어야 함
+     */
+    private static final String LUA_FLUSH_AND_CLEAR_BODY = """
             local bal = redis.call('GET', bKey)
             if not bal then
               return { '0', '', '0', '0' }
@@ -626,13 +901,18 @@ public class WalletRedisService {
             local ver = redis.call('GET', vKey) or "0"
             local roomId = redis.call('GET', sKey) or ""
 
+            -- DB 반영(ackFlushed)까지 최종 잔액을 대기 해시에 남김 (value=잔액:버전:flush 시각ms)
+            local now = redis.call('TIME')
+            redis.call('HSET', pending, userId,
+              bal .. ':' .. ver .. ':' .. (tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)))
+
             -- 정리: 관련 키 삭제
             redis.call('DEL', sKey)
             redis.call('DEL', bKey)
             redis.call('DEL', vKey)
 
-            -- FLUSH 이벤트 기록
-            redis.call('XADD', stream, 'MAXLEN', '~', maxlen, '*',
+            -- FLUSH 이벤트 기록 (키를 이미 지웠으므로 기록 실패로 최종 잔액을 잃지 않도록 에러는 무시)
+            pcall(redis.call, 'XADD', stream, '*',
               'event', 'FLUSH_CLEAR',
               'userId', userId,
               'roomId', roomId,
@@ -642,9 +922,171 @@ public class WalletRedisService {
             )
 
             return { '1', roomId, bal, ver }
+        """;
+
+    private static RedisLuaScript<List<String>> buildFlushAndClearScript() {
+        return RedisLuaScript.ofList("wallet.flush_clear", """
+            local sKey = KEYS[1]
+            local bKey = KEYS[2]
+            local vKey = KEYS[3]
+            local stream = KEYS[4]
+            local pending = KEYS[5]
+
+            local userId = ARGV[1]
+            local traceId = ARGV[2]
+
+        """ + LUA_FLUSH_AND_CLEAR_BODY);
+    }
+
+    private static RedisLuaScript<List<String>> buildFlushIfExpiredScript() {
+        return RedisLuaScript.ofList("wallet.flush_if_expired", """
+            local sKey = KEYS[1]
+            local bKey = KEYS[2]
+            local vKey = KEYS[3]
+            local stream = KEYS[4]
+            local pending = KEYS[5]
+
+            local userId = ARGV[1]
+            local traceId = ARGV[2]
+
+            local function flush()
+            -- 세션이 아직 있으면(heartbeat가 늦게 갱신) 남은 TTL만 반환 (-1: TTL 없음)
+            local pttl = redis.call('PTTL', sKey)
+            if pttl ~= -2 then
+              return { '2', tostring(pttl), '0', '0' }
+            end
+
+        """ + LUA_FLUSH_AND_CLEAR_BODY + """
+            end
+
+            -- 파이프라인의 다른 호출 결과를 잃지 않도록 에러를 던지지 않고 'E'로 반환
+            -- (키 삭제 이후 단계는 에러를 내지 않으므로 'E'면 키가 그대로 남아있음 -> 호출자가 다시 스케줄)
+            local ok, res = pcall(flush)
+            if ok then
+              return res
+            end
+            local err = type(res) == 'table' and res.err or tostring(res)
+            return { 'E', err, '0', '0' }
         """);
+    }
+
+    private static RedisLuaScript<Long> buildFlushAckScript() {
+        return RedisLuaScript.of("wallet.flush_ack", """
+            local pending = KEYS[1]
+            local userId = ARGV[1]
+            local bal = ARGV[2]
+
+            local cur = redis.call('HGET', pending, userId)
+            if cur and string.sub(cur, 1, #bal + 1) == bal .. ':' then
+              redis.call('HDEL', pending, userId)
+              return 1
+            end
+            return 0
+        """, Long.class);
+    }
 
-        return script;
+    private static RedisLuaScript<List<Object>> buildBidHoldScript() {
+        return RedisLuaScript.ofList("wallet.bid_hold", """
+            local sesKey = KEYS[1]
+            local balKey = KEYS[2]
+            local verKey = KEYS[3]
+            local stream = KEYS[4]
+
+            local userId = ARGV[1]
+            local deposit = tonumber(ARGV[2])
+            local sessionTtl = tonumber(ARGV[3])
+            local balanceTtl = tonumber(ARGV[4])
+            local traceId = ARGV[5]
+
+            -- 세션/버전 키가 없으면 실패 (입찰 스크립트와 같은 -3)
+            if redis.call('EXISTS', sesKey) == 0 then
+              return {-3}
+            end
+            if redis.call('EXISTS', verKey) == 0 then
+              return {-3}
+            end
+
+            local balStr = redis.call('GET', balKey)
+            if not balStr then
+              return {-3}
+            end
+
+            local bal = tonumber(balStr)
+            if bal < deposit then
+              return {-2, bal, bal}
+            end
+
+            local afterBal = bal - deposit
+            redis.call('SET', balKey, afterBal)
+            local ver = redis.call('INCR', verKey)
+
+            if sessionTtl and sessionTtl > 0 then
+              redis.call('EXPIRE', sesKey, sessionTtl)
+            end
+            if balanceTtl and balanceTtl > 0 then
+              redis.call('EXPIRE', balKey, balanceTtl)
+              redis.call('EXPIRE', verKey, balanceTtl)
+            end
+
+            local eventId = redis.call('XADD', stream, '*',
+              'event', 'CHANGE',
+              'userId', userId,
+              'before', tostring(bal),
+              'after', tostring(afterBal),
+              'amount', tostring(deposit),
+              'isIncrease', '0',
+              'version', tostring(ver),
+              'reason', 'BID',
+              'traceId', traceId
+            )
+
+            return {1, bal, afterBal, eventId}
+        """);
+    }
+
+    private static RedisLuaScript<List<Long>> buildCreditIfPresentScript() {
+        return RedisLuaScript.ofList("wallet.credit_if_present", """
+            local balKey = KEYS[1]
+            local verKey = KEYS[2]
+            local stream = KEYS[3]
+
+            local userId = ARGV[1]
+            local amount = tonumber(ARGV[2])
+            local balanceTtl = tonumber(ARGV[3])
+            local reason = ARGV[4]
+            local traceId = ARGV[5]
+            local cancels = ARGV[6]
+
+            local balStr = redis.call('GET', balKey)
+            if (not balStr) or redis.call('EXISTS', verKey) == 0 then
+              return {0}
+            end
+
+            local bal = tonumber(balStr)
+            local afterBal = bal + amount
+            redis.call('SET', balKey, afterBal)
+            local ver = redis.call('INCR', verKey)
+
+            if balanceTtl and balanceTtl > 0 then
+              redis.call('EXPIRE', balKey, balanceTtl)
+              redis.call('EXPIRE', verKey, balanceTtl)
+            end
+
+            redis.call('XADD', stream, '*',
+              'event', 'CHANGE',
+              'userId', userId,
+              'before', tostring(bal),
+              'after', tostring(afterBal),
+              'amount', tostring(amount),
+              'isIncrease', '1',
+              'version', tostring(ver),
+              'reason', reason,
+              'traceId', traceId,
+              'cancels', cancels
+            )
+
+            return {1, bal, afterBal}
+        """);
     }
 
     // 지갑 조회(비관적 락 적용)
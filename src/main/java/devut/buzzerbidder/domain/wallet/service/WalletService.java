@@ -110,6 +110,12 @@ public class WalletService {
         changeBizz(user, amount, WalletTransactionType.BID_REFUND);
     }
 
+    public void refundBidBizz(Long userId, Long amount) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        refundBidBizz(user, amount);
+    }
+
     // 경매/즉시구매 거래 완료시 판매자 정산
     public void settleDealToSeller(User seller, Long amount) {
         changeBizz(seller, amount, WalletTransactionType.RECEIVE_SETTLEMENT);
@@ -130,11 +136,10 @@ public class WalletService {
             throw new BusinessException(ErrorCode.INVALID_TRANSFER);
         }
 
-        WalletTransactionType receiveType = switch(sendType) {
-            case PAY_SETTLEMENT -> receiveType = WalletTransactionType.RECEIVE_SETTLEMENT;
-            case PAY_TO_USER ->  receiveType = WalletTransactionType.RECEIVE_FROM_USER;
-            default -> throw new BusinessException(ErrorCode.INVALID_WALLET_TRANSACTION_TYPE);
-        };
+        WalletTransactionType receiveType = sendType.transferReceiveType();
+        if (receiveType == null) {
+            throw new BusinessException(ErrorCode.INVALID_WALLET_TRANSACTION_TYPE);
+        }
 
         Long fromId = fromUser.getId();
         Long toId = toUser.getId();
@@ -143,19 +148,12 @@ public class WalletService {
         boolean toRedis   = walletRedisService.isRedisActive(toId);
 
         // 둘 다 Redis => Redis 처리
+        // 히스토리는 TRANSFER 이벤트(reason=송금 유형)를 WalletHistoryProjector가 투영
         if (fromRedis && toRedis) {
             WalletRedisService.RedisTransferResult r =
-                    walletRedisService.transferBizzIfPresent(fromId, toId, amount, "TransferBizz", null);
+                    walletRedisService.transferBizzIfPresent(fromId, toId, amount, sendType.name(), null);
 
             if  (!r.hit()) throw  new BusinessException(ErrorCode.TRANSFER_ERROR);
-
-            // 지갑 히스토리 남기기
-            Long fromBalanceBefore = r.fromBefore();
-            Long frombalanceAfter = r.fromAfter();
-            walletHistoryService.recordWalletHistory(fromUser, amount, sendType, fromBalanceBefore, frombalanceAfter);
-            Long toBalanceBefore = r.toBefore();
-            Long tobalanceAfter = r.toAfter();
-            walletHistoryService.recordWalletHistory(toUser, amount, receiveType, toBalanceBefore, tobalanceAfter);
             return;
         }
 
@@ -166,6 +164,8 @@ public class WalletService {
         }
 
         // from만 Redis, to는 DB
+        // 혼합 경로는 DB 트랜잭션과 함께 롤백돼야 하므로 히스토리를 직접 기록
+        // (reason이 WalletTransactionType 이름이 아니라서 WalletHistoryProjector가 투영하지 않음)
         if (fromRedis && !toRedis) {
             WalletRedisService.RedisBizzChangeResult out =
                     walletRedisService.changeBizzIfPresent(fromId, amount, false, "TransferBizz_OUT", null);
@@ -347,11 +347,8 @@ public class WalletService {
                         type.name(),    // reason
                         null    //traceId
                 );
-        // Redis에서 처리됐으면 히스토리 남긴 후 함수 종료
+        // Redis에서 처리됐으면 함수 종료 (히스토리는 CHANGE 이벤트를 WalletHistoryProjector가 투영)
         if (redisResult.hit()) {
-            Long balanceBefore = redisResult.before();
-            Long balanceAfter = redisResult.after();
-            walletHistoryService.recordWalletHistory(user, amount, type, balanceBefore, balanceAfter);
             return;
         }
 
@@ -0,0 +1,191 @@
+package devut.buzzerbidder.global.config.webSocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 멀티 노드 STOMP 팬아웃 (simple broker + Redis pub/sub)
+ *
+ * - 서버가 보내는 /receive/** 메시지(brokerChannel)를 가로채 로컬 전달은 그대로 두고 Redis에 한 번 발행
+ * - 다른 노드는 받은 메시지를 이 노드에 해당 destination 구독자가 있을 때만 로컬 브로커로 전달
+ * - 자기 노드가 발행한 메시지와 이미 중계된 메시지는 다시 발행/전달하지 않음
+ * - 발행은 보내는 스레드(입찰 등)를 막지 않도록 단일 스레드에서 순서대로 수행
+ *
+ * 메트릭: buzzerbidder.ws.bridge.messages{result=published|delivered|skipped|failed}
+ * websocket.broker-bridge.enabled=false(기본)면 단일 노드 simple broker 그대로
+ */
+@Slf4j
+@Component
+public class RedisBrokerBridge implements ChannelInterceptor, MessageListener {
+
+    public static final String CHANNEL = "ws:broker";
+
+    static final String RELAYED_HEADER = "bridgeRelayed";
+    private static final String DESTINATION_PREFIX = "/receive";
+
+    /** Redis로 주고받는 메시지 (payload는 브로커로 보낼 직렬화 결과 그대로) */
+    record RelayedMessage(String origin, String destination, String contentType, String conflate, byte[] payload) {}
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final StompSubscriptionTracker subscriptionTracker;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private ExecutorService publisher;
+
+    private final Counter published;
+    private final Counter delivered;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public RedisBrokerBridge(
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+            StompSubscriptionTracker subscriptionTracker,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${websocket.broker-bridge.enabled:false}") boolean enabled
+    ) {
+        this.redis = redis;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.subscriptionTracker = subscriptionTracker;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+
+        this.published = meterRegistry.counter("buzzerbidder.ws.bridge.messages", "result", "published");
+        this.delivered = meterRegistry.counter("buzzerbidder.ws.bridge.messages", "result", "delivered");
+        this.skipped = meterRegistry.counter("buzzerbidder.ws.bridge.messages", "result", "skipped");
+        this.failed = meterRegistry.counter("buzzerbidder.ws.bridge.messages", "result", "failed");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        publisher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "ws-bridge-publisher");
+            t.setDaemon(true);
+            return t;
+        });
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) return;
+
+        redisMessageListenerContainer.removeMessageListener(this);
+        publisher.shutdown();
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    /* ==================== 발행 (brokerChannel) ==================== */
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) return message;
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null
+                || !destination.startsWith(DESTINATION_PREFIX)
+                || accessor.getHeader(RELAYED_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        RelayedMessage relayed = new RelayedMessage(
+                nodeId, destination, contentType != null ? contentType.toString() : null,
+                accessor.getFirstNativeHeader(SlowConsumerGuard.CONFLATE_HEADER), payload);
+        try {
+            publisher.execute(() -> publish(relayed));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 로컬 전달만
+            failed.increment();
+        }
+        return message;
+    }
+
+    private void publish(RelayedMessage relayed) {
+        try {
+            redis.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayed));
+            published.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("웹소켓 메시지 중계 발행 실패. destination={}, error={}", relayed.destination(), e.getMessage());
+        }
+    }
+
+    /* ==================== 수신 (Redis) ==================== */
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        RelayedMessage relayed;
+        try {
+            relayed = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), RelayedMessage.class);
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("웹소켓 중계 메시지 역직렬화 실패. error={}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(relayed.origin())) return;
+
+        if (!subscriptionTracker.hasSubscribers(relayed.destination())) {
+            skipped.increment();
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayed.destination());
+        if (relayed.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(relayed.contentType()));
+        }
+        if (relayed.conflate() != null) {
+            accessor.setNativeHeader(SlowConsumerGuard.CONFLATE_HEADER, relayed.conflate());
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.getObject().send(relayed.destination(),
+                MessageBuilder.createMessage(relayed.payload(), accessor.getMessageHeaders()));
+        delivered.increment();
+    }
+}
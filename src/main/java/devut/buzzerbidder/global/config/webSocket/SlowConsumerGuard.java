@@ -0,0 +1,263 @@
+package devut.buzzerbidder.global.config.webSocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 STOMP 세션 보호 (clientOutboundChannel 인터셉터 + 웹소켓 핸들러 데코레이터)
+ *
+ * - 세션별로 아직 소켓에 쓰이지 않은 MESSAGE 프레임 수를 추적
+ *   아웃바운드 채널에 들어올 때 +1, 실제 소켓에 쓰인 뒤 -1
+ *   → 실행기 큐뿐 아니라 세션 전송 버퍼(ConcurrentWebSocketSessionDecorator)에 밀린 프레임까지 포함
+ *   세션 전송 버퍼는 SubProtocolWebSocketHandler 안에서 만들어져 밖에서 읽을 수 없으므로,
+ *   그 아래 원본 세션을 감싸(addDecoratorFactory) 버퍼에서 빠져 소켓에 쓰인 시점을 잡음
+ * - conflate 헤더가 붙은 메시지(입찰가 갱신/방 새로고침 등 "최신 상태"만 의미 있는 것)는
+ *   큐가 max-queued를 넘으면 보내지 않고 (세션, destination, 키)별 최신 1건만 보관
+ *   → 큐가 빠지면(max-queued/2 이하) 보관한 최신 상태를 전송
+ * - conflate 헤더가 없는 메시지(경매 시작/종료, 채팅 등)는 항상 전송
+ *   같은 destination에 보관 중인 상태가 있으면 이 메시지가 최신이므로 보관분은 폐기
+ * - conflate 헤더는 서버 내부용이므로 클라이언트로 나가기 전에 제거
+ * - 그래도 밀리면 send-time-limit / send-buffer-size-limit(WebSocketConfig)로 세션 종료
+ *
+ * 메트릭: buzzerbidder.ws.session.queue.depth(전송 시점 큐 깊이), .queue.depth.max,
+ *        buzzerbidder.ws.outbound.conflated, buzzerbidder.ws.disconnect{reason}
+ */
+@Component
+public class SlowConsumerGuard implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    /** 서버 -> 클라이언트 메시지에 붙이는 STOMP 헤더. 값은 같은 destination 안의 상태 종류 */
+    public static final String CONFLATE_HEADER = "conflate";
+
+    private static final String MESSAGE_FRAME = "MESSAGE";
+
+    private final int maxQueued;
+
+    // sessionId -> 소켓에 쓰이지 않은 메시지 수
+    private final Map<String, AtomicInteger> depths = new ConcurrentHashMap<>();
+    // sessionId -> 감싼 세션 (여기 있는 세션은 소켓에 쓰인 시점에 차감)
+    private final Map<String, WebSocketSession> trackedSessions = new ConcurrentHashMap<>();
+    // sessionId -> (destination + 키 -> 보관 중인 최신 메시지)
+    private final Map<String, Map<String, Message<?>>> held = new ConcurrentHashMap<>();
+
+    // 보관분 재전송용 clientOutboundChannel (첫 메시지 때 기록)
+    private volatile MessageChannel outboundChannel;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary depthSummary;
+    private final Counter conflated;
+
+    public SlowConsumerGuard(
+            MeterRegistry meterRegistry,
+            @Value("${websocket.outbound.max-queued-per-session:64}") int maxQueued
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxQueued = maxQueued;
+
+        this.depthSummary = DistributionSummary.builder("buzzerbidder.ws.session.queue.depth")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.conflated = meterRegistry.counter("buzzerbidder.ws.outbound.conflated");
+        Gauge.builder("buzzerbidder.ws.session.queue.depth.max", depths, d -> d.values().stream()
+                        .mapToInt(AtomicInteger::get).max().orElse(0))
+                .register(meterRegistry);
+    }
+
+    /* ==================== 채널 인터셉터 ==================== */
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || destination == null) return message;
+        outboundChannel = channel;
+
+        AtomicInteger depth = depths.computeIfAbsent(sessionId, id -> new AtomicInteger());
+        String conflateKey = accessor.getFirstNativeHeader(CONFLATE_HEADER);
+
+        if (conflateKey == null) {
+            // 최신 상태를 담은 메시지 → 보관 중인 이전 상태는 필요 없음
+            Map<String, Message<?>> pending = held.get(sessionId);
+            if (pending != null) {
+                pending.keySet().removeIf(k -> k.startsWith(destination + '|'));
+            }
+        } else if (depth.get() >= maxQueued) {
+            Message<?> previous = held.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                    .put(destination + '|' + conflateKey, message);
+            conflated.increment();
+            if (previous == null && depth.get() == 0) {
+                // 보관하는 사이 큐가 다 빠졌으면 직접 전송
+                flushHeld(sessionId, channel);
+            }
+            return null;
+        }
+
+        depthSummary.record(depth.incrementAndGet());
+        if (conflateKey == null) return message;
+
+        // 내부용 헤더는 STOMP 프레임에 싣지 않음
+        accessor.removeNativeHeader(CONFLATE_HEADER);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // 실행기에 넘기지 못한 경우 (afterMessageHandled가 호출되지 않음)
+        if (!sent && SimpMessageHeaderAccessor.getDestination(message.getHeaders()) != null) {
+            release(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()), channel);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null || SimpMessageHeaderAccessor.getDestination(message.getHeaders()) == null) return;
+
+        // 감싼 세션은 세션 전송 버퍼에 들어간 것일 뿐이므로 소켓에 쓰일 때 차감
+        if (ex == null && trackedSessions.containsKey(sessionId)) return;
+        release(sessionId, channel);
+    }
+
+    /* ==================== 웹소켓 핸들러 데코레이터 ==================== */
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                WebSocketSession tracked = new TrackedSession(session);
+                trackedSessions.put(session.getId(), tracked);
+                super.afterConnectionEstablished(tracked);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(trackedSessions.getOrDefault(session.getId(), session), message);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                WebSocketSession tracked = trackedSessions.remove(session.getId());
+                super.afterConnectionClosed(tracked != null ? tracked : session, closeStatus);
+            }
+        };
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        depths.remove(event.getSessionId());
+        held.remove(event.getSessionId());
+        trackedSessions.remove(event.getSessionId());
+        meterRegistry.counter("buzzerbidder.ws.disconnect", "reason", reason(event.getCloseStatus()))
+                .increment();
+    }
+
+    int depth(String sessionId) {
+        AtomicInteger depth = depths.get(sessionId);
+        return depth == null ? 0 : depth.get();
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    private void release(String sessionId, MessageChannel channel) {
+        if (sessionId == null) return;
+
+        AtomicInteger depth = depths.get(sessionId);
+        if (depth == null) return;
+
+        int remaining = depth.decrementAndGet();
+        if (remaining <= maxQueued / 2) {
+            flushHeld(sessionId, channel);
+        }
+    }
+
+    private void flushHeld(String sessionId, MessageChannel channel) {
+        Map<String, Message<?>> pending = held.get(sessionId);
+        if (pending == null || pending.isEmpty()) return;
+
+        for (String key : pending.keySet()) {
+            Message<?> latest = pending.remove(key);
+            if (latest != null) {
+                channel.send(latest);
+            }
+        }
+    }
+
+    // STOMP MESSAGE 프레임만 아웃바운드 채널을 거침 (CONNECTED/RECEIPT/하트비트 등은 제외)
+    private static boolean isMessageFrame(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            return text.getPayload().startsWith(MESSAGE_FRAME);
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload();
+            byte[] prefix = MESSAGE_FRAME.getBytes(StandardCharsets.US_ASCII);
+            if (payload.remaining() < prefix.length) return false;
+            for (int i = 0; i < prefix.length; i++) {
+                if (payload.get(payload.position() + i) != prefix[i]) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private String reason(CloseStatus status) {
+        if (status == null) return "unknown";
+        if (status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) return "slow_consumer";
+        if (status.equalsCode(CloseStatus.NORMAL)) return "normal";
+        if (status.equalsCode(CloseStatus.GOING_AWAY)) return "going_away";
+        if (status.equalsCode(CloseStatus.NO_CLOSE_FRAME)) return "connection_lost";
+        if (status.equalsCode(CloseStatus.TOO_BIG_TO_PROCESS)) return "too_big";
+        if (status.equalsCode(CloseStatus.SERVER_ERROR)) return "server_error";
+        return "other";
+    }
+
+    /**
+     * 세션 전송 버퍼 아래의 원본 세션
+     * 버퍼에서 꺼내져 소켓에 쓰인 MESSAGE 프레임만큼 큐 깊이를 줄이고, 빠졌으면 보관분 전송
+     */
+    private final class TrackedSession extends WebSocketSessionDecorator {
+
+        private TrackedSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                if (isMessageFrame(message)) {
+                    release(getId(), outboundChannel);
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package devut.buzzerbidder.global.config.webSocket;
 
-import devut.buzzerbidder.domain.user.entity.User;
 import devut.buzzerbidder.domain.user.repository.UserRepository;
 import devut.buzzerbidder.domain.user.service.AuthTokenService;
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.exeption.ErrorCode;
 import devut.buzzerbidder.global.security.CustomUserDetails;
+import devut.buzzerbidder.global.security.UserPrincipal;
+import devut.buzzerbidder.global.security.UserPrincipalCache;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +29,7 @@ public class StompHandler implements ChannelInterceptor {
 
     private final UserRepository userRepository;
     private final AuthTokenService authTokenService;
+    private final UserPrincipalCache userPrincipalCache;
     @Override
     public Message<?> preSend(@NonNull Message<?> message,@NonNull MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
@@ -63,18 +67,20 @@ public class StompHandler implements ChannelInterceptor {
             // Payload에서 사용자 ID 추출
             Long userId = (Long) payload.get("id");
 
-            User user = userRepository.findById(userId).orElse(null);
+            UserPrincipal principal = userPrincipalCache.get(userId);
 
-            if (user == null) {
+            if (principal == null) {
                 return message;
             }
 
-            CustomUserDetails userDetails = new CustomUserDetails(user);
+            // User 엔티티는 메시지 처리 중 필요할 때만 조회
+            CustomUserDetails userDetails = new CustomUserDetails(principal, () -> userRepository.findById(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND)));
 
             // 인증 객체 생성
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     userDetails,
-                    userDetails.getPassword(),
+                    null,
                     userDetails.getAuthorities()
             );
 
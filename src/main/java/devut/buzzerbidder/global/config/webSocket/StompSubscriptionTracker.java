@@ -0,0 +1,95 @@
+package devut.buzzerbidder.global.config.webSocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 연결된 STOMP 구독 현황 (destination별 구독 수)
+ * RedisBrokerBridge가 다른 노드 메시지를 로컬에 전달할지 판단하는 데 사용
+ *
+ * 메트릭: buzzerbidder.ws.subscriptions(구독 수), buzzerbidder.ws.subscribed.destinations
+ */
+@Component
+public class StompSubscriptionTracker {
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    // destination -> 구독 수
+    private final Map<String, Integer> destinations = new ConcurrentHashMap<>();
+
+    public StompSubscriptionTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("buzzerbidder.ws.subscriptions", this, t -> t.destinations.values().stream()
+                        .mapToInt(Integer::intValue).sum())
+                .register(meterRegistry);
+        Gauge.builder("buzzerbidder.ws.subscribed.destinations", destinations, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean hasSubscribers(String destination) {
+        return destinations.containsKey(destination);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribed(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnected(event.getSessionId());
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    void subscribed(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null || destination == null) return;
+
+        String previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            decrement(previous);
+        }
+        destinations.merge(destination, 1, Integer::sum);
+    }
+
+    void unsubscribed(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) return;
+
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) return;
+
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    void disconnected(String sessionId) {
+        if (sessionId == null) return;
+
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) return;
+
+        subscriptions.values().forEach(this::decrement);
+    }
+
+    private void decrement(String destination) {
+        destinations.computeIfPresent(destination, (d, count) -> count <= 1 ? null : count - 1);
+    }
+}
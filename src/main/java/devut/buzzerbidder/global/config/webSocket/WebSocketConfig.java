@@ -2,9 +2,11 @@ package devut.buzzerbidder.global.config.webSocket;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.*;
 
 
@@ -18,6 +20,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
     private final HttpHandshakeInterceptor httpHandshakeInterceptor;
+    private final RedisBrokerBridge redisBrokerBridge;
+    private final SlowConsumerGuard slowConsumerGuard;
+
+    // 세션별 전송 한도 (넘으면 해당 세션만 종료, 다른 세션 브로드캐스트에는 영향 없음)
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.inbound.pool-size:8}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.outbound.pool-size:8}")
+    private int outboundPoolSize;
+
+    // 경매방 이어받기(resume)가 먼저 보낸 구독보다 앞서 처리되지 않도록 세션별 수신 순서 유지
+    @Value("${auction.live.replay.enabled:false}")
+    private boolean replayEnabled;
 
     // 최초 웹소켓 연결을 위한 엔드포인트 설정
     @Override
@@ -26,6 +47,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .addInterceptors(httpHandshakeInterceptor)
                 .withSockJS();
+        registry.setPreserveReceiveOrder(replayEnabled);
     }
 
     // 메시지 브로커 설정
@@ -35,9 +57,41 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setApplicationDestinationPrefixes("/send"); // 클라이언트 -> 서버
     }
 
+    // 세션 전송 버퍼에서 소켓에 실제로 쓰인 시점을 느린 세션 보호에 알림
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard);
+    }
+
     // 인증/인가 처리
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
+        registration.taskExecutor(channelExecutor("ws-inbound-", inboundPoolSize));
+    }
+
+    // 느린 세션 보호 (conflate 메시지 최신 상태만 유지)
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerGuard);
+        registration.taskExecutor(channelExecutor("ws-outbound-", outboundPoolSize));
+    }
+
+    // 서버 -> 클라이언트 메시지를 다른 노드에도 전달 (websocket.broker-bridge.enabled)
+    @Override
+    public void configureBrokerChannel(ChannelRegistration registration) {
+        registration.interceptors(redisBrokerBridge);
+    }
+
+    private ThreadPoolTaskExecutor channelExecutor(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
     }
 }
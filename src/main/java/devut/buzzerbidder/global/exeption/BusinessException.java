@@ -11,4 +11,17 @@ public class BusinessException extends RuntimeException {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
     }
-}
\ No newline at end of file
+
+    private BusinessException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 스택 트레이스/suppressed 없이 재사용하는 예외 (입찰 거절처럼 자주 나는 정상 흐름용)
+     * 상태가 없으므로 상수로 들고 있다가 여러 스레드에서 그대로 던져도 됨
+     */
+    public static BusinessException preallocated(ErrorCode errorCode) {
+        return new BusinessException(errorCode, false);
+    }
+}
@@ -105,6 +105,7 @@ public enum ErrorCode {
     LIVEBID_ALREADY_HIGHEST_BIDDER("LB003", HttpStatus.CONFLICT, "현재 최고 입찰자입니다. 다른 입찰 후에 다시 시도해주세요."),
     UNEXPECTED_REDIS_SCRIPT_RETURN("LB004", HttpStatus.INTERNAL_SERVER_ERROR, "Redis 스크립트 반환 방식이 예상과 다릅니다."),
     LIVEBID_INITIALIZATION_FAILED("LB005", HttpStatus.INTERNAL_SERVER_ERROR, "경매 아이템 정보 캐싱 실패."),
+    LIVEBID_PROXY_BID_UNAVAILABLE("LB006", HttpStatus.BAD_REQUEST, "자동 입찰을 사용할 수 없습니다."),
 
     // ========== Notification 도메인 에러 ==========
     NOTIFICATION_NOT_FOUND("NO001", HttpStatus.NOT_FOUND, "알림을 찾을 수 없습니다."),
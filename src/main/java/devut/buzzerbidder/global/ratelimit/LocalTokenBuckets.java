@@ -0,0 +1,78 @@
+package devut.buzzerbidder.global.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * key별 토큰 버킷 (JVM 로컬)
+ *
+ * - capacity: 버스트 허용량, refillPerSecond: 초당 충전량
+ * - 충전은 요청 시점에 경과 시간만큼 계산 (별도 스레드 없음)
+ * - 가득 찬 채로 방치된 버킷은 새 버킷과 같으므로 evictIdle로 정리해도 동작이 바뀌지 않음
+ *
+ * 시각은 호출자가 nanoTime으로 넘김 (테스트에서 시간 제어)
+ */
+public class LocalTokenBuckets<K> {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long nanosToFull;
+
+    private final Map<K, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+
+    public LocalTokenBuckets(long capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                    "잘못된 토큰 버킷 설정. capacity=" + capacity + ", refillPerSecond=" + refillPerSecond);
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanosToFull = (long) Math.ceil(capacity / tokensPerNano);
+    }
+
+    /** 토큰 하나 소비. 남은 토큰이 없으면 false */
+    public boolean tryAcquire(K key, long nowNanos) {
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, nowNanos));
+        synchronized (bucket) {
+            long elapsed = nowNanos - bucket.lastRefillNanos;
+            if (elapsed > 0) {
+                bucket.tokens = Math.min(capacity, bucket.tokens + elapsed * tokensPerNano);
+                bucket.lastRefillNanos = nowNanos;
+            }
+            if (bucket.tokens < 1.0) {
+                return false;
+            }
+            bucket.tokens -= 1.0;
+            return true;
+        }
+    }
+
+    /**
+     * 다시 가득 찼을 만큼 오래 쓰이지 않은 버킷 제거
+     * (제거 직전에 참조를 얻은 요청은 떨어져 나간 버킷을 쓰게 되지만 토큰 하나 차이라 무시)
+     */
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> {
+            synchronized (bucket) {
+                return nowNanos - bucket.lastRefillNanos >= nanosToFull;
+            }
+        });
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,290 @@
+package devut.buzzerbidder.global.redis;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 경매/지갑 Redis 키 규칙을 한 곳에서 관리
+ *
+ * auction.redis.key-schema.mode
+ * - LEGACY : 기존 단일 키 레이아웃 (auction:live:ending, liveItem:{id}, auction:bizz:{userId} ...)
+ * - SHARDED: Redis Cluster용 해시태그 레이아웃. 아이템/유저를 N개 버킷으로 나누고
+ *            같은 스크립트가 만지는 키는 모두 같은 해시태그({i3}, {w7} 등)를 갖도록 함
+ *            ex) liveItem:{i3}:42, auction:live:ending:{i3}, auction:bizz:{w7}:15, auction:bizz:events:{w7}
+ * - DUAL   : 마이그레이션 모드 (단일 Redis 전제). 새 상태는 SHARDED 키에 쓰고,
+ *            LEGACY 키에 살아있는 상태(진행 중 아이템/세션)가 있으면 그쪽을 계속 사용.
+ *            스케줄러/컨슈머는 양쪽 키를 모두 스캔. LEGACY 키가 모두 사라지면 SHARDED로 전환
+ *
+ * 버킷 수(auction.redis.key-schema.buckets)는 운영 중 바꾸면 안 됨 (키 위치가 달라짐)
+ */
+@Slf4j
+@Component
+public class AuctionRedisKeys {
+
+    public enum Mode { LEGACY, DUAL, SHARDED }
+
+    private static final String LIVE_ITEM_PREFIX = "liveItem:";
+    private static final String ENDING_ZSET = "auction:live:ending";
+    private static final String STARTING_ZSET = "auction:live:starting";
+    private static final String PRICE_INDEX_ZSET = "liveItems:currentPrice";
+    private static final String HAS_BID_SET = "liveItems:hasBid";
+
+    private static final String SESSION_PREFIX = "auction:session:";
+    private static final String BAL_PREFIX = "auction:bizz:";
+    private static final String VER_PREFIX = "auction:bizzver:";
+    private static final String WALLET_EVENT_STREAM = "auction:bizz:events";
+    private static final String WALLET_FLUSH_PENDING_HASH = "auction:bizz:flush-pending";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Getter
+    private final Mode mode;
+
+    @Getter
+    private final int buckets;
+
+    /**
+     * 아이템 하나에 딸린 키 묶음 (SHARDED면 모두 같은 해시태그)
+     */
+    public record ItemKeys(
+            String itemKey,
+            String depositsKey,
+            String endingKey,
+            String startingKey,
+            String priceIndexKey,
+            String hasBidKey,
+            String proxyKey
+    ) {}
+
+    /**
+     * 유저 지갑에 딸린 키 묶음 (SHARDED면 모두 같은 해시태그)
+     */
+    public record WalletKeys(
+            String sessionKey,
+            String balanceKey,
+            String versionKey,
+            String eventStreamKey,
+            String flushPendingKey
+    ) {}
+
+    public AuctionRedisKeys(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${auction.redis.key-schema.mode:LEGACY}") Mode mode,
+            @Value("${auction.redis.key-schema.buckets:16}") int buckets
+    ) {
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("auction.redis.key-schema.buckets는 1 이상이어야 합니다. buckets=" + buckets);
+        }
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.mode = mode;
+        this.buckets = buckets;
+        log.info("Redis 키 스키마: mode={}, buckets={}", mode, buckets);
+    }
+
+    /** 입찰 등 스크립트를 같은 슬롯 단위로 나눠 실행해야 하는지 */
+    public boolean isSplitMode() {
+        return mode != Mode.LEGACY;
+    }
+
+    /* ==================== 아이템 ==================== */
+
+    /**
+     * 읽기/갱신용 아이템 키
+     * DUAL이면 LEGACY 해시가 살아있을 때만 LEGACY, 아니면 SHARDED
+     */
+    public ItemKeys item(Long liveItemId) {
+        return switch (mode) {
+            case LEGACY -> legacyItem(liveItemId);
+            case SHARDED -> shardedItem(liveItemId);
+            case DUAL -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(LIVE_ITEM_PREFIX + liveItemId))
+                    ? legacyItem(liveItemId)
+                    : shardedItem(liveItemId);
+        };
+    }
+
+    /** 새 상태를 만들 때 쓰는 아이템 키 (DUAL이면 SHARDED) */
+    public ItemKeys itemForWrite(Long liveItemId) {
+        return mode == Mode.LEGACY ? legacyItem(liveItemId) : shardedItem(liveItemId);
+    }
+
+    /** 정리(삭제)용: 현재 모드에서 아이템 상태가 있을 수 있는 모든 위치 */
+    public List<ItemKeys> itemAllLayouts(Long liveItemId) {
+        return switch (mode) {
+            case LEGACY -> List.of(legacyItem(liveItemId));
+            case SHARDED -> List.of(shardedItem(liveItemId));
+            case DUAL -> List.of(legacyItem(liveItemId), shardedItem(liveItemId));
+        };
+    }
+
+    /** 스케줄러가 스캔할 ending ZSET 목록 */
+    public List<String> endingKeys() {
+        return scanKeys(ENDING_ZSET);
+    }
+
+    /** 스케줄러가 스캔할 starting ZSET 목록 */
+    public List<String> startingKeys() {
+        return scanKeys(STARTING_ZSET);
+    }
+
+    /** 가격 필터용 ZSET 목록 */
+    public List<String> priceIndexKeys() {
+        return scanKeys(PRICE_INDEX_ZSET);
+    }
+
+    private ItemKeys legacyItem(Long liveItemId) {
+        String itemKey = LIVE_ITEM_PREFIX + liveItemId;
+        return new ItemKeys(itemKey, itemKey + ":deposits", ENDING_ZSET, STARTING_ZSET, PRICE_INDEX_ZSET, HAS_BID_SET,
+                itemKey + ":proxy");
+    }
+
+    private ItemKeys shardedItem(Long liveItemId) {
+        String tag = itemTag(bucketOf(liveItemId));
+        String itemKey = LIVE_ITEM_PREFIX + tag + ":" + liveItemId;
+        return new ItemKeys(
+                itemKey,
+                itemKey + ":deposits",
+                ENDING_ZSET + ":" + tag,
+                STARTING_ZSET + ":" + tag,
+                PRICE_INDEX_ZSET + ":" + tag,
+                HAS_BID_SET + ":" + tag,
+                itemKey + ":proxy"
+        );
+    }
+
+    private List<String> scanKeys(String legacyKey) {
+        if (mode == Mode.LEGACY) return List.of(legacyKey);
+
+        List<String> keys = new ArrayList<>(buckets + 1);
+        if (mode == Mode.DUAL) keys.add(legacyKey);
+        for (int b = 0; b < buckets; b++) {
+            keys.add(legacyKey + ":" + itemTag(b));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    /* ==================== 지갑 ==================== */
+
+    /**
+     * 읽기/갱신용 지갑 키
+     * DUAL이면 LEGACY 잔액 키가 남아있을 때만 LEGACY, 아니면 SHARDED
+     * (세션이 먼저 만료돼도 flush 전까지는 잔액 키가 남아있으므로 잔액 키 기준으로 판단)
+     */
+    public WalletKeys wallet(Long userId) {
+        return switch (mode) {
+            case LEGACY -> legacyWallet(userId);
+            case SHARDED -> shardedWallet(userId);
+            case DUAL -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(BAL_PREFIX + userId))
+                    ? legacyWallet(userId)
+                    : shardedWallet(userId);
+        };
+    }
+
+    /** 두 유저의 지갑 키가 서로 다른 슬롯일 수 있는지 (하나의 스크립트로 묶을 수 없는지) */
+    public boolean isCrossSlot(WalletKeys a, WalletKeys b) {
+        return mode == Mode.SHARDED && !hashTag(a.balanceKey()).equals(hashTag(b.balanceKey()));
+    }
+
+    /**
+     * 세션 키에서 userId 추출 (만료 키 이벤트 처리용). 세션 키가 아니면 null
+     * 모드와 무관하게 LEGACY(auction:session:15), SHARDED(auction:session:{w15}:15) 둘 다 인식
+     */
+    public Long sessionUserId(String key) {
+        if (key == null || !key.startsWith(SESSION_PREFIX)) return null;
+
+        String rest = key.substring(SESSION_PREFIX.length());
+        if (rest.startsWith("{")) {
+            int close = rest.indexOf("}:");
+            if (close < 0) return null;
+            rest = rest.substring(close + 2);
+        }
+        try {
+            return Long.parseLong(rest);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** 지갑 이벤트 스트림 목록 (WalletHistoryProjector가 소비) */
+    public List<String> walletEventStreamKeys() {
+        if (mode == Mode.LEGACY) return List.of(WALLET_EVENT_STREAM);
+
+        List<String> keys = new ArrayList<>(buckets + 1);
+        if (mode == Mode.DUAL) keys.add(WALLET_EVENT_STREAM);
+        for (int b = 0; b < buckets; b++) {
+            keys.add(WALLET_EVENT_STREAM + ":" + walletTag(b));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    /** flush됐지만 아직 DB에 반영되지 않은 잔액 해시 목록 (SessionExpiryProcessor가 복구) */
+    public List<String> walletFlushPendingKeys() {
+        if (mode == Mode.LEGACY) return List.of(WALLET_FLUSH_PENDING_HASH);
+
+        List<String> keys = new ArrayList<>(buckets + 1);
+        if (mode == Mode.DUAL) keys.add(WALLET_FLUSH_PENDING_HASH);
+        for (int b = 0; b < buckets; b++) {
+            keys.add(WALLET_FLUSH_PENDING_HASH + ":" + walletTag(b));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * 한 유저의 flush 대기 잔액이 있을 수 있는 해시
+     * DUAL이면 flush 시점에 어느 쪽 키였는지 알 수 없으므로 LEGACY/SHARDED 둘 다
+     */
+    public List<String> walletFlushPendingKeys(Long userId) {
+        return switch (mode) {
+            case LEGACY -> List.of(WALLET_FLUSH_PENDING_HASH);
+            case SHARDED -> List.of(shardedWallet(userId).flushPendingKey());
+            case DUAL -> List.of(WALLET_FLUSH_PENDING_HASH, shardedWallet(userId).flushPendingKey());
+        };
+    }
+
+    private WalletKeys legacyWallet(Long userId) {
+        return new WalletKeys(
+                SESSION_PREFIX + userId,
+                BAL_PREFIX + userId,
+                VER_PREFIX + userId,
+                WALLET_EVENT_STREAM,
+                WALLET_FLUSH_PENDING_HASH
+        );
+    }
+
+    private WalletKeys shardedWallet(Long userId) {
+        String tag = walletTag(bucketOf(userId));
+        return new WalletKeys(
+                SESSION_PREFIX + tag + ":" + userId,
+                BAL_PREFIX + tag + ":" + userId,
+                VER_PREFIX + tag + ":" + userId,
+                WALLET_EVENT_STREAM + ":" + tag,
+                WALLET_FLUSH_PENDING_HASH + ":" + tag
+        );
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    private int bucketOf(Long id) {
+        return (int) Math.floorMod(id, (long) buckets);
+    }
+
+    private static String itemTag(int bucket) {
+        return "{i" + bucket + "}";
+    }
+
+    private static String walletTag(int bucket) {
+        return "{w" + bucket + "}";
+    }
+
+    private static String hashTag(String key) {
+        int open = key.indexOf('{');
+        int close = open < 0 ? -1 : key.indexOf('}', open + 1);
+        return (open >= 0 && close > open + 1) ? key.substring(open + 1, close) : key;
+    }
+}
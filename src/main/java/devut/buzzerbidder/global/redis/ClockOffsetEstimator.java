@@ -0,0 +1,94 @@
+package devut.buzzerbidder.global.redis;
+
+/**
+ * 원격 시계(Redis TIME) 추정기 (NTP 방식)
+ *
+ * - 샘플 1개 = 요청 보낸 시각/응답 받은 시각(로컬 nanoTime) + 서버 시각
+ *   서버 시각은 왕복 중간(RTT/2) 시점의 값으로 보고, 로컬 단조 시계에 고정(anchor)
+ * - 연속 샘플 사이의 차이로 드리프트(로컬 대비 서버 시계 속도 차이)를 추정해 보정
+ * - 오차 상한 = RTT/2 + 경과 시간 × 드리프트 상한
+ *
+ * 로컬 벽시계(currentTimeMillis)가 아니라 nanoTime 기준이라 JVM 쪽 시각 보정(NTP step)에 영향받지 않음
+ * 스레드 안전: 상태는 불변 스냅샷 하나로 교체
+ */
+public class ClockOffsetEstimator {
+
+    // 이보다 짧은 간격의 샘플로는 드리프트를 추정하지 않음 (RTT 흔들림이 지배적)
+    private static final double MIN_DRIFT_WINDOW_MS = 1_000.0;
+    private static final double DRIFT_SMOOTHING = 0.2;
+
+    private record Snapshot(long anchorNanos, double serverMsAtAnchor, double rttMs, double drift) {}
+
+    private final double maxDrift;
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param maxDriftPpm 드리프트 상한(ppm). 추정값도 이 범위로 제한하고 오차 계산에 사용
+     */
+    public ClockOffsetEstimator(double maxDriftPpm) {
+        this.maxDrift = maxDriftPpm / 1_000_000.0;
+    }
+
+    /**
+     * 샘플 반영
+     *
+     * @param sendNanos    요청 직전 nanoTime
+     * @param recvNanos    응답 직후 nanoTime
+     * @param serverMicros 서버 시각(epoch us)
+     */
+    public void record(long sendNanos, long recvNanos, long serverMicros) {
+        long rttNanos = Math.max(0L, recvNanos - sendNanos);
+        long anchorNanos = sendNanos + rttNanos / 2;
+        double serverMs = serverMicros / 1_000.0;
+
+        Snapshot prev = snapshot;
+        double drift = prev == null ? 0.0 : prev.drift();
+        if (prev != null) {
+            double elapsedMs = (anchorNanos - prev.anchorNanos()) / 1_000_000.0;
+            if (elapsedMs >= MIN_DRIFT_WINDOW_MS) {
+                double measured = (serverMs - prev.serverMsAtAnchor() - elapsedMs) / elapsedMs;
+                drift = clamp(drift + DRIFT_SMOOTHING * (measured - drift));
+            }
+        }
+
+        snapshot = new Snapshot(anchorNanos, serverMs, rttNanos / 1_000_000.0, drift);
+    }
+
+    public boolean hasSample() {
+        return snapshot != null;
+    }
+
+    /** nowNanos 시점의 서버 시각(epoch ms) 추정. 샘플이 없으면 예외 */
+    public long serverNowMs(long nowNanos) {
+        Snapshot s = requireSnapshot();
+        double elapsedMs = (nowNanos - s.anchorNanos()) / 1_000_000.0;
+        return (long) Math.floor(s.serverMsAtAnchor() + elapsedMs * (1.0 + s.drift()));
+    }
+
+    /** nowNanos 시점 추정값의 오차 상한(ms). 샘플이 없으면 무한대 */
+    public double errorBoundMs(long nowNanos) {
+        Snapshot s = snapshot;
+        if (s == null) return Double.POSITIVE_INFINITY;
+
+        double elapsedMs = Math.abs(nowNanos - s.anchorNanos()) / 1_000_000.0;
+        return s.rttMs() / 2.0 + elapsedMs * maxDrift;
+    }
+
+    /** 추정 드리프트(ppm). 서버 시계가 더 빠르면 양수 */
+    public double driftPpm() {
+        Snapshot s = snapshot;
+        return s == null ? 0.0 : s.drift() * 1_000_000.0;
+    }
+
+    private Snapshot requireSnapshot() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("Redis 시계 샘플이 아직 없습니다.");
+        }
+        return s;
+    }
+
+    private double clamp(double drift) {
+        return Math.max(-maxDrift, Math.min(maxDrift, drift));
+    }
+}
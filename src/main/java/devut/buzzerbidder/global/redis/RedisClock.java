@@ -0,0 +1,152 @@
+package devut.buzzerbidder.global.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 서버 시각을 로컬에서 추정해 제공 (매 조회마다 TIME 왕복을 하지 않음)
+ *
+ * - sync-ms 주기로 TIME을 samples번 호출해 RTT가 가장 짧은 샘플로 오프셋/드리프트 갱신
+ * - redisNowMs(): 추정 오차가 max-error-ms 이하면 로컬 계산, 넘으면(샘플 없음/오래됨) TIME 1회로 직접 조회
+ * - 입찰/종료 스크립트는 계속 Lua 안의 TIME을 기준으로 함. 이 값은 읽기 경로(남은 시간 표시 등)용
+ *
+ * 메트릭: buzzerbidder.redis.clock.offset(서버 - 로컬 벽시계, ms), .error(현재 오차 상한, ms),
+ *        .drift(ppm), .fallback(직접 조회 횟수)
+ *
+ * auction.redis.clock.enabled=false면 항상 TIME 직접 조회
+ */
+@Slf4j
+@Component
+public class RedisClock {
+
+    private final StringRedisTemplate redis;
+    private final ClockOffsetEstimator estimator;
+
+    private final boolean enabled;
+    private final double maxErrorMs;
+    private final int samples;
+
+    private final Counter fallback;
+
+    public RedisClock(
+            StringRedisTemplate redis,
+            MeterRegistry meterRegistry,
+            @Value("${auction.redis.clock.enabled:true}") boolean enabled,
+            @Value("${auction.redis.clock.max-error-ms:10}") double maxErrorMs,
+            @Value("${auction.redis.clock.samples:3}") int samples,
+            @Value("${auction.redis.clock.max-drift-ppm:200}") double maxDriftPpm
+    ) {
+        this.redis = redis;
+        this.estimator = new ClockOffsetEstimator(maxDriftPpm);
+        this.enabled = enabled;
+        this.maxErrorMs = maxErrorMs;
+        this.samples = Math.max(1, samples);
+
+        this.fallback = meterRegistry.counter("buzzerbidder.redis.clock.fallback");
+        Gauge.builder("buzzerbidder.redis.clock.offset", this, RedisClock::offsetMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("buzzerbidder.redis.clock.error", this, c -> c.estimator.errorBoundMs(System.nanoTime()))
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("buzzerbidder.redis.clock.drift", estimator, ClockOffsetEstimator::driftPpm)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled) return;
+        try {
+            sync();
+        } catch (Exception e) {
+            // Redis가 아직 준비되지 않아도 기동은 계속, 첫 조회 시 직접 조회
+            log.warn("Redis 시계 초기 동기화 실패. error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auction.redis.clock.sync-ms:5000}")
+    public void sync() {
+        if (!enabled) return;
+
+        long bestSend = 0L;
+        long bestRecv = Long.MAX_VALUE;
+        long bestServerMicros = 0L;
+        for (int i = 0; i < samples; i++) {
+            long send = System.nanoTime();
+            long serverMicros = fetchServerMicros();
+            long recv = System.nanoTime();
+            if (recv - send < bestRecv - bestSend) {
+                bestSend = send;
+                bestRecv = recv;
+                bestServerMicros = serverMicros;
+            }
+        }
+        estimator.record(bestSend, bestRecv, bestServerMicros);
+    }
+
+    /**
+     * Redis 서버 현재 시각(epoch ms). 오차는 max-error-ms 이내
+     */
+    public long redisNowMs() {
+        if (enabled) {
+            long now = System.nanoTime();
+            if (estimator.errorBoundMs(now) <= maxErrorMs) {
+                return estimator.serverNowMs(now);
+            }
+        }
+        return fetchNowMs();
+    }
+
+    /**
+     * 실제 Redis 시각이 이 값 이상임이 보장되는 시각(epoch ms)
+     * "이미 지났는지" 판단용 (추정 오차 때문에 마감 전에 끝내지 않도록)
+     */
+    public long redisNowLowerBoundMs() {
+        if (enabled) {
+            long now = System.nanoTime();
+            double error = estimator.errorBoundMs(now);
+            if (error <= maxErrorMs) {
+                return estimator.serverNowMs(now) - (long) Math.ceil(error);
+            }
+        }
+        return fetchNowMs();
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    // 직접 조회. 받은 값은 추정기에도 반영
+    private long fetchNowMs() {
+        fallback.increment();
+        long send = System.nanoTime();
+        long serverMicros = fetchServerMicros();
+        long recv = System.nanoTime();
+        if (enabled) {
+            estimator.record(send, recv, serverMicros);
+        }
+        return serverMicros / 1_000L;
+    }
+
+    private long fetchServerMicros() {
+        Long micros = redis.execute((RedisCallback<Long>) connection ->
+                connection.serverCommands().time(TimeUnit.MICROSECONDS));
+        if (micros == null) {
+            throw new IllegalStateException("Redis TIME 조회 결과가 null입니다.");
+        }
+        return micros;
+    }
+
+    private double offsetMs() {
+        if (!estimator.hasSample()) return 0.0;
+        return estimator.serverNowMs(System.nanoTime()) - System.currentTimeMillis();
+    }
+}
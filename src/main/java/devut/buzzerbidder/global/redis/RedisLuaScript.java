@@ -0,0 +1,39 @@
+package devut.buzzerbidder.global.redis;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+
+/**
+ * 이름이 붙은 Lua 스크립트 정의
+ * - SHA1은 생성 시점에 한 번만 계산되고, 이후 호출에서는 재계산하지 않음
+ * - name은 메트릭 태그(script=...)로 사용
+ */
+public record RedisLuaScript<T>(String name, DefaultRedisScript<T> script) {
+
+    public static <T> RedisLuaScript<T> of(String name, String scriptText, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>(scriptText, resultType);
+        // SHA1 미리 계산
+        script.getSha1();
+        return new RedisLuaScript<>(name, script);
+    }
+
+    /** List 반환 스크립트용 (unchecked 경고를 한 곳에만 모음) */
+    public static <E> RedisLuaScript<List<E>> ofList(String name, String scriptText) {
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        Class<List<E>> listClass = (Class) List.class;
+        return of(name, scriptText, listClass);
+    }
+
+    public String sha1() {
+        return script.getSha1();
+    }
+
+    public String scriptText() {
+        return script.getScriptAsString();
+    }
+
+    public Class<T> resultType() {
+        return script.getResultType();
+    }
+}
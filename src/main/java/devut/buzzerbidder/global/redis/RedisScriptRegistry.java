@@ -0,0 +1,294 @@
+package devut.buzzerbidder.global.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lua 스크립트 중앙 레지스트리
+ *
+ * - 기동 시 등록된 모든 스크립트를 SCRIPT LOAD로 미리 적재
+ * - 실행은 항상 EVALSHA (스크립트 본문을 매 호출마다 전송하지 않음)
+ * - Redis 재시작/페일오버로 스크립트 캐시가 비어 NOSCRIPT가 나면 전체 재적재 후 1회 재시도
+ * - 스크립트별 지연시간(buzzerbidder.redis.script)과 결과 코드(buzzerbidder.redis.script.result) 메트릭 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+
+    private static final String TIMER_NAME = "buzzerbidder.redis.script";
+    private static final String RESULT_COUNTER_NAME = "buzzerbidder.redis.script.result";
+    private static final String RELOAD_COUNTER_NAME = "buzzerbidder.redis.script.reload";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // name -> script
+    private final Map<String, RedisLuaScript<?>> scripts = new ConcurrentHashMap<>();
+
+    // 메터 조회 비용을 줄이기 위한 캐시 (name:tag -> meter)
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> resultCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 스크립트 등록. 같은 이름으로 다른 본문을 등록하면 예외
+     */
+    public void register(RedisLuaScript<?>... luaScripts) {
+        for (RedisLuaScript<?> luaScript : luaScripts) {
+            RedisLuaScript<?> prev = scripts.putIfAbsent(luaScript.name(), luaScript);
+            if (prev != null && !prev.sha1().equals(luaScript.sha1())) {
+                throw new IllegalStateException("이미 다른 본문으로 등록된 Lua 스크립트입니다. name=" + luaScript.name());
+            }
+        }
+    }
+
+    /** 기동 완료 시점에 등록된 스크립트를 모두 SCRIPT LOAD */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                loadAll(connection);
+                return null;
+            });
+            log.info("Lua 스크립트 사전 적재 완료: count={}", scripts.size());
+        } catch (Exception e) {
+            // Redis가 아직 준비되지 않아도 기동은 계속, 첫 호출 시 NOSCRIPT 경로로 적재됨
+            log.warn("Lua 스크립트 사전 적재 실패. 첫 호출 시 재적재합니다. error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * EVALSHA로 스크립트 실행
+     * - 문자열 결과는 String, 정수 결과는 Long 으로 역직렬화 (StringRedisTemplate.execute와 동일한 규칙)
+     */
+    public <T> T execute(RedisLuaScript<T> luaScript, List<String> keys, String... args) {
+        register(luaScript);
+
+        byte[][] keysAndArgs = serialize(keys, args);
+
+        ReturnType returnType = ReturnType.fromJavaType(luaScript.resultType());
+        int numKeys = keys.size();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Object raw = stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+                try {
+                    return connection.scriptingCommands().evalSha(luaScript.sha1(), returnType, numKeys, keysAndArgs);
+                } catch (RuntimeException e) {
+                    if (!isNoScriptError(e)) throw e;
+
+                    // 페일오버 등으로 스크립트 캐시가 비었음 -> 전체 재적재 후 재시도
+                    log.warn("NOSCRIPT 감지. Lua 스크립트 재적재: script={}", luaScript.name());
+                    meterRegistry.counter(RELOAD_COUNTER_NAME, "script", luaScript.name()).increment();
+                    loadAll(connection);
+                    return connection.scriptingCommands().evalSha(luaScript.sha1(), returnType, numKeys, keysAndArgs);
+                }
+            });
+
+            @SuppressWarnings("unchecked")
+            T result = (T) deserialize(raw);
+            return result;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(timer(luaScript.name(), outcome));
+        }
+    }
+
+    /**
+     * 같은 스크립트를 여러 번 파이프라인으로 실행 (Redis 왕복 1회)
+     * - 결과는 calls 순서대로, 호출마다 결과 또는 에러를 담아 반환 (한 건이 실패해도 나머지 결과는 그대로 전달)
+     *   → 이미 실행돼 키를 바꾼 호출의 결과를 잃지 않도록 호출자가 성공/실패를 건별로 처리해야 함
+     * - NOSCRIPT로 실패한 호출만 전체 재적재 후 1회 재실행 (이미 실행된 호출은 다시 돌리지 않음)
+     * - 파이프라인 자체가 실패(연결 끊김 등)하면 예외
+     */
+    public <T> List<ScriptResult<T>> executePipelined(RedisLuaScript<T> luaScript, List<ScriptCall> calls) {
+        if (calls.isEmpty()) return List.of();
+        register(luaScript);
+
+        ReturnType returnType = ReturnType.fromJavaType(luaScript.resultType());
+        List<byte[][]> serialized = new ArrayList<>(calls.size());
+        for (ScriptCall call : calls) {
+            serialized.add(serialize(call.keys(), call.args().toArray(String[]::new)));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            List<Object> raw = evalShaPipelined(luaScript, returnType, calls, serialized);
+
+            List<Integer> noScript = new ArrayList<>();
+            for (int i = 0; i < raw.size(); i++) {
+                if (raw.get(i) instanceof Throwable t && isNoScriptError(t)) {
+                    noScript.add(i);
+                }
+            }
+
+            if (!noScript.isEmpty()) {
+                // 페일오버 등으로 스크립트 캐시가 비었음 -> 전체 재적재 후 실패한 호출만 재시도
+                log.warn("NOSCRIPT 감지(파이프라인). Lua 스크립트 재적재: script={}, count={}", luaScript.name(), noScript.size());
+                meterRegistry.counter(RELOAD_COUNTER_NAME, "script", luaScript.name()).increment();
+                stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                    loadAll(connection);
+                    return null;
+                });
+
+                List<ScriptCall> retryCalls = new ArrayList<>(noScript.size());
+                List<byte[][]> retrySerialized = new ArrayList<>(noScript.size());
+                for (int i : noScript) {
+                    retryCalls.add(calls.get(i));
+                    retrySerialized.add(serialized.get(i));
+                }
+                List<Object> retried = evalShaPipelined(luaScript, returnType, retryCalls, retrySerialized);
+                for (int j = 0; j < noScript.size(); j++) {
+                    raw.set(noScript.get(j), retried.get(j));
+                }
+            }
+
+            List<ScriptResult<T>> results = new ArrayList<>(raw.size());
+            for (Object o : raw) {
+                if (o instanceof Throwable t) {
+                    outcome = "partial";
+                    results.add(ScriptResult.failed(t instanceof RuntimeException re ? re : new IllegalStateException(t)));
+                    continue;
+                }
+                @SuppressWarnings("unchecked")
+                T result = (T) deserialize(o);
+                results.add(ScriptResult.ok(result));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(timer(luaScript.name() + ".pipelined", outcome));
+        }
+    }
+
+    /** 파이프라인 실행 단위 (KEYS, ARGV) */
+    public record ScriptCall(List<String> keys, List<String> args) {}
+
+    /** 파이프라인 호출 1건의 결과. error가 null이 아니면 실패 */
+    public record ScriptResult<T>(T value, RuntimeException error) {
+
+        public static <T> ScriptResult<T> ok(T value) {
+            return new ScriptResult<>(value, null);
+        }
+
+        public static <T> ScriptResult<T> failed(RuntimeException error) {
+            return new ScriptResult<>(null, error);
+        }
+
+        public boolean isOk() {
+            return error == null;
+        }
+    }
+
+    /**
+     * 스크립트가 반환한 결과 코드를 기록 (예: 입찰 스크립트의 1/0/-1/-2/-3/-4)
+     */
+    public void recordResultCode(RedisLuaScript<?> luaScript, String code) {
+        resultCounters.computeIfAbsent(luaScript.name() + ":" + code, k ->
+                Counter.builder(RESULT_COUNTER_NAME)
+                        .tag("script", luaScript.name())
+                        .tag("code", code)
+                        .register(meterRegistry)
+        ).increment();
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    /**
+     * 파이프라인 실행. 일부 명령이 실패해도 예외 대신 해당 위치에 예외 객체를 담아 반환
+     * 드라이버가 명령별 결과를 주지 않으면(배치 전체 실패) 예외
+     */
+    private List<Object> evalShaPipelined(RedisLuaScript<?> luaScript, ReturnType returnType,
+                                          List<ScriptCall> calls, List<byte[][]> serialized) {
+        try {
+            return new ArrayList<>(stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < calls.size(); i++) {
+                    connection.scriptingCommands().evalSha(
+                            luaScript.sha1(), returnType, calls.get(i).keys().size(), serialized.get(i));
+                }
+                return null;
+            }));
+        } catch (RedisPipelineException e) {
+            if (e.getPipelineResult().size() != calls.size()) throw e;
+            return new ArrayList<>(e.getPipelineResult());
+        }
+    }
+
+    private byte[][] serialize(List<String> keys, String[] args) {
+        RedisSerializer<String> serializer = stringRedisTemplate.getStringSerializer();
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        int i = 0;
+        for (String key : keys) {
+            keysAndArgs[i++] = serializer.serialize(key);
+        }
+        for (String arg : args) {
+            keysAndArgs[i++] = serializer.serialize(arg);
+        }
+        return keysAndArgs;
+    }
+
+    private void loadAll(RedisConnection connection) {
+        for (RedisLuaScript<?> luaScript : scripts.values()) {
+            connection.scriptingCommands().scriptLoad(luaScript.scriptText().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Timer timer(String name, String outcome) {
+        return timers.computeIfAbsent(name + ":" + outcome, k ->
+                Timer.builder(TIMER_NAME)
+                        .tag("script", name)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+        );
+    }
+
+    private Object deserialize(Object raw) {
+        if (raw instanceof byte[] bytes) {
+            return stringRedisTemplate.getStringSerializer().deserialize(bytes);
+        }
+        if (raw instanceof List<?> list) {
+            List<Object> out = new ArrayList<>(list.size());
+            for (Object o : list) {
+                out.add(deserialize(o));
+            }
+            return out;
+        }
+        return raw;
+    }
+
+    private boolean isNoScriptError(Throwable e) {
+        Throwable cur = e;
+        while (cur != null) {
+            if (cur.getMessage() != null && cur.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+            cur = cur.getCause();
+        }
+        return false;
+    }
+}
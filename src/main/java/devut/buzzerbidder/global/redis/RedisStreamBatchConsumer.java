@@ -0,0 +1,502 @@
+package devut.buzzerbidder.global.redis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Stream 배치 소비 공통 로직
+ *
+ * 1. XREADGROUP COUNT=batchSize BLOCK=blockTimeout 으로 한 번에 여러 건 수신
+ * 2. handleBatch로 한 번에 처리 (보통 JDBC batch + 단일 트랜잭션)
+ * 3. 성공한 레코드를 XACK 한 번으로 일괄 ACK
+ * 4. 배치 실패 시 건별로 재시도
+ *    - 다른 레코드는 성공하는데 혼자 실패하는 레코드(poison)만 dead-letter 스트림으로 옮긴 뒤 ACK
+ *    - 전부 실패하면(DB 장애 등) ACK 하지 않고 PEL에 남겨 회수 경로에서 다시 처리
+ * 5. claimMinIdle 이상 ACK 안 된 PEL 항목(죽은 노드/실패 배치)은 XPENDING + XCLAIM으로 회수해서 처리
+ *    전달 횟수가 MAX_DELIVERIES 이상인데 최근에 다른 배치는 성공했다면 혼자 실패하는 것으로 보고 dead-letter
+ *
+ * group은 스트림 처음(0-0)부터, 스트림이 없으면 MKSTREAM으로 만들고, 소비 중 NOGROUP이면 다시 만듦
+ *
+ * 인스턴스마다 고유 consumer 이름을 쓰므로 여러 노드가 같은 group을 나눠서 소비할 수 있음
+ *
+ * 스트림이 여러 개(해시태그 버킷별 스트림)면 Cluster에서 다중 키 XREADGROUP이 CROSSSLOT이 되므로
+ * 스트림별로 BLOCK 없이 돌아가며 읽고, 모든 스트림이 비어 있으면 잠깐 쉼
+ */
+@Slf4j
+public abstract class RedisStreamBatchConsumer implements SmartLifecycle {
+
+    private static final Duration METRICS_REFRESH_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+    private static final long REDIS_TIMEOUT_MS = 5_000L;
+
+    // 건별 재시도에서 이만큼 연속 실패하면 공통 원인으로 보고 나머지는 시도하지 않고 PEL에 남김
+    private static final int MAX_CONSECUTIVE_RECORD_FAILURES = 3;
+    // 회수 경로에서 이 횟수 이상 전달됐는데도 혼자 실패하면 dead-letter
+    private static final long MAX_DELIVERIES = 5L;
+
+    protected final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private static final Duration MULTI_STREAM_MAX_IDLE_SLEEP = Duration.ofMillis(100);
+
+    private final Settings settings;
+    private final String consumerName;
+    private final List<StreamState> streams;
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    private long lastClaimAtMs = 0L;
+    private long lastMetricsAtMs = 0L;
+    // 마지막으로 handleBatch가 성공한 시각 (처리 경로가 정상인지 판단)
+    private long lastSuccessAtMs = 0L;
+
+    /**
+     * @param streamKeys          소비할 스트림 키 목록 (같은 group 이름으로 각각 소비)
+     * @param group               consumer group 이름
+     * @param consumerName        consumer 이름 (비어 있으면 host-pid-random 으로 생성)
+     * @param batchSize           XREADGROUP COUNT
+     * @param blockTimeout        XREADGROUP BLOCK
+     * @param claimMinIdle        이 시간 이상 ACK 안 된 PEL 항목은 XPENDING + XCLAIM으로 회수할 대상
+     * @param deadLetterStreamKey 최종 실패 레코드를 옮길 스트림 키
+     */
+    public record Settings(
+            List<String> streamKeys,
+            String group,
+            String consumerName,
+            int batchSize,
+            Duration blockTimeout,
+            Duration claimMinIdle,
+            String deadLetterStreamKey
+    ) {
+        public Settings {
+            if (streamKeys == null || streamKeys.isEmpty()) {
+                throw new IllegalArgumentException("streamKeys는 비어 있을 수 없습니다.");
+            }
+            streamKeys = List.copyOf(streamKeys);
+        }
+    }
+
+    /**
+     * 스트림별 상태 (PEL 회수 커서, 메트릭)
+     */
+    private static final class StreamState {
+        private final String key;
+        private final AtomicLong pendingCount = new AtomicLong();
+        private final AtomicLong lagMs = new AtomicLong();
+        private final Timer batchTimer;
+        private final DistributionSummary batchSizeSummary;
+        // 다음 XPENDING 스캔 시작 ID (null이면 처음부터)
+        private String claimCursor;
+
+        private StreamState(String key, String group, MeterRegistry meterRegistry) {
+            this.key = key;
+
+            this.batchTimer = Timer.builder("buzzerbidder.stream.batch")
+                    .tag("stream", key)
+                    .tag("group", group)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+
+            this.batchSizeSummary = DistributionSummary.builder("buzzerbidder.stream.batch.size")
+                    .tag("stream", key)
+                    .tag("group", group)
+                    .register(meterRegistry);
+
+            Gauge.builder("buzzerbidder.stream.pending", pendingCount, AtomicLong::get)
+                    .tag("stream", key)
+                    .tag("group", group)
+                    .register(meterRegistry);
+
+            Gauge.builder("buzzerbidder.stream.lag.ms", lagMs, AtomicLong::get)
+                    .tag("stream", key)
+                    .tag("group", group)
+                    .register(meterRegistry);
+        }
+    }
+
+    protected RedisStreamBatchConsumer(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            Settings settings
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.settings = settings;
+        this.consumerName = (settings.consumerName() == null || settings.consumerName().isBlank())
+                ? generateConsumerName()
+                : settings.consumerName();
+        this.streams = settings.streamKeys().stream()
+                .map(key -> new StreamState(key, settings.group(), meterRegistry))
+                .toList();
+    }
+
+    /**
+     * 배치 처리. 예외를 던지면 배치 전체가 실패한 것으로 보고 건별 재시도
+     * (실패한 레코드는 다시 전달될 수 있으므로 멱등해야 함)
+     */
+    protected abstract void handleBatch(List<MapRecord<String, String, String>> records);
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    /* ==================== Lifecycle ==================== */
+
+    @Override
+    public void start() {
+        streams.forEach(this::ensureGroup);
+
+        running = true;
+        worker = new Thread(this::runLoop, "stream-" + settings.group() + "-" + consumerName);
+        worker.setDaemon(true);
+        worker.start();
+
+        log.info("Redis Stream 배치 consumer 시작: streams={}, group={}, consumer={}, batchSize={}",
+                settings.streamKeys(), settings.group(), consumerName, settings.batchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(settings.blockTimeout().toMillis() + REDIS_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /* ==================== 소비 루프 ==================== */
+
+    private void runLoop() {
+        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
+
+        boolean single = streams.size() == 1;
+        StreamReadOptions readOptions = single
+                ? StreamReadOptions.empty().count(settings.batchSize()).block(settings.blockTimeout())
+                : StreamReadOptions.empty().count(settings.batchSize());
+        Duration idleSleep = settings.blockTimeout().compareTo(MULTI_STREAM_MAX_IDLE_SLEEP) < 0
+                ? settings.blockTimeout()
+                : MULTI_STREAM_MAX_IDLE_SLEEP;
+
+        while (running) {
+            // 스트림마다 따로 예외 처리 (한 스트림 실패가 나머지 스트림 소비/회수를 막지 않도록)
+            boolean anyRead = false;
+            int failures = 0;
+            for (StreamState stream : streams) {
+                try {
+                    List<MapRecord<String, String, String>> records = ops.read(
+                            Consumer.from(settings.group(), consumerName),
+                            readOptions,
+                            StreamOffset.create(stream.key, ReadOffset.lastConsumed())
+                    );
+
+                    if (records != null && !records.isEmpty()) {
+                        anyRead = true;
+                        processAndAck(stream, records);
+                    }
+                } catch (Exception e) {
+                    if (!running) return;
+                    failures++;
+                    onStreamError(stream, "소비", e);
+                }
+            }
+
+            long nowMs = System.currentTimeMillis();
+            if (nowMs - lastClaimAtMs >= settings.claimMinIdle().toMillis() / 2) {
+                lastClaimAtMs = nowMs;
+                for (StreamState stream : streams) {
+                    try {
+                        reclaimStuckRecords(stream);
+                    } catch (Exception e) {
+                        if (!running) return;
+                        onStreamError(stream, "PEL 회수", e);
+                    }
+                }
+            }
+            if (nowMs - lastMetricsAtMs >= METRICS_REFRESH_INTERVAL.toMillis()) {
+                lastMetricsAtMs = nowMs;
+                for (StreamState stream : streams) {
+                    try {
+                        refreshMetrics(stream);
+                    } catch (Exception e) {
+                        log.debug("Redis Stream 메트릭 갱신 실패: stream={}, error={}", stream.key, e.getMessage());
+                    }
+                }
+            }
+
+            if (failures == streams.size()) {
+                // 전부 실패(Redis 장애 등)면 잠깐 쉬고 재시도
+                sleepQuietly(ERROR_BACKOFF);
+            } else if (!single && !anyRead) {
+                // 다중 스트림은 BLOCK 없이 읽으므로 모두 비어 있으면 잠깐 쉼
+                sleepQuietly(idleSleep);
+            }
+        }
+    }
+
+    /**
+     * 스트림 하나의 실패 처리
+     * group이 없으면(NOGROUP: 부팅 후 스트림이 지워졌거나 그룹 생성이 실패한 경우) 다시 만들고 다음 루프에서 소비
+     */
+    private void onStreamError(StreamState stream, String action, Exception e) {
+        if (isNoGroup(e)) {
+            log.warn("Redis Stream Consumer Group 없음, 다시 생성: stream={}, group={}", stream.key, settings.group());
+            ensureGroup(stream);
+            return;
+        }
+        log.error("Redis Stream {} 실패: stream={}, group={}, error={}",
+                action, stream.key, settings.group(), e.getMessage());
+    }
+
+    private void processAndAck(StreamState stream, List<MapRecord<String, String, String>> records) {
+        processAndAck(stream, records, Map.of());
+    }
+
+    /**
+     * @param deliveries 회수 경로에서 넘어온 레코드별 전달 횟수 (일반 수신이면 빈 맵)
+     */
+    private void processAndAck(StreamState stream, List<MapRecord<String, String, String>> records,
+                               Map<RecordId, Long> deliveries) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<RecordId> ackIds = new ArrayList<>(records.size());
+
+        try {
+            handleBatch(records);
+            lastSuccessAtMs = System.currentTimeMillis();
+            records.forEach(r -> ackIds.add(r.getId()));
+        } catch (Exception batchError) {
+            log.warn("배치 처리 실패, 건별 재시도: stream={}, size={}, error={}",
+                    stream.key, records.size(), batchError.getMessage());
+            retryEach(stream, records, deliveries, ackIds);
+        } finally {
+            sample.stop(stream.batchTimer);
+            stream.batchSizeSummary.record(records.size());
+        }
+
+        if (ackIds.isEmpty()) return;
+
+        redisTemplate.opsForStream().acknowledge(
+                stream.key,
+                settings.group(),
+                ackIds.toArray(RecordId[]::new)
+        );
+        log.debug("배치 처리 완료 및 ACK: stream={}, size={}", stream.key, ackIds.size());
+    }
+
+    /**
+     * 건별 재시도. 성공/poison 레코드만 ackIds에 담고 나머지는 PEL에 남김
+     */
+    private void retryEach(StreamState stream, List<MapRecord<String, String, String>> records,
+                           Map<RecordId, Long> deliveries, List<RecordId> ackIds) {
+        List<MapRecord<String, String, String>> failed = new ArrayList<>();
+        Map<RecordId, Exception> errors = new HashMap<>();
+        boolean anySucceeded = false;
+        int consecutiveFailures = 0;
+
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                handleBatch(List.of(record));
+                lastSuccessAtMs = System.currentTimeMillis();
+                ackIds.add(record.getId());
+                anySucceeded = true;
+                consecutiveFailures = 0;
+            } catch (Exception recordError) {
+                failed.add(record);
+                errors.put(record.getId(), recordError);
+                if (!anySucceeded && ++consecutiveFailures >= MAX_CONSECUTIVE_RECORD_FAILURES) {
+                    // 공통 원인(DB 장애 등)으로 보고 남은 레코드는 두드리지 않음
+                    log.warn("건별 재시도 연속 실패, 나머지는 PEL에 남김: stream={}, remaining={}",
+                            stream.key, records.size() - ackIds.size() - failed.size());
+                    break;
+                }
+            }
+        }
+
+        boolean healthy = anySucceeded
+                || System.currentTimeMillis() - lastSuccessAtMs < settings.claimMinIdle().toMillis();
+        for (MapRecord<String, String, String> record : failed) {
+            boolean poison = anySucceeded
+                    || (healthy && deliveries.getOrDefault(record.getId(), 0L) >= MAX_DELIVERIES);
+            if (poison) {
+                moveToDeadLetter(record, errors.get(record.getId()));
+                ackIds.add(record.getId());
+            } else {
+                // ACK 하지 않음 → claimMinIdle 뒤 회수 경로에서 다시 처리
+                meterRegistry.counter("buzzerbidder.stream.retry.pending",
+                        "stream", stream.key, "group", settings.group()).increment();
+            }
+        }
+    }
+
+    /**
+     * claimMinIdle 이상 ACK되지 않은 PEL 레코드(죽은 consumer가 가져간 것, 실패로 남겨둔 것)를
+     * 이 consumer로 가져와 처리 (XPENDING으로 후보와 전달 횟수를 보고 XCLAIM)
+     */
+    private void reclaimStuckRecords(StreamState stream) {
+        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
+
+        String cursor = stream.claimCursor;
+        Range<String> range = cursor == null
+                ? Range.unbounded()
+                : Range.rightUnbounded(Range.Bound.inclusive(cursor));
+        long count = settings.batchSize() + 1L;
+
+        PendingMessages pending = ops.pending(stream.key, settings.group(), range, count);
+
+        List<RecordId> idleIds = new ArrayList<>();
+        Map<RecordId, Long> deliveries = new HashMap<>();
+        String last = null;
+        for (PendingMessage message : pending) {
+            last = message.getIdAsString();
+            if (last.equals(cursor)) continue;
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(settings.claimMinIdle()) < 0) continue;
+
+            idleIds.add(message.getId());
+            deliveries.put(message.getId(), message.getTotalDeliveryCount());
+        }
+
+        // 다음 호출에서 이어서 스캔 (끝까지 봤으면 처음부터)
+        stream.claimCursor = pending.size() < count ? null : last;
+
+        if (idleIds.isEmpty()) return;
+
+        // 그사이 다른 consumer가 가져갔으면 minIdle 조건에서 빠짐
+        List<MapRecord<String, String, String>> records = ops.claim(
+                stream.key, settings.group(), consumerName, settings.claimMinIdle(),
+                idleIds.toArray(RecordId[]::new));
+        if (records == null || records.isEmpty()) return;
+
+        log.warn("PEL 레코드 회수(XCLAIM): stream={}, group={}, consumer={}, count={}",
+                stream.key, settings.group(), consumerName, records.size());
+        meterRegistry.counter("buzzerbidder.stream.reclaimed",
+                "stream", stream.key, "group", settings.group()).increment(records.size());
+
+        processAndAck(stream, records, deliveries);
+    }
+
+    private void moveToDeadLetter(MapRecord<String, String, String> record, Exception error) {
+        log.error("레코드 최종 처리 실패, dead-letter로 이동: stream={}, msgId={}, error={}",
+                record.getStream(), record.getId(), error.getMessage());
+
+        Map<String, String> body = new HashMap<>(record.getValue());
+        body.put("originalStream", record.getStream());
+        body.put("originalId", record.getId().getValue());
+        body.put("error", String.valueOf(error.getMessage()));
+
+        redisTemplate.opsForStream().add(
+                StreamRecords.string(body).withStreamKey(settings.deadLetterStreamKey())
+        );
+        meterRegistry.counter("buzzerbidder.stream.deadletter",
+                "stream", record.getStream(), "group", settings.group()).increment();
+    }
+
+    /* ==================== 메트릭 ==================== */
+
+    /**
+     * pending: group 전체 PEL 크기
+     * lag: 마지막으로 스트림에 쌓인 ID와 group이 마지막으로 전달받은 ID의 시간 차(ms)
+     */
+    private void refreshMetrics(StreamState stream) {
+        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
+
+        StreamInfo.XInfoStream info = ops.info(stream.key);
+        StreamInfo.XInfoGroups groups = ops.groups(stream.key);
+
+        groups.stream()
+                .filter(g -> settings.group().equals(g.groupName()))
+                .findFirst()
+                .ifPresent(g -> {
+                    stream.pendingCount.set(g.pendingCount());
+                    stream.lagMs.set(Math.max(0L, idTimeMs(info.lastGeneratedId()) - idTimeMs(g.lastDeliveredId())));
+                });
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    /**
+     * 스트림 처음부터(0-0) 읽는 group 생성 (스트림이 없으면 MKSTREAM으로 함께 생성)
+     * 나중에 생긴 group도 이미 쌓인 이벤트를 건너뛰지 않음 (처리는 멱등이어야 함)
+     */
+    private void ensureGroup(StreamState stream) {
+        try {
+            byte[] rawKey = stream.key.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(rawKey, settings.group(), ReadOffset.from("0-0"), true));
+            log.info("Redis Stream Consumer Group 생성 완료: stream={}, group={}", stream.key, settings.group());
+        } catch (Exception e) {
+            if (e.getMessage() != null && e.getMessage().contains("BUSYGROUP")) {
+                log.debug("Redis Stream Consumer Group이 이미 존재함: stream={}, group={}", stream.key, settings.group());
+            } else {
+                log.warn("Redis Stream Consumer Group 생성 중 예외 발생: stream={}, group={}, error={}",
+                        stream.key, settings.group(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isNoGroup(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("NOGROUP")) return true;
+        }
+        return false;
+    }
+
+    private static long idTimeMs(String streamId) {
+        if (streamId == null || streamId.isBlank()) return 0L;
+        int dash = streamId.indexOf('-');
+        return Long.parseLong(dash < 0 ? streamId : streamId.substring(0, dash));
+    }
+
+    private static String generateConsumerName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static void sleepQuietly(Duration d) {
+        try {
+            Thread.sleep(d.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
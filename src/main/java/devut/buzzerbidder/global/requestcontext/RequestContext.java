@@ -96,24 +96,32 @@ public class RequestContext {
         setCookie(name, null);
     }
 
-    // 현재 인증된 사용자 정보 가져오기
+    // 현재 인증된 사용자 정보 가져오기 (User 엔티티 조회 발생)
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        return getCurrentUserDetails().getUser();
+    }
 
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        return userDetails.getUser();
+    // 현재 인증된 사용자 ID (캐시된 스냅샷, DB 조회 없음)
+    public Long getCurrentUserId() {
+        return getCurrentUserDetails().getId();
     }
 
     public boolean isAuthenticated() {
         try {
-            getCurrentUser();
+            getCurrentUserDetails();
             return true;
         } catch (BusinessException e) {
             return false;
         }
     }
 
+    private CustomUserDetails getCurrentUserDetails() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        return (CustomUserDetails) authentication.getPrincipal();
+    }
+
 }
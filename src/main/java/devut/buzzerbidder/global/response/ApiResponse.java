@@ -4,10 +4,22 @@ import devut.buzzerbidder.global.exeption.ErrorCode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @AllArgsConstructor
 @Getter
 public class ApiResponse<T> {
 
+    // 에러 코드별 응답 본문은 내용이 고정이므로 미리 만들어 재사용 (setter 없음 → 공유해도 안전)
+    private static final Map<ErrorCode, ApiResponse<Void>> ERROR_RESPONSES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ERROR_RESPONSES.put(errorCode, new ApiResponse<>(errorCode.getCode(), errorCode.getMessage(), null));
+        }
+    }
+
     private String resultCode;
     private String msg;
     private T data;
@@ -33,7 +45,7 @@ public class ApiResponse<T> {
 
     // 에러 응답 생성
     public static ApiResponse<Void> error(ErrorCode errorCode) {
-        return new ApiResponse<>(errorCode.getCode(), errorCode.getMessage(), null);
+        return ERROR_RESPONSES.get(errorCode);
     }
 
     public static ApiResponse<Void> error(ErrorCode errorCode, String customMessage) {
@@ -1,6 +1,5 @@
 package devut.buzzerbidder.global.security;
 
-import devut.buzzerbidder.domain.user.entity.User;
 import devut.buzzerbidder.domain.user.repository.UserRepository;
 import devut.buzzerbidder.domain.user.service.AuthTokenService;
 import devut.buzzerbidder.global.exeption.BusinessException;
@@ -29,6 +28,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthTokenService authTokenService;
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
@@ -118,15 +118,18 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
         long id = ((Number) payload.get("id")).longValue();
 
-        // 데이터베이스에서 실제 User 조회
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 캐시된 사용자 스냅샷 사용 (User 엔티티는 컨트롤러에서 필요할 때만 조회)
+        UserPrincipal principal = userPrincipalCache.get(id);
+        if (principal == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
-        UserDetails userDetails = new CustomUserDetails(user);
+        UserDetails userDetails = new CustomUserDetails(principal, () -> userRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND)));
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
             userDetails,
-            userDetails.getPassword(),
+            null,
             userDetails.getAuthorities()
         );
 
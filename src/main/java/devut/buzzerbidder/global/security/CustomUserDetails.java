@@ -3,28 +3,60 @@ package devut.buzzerbidder.global.security;
 import devut.buzzerbidder.domain.user.entity.User;
 import java.util.Collection;
 import java.util.List;
-import lombok.Getter;
+import java.util.function.Supplier;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-@Getter
+/**
+ * 인증 사용자. id/이메일/닉네임 등은 캐시된 스냅샷(UserPrincipal)에서 읽고,
+ * User 엔티티는 getUser()를 처음 호출할 때만 조회
+ */
 public class CustomUserDetails implements UserDetails {
-    private final User user;
+    private final UserPrincipal principal;
+    private final Supplier<User> userLoader;
+    private User user;
 
     public CustomUserDetails(User user) {
+        this.principal = UserPrincipal.from(user);
+        this.userLoader = () -> user;
         this.user = user;
     }
 
+    public CustomUserDetails(UserPrincipal principal, Supplier<User> userLoader) {
+        this.principal = principal;
+        this.userLoader = userLoader;
+    }
+
+    public UserPrincipal getPrincipal() {
+        return principal;
+    }
+
+    /** User 엔티티 (요청당 최대 1회 조회) */
+    public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
+
     public Long getId() {
-        return user.getId();
+        return principal.id();
     }
 
     public String getEmail() {
-        return user.getEmail();
+        return principal.email();
     }
 
     public String getNickname() {
-        return user.getNickname();
+        return principal.nickname();
+    }
+
+    public String getProfileImageUrl() {
+        return principal.profileImageUrl();
+    }
+
+    public User.UserRole getRole() {
+        return principal.role();
     }
 
     @Override
@@ -32,33 +64,34 @@ public class CustomUserDetails implements UserDetails {
         return List.of();
     }
 
+    // JWT 인증이라 비밀번호가 필요 없음 (엔티티를 이미 조회한 경우만 반환)
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return principal.email();
     }
 
     @Override
     public boolean isAccountNonExpired() {
-        return !user.getDeleted();
+        return !principal.deleted();
     }
 
     @Override
     public boolean isAccountNonLocked() {
-        return !user.getDeleted();
+        return !principal.deleted();
     }
 
     @Override
     public boolean isCredentialsNonExpired() {
-        return !user.getDeleted();
+        return !principal.deleted();
     }
 
     @Override
     public boolean isEnabled() {
-        return !user.getDeleted();
+        return !principal.deleted();
     }
-}
\ No newline at end of file
+}
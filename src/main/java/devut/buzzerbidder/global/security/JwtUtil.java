@@ -64,7 +64,8 @@ public class JwtUtil {
 
             SecretKey secretKey = Keys.hmacShaKeyFor(secretPattern.getBytes(StandardCharsets.UTF_8));
 
-            if(isValid(jwt, secretPattern)) {
+            // 검증과 파싱을 한 번에 (isValid 후 다시 파싱하지 않음)
+            try {
                 Claims claims = (Claims) Jwts
                     .parser()
                     .verifyWith(secretKey)
@@ -72,9 +73,23 @@ public class JwtUtil {
                     .parse(jwt)
                     .getPayload();
                 return new HashMap<>(claims);
+            } catch (Exception e) {
+                return null;
             }
+        }
 
-            return null;
+        /**
+         * payload의 exp 클레임을 epoch ms로 변환합니다. 없으면 Long.MAX_VALUE
+         */
+        public static long expiresAtMs(Map<String, Object> payload) {
+            Object exp = payload.get("exp");
+            if (exp instanceof Date date) {
+                return date.getTime();
+            }
+            if (exp instanceof Number seconds) {
+                return seconds.longValue() * 1000L;
+            }
+            return Long.MAX_VALUE;
         }
         
         /**
@@ -0,0 +1,27 @@
+package devut.buzzerbidder.global.security;
+
+import devut.buzzerbidder.domain.user.entity.User;
+
+/**
+ * 인증된 사용자 불변 스냅샷 (요청마다 users 테이블을 조회하지 않도록 UserPrincipalCache에 보관)
+ */
+public record UserPrincipal(
+        Long id,
+        String email,
+        String nickname,
+        String profileImageUrl,
+        User.UserRole role,
+        boolean deleted
+) {
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getRole(),
+                Boolean.TRUE.equals(user.getDeleted())
+        );
+    }
+}
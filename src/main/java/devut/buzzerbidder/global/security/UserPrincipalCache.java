@@ -0,0 +1,183 @@
+package devut.buzzerbidder.global.security;
+
+import devut.buzzerbidder.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 사용자 스냅샷(UserPrincipal) JVM 캐시 (HTTP 인증 필터 / STOMP CONNECT 공용)
+ *
+ * - JWT 검증 후 userId로 조회, 없거나 ttl-ms가 지났으면 DB 조회 후 적재
+ * - User 변경(프로필/권한/탈퇴 등)은 UserPrincipalInvalidationListener가 커밋 후 invalidate
+ *   → 로컬 제거 + auth:principal:invalidate 채널로 다른 노드에 전파
+ * - 알림이 유실돼도 오래된 값은 최대 ttl-ms
+ * - max-entries를 넘으면 만료된 것부터, 그래도 넘치면 임의로 일부 제거
+ *
+ * 메트릭: buzzerbidder.auth.principal.cache.requests{result=hit|miss}, .size
+ * auth.principal-cache.enabled=false면 항상 DB 조회
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "auth:principal:invalidate";
+
+    private record Entry(UserPrincipal principal, long loadedAtNanos) {}
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auth.principal-cache.enabled:true}") boolean enabled,
+            @Value("${auth.principal-cache.max-entries:50000}") int maxEntries,
+            @Value("${auth.principal-cache.ttl-ms:60000}") long ttlMs
+    ) {
+        this.userRepository = userRepository;
+        this.redis = redis;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+
+        this.hits = meterRegistry.counter("buzzerbidder.auth.principal.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("buzzerbidder.auth.principal.cache.requests", "result", "miss");
+        Gauge.builder("buzzerbidder.auth.principal.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!enabled) return;
+        redisMessageListenerContainer.removeMessageListener(this);
+    }
+
+    /* ==================== 조회 ==================== */
+
+    /** userId의 스냅샷. 없는 사용자면 null */
+    public UserPrincipal get(long userId) {
+        if (!enabled) {
+            return load(userId);
+        }
+
+        long now = System.nanoTime();
+        Entry e = entries.get(userId);
+        if (e != null && now - e.loadedAtNanos() <= ttlNanos) {
+            hits.increment();
+            return e.principal();
+        }
+        misses.increment();
+
+        UserPrincipal principal = load(userId);
+        if (principal == null) {
+            entries.remove(userId);
+            return null;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(userId)) {
+            evict(now);
+        }
+        entries.put(userId, new Entry(principal, now));
+        return principal;
+    }
+
+    /* ==================== 무효화 ==================== */
+
+    /**
+     * 사용자 캐시 무효화 + 다른 노드에 전파
+     * 트랜잭션 안이면 커밋 후 한 번 더 수행 (커밋 전 사이에 동시 요청이 이전 값을 다시 적재할 수 있음)
+     */
+    public void invalidate(long userId) {
+        if (!enabled) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 같은 트랜잭션 안의 이후 조회가 변경 전 값을 보지 않도록 로컬은 바로 제거
+            entries.remove(userId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(userId);
+                }
+            });
+            return;
+        }
+        invalidateNow(userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            entries.remove(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("사용자 캐시 무효화 메시지 처리 실패. body={}", body);
+        }
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    private UserPrincipal load(long userId) {
+        return userRepository.findById(userId)
+                .map(UserPrincipal::from)
+                .orElse(null);
+    }
+
+    private void invalidateNow(long userId) {
+        entries.remove(userId);
+        try {
+            redis.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("사용자 캐시 무효화 전파 실패. 다른 노드는 ttl 이후 갱신. userId={}, error={}",
+                    userId, e.getMessage());
+        }
+    }
+
+    private void evict(long nowNanos) {
+        entries.values().removeIf(e -> nowNanos - e.loadedAtNanos() > ttlNanos);
+
+        // 전부 살아있으면 1/10 정도 임의 제거
+        int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<Long> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
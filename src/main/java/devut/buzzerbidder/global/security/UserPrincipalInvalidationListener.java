@@ -0,0 +1,31 @@
+package devut.buzzerbidder.global.security;
+
+import devut.buzzerbidder.domain.user.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 변경(프로필/권한/탈퇴 등) 시 인증 사용자 캐시 무효화
+ * 엔티티 리스너라 변경 경로(서비스/초기화 데이터 등)와 상관없이 모두 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalInvalidationListener {
+
+    // 엔티티 매핑 시점에 생성되므로 캐시 빈은 사용 시점에 조회
+    private final ObjectProvider<UserPrincipalCache> userPrincipalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(User user) {
+        if (user.getId() == null) return;
+
+        UserPrincipalCache cache = userPrincipalCache.getIfAvailable();
+        if (cache != null) {
+            cache.invalidate(user.getId());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package devut.buzzerbidder.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 JWT 캐시 (같은 토큰으로 반복 요청하는 폴링 클라이언트용)
+ *
+ * - 키는 토큰 원문이 아니라 SHA-256 다이제스트 (힙에 토큰을 남기지 않음)
+ * - 검증된 토큰: 토큰 자체의 exp까지만 사용 → 만료 판정은 jjwt와 동일
+ * - 검증 실패 토큰: negative-ttl-ms 동안 재검증 없이 거절 (서명 키가 같으면 결과도 같음)
+ * - 서명/만료만 캐시. 리프레시 토큰 회전 검사(Redis 저장값 비교)는 호출 측에서 매번 수행
+ * - max-entries를 넘으면 만료된 것부터, 그래도 넘치면 임의로 일부 제거
+ *
+ * 메트릭: buzzerbidder.auth.token.cache.requests{result=hit|negative_hit|miss}, .size
+ * auth.token-cache.enabled=false면 항상 검증
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /** 검증 결과. payload는 불변, expiresAtMs는 토큰 exp(epoch ms) */
+    public record Verified(Map<String, Object> payload, long expiresAtMs) {}
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long negativeTtlMs;
+
+    private final Map<ByteBuffer, Verified> verified = new ConcurrentHashMap<>();
+    // 다이제스트 -> 거절 유지 시각(epoch ms)
+    private final Map<ByteBuffer, Long> rejected = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${auth.token-cache.enabled:true}") boolean enabled,
+            @Value("${auth.token-cache.max-entries:100000}") int maxEntries,
+            @Value("${auth.token-cache.negative-ttl-ms:60000}") long negativeTtlMs
+    ) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.negativeTtlMs = negativeTtlMs;
+
+        this.hits = meterRegistry.counter("buzzerbidder.auth.token.cache.requests", "result", "hit");
+        this.negativeHits = meterRegistry.counter("buzzerbidder.auth.token.cache.requests", "result", "negative_hit");
+        this.misses = meterRegistry.counter("buzzerbidder.auth.token.cache.requests", "result", "miss");
+        Gauge.builder("buzzerbidder.auth.token.cache.size", this, c -> c.verified.size() + c.rejected.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검증된 payload, 유효하지 않으면 null
+     *
+     * @param verifier 캐시에 없을 때 실제 검증 (실패 시 null)
+     */
+    public Map<String, Object> payloadOrNull(String jwt, long nowMs, Function<String, Verified> verifier) {
+        if (!enabled) {
+            Verified v = verifier.apply(jwt);
+            return v != null && nowMs < v.expiresAtMs() ? v.payload() : null;
+        }
+
+        ByteBuffer key = digest(jwt);
+
+        Verified cached = verified.get(key);
+        if (cached != null) {
+            if (nowMs < cached.expiresAtMs()) {
+                hits.increment();
+                return cached.payload();
+            }
+            // 만료된 토큰은 다시 검증해도 실패 → 거절로 옮김
+            verified.remove(key);
+            putRejected(key, nowMs);
+            negativeHits.increment();
+            return null;
+        }
+
+        Long rejectedUntil = rejected.get(key);
+        if (rejectedUntil != null) {
+            if (nowMs < rejectedUntil) {
+                negativeHits.increment();
+                return null;
+            }
+            rejected.remove(key);
+        }
+
+        misses.increment();
+        Verified v = verifier.apply(jwt);
+        if (v == null || nowMs >= v.expiresAtMs()) {
+            putRejected(key, nowMs);
+            return null;
+        }
+
+        if (verified.size() >= maxEntries) {
+            evict(nowMs);
+        }
+        verified.put(key, v);
+        return v.payload();
+    }
+
+    /* ==================== 헬퍼 ==================== */
+
+    private void putRejected(ByteBuffer key, long nowMs) {
+        if (rejected.size() >= maxEntries) {
+            evict(nowMs);
+        }
+        rejected.put(key, nowMs + negativeTtlMs);
+    }
+
+    private void evict(long nowMs) {
+        verified.values().removeIf(v -> nowMs >= v.expiresAtMs());
+        rejected.values().removeIf(until -> nowMs >= until);
+
+        // 전부 살아있으면 1/10 정도 임의 제거
+        trim(verified);
+        trim(rejected);
+    }
+
+    private void trim(Map<ByteBuffer, ?> map) {
+        int toRemove = map.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<ByteBuffer> it = map.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static ByteBuffer digest(String jwt) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(md.digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
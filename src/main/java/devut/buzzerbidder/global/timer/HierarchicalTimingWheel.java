@@ -0,0 +1,185 @@
+package devut.buzzerbidder.global.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠 (key 단위 데드라인 등록/갱신/취소)
+ *
+ * - level 0: 한 칸 = tickMs, wheelSize 칸
+ * - level L: 한 칸 = tickMs * wheelSize^L. 칸이 돌아오면 안의 key들을 아래 level로 내려보냄(cascade)
+ * - 등록/취소 O(1), tick 진행은 빈 칸이면 O(1)
+ *
+ * 스레드를 갖지 않음. 호출자가 advanceTo(nowMs)로 시간을 진행시키고 만료된 key를 받아서 처리
+ * 같은 key를 다시 schedule하면 기존 데드라인을 대체함
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final int levels;
+    private final long[] levelSpanTicks;   // level L 한 칸이 커버하는 tick 수 = wheelSize^L
+
+    private final List<List<Set<K>>> slots;
+    private final Set<K> overdue = new LinkedHashSet<>();
+    private final Map<K, Entry> index = new HashMap<>();
+
+    private long currentTick;
+
+    private record Entry(long deadlineMs, long deadlineTick, int level, int slot) {}
+
+    /** 만료된 key와 등록돼 있던 데드라인 */
+    public record Expired<K>(K key, long deadlineMs) {}
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1 || levels <= 0) {
+            throw new IllegalArgumentException(
+                    "잘못된 타이밍 휠 설정. tickMs=" + tickMs + ", wheelSize=" + wheelSize + ", levels=" + levels);
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.currentTick = Math.floorDiv(startMs, tickMs);
+
+        this.levelSpanTicks = new long[levels];
+        long span = 1L;
+        for (int level = 0; level < levels; level++) {
+            levelSpanTicks[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+        }
+
+        this.slots = new ArrayList<>(levels);
+        for (int level = 0; level < levels; level++) {
+            List<Set<K>> wheel = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                wheel.add(new HashSet<>());
+            }
+            slots.add(wheel);
+        }
+    }
+
+    /** 데드라인 등록/갱신 (이미 지난 데드라인이면 다음 advanceTo에서 바로 만료) */
+    public synchronized void schedule(K key, long deadlineMs) {
+        removeFromSlot(key);
+        place(key, deadlineMs);
+    }
+
+    /** 등록 취소. 등록돼 있었으면 true */
+    public synchronized boolean cancel(K key) {
+        return removeFromSlot(key);
+    }
+
+    /** 등록된 데드라인(ms), 없으면 null */
+    public synchronized Long deadlineOf(K key) {
+        Entry entry = index.get(key);
+        return entry == null ? null : entry.deadlineMs();
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /** 다음 tick 경계 시각(ms). 호출자가 이 시각까지 대기하면 됨 */
+    public synchronized long nextTickAtMs() {
+        return (currentTick + 1) * tickMs;
+    }
+
+    /**
+     * nowMs까지 tick을 진행하고 만료된 key 목록을 반환 (만료된 key는 휠에서 제거됨)
+     */
+    public synchronized List<Expired<K>> advanceTo(long nowMs) {
+        List<Expired<K>> due = new ArrayList<>();
+        drainOverdue(due);
+
+        long targetTick = Math.floorDiv(nowMs, tickMs);
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 상위 level부터 내려보내야 같은 tick에 내려온 key가 level 0에서 바로 만료 처리됨
+            for (int level = levels - 1; level >= 1; level--) {
+                if (currentTick % levelSpanTicks[level] == 0) {
+                    cascade(level, slotOf(level, currentTick));
+                }
+            }
+
+            Set<K> bucket = slots.get(0).get(slotOf(0, currentTick));
+            if (!bucket.isEmpty()) {
+                for (K key : new ArrayList<>(bucket)) {
+                    Entry entry = index.get(key);
+                    if (entry.deadlineTick() <= currentTick) {
+                        bucket.remove(key);
+                        index.remove(key);
+                        due.add(new Expired<>(key, entry.deadlineMs()));
+                    }
+                }
+            }
+            drainOverdue(due);
+        }
+        return due;
+    }
+
+    /* ==================== 내부 ==================== */
+
+    private void place(K key, long deadlineMs) {
+        long deadlineTick = Math.floorDiv(deadlineMs, tickMs);
+        long ticksAway = deadlineTick - currentTick;
+
+        if (ticksAway <= 0) {
+            overdue.add(key);
+            index.put(key, new Entry(deadlineMs, deadlineTick, -1, -1));
+            return;
+        }
+
+        // level L은 ticksAway < wheelSize^(L+1) 범위를 담당 (최상위 level은 넘쳐도 담고 cascade 때 재배치)
+        int level = 0;
+        while (level < levels - 1 && ticksAway >= levelSpanTicks[level + 1]) {
+            level++;
+        }
+
+        int slot = slotOf(level, deadlineTick);
+        slots.get(level).get(slot).add(key);
+        index.put(key, new Entry(deadlineMs, deadlineTick, level, slot));
+    }
+
+    private void cascade(int level, int slot) {
+        Set<K> bucket = slots.get(level).get(slot);
+        if (bucket.isEmpty()) return;
+
+        List<K> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (K key : keys) {
+            Entry entry = index.remove(key);
+            place(key, entry.deadlineMs());
+        }
+    }
+
+    private boolean removeFromSlot(K key) {
+        Entry entry = index.remove(key);
+        if (entry == null) return false;
+
+        if (entry.level() < 0) {
+            overdue.remove(key);
+        } else {
+            slots.get(entry.level()).get(entry.slot()).remove(key);
+        }
+        return true;
+    }
+
+    private void drainOverdue(List<Expired<K>> due) {
+        if (overdue.isEmpty()) return;
+        for (K key : overdue) {
+            Entry entry = index.remove(key);
+            due.add(new Expired<>(key, entry.deadlineMs()));
+        }
+        overdue.clear();
+    }
+
+    private int slotOf(int level, long tick) {
+        return (int) Math.floorMod(tick / levelSpanTicks[level], (long) wheelSize);
+    }
+}
@@ -0,0 +1,221 @@
+package devut.buzzerbidder.domain.auctionroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.auctionroom.dto.AuctionRoomView;
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomDto;
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomItemDto;
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomListResponse;
+import devut.buzzerbidder.domain.auctionroom.dto.response.AuctionRoomResponse;
+import devut.buzzerbidder.domain.auctionroom.dto.response.LiveItemDto;
+import devut.buzzerbidder.domain.auctionroom.entity.AuctionRoom;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
+import devut.buzzerbidder.domain.liveitem.entity.LiveItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class AuctionRoomViewCacheTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long ITEM_ID = 10L;
+    private static final long NOW_MS = 1_000_000L;
+
+    private AuctionRoomService auctionRoomService;
+    private LiveBidRedisService liveBidRedisService;
+    private StringRedisTemplate redis;
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionRoomViewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        auctionRoomService = mock(AuctionRoomService.class);
+        liveBidRedisService = mock(LiveBidRedisService.class);
+        redis = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = create(60_000L);
+
+        when(liveBidRedisService.getRedisNowMs()).thenReturn(NOW_MS);
+        when(auctionRoomService.buildAuctionRoomView(ROOM_ID)).thenReturn(view(1000L));
+    }
+
+    private AuctionRoomViewCache create(long waitTimeoutMs) {
+        return new AuctionRoomViewCache(auctionRoomService, liveBidRedisService, redis,
+                mock(RedisMessageListenerContainer.class), meterRegistry, true, 60_000L, 60_000L, 100, waitTimeoutMs);
+    }
+
+    private static Message message(String body) {
+        return new DefaultMessage(
+                AuctionRoomViewCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private AuctionRoomView view(long price) {
+        AuctionRoomItemDto item = new AuctionRoomItemDto(
+                ITEM_ID, "상품", List.of(), 1000L, price, LiveItem.AuctionStatus.IN_PROGRESS);
+        return new AuctionRoomView(List.of(item), NOW_MS + 5_000L, false);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("buzzerbidder.auction.room.view.requests")
+                .tags("view", "room", "result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 조회는 뷰를 한 번만 만들고 결과를 공유")
+    void buildsOnceForConcurrentViewers() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(auctionRoomService.buildAuctionRoomView(ROOM_ID)).thenAnswer(inv -> {
+            building.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return view(1000L);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<AuctionRoomResponse>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.getAuctionRoom(ROOM_ID)));
+            assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                futures.add(executor.submit(() -> cache.getAuctionRoom(ROOM_ID)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<AuctionRoomResponse> future : futures) {
+                AuctionRoomResponse response = future.get(5, TimeUnit.SECONDS);
+                assertThat(response.items().get(0).currentPrice()).isEqualTo(1000L);
+                assertThat(response.remainingMs()).isEqualTo(5_000L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(auctionRoomService, times(1)).buildAuctionRoomView(ROOM_ID);
+        assertThat(requests("build")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입찰은 다시 만들지 않고 현재가만 바꾸며 version 증가")
+    void patchesPriceOnBid() {
+        AuctionRoomResponse before = cache.getAuctionRoom(ROOM_ID);
+
+        cache.onBid(ROOM_ID, ITEM_ID, 1500L);
+        cache.onBid(ROOM_ID, ITEM_ID, 1200L); // 늦게 도착한 낮은 가격은 무시
+        AuctionRoomResponse after = cache.getAuctionRoom(ROOM_ID);
+
+        assertThat(after.items().get(0).currentPrice()).isEqualTo(1500L);
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+        verify(auctionRoomService, times(1)).buildAuctionRoomView(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("상품 시작/종료로 무효화되면 다음 조회에서 다시 만듦")
+    void rebuildsAfterInvalidate() {
+        AuctionRoomResponse before = cache.getAuctionRoom(ROOM_ID);
+
+        when(auctionRoomService.buildAuctionRoomView(ROOM_ID)).thenReturn(view(3000L));
+        cache.invalidate(ROOM_ID);
+        AuctionRoomResponse after = cache.getAuctionRoom(ROOM_ID);
+
+        assertThat(after.items().get(0).currentPrice()).isEqualTo(3000L);
+        assertThat(after.version()).isGreaterThan(before.version());
+        verify(auctionRoomService, times(2)).buildAuctionRoomView(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("무효화는 다른 노드에 발행하고, 다른 노드에서 온 무효화만 적용")
+    void propagatesInvalidation() {
+        cache.getAuctionRoom(ROOM_ID);
+
+        cache.invalidate(ROOM_ID);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redis).convertAndSend(eq(AuctionRoomViewCache.INVALIDATE_CHANNEL), published.capture());
+        cache.getAuctionRoom(ROOM_ID);
+
+        // 자기 노드가 발행한 메시지는 무시
+        cache.onMessage(message(published.getValue()), null);
+        cache.getAuctionRoom(ROOM_ID);
+        verify(auctionRoomService, times(2)).buildAuctionRoomView(ROOM_ID);
+
+        // 다른 노드의 무효화는 다음 조회에서 다시 만듦
+        cache.onMessage(message("X:" + ROOM_ID + ":other-node"), null);
+        cache.getAuctionRoom(ROOM_ID);
+        verify(auctionRoomService, times(3)).buildAuctionRoomView(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("만드는 요청이 wait-timeout-ms를 넘기면 기다리던 요청은 직접 조회")
+    void waitersFallBackAfterTimeout() throws Exception {
+        AuctionRoomViewCache shortWait = create(50L);
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(auctionRoomService.buildAuctionRoomView(ROOM_ID))
+                .thenAnswer(inv -> {
+                    building.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return view(1000L);
+                })
+                .thenReturn(view(2000L));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<AuctionRoomResponse> builder = executor.submit(() -> shortWait.getAuctionRoom(ROOM_ID));
+            assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+
+            AuctionRoomResponse waited = shortWait.getAuctionRoom(ROOM_ID);
+            release.countDown();
+
+            assertThat(waited.items().get(0).currentPrice()).isEqualTo(2000L);
+            assertThat(builder.get(5, TimeUnit.SECONDS).items().get(0).currentPrice()).isEqualTo(1000L);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(requests("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록은 공용으로 한 번 만들고 찜 여부만 사용자별로 덮어씀")
+    void sharesListAndOverlaysLikes() {
+        LocalDateTime targetTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+        AuctionRoomListResponse shared = new AuctionRoomListResponse(targetTime, List.of(
+                new AuctionRoomDto(ROOM_ID, 0L, AuctionRoom.AuctionStatus.LIVE, 2L, List.of(
+                        new LiveItemDto(ITEM_ID, "상품", 1000L, null, false),
+                        new LiveItemDto(11L, "상품2", 2000L, null, false)
+                ))
+        ));
+        when(auctionRoomService.getAuctionRooms(targetTime, null)).thenReturn(shared);
+        when(auctionRoomService.getLikedLiveItemIds(eq(7L), anyList())).thenReturn(Set.of(11L));
+
+        AuctionRoomListResponse anonymous = cache.getAuctionRooms(targetTime, null);
+        AuctionRoomListResponse user = cache.getAuctionRooms(targetTime, 7L);
+
+        assertThat(anonymous).isSameAs(shared);
+        assertThat(user.rooms().get(0).items()).extracting(LiveItemDto::isLiked).containsExactly(false, true);
+        verify(auctionRoomService, times(1)).getAuctionRooms(any(), eq(null));
+    }
+}
@@ -0,0 +1,117 @@
+package devut.buzzerbidder.domain.liveBid.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidCommand;
+import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidRequest;
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidAck;
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidAdmissionControl;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidRedisService;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidService;
+import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.exeption.ErrorCode;
+import devut.buzzerbidder.global.security.CustomUserDetails;
+import devut.buzzerbidder.global.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Principal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+class LiveBidCommandControllerTest {
+
+    private static final UserPrincipal BIDDER =
+            new UserPrincipal(7L, "bidder@test.com", "입찰자", null, User.UserRole.USER, false);
+
+    private LiveBidService liveBidService;
+    private LiveBidAdmissionControl admissionControl;
+    private LiveBidRedisService liveBidRedisService;
+    private LiveBidCommandController controller;
+    private Principal principal;
+
+    @BeforeEach
+    void setUp() {
+        liveBidService = mock(LiveBidService.class);
+        admissionControl = mock(LiveBidAdmissionControl.class);
+        liveBidRedisService = mock(LiveBidRedisService.class);
+        controller = new LiveBidCommandController(
+                liveBidService, admissionControl, liveBidRedisService, new SimpleMeterRegistry());
+
+        CustomUserDetails userDetails = new CustomUserDetails(BIDDER, () -> {
+            throw new AssertionError("STOMP 입찰은 User 엔티티를 조회하지 않아야 함");
+        });
+        principal = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+
+        when(admissionControl.tryAdmit(any(), any())).thenReturn(LiveBidAdmissionControl.Decision.ADMITTED);
+    }
+
+    @Test
+    @DisplayName("성공하면 correlationId와 입찰가를 담은 ack")
+    void acksSuccessfulBid() {
+        when(liveBidService.bid(any(LiveBidRequest.class), eq(BIDDER)))
+                .thenReturn(new LiveBidResponse(true, "입찰 성공.", 12_000));
+
+        LiveBidAck ack = controller.bid(new LiveBidCommand("c-1", 1L, 2L, 12_000), principal);
+
+        assertThat(ack).isEqualTo(new LiveBidAck("c-1", true, null, "입찰 성공.", 12_000));
+    }
+
+    @Test
+    @DisplayName("실패는 사유 코드와 현재가를 담은 nack, 비즈니스 예외는 에러 코드 nack")
+    void nacksFailures() {
+        when(liveBidRedisService.getLiveItemField(1L, "maxBidPrice")).thenReturn("16000");
+        when(liveBidService.bid(any(LiveBidRequest.class), eq(BIDDER)))
+                .thenReturn(new LiveBidResponse(false, "입찰 실패.", 15_000, LiveBidResponse.LOW_PRICE))
+                .thenReturn(new LiveBidResponse(false, "자동 입찰에 의해 상회되었습니다.", 16_000, LiveBidResponse.PROXY_OUTBID))
+                .thenThrow(new BusinessException(ErrorCode.AUCTION_ENDED));
+
+        LiveBidAck low = controller.bid(new LiveBidCommand("c-1", 1L, 2L, 12_000), principal);
+        LiveBidAck outbid = controller.bid(new LiveBidCommand("c-2", 1L, 2L, 15_750), principal);
+        LiveBidAck ended = controller.bid(new LiveBidCommand("c-3", 1L, 2L, 20_000), principal);
+
+        assertThat(low.accepted()).isFalse();
+        assertThat(low.code()).isEqualTo("LOW_PRICE");
+        assertThat(low.currentPrice()).isEqualTo(15_000);
+        assertThat(outbid.accepted()).isFalse();
+        assertThat(outbid.code()).isEqualTo("PROXY_OUTBID");
+        assertThat(outbid.currentPrice()).isEqualTo(16_000);
+        assertThat(ended.correlationId()).isEqualTo("c-3");
+        assertThat(ended.code()).isEqualTo(ErrorCode.AUCTION_ENDED.getCode());
+        assertThat(ended.currentPrice()).isEqualTo(16_000);
+    }
+
+    @Test
+    @DisplayName("예상 못한 예외도 응답 없이 끝내지 않고 내부 오류 nack (현재가 조회가 실패하면 null)")
+    void nacksUnexpectedErrors() {
+        when(liveBidService.bid(any(LiveBidRequest.class), eq(BIDDER)))
+                .thenThrow(new IllegalStateException("Redis LUA 실행 실패"));
+        when(liveBidRedisService.getLiveItemField(1L, "maxBidPrice"))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        LiveBidAck ack = controller.bid(new LiveBidCommand("c-1", 1L, 2L, 12_000), principal);
+
+        assertThat(ack).isEqualTo(new LiveBidAck(
+                "c-1", false, ErrorCode.INTERNAL_ERROR.getCode(), ErrorCode.INTERNAL_ERROR.getMessage(), null));
+    }
+
+    @Test
+    @DisplayName("허용 제어에 걸리면 입찰 처리 없이 SHED nack")
+    void shedsBeforeBidding() {
+        when(admissionControl.tryAdmit(7L, 1L)).thenReturn(LiveBidAdmissionControl.Decision.USER_LIMITED);
+        when(admissionControl.shedResponse(1L)).thenReturn(new LiveBidResponse(false, "요청 과다", 11_000, LiveBidResponse.SHED));
+
+        LiveBidAck ack = controller.bid(new LiveBidCommand("c-1", 1L, 2L, 12_000), principal);
+
+        assertThat(ack).isEqualTo(new LiveBidAck("c-1", false, "SHED", "요청 과다", 11_000));
+        verify(liveBidService, never()).bid(any(LiveBidRequest.class), any(UserPrincipal.class));
+    }
+}
@@ -0,0 +1,98 @@
+package devut.buzzerbidder.domain.liveBid.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidRequest;
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidAdmissionControl;
+import devut.buzzerbidder.domain.liveBid.service.LiveBidService;
+import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.global.security.CustomUserDetails;
+import devut.buzzerbidder.global.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class LiveBidControllerTest {
+
+    private static final UserPrincipal BIDDER =
+            new UserPrincipal(7L, "bidder@test.com", "입찰자", null, User.UserRole.USER, false);
+
+    private static final String BID_BODY = """
+            {"liveItemId": 1, "auctionId": 2, "bidPrice": 12000}
+            """;
+
+    private LiveBidService liveBidService;
+    private LiveBidAdmissionControl admissionControl;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        liveBidService = mock(LiveBidService.class);
+        admissionControl = mock(LiveBidAdmissionControl.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LiveBidController(liveBidService, admissionControl))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        CustomUserDetails userDetails = new CustomUserDetails(BIDDER, () -> {
+            throw new AssertionError("입찰은 User 엔티티를 조회하지 않아야 함");
+        });
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auction/live/{id}/bid 가 허용 제어에 걸리면 입찰 없이 현재가를 담은 실패 응답")
+    void shedsLiveBid() throws Exception {
+        when(admissionControl.tryAdmit(7L, 1L)).thenReturn(LiveBidAdmissionControl.Decision.ITEM_LIMITED);
+        when(admissionControl.shedResponse(1L))
+                .thenReturn(new LiveBidResponse(false, "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요. 현재가: 15000", 15_000,
+                        LiveBidResponse.SHED));
+
+        mockMvc.perform(post("/api/v1/auction/live/1/bid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BID_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200"))
+                .andExpect(jsonPath("$.data.isSuccess").value(false))
+                .andExpect(jsonPath("$.data.bidPrice").value(15_000))
+                .andExpect(jsonPath("$.data.message").value("입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요. 현재가: 15000"));
+
+        verify(liveBidService, never()).bid(any(LiveBidRequest.class), any(UserPrincipal.class));
+    }
+
+    @Test
+    @DisplayName("허용되면 입찰 서비스 결과를 그대로 응답")
+    void bidsWhenAdmitted() throws Exception {
+        when(admissionControl.tryAdmit(7L, 1L)).thenReturn(LiveBidAdmissionControl.Decision.ADMITTED);
+        when(liveBidService.bid(any(LiveBidRequest.class), eq(BIDDER)))
+                .thenReturn(new LiveBidResponse(true, "입찰 성공.", 12_000));
+
+        mockMvc.perform(post("/api/v1/auction/live/1/bid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BID_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isSuccess").value(true))
+                .andExpect(jsonPath("$.data.bidPrice").value(12_000));
+    }
+}
@@ -0,0 +1,30 @@
+package devut.buzzerbidder.domain.liveBid.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LiveItemSnapshotsTest {
+
+    private static final long M = LiveItemSnapshots.MISSING;
+
+    @Test
+    @DisplayName("있는 아이템은 Redis 값, 없는 아이템/필드는 fallback 또는 MISSING")
+    void looksUpByItemId() {
+        LiveItemSnapshots snapshots = new LiveItemSnapshots(
+                new long[]{3L, 7L, 42L},
+                new long[]{15_000L, M, 9_000L},
+                new long[]{100L, M, M},
+                new long[]{1_700_000_000_000L, M, M}
+        );
+
+        assertThat(snapshots.maxBidPrice(3L, 10_000L)).isEqualTo(15_000L);
+        assertThat(snapshots.maxBidPrice(7L, 10_000L)).isEqualTo(10_000L);
+        assertThat(snapshots.maxBidPrice(8L, null)).isNull();
+        assertThat(snapshots.currentBidderId(3L)).isEqualTo(100L);
+        assertThat(snapshots.currentBidderId(42L)).isEqualTo(M);
+        assertThat(snapshots.endTimeMs(3L)).isEqualTo(1_700_000_000_000L);
+        assertThat(LiveItemSnapshots.empty().maxBidPrice(3L, 1L)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,160 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import devut.buzzerbidder.domain.liveBid.dto.response.AuctionRoomEvent;
+import devut.buzzerbidder.domain.liveBid.dto.response.AuctionRoomReplayMessage;
+import devut.buzzerbidder.domain.liveBid.dto.response.BidUpdateMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class AuctionRoomEventLogTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private SimpMessagingTemplate messagingTemplate;
+    private AuctionRoomEventLog eventLog;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        eventLog = new AuctionRoomEventLog(messagingTemplate, new SimpleMeterRegistry(), true, false, 4, 100, 60_000L);
+    }
+
+    private long bid(Long liveItemId, int price) {
+        return eventLog.publish(ROOM_ID, (origin, seq) -> new BidUpdateMessage("LIVE_BID", liveItemId, price, 2L, "n", origin, seq), null);
+    }
+
+    @Test
+    @DisplayName("방마다 seq를 1부터 발급하고 경매방 구독자에게 전송")
+    void publishAssignsSeq() {
+        assertThat(bid(10L, 1000)).isEqualTo(1);
+        assertThat(bid(10L, 1100)).isEqualTo(2);
+        assertThat(eventLog.publish(2L, (origin, seq) -> new BidUpdateMessage("LIVE_BID", 20L, 500, 2L, "n", origin, seq), null))
+                .isEqualTo(1);
+
+        verify(messagingTemplate, times(2))
+                .convertAndSend(eq("/receive/auction/1"), any(Object.class), ArgumentMatchers.<Map<String, Object>>isNull());
+    }
+
+    @Test
+    @DisplayName("프레임과 이어받기 응답에 seq를 발급한 노드(origin)를 싣고, 노드마다 origin이 다름")
+    void framesCarryOrigin() {
+        bid(10L, 1000);
+
+        ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/receive/auction/1"), frame.capture(),
+                ArgumentMatchers.<Map<String, Object>>isNull());
+        assertThat(((AuctionRoomEvent) frame.getValue()).origin()).isEqualTo(eventLog.getOrigin());
+        assertThat(eventLog.resume(ROOM_ID, 0L).origin()).isEqualTo(eventLog.getOrigin());
+
+        AuctionRoomEventLog otherNode =
+                new AuctionRoomEventLog(messagingTemplate, new SimpleMeterRegistry(), true, false, 4, 100, 60_000L);
+        assertThat(otherNode.getOrigin()).isNotEqualTo(eventLog.getOrigin());
+    }
+
+    @Test
+    @DisplayName("lastSeq가 버퍼 안이면 이후 이벤트를 순서대로 재전송")
+    void replaysFromLastSeq() {
+        bid(10L, 1000);
+        bid(10L, 1100);
+        bid(11L, 2000);
+
+        AuctionRoomReplayMessage replay = eventLog.resume(ROOM_ID, 1L);
+
+        assertThat(replay.type()).isEqualTo("REPLAY");
+        assertThat(replay.seq()).isEqualTo(3);
+        assertThat(replay.events()).extracting(AuctionRoomEvent::seq).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("lastSeq가 버퍼 밖이거나 없으면 상품별 마지막 이벤트 스냅샷")
+    void snapshotWhenOutOfRange() {
+        for (int i = 0; i < 6; i++) {
+            bid(10L, 1000 + i * 100);
+        }
+        bid(11L, 2000);
+
+        AuctionRoomReplayMessage snapshot = eventLog.resume(ROOM_ID, 1L);
+
+        assertThat(snapshot.type()).isEqualTo("SNAPSHOT");
+        assertThat(snapshot.seq()).isEqualTo(7);
+        assertThat(snapshot.events()).extracting(AuctionRoomEvent::seq).containsExactly(6L, 7L);
+        assertThat(((BidUpdateMessage) snapshot.events().get(0)).newPrice()).isEqualTo(1500);
+        assertThat(eventLog.resume(ROOM_ID, null).type()).isEqualTo("SNAPSHOT");
+    }
+
+    @Test
+    @DisplayName("lastSeq가 음수면 예외 없이 스냅샷")
+    void snapshotWhenNegative() {
+        bid(10L, 1000);
+        bid(10L, 1100);
+
+        AuctionRoomReplayMessage snapshot = eventLog.resume(ROOM_ID, -5L);
+
+        assertThat(snapshot.type()).isEqualTo("SNAPSHOT");
+        assertThat(snapshot.events()).extracting(AuctionRoomEvent::seq).containsExactly(2L);
+        assertThat(eventLog.resume(ROOM_ID, -1L).type()).isEqualTo("SNAPSHOT");
+    }
+
+    @Test
+    @DisplayName("이력이 없는 방이나 비활성화 상태면 RESYNC")
+    void resyncWithoutHistory() {
+        assertThat(eventLog.resume(99L, null).type()).isEqualTo("RESYNC");
+
+        AuctionRoomEventLog disabled =
+                new AuctionRoomEventLog(messagingTemplate, new SimpleMeterRegistry(), false, false, 4, 100, 60_000L);
+        disabled.publish(ROOM_ID, (origin, seq) -> new BidUpdateMessage("LIVE_BID", 10L, 1000, 2L, "n", origin, seq), null);
+        assertThat(disabled.resume(ROOM_ID, 0L).type()).isEqualTo("RESYNC");
+    }
+
+    @Test
+    @DisplayName("브로커 브리지를 쓰면 다른 노드 이벤트가 버퍼를 거치지 않으므로 항상 RESYNC")
+    void resyncWithBrokerBridge() {
+        AuctionRoomEventLog bridged =
+                new AuctionRoomEventLog(messagingTemplate, new SimpleMeterRegistry(), true, true, 4, 100, 60_000L);
+        bridged.publish(ROOM_ID, (origin, seq) -> new BidUpdateMessage("LIVE_BID", 10L, 1000, 2L, "n", origin, seq), null);
+
+        assertThat(bridged.resume(ROOM_ID, 0L).type()).isEqualTo("RESYNC");
+    }
+
+    @Test
+    @DisplayName("방 수가 한도를 넘어도 활동 중인 방은 제거하지 않아 seq가 이어짐")
+    void keepsActiveRoomsOverLimit() {
+        AuctionRoomEventLog small =
+                new AuctionRoomEventLog(messagingTemplate, new SimpleMeterRegistry(), true, false, 4, 2, 60_000L);
+        for (long roomId = 1; roomId <= 3; roomId++) {
+            small.publish(roomId, (origin, seq) -> new BidUpdateMessage("LIVE_BID", 10L, 1000, 2L, "n", origin, seq), null);
+        }
+
+        long seq = small.publish(1L, (origin, s) -> new BidUpdateMessage("LIVE_BID", 10L, 1100, 2L, "n", origin, s), null);
+
+        assertThat(seq).isEqualTo(2);
+        assertThat(small.resume(1L, 1L).type()).isEqualTo("REPLAY");
+    }
+
+    @Test
+    @DisplayName("방 수가 한도를 넘으면 idle-ms 동안 이벤트가 없던 방만 제거")
+    void evictsIdleRooms() throws InterruptedException {
+        AuctionRoomEventLog small =
+                new AuctionRoomEventLog(messagingTemplate, new SimpleMeterRegistry(), true, false, 4, 1, 1L);
+        small.publish(1L, (origin, seq) -> new BidUpdateMessage("LIVE_BID", 10L, 1000, 2L, "n", origin, seq), null);
+        Thread.sleep(5);
+
+        small.publish(2L, (origin, seq) -> new BidUpdateMessage("LIVE_BID", 20L, 1000, 2L, "n", origin, seq), null);
+
+        assertThat(small.resume(1L, 0L).type()).isEqualTo("RESYNC");
+        assertThat(small.resume(2L, 0L).type()).isEqualTo("REPLAY");
+    }
+}
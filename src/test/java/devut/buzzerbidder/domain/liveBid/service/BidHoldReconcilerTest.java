@@ -0,0 +1,132 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.wallet.service.WalletRedisService;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class BidHoldReconcilerTest {
+
+    private static final Long ITEM_ID = 1L;
+    private static final Long BIDDER_ID = 7L;
+    private static final String ITEM_KEY = "liveItem:1";
+    private static final String DEPOSITS_KEY = "liveItem:1:deposits";
+    private static final BidHoldReconciler.Hold HOLD =
+            new BidHoldReconciler.Hold(ITEM_ID, BIDDER_ID, 12_000L, 1_200L, "100-0", "liveItem:1");
+
+    private RedisTemplate<String, String> redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private WalletRedisService walletRedisService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        walletRedisService = mock(WalletRedisService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    private BidHoldReconciler reconciler(long maxAgeMs) {
+        return new BidHoldReconciler(
+                redisTemplate, new AuctionRedisKeys(null, AuctionRedisKeys.Mode.LEGACY, 16),
+                walletRedisService, meterRegistry, 0, maxAgeMs);
+    }
+
+    private void itemState(String leader, String maxBidPrice) {
+        when(hashOperations.multiGet(ITEM_KEY, List.of("currentBidderId", "maxBidPrice")))
+                .thenReturn(Arrays.asList(leader, maxBidPrice));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("buzzerbidder.livebid.hold.unresolved", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("기록만 하고 즉시 취소하지 않는다")
+    void recordDoesNotCancel() {
+        BidHoldReconciler reconciler = reconciler(600_000);
+
+        reconciler.record(HOLD);
+
+        assertThat(reconciler.pendingCount()).isEqualTo(1);
+        assertThat(count("recorded")).isEqualTo(1.0);
+        verify(walletRedisService, never()).cancelBidDeposit(anyLong(), anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("입찰이 반영됐으면 홀드를 유지하고 기록만 지운다")
+    void appliedKeepsHold() {
+        BidHoldReconciler reconciler = reconciler(600_000);
+        itemState("7", "12000");
+        when(hashOperations.get(DEPOSITS_KEY, "7")).thenReturn("1200");
+
+        reconciler.record(HOLD);
+        reconciler.reconcile();
+
+        assertThat(reconciler.pendingCount()).isZero();
+        assertThat(count("applied")).isEqualTo(1.0);
+        verify(walletRedisService, never()).cancelBidDeposit(anyLong(), anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("현재가가 입찰가보다 낮으면 반영되지 않은 것이므로 홀드를 취소한다")
+    void notAppliedCancelsHold() {
+        BidHoldReconciler reconciler = reconciler(600_000);
+        itemState("3", "11000");
+
+        reconciler.record(HOLD);
+        reconciler.reconcile();
+
+        assertThat(reconciler.pendingCount()).isZero();
+        assertThat(count("cancelled")).isEqualTo(1.0);
+        verify(walletRedisService).cancelBidDeposit(BIDDER_ID, 1_200L, "100-0", "liveItem:1");
+    }
+
+    @Test
+    @DisplayName("Redis 확인이 실패하면 추측하지 않고 다음 주기까지 기록을 유지한다")
+    void keepsRecordWhenCheckFails() {
+        BidHoldReconciler reconciler = reconciler(600_000);
+        when(hashOperations.multiGet(eq(ITEM_KEY), any())).thenThrow(new IllegalStateException("down"));
+
+        reconciler.record(HOLD);
+        reconciler.reconcile();
+
+        assertThat(reconciler.pendingCount()).isEqualTo(1);
+        verify(walletRedisService, never()).cancelBidDeposit(anyLong(), anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("max-age가 지나도 판단할 수 없으면 수동 정산 해시에 남긴다")
+    void unresolvedGoesToManualHash() {
+        BidHoldReconciler reconciler = reconciler(0);
+        // 다른 입찰자가 더 높게 입찰 → 이번 입찰이 반영됐다가 밀렸는지 알 수 없음
+        itemState("3", "15000");
+
+        reconciler.record(HOLD);
+        reconciler.reconcile();
+
+        assertThat(reconciler.pendingCount()).isZero();
+        assertThat(count("manual")).isEqualTo(1.0);
+        verify(hashOperations).put(BidHoldReconciler.UNRESOLVED_KEY, "100-0", "1:7:12000:1200");
+        verify(walletRedisService, never()).cancelBidDeposit(anyLong(), anyLong(), anyString(), anyString());
+    }
+}
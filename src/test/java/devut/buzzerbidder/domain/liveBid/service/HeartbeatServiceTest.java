@@ -0,0 +1,119 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.exeption.ErrorCode;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+class HeartbeatServiceTest {
+
+    private StringRedisTemplate redis;
+    private ZSetOperations<String, String> zSetOps;
+    private RedisScriptRegistry redisScriptRegistry;
+    private AuctionRedisKeys auctionRedisKeys;
+    private HeartbeatService heartbeatService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        zSetOps = mock(ZSetOperations.class);
+        when(redis.opsForZSet()).thenReturn(zSetOps);
+        redisScriptRegistry = mock(RedisScriptRegistry.class);
+        auctionRedisKeys = new AuctionRedisKeys(redis, AuctionRedisKeys.Mode.LEGACY, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (heartbeatService != null) {
+            heartbeatService.stop();
+        }
+    }
+
+    private HeartbeatService create(long batchWindowMs, int maxBatchSize) {
+        heartbeatService = new HeartbeatService(redis, auctionRedisKeys, redisScriptRegistry, batchWindowMs, maxBatchSize);
+        heartbeatService.start();
+        return heartbeatService;
+    }
+
+    @Test
+    @DisplayName("즉시 모드: 스크립트 1회 + ZADD 1회, 남은 TTL로 완료")
+    void appliesImmediatelyWithoutWindow() throws Exception {
+        when(redisScriptRegistry.executePipelined(any(), anyList())).thenReturn(List.of(RedisScriptRegistry.ScriptResult.ok(35_000L)));
+
+        Long ttl = create(0, 500).heartbeat(7L).get(1, TimeUnit.SECONDS);
+
+        assertThat(ttl).isEqualTo(35_000L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RedisScriptRegistry.ScriptCall>> calls = ArgumentCaptor.forClass(List.class);
+        verify(redisScriptRegistry).executePipelined(any(), calls.capture());
+        assertThat(calls.getValue()).hasSize(1);
+        assertThat(calls.getValue().get(0).keys())
+                .containsExactly("auction:session:7", "auction:bizz:7", "auction:bizzver:7");
+        verify(zSetOps).add(eq("auction:sessions:exp"), anySet());
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 AUCTION_SESSION_EXPIRED, 만료 ZSET에는 넣지 않음")
+    void failsWhenSessionMissing() {
+        when(redisScriptRegistry.executePipelined(any(), anyList())).thenReturn(List.of(RedisScriptRegistry.ScriptResult.ok(-2L)));
+
+        CompletableFuture<Long> result = create(0, 500).heartbeat(7L);
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AUCTION_SESSION_EXPIRED));
+        verify(zSetOps, never()).add(eq("auction:sessions:exp"), anySet());
+    }
+
+    @Test
+    @DisplayName("창 안의 heartbeat는 한 번의 파이프라인으로 모이고, 같은 유저는 한 번만 반영")
+    void batchesWithinWindow() throws Exception {
+        when(redisScriptRegistry.executePipelined(any(), anyList())).thenReturn(List.of(
+                RedisScriptRegistry.ScriptResult.ok(35_000L), RedisScriptRegistry.ScriptResult.ok(34_000L)));
+
+        // 창은 길게, 배치 크기 2에서 바로 flush
+        HeartbeatService service = create(60_000, 2);
+        CompletableFuture<Long> first = service.heartbeat(1L);
+        CompletableFuture<Long> duplicate = service.heartbeat(1L);
+        CompletableFuture<Long> second = service.heartbeat(2L);
+
+        assertThat(duplicate).isSameAs(first);
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(35_000L);
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(34_000L);
+
+        verify(redisScriptRegistry, times(1)).executePipelined(any(), anyList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> tuples = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOps).add(eq("auction:sessions:exp"), tuples.capture());
+        assertThat(tuples.getValue()).extracting(ZSetOperations.TypedTuple::getValue).containsExactlyInAnyOrder("1", "2");
+    }
+}
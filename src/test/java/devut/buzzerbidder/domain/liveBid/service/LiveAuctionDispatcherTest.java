@@ -0,0 +1,100 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.liveitem.service.LiveItemService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LiveAuctionDispatcherTest {
+
+    @Mock
+    private LiveItemService liveItemService;
+
+    @Mock
+    private LiveBidRedisService liveBidRedisService;
+
+    private LiveAuctionDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new LiveAuctionDispatcher(liveItemService, liveBidRedisService, new SimpleMeterRegistry(), 4);
+        dispatcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 경매방 작업은 순서대로, 다른 경매방 작업은 병렬로 실행")
+    void ordersWithinRoomAndRunsRoomsConcurrently() throws Exception {
+        // 방 1: 아이템 11, 12 / 방 2: 아이템 21
+        when(liveItemService.findAuctionRoomIds(anyCollection()))
+            .thenReturn(Map.of(11L, 1L, 12L, 1L, 21L, 2L));
+
+        CountDownLatch room2Started = new CountDownLatch(1);
+        CountDownLatch releaseRoom1 = new CountDownLatch(1);
+        List<Long> order = new CopyOnWriteArrayList<>();
+
+        doAnswer(inv -> {
+            Long itemId = inv.getArgument(0);
+            if (itemId == 11L) {
+                // 방 1의 첫 작업이 막혀 있어도 방 2는 진행돼야 함
+                assertThat(room2Started.await(5, TimeUnit.SECONDS)).isTrue();
+                releaseRoom1.await(5, TimeUnit.SECONDS);
+            }
+            if (itemId == 21L) {
+                room2Started.countDown();
+            }
+            order.add(itemId);
+            return null;
+        }).when(liveItemService).endAuction(anyLong());
+
+        Map<Long, Long> due = new LinkedHashMap<>();
+        due.put(11L, 1_000L);
+        due.put(12L, 1_000L);
+        due.put(21L, 1_000L);
+        dispatcher.dispatch(LiveAuctionDispatcher.Kind.END, due);
+
+        assertThat(room2Started.await(5, TimeUnit.SECONDS)).isTrue();
+        releaseRoom1.countDown();
+
+        verify(liveItemService, timeout(5_000)).endAuction(12L);
+        assertThat(order).containsSubsequence(11L, 12L);
+        assertThat(order.indexOf(21L)).isLessThan(order.indexOf(11L));
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 ZSET에 재등록")
+    void requeuesOnFailure() {
+        when(liveItemService.findAuctionRoomIds(anyCollection())).thenReturn(Map.of(31L, 3L));
+        doThrow(new IllegalStateException("boom")).when(liveItemService).startAuction(31L);
+
+        dispatcher.dispatch(LiveAuctionDispatcher.Kind.START, Map.of(31L, 1_000L));
+
+        verify(liveBidRedisService, timeout(5_000)).upsertStartingZset(eq(31L), anyLong());
+    }
+}
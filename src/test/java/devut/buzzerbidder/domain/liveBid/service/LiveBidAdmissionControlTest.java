@@ -0,0 +1,89 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class LiveBidAdmissionControlTest {
+
+    private RedisScriptRegistry redisScriptRegistry;
+    private LiveBidRedisService liveBidRedisService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        redisScriptRegistry = mock(RedisScriptRegistry.class);
+        liveBidRedisService = mock(LiveBidRedisService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private LiveBidAdmissionControl admission(LiveBidAdmissionControl.Mode mode) {
+        return new LiveBidAdmissionControl(redisScriptRegistry, liveBidRedisService, meterRegistry,
+                true, mode, 2, 0.001, 100, 100);
+    }
+
+    @Test
+    @DisplayName("LOCAL 모드는 유저 버킷을 다 쓰면 USER_LIMITED")
+    void localModeShedsUserBurst() {
+        LiveBidAdmissionControl admission = admission(LiveBidAdmissionControl.Mode.LOCAL);
+
+        assertThat(admission.tryAdmit(7L, 1L)).isEqualTo(LiveBidAdmissionControl.Decision.ADMITTED);
+        assertThat(admission.tryAdmit(7L, 1L)).isEqualTo(LiveBidAdmissionControl.Decision.ADMITTED);
+        assertThat(admission.tryAdmit(7L, 1L)).isEqualTo(LiveBidAdmissionControl.Decision.USER_LIMITED);
+        assertThat(admission.tryAdmit(8L, 1L)).isEqualTo(LiveBidAdmissionControl.Decision.ADMITTED);
+        assertThat(meterRegistry.counter("buzzerbidder.livebid.admission.shed", "reason", "user").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("REDIS 모드는 스크립트가 0을 반환하면 거절")
+    void redisModeShedsWhenBucketEmpty() {
+        when(redisScriptRegistry.execute(any(), eq(List.of("auction:admission:user:7")), anyString(), anyString()))
+                .thenReturn(0L);
+
+        assertThat(admission(LiveBidAdmissionControl.Mode.REDIS).tryAdmit(7L, 1L))
+                .isEqualTo(LiveBidAdmissionControl.Decision.USER_LIMITED);
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 Redis 오류가 나면 허용하고 fail_open 기록")
+    void redisModeFailsOpen() {
+        when(redisScriptRegistry.execute(any(), anyList(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(admission(LiveBidAdmissionControl.Mode.REDIS).tryAdmit(7L, 1L))
+                .isEqualTo(LiveBidAdmissionControl.Decision.ADMITTED);
+        assertThat(meterRegistry.counter("buzzerbidder.livebid.admission.fail_open").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("거절 응답은 입찰 실패 형태로 현재가를 담음 (조회 실패 시 0)")
+    void shedResponseCarriesCurrentPrice() {
+        when(liveBidRedisService.getLiveItemField(1L, "maxBidPrice")).thenReturn("15000");
+        when(liveBidRedisService.getLiveItemField(2L, "maxBidPrice"))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        LiveBidAdmissionControl admission = admission(LiveBidAdmissionControl.Mode.LOCAL);
+        LiveBidResponse shed = admission.shedResponse(1L);
+        LiveBidResponse unknown = admission.shedResponse(2L);
+
+        assertThat(shed.isSuccess()).isFalse();
+        assertThat(shed.code()).isEqualTo(LiveBidResponse.SHED);
+        assertThat(shed.bidPrice()).isEqualTo(15_000);
+        assertThat(shed.message()).contains("현재가: 15000");
+        assertThat(unknown.isSuccess()).isFalse();
+        assertThat(unknown.bidPrice()).isZero();
+    }
+}
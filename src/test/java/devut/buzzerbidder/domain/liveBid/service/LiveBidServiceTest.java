@@ -0,0 +1,153 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.auctionroom.service.AuctionRoomViewCache;
+import devut.buzzerbidder.domain.liveBid.dto.BidAtomicResult;
+import devut.buzzerbidder.domain.liveBid.dto.LiveBidRejection;
+import devut.buzzerbidder.domain.liveBid.dto.ProxyBidResult;
+import devut.buzzerbidder.domain.liveBid.dto.request.LiveBidRequest;
+import devut.buzzerbidder.domain.liveBid.dto.request.ProxyBidRequest;
+import devut.buzzerbidder.domain.liveBid.dto.response.LiveBidResponse;
+import devut.buzzerbidder.domain.liveitem.service.LiveItemPriceWriteBehind;
+import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.domain.wallet.service.WalletService;
+import devut.buzzerbidder.global.exeption.BusinessException;
+import devut.buzzerbidder.global.exeption.ErrorCode;
+import devut.buzzerbidder.global.security.UserPrincipal;
+import devut.buzzerbidder.global.security.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LiveBidServiceTest {
+
+    private static final UserPrincipal BIDDER =
+            new UserPrincipal(7L, "bidder@test.com", "입찰자", null, User.UserRole.USER, false);
+    private static final UserPrincipal PROXY_OWNER =
+            new UserPrincipal(8L, "proxy@test.com", "자동입찰자", null, User.UserRole.USER, false);
+
+    private LiveBidRedisService liveBidRedisService;
+    private LiveBidWebSocketService liveBidWebSocketService;
+    private WalletService walletService;
+    private LiveItemPriceWriteBehind liveItemPriceWriteBehind;
+    private UserPrincipalCache userPrincipalCache;
+    private SimpleMeterRegistry meterRegistry;
+    private LiveBidService liveBidService;
+
+    @BeforeEach
+    void setUp() {
+        liveBidRedisService = mock(LiveBidRedisService.class);
+        liveBidWebSocketService = mock(LiveBidWebSocketService.class);
+        walletService = mock(WalletService.class);
+        liveItemPriceWriteBehind = mock(LiveItemPriceWriteBehind.class);
+        userPrincipalCache = mock(UserPrincipalCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        liveBidService = new LiveBidService(
+                liveBidRedisService, liveBidWebSocketService, walletService, liveItemPriceWriteBehind, userPrincipalCache,
+                mock(AuctionRoomViewCache.class), meterRegistry, true);
+
+        when(liveBidRedisService.supportsProxyBid()).thenReturn(true);
+        when(userPrincipalCache.get(PROXY_OWNER.id())).thenReturn(PROXY_OWNER);
+    }
+
+    @Test
+    @DisplayName("가격 부족 거절은 스크립트가 돌려준 현재가로 응답 (현재가 재조회 없음)")
+    void lowPriceUsesScriptPrice() {
+        when(liveBidRedisService.updateMaxBidPriceAtomicWithDeposit(eq(1L), eq(BIDDER.id()), eq(10_100), anyLong(), anyLong(), anyLong()))
+                .thenReturn(BidAtomicResult.rejected(0L, 12_000L, 4_102_444_800_000L));
+
+        LiveBidResponse response = liveBidService.bid(new LiveBidRequest(1L, 2L, 10_100), BIDDER);
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.code()).isEqualTo(LiveBidResponse.LOW_PRICE);
+        assertThat(response.bidPrice()).isEqualTo(12_000);
+        assertThat(response.message()).endsWith("현재가: 12000");
+        verify(liveBidRedisService, never()).getLiveItemField(any(), anyString());
+        assertThat(meterRegistry.counter("buzzerbidder.livebid.rejected", "reason", "low_price").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("그 외 거절은 스택 트레이스 없는 미리 만든 예외를 재사용하고 사유별로 집계")
+    void rejectionsThrowPreallocatedException() {
+        when(liveBidRedisService.updateMaxBidPriceAtomicWithDeposit(eq(1L), eq(BIDDER.id()), eq(20_000), anyLong(), anyLong(), anyLong()))
+                .thenReturn(BidAtomicResult.rejected(-4L, 12_000L, 1_000L));
+
+        Throwable first = catchThrowable(
+                () -> liveBidService.bid(new LiveBidRequest(1L, 2L, 20_000), BIDDER));
+        Throwable second = catchThrowable(
+                () -> liveBidService.bid(new LiveBidRequest(1L, 2L, 20_000), BIDDER));
+
+        assertThat(first).isSameAs(LiveBidRejection.ENDED.getException()).isSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(((BusinessException) first).getErrorCode()).isEqualTo(ErrorCode.AUCTION_ENDED);
+        assertThat(meterRegistry.counter("buzzerbidder.livebid.rejected", "reason", "ended").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("입찰 직후 자동 입찰이 상회하면 최종 최고입찰자/현재가로 한 번만 브로드캐스트")
+    void broadcastsProxyLeaderOnce() {
+        when(liveBidRedisService.updateMaxBidPriceAtomicWithDeposit(eq(1L), eq(BIDDER.id()), eq(12_000), anyLong(), anyLong(), anyLong()))
+                .thenReturn(new BidAtomicResult(1L, 100_000L, 97_600L, null, null, 99L, 2L, PROXY_OWNER.id(), 12_600L, 4_102_444_800_000L));
+
+        LiveBidResponse response = liveBidService.bid(new LiveBidRequest(1L, 2L, 12_000), BIDDER);
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.code()).isEqualTo(LiveBidResponse.PROXY_OUTBID);
+        assertThat(response.bidPrice()).isEqualTo(12_600);
+        verify(liveBidWebSocketService).broadcastNewBid(2L, 1L, 12_600, PROXY_OWNER.id(), "자동입찰자");
+        verify(liveBidWebSocketService, never()).broadcastNewBid(any(), any(), eq(12_000), any(), any());
+        verify(liveItemPriceWriteBehind).markDirty(1L, 12_600L);
+    }
+
+    @Test
+    @DisplayName("이전 최고입찰자 지갑 반환이 실패하면 새 입찰자가 아니라 밀려난 입찰자에게 그 보증금을 DB로 환불")
+    void refundsDisplacedBidderWhenReturnFails() {
+        when(liveBidRedisService.updateMaxBidPriceAtomicWithDeposit(eq(1L), eq(BIDDER.id()), eq(12_000), anyLong(), anyLong(), anyLong()))
+                .thenReturn(new BidAtomicResult(1L, 100_000L, 97_600L, PROXY_OWNER.id(), 2_200L, 99L, 2L,
+                        BIDDER.id(), 12_000L, 4_102_444_800_000L));
+
+        LiveBidResponse response = liveBidService.bid(new LiveBidRequest(1L, 2L, 12_000), BIDDER);
+
+        assertThat(response.isSuccess()).isTrue();
+        verify(walletService).refundBidBizz(PROXY_OWNER.id(), 2_200L);
+        verify(walletService, never()).refundBidBizz(eq(BIDDER.id()), anyLong());
+    }
+
+    @Test
+    @DisplayName("자동 입찰 등록으로 최고입찰자가 바뀌면 기록/브로드캐스트하고, 밀려난 쪽 환불 실패는 DB로 환불")
+    void registersProxyAndRefundsDisplacedLeader() {
+        when(liveBidRedisService.registerProxyBid(eq(1L), eq(PROXY_OWNER.id()), eq(50_000), anyLong(), anyLong()))
+                .thenReturn(new ProxyBidResult(1L, 99L, 2L, PROXY_OWNER.id(), 12_600L, BIDDER.id(), 2_400L, 4_102_444_800_000L));
+
+        LiveBidResponse response = liveBidService.registerProxyBid(new ProxyBidRequest(1L, 2L, 50_000), PROXY_OWNER);
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.bidPrice()).isEqualTo(12_600);
+        verify(liveBidWebSocketService).broadcastNewBid(2L, 1L, 12_600, PROXY_OWNER.id(), "자동입찰자");
+        verify(walletService).refundBidBizz(BIDDER.id(), 2_400L);
+    }
+
+    @Test
+    @DisplayName("기능이 꺼져 있거나 분할 키 스키마면 등록 거절")
+    void rejectsWhenUnavailable() {
+        when(liveBidRedisService.supportsProxyBid()).thenReturn(false);
+
+        assertThatThrownBy(() -> liveBidService.registerProxyBid(new ProxyBidRequest(1L, 2L, 50_000), PROXY_OWNER))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LIVEBID_PROXY_BID_UNAVAILABLE);
+        verify(liveBidRedisService, never()).registerProxyBid(any(), any(), any(), any(), any());
+    }
+}
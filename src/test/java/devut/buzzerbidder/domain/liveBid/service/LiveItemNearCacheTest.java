@@ -0,0 +1,93 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import devut.buzzerbidder.domain.liveBid.dto.LiveItemSnapshots;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class LiveItemNearCacheTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long M = LiveItemSnapshots.MISSING;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveItemNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new LiveItemNearCache(
+                mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class),
+                meterRegistry,
+                true, 2, 1_000
+        );
+        cache.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    private void receive(String body) {
+        cache.onMessage(new DefaultMessage(
+                LiveItemNearCache.PRICE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        ), null);
+    }
+
+    @Test
+    @DisplayName("ttl 안에서만 hit, 히트율 메트릭 기록")
+    void servesWithinTtl() {
+        cache.put(1L, 10_000L, M, 5_000L, 0);
+
+        assertThat(cache.get(1L, 500 * MS).maxBidPrice()).isEqualTo(10_000L);
+        assertThat(cache.get(1L, 1_001 * MS)).isNull();
+        assertThat(cache.get(2L, 0)).isNull();
+
+        assertThat(meterRegistry.get("buzzerbidder.livebid.nearcache.requests").tag("result", "hit")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("buzzerbidder.livebid.nearcache.requests").tag("result", "miss")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("입찰 알림은 더 높은 가격만 반영, 종료 연장/무효화 알림도 반영")
+    void appliesInvalidationMessages() {
+        cache.put(1L, 10_000L, M, 5_000L, 0);
+
+        receive("B:1:12000:7");
+        receive("B:1:11000:8"); // 늦게 도착한 낮은 가격
+        receive("E:1:9000");
+
+        LiveItemNearCache.Entry entry = cache.get(1L, 0);
+        assertThat(entry.maxBidPrice()).isEqualTo(12_000L);
+        assertThat(entry.currentBidderId()).isEqualTo(7L);
+        assertThat(entry.endTimeMs()).isEqualTo(9_000L);
+
+        receive("X:1");
+        assertThat(cache.get(1L, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("max-entries를 넘지 않음")
+    void boundsSize() {
+        cache.put(1L, 1L, M, M, 0);
+        cache.put(2L, 2L, M, M, 0);
+        cache.put(3L, 3L, M, M, 0);
+
+        assertThat(meterRegistry.get("buzzerbidder.livebid.nearcache.size").gauge().value()).isLessThanOrEqualTo(2.0);
+        assertThat(cache.get(3L, 0)).isNotNull();
+    }
+}
@@ -0,0 +1,226 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.wallet.service.WalletBalancePersistService;
+import devut.buzzerbidder.domain.wallet.service.WalletRedisService;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+class SessionExpireSchedulerTest {
+
+    private StringRedisTemplate redis;
+    private ZSetOperations<String, String> zSetOps;
+    private WalletRedisService walletRedisService;
+    private WalletBalancePersistService walletBalancePersistService;
+    private RedisScriptRegistry redisScriptRegistry;
+    private SessionExpiryListener sessionExpiryListener;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        zSetOps = mock(ZSetOperations.class);
+        when(redis.opsForZSet()).thenReturn(zSetOps);
+        when(zSetOps.count(eq("auction:sessions:exp"), anyDouble(), anyDouble())).thenReturn(0L);
+        walletRedisService = mock(WalletRedisService.class);
+        walletBalancePersistService = mock(WalletBalancePersistService.class);
+        redisScriptRegistry = mock(RedisScriptRegistry.class);
+        sessionExpiryListener = mock(SessionExpiryListener.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private SessionExpireScheduler create(int batchSize, int maxBatchesPerRun) {
+        SessionExpiryProcessor processor =
+                new SessionExpiryProcessor(redis, walletRedisService, walletBalancePersistService, meterRegistry, 60_000);
+        return new SessionExpireScheduler(
+                redis, processor, sessionExpiryListener, redisScriptRegistry,
+                meterRegistry, batchSize, maxBatchesPerRun
+        );
+    }
+
+    @Test
+    @DisplayName("만료된 잔액은 한 번에 DB 반영, 살아있는 세션은 ZADD 1회로 다시 스케줄")
+    void flushesExpiredAndReschedulesAlive() {
+        when(redisScriptRegistry.execute(any(), anyList(), any(String[].class)))
+                .thenReturn(List.of("1", "2", "3"));
+        when(walletRedisService.flushExpiredSessions(List.of(1L, 2L, 3L), null))
+                .thenReturn(new WalletRedisService.SessionExpiryBatch(
+                        Map.of(1L, 5_000L), Map.of(2L, 20_000L), 1, List.of()));
+
+        create(100, 10).processExpiredSessions();
+
+        verify(walletBalancePersistService).saveAll(Map.of(1L, 5_000L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> tuples = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOps).add(eq("auction:sessions:exp"), tuples.capture());
+        assertThat(tuples.getValue()).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("2");
+
+        assertThat(meterRegistry.get("buzzerbidder.session.expire.flush").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("buzzerbidder.session.expire.sessions").tag("result", "flushed")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파이프라인 중 일부 호출이 실패해도 성공한 잔액은 DB 반영, 실패한 유저만 다시 스케줄")
+    void persistsSuccessesAndRequeuesFailedCalls() {
+        when(redisScriptRegistry.execute(any(), anyList(), any(String[].class)))
+                .thenReturn(List.of("1", "2", "3"));
+        when(walletRedisService.flushExpiredSessions(List.of(1L, 2L, 3L), null))
+                .thenReturn(new WalletRedisService.SessionExpiryBatch(
+                        Map.of(1L, 5_000L, 3L, 7_000L), Map.of(), 0, List.of(2L)));
+
+        create(100, 10).processExpiredSessions();
+
+        verify(walletBalancePersistService).saveAll(Map.of(1L, 5_000L, 3L, 7_000L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> tuples = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOps).add(eq("auction:sessions:exp"), tuples.capture());
+        assertThat(tuples.getValue()).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("2");
+        assertThat(meterRegistry.get("buzzerbidder.session.expire.sessions").tag("result", "failed")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 키 이벤트로 들어온 유저는 flush가 실패하면 ZSET에서 빼지 않고 다시 스케줄")
+    void keepsNotifiedUsersScheduledWhenFlushFails() {
+        when(walletRedisService.flushExpiredSessions(List.of(1L), null))
+                .thenThrow(new IllegalStateException("redis down"));
+        SessionExpiryProcessor processor =
+                new SessionExpiryProcessor(redis, walletRedisService, walletBalancePersistService, meterRegistry, 60_000);
+
+        processor.process(List.of(1L), SessionExpiryProcessor.Source.NOTIFICATION);
+
+        verify(zSetOps, never()).remove(eq("auction:sessions:exp"), any(Object[].class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> tuples = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOps).add(eq("auction:sessions:exp"), tuples.capture());
+        assertThat(tuples.getValue()).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("만료 키 이벤트로 들어온 유저는 flush가 끝난 뒤에만 ZSET에서 제거")
+    void removesNotifiedUsersAfterFlush() {
+        when(walletRedisService.flushExpiredSessions(List.of(1L, 2L), null))
+                .thenReturn(new WalletRedisService.SessionExpiryBatch(Map.of(1L, 5_000L), Map.of(), 0, List.of(2L)));
+        SessionExpiryProcessor processor =
+                new SessionExpiryProcessor(redis, walletRedisService, walletBalancePersistService, meterRegistry, 60_000);
+
+        processor.process(List.of(1L, 2L), SessionExpiryProcessor.Source.NOTIFICATION);
+
+        verify(walletBalancePersistService).saveAll(Map.of(1L, 5_000L));
+        verify(zSetOps).remove("auction:sessions:exp", "1");
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 같은 주기에서 max-batches-per-run까지 이어서 처리")
+    void drainsFullBatchesUpToLimit() {
+        when(redisScriptRegistry.execute(any(), anyList(), any(String[].class)))
+                .thenReturn(List.of("1", "2"));
+        when(walletRedisService.flushExpiredSessions(anyList(), any()))
+                .thenReturn(new WalletRedisService.SessionExpiryBatch(Map.of(), Map.of(), 2, List.of()));
+        when(zSetOps.count(eq("auction:sessions:exp"), anyDouble(), anyDouble())).thenReturn(42L);
+
+        create(2, 3).processExpiredSessions();
+
+        verify(walletRedisService, times(3)).flushExpiredSessions(anyList(), any());
+        verify(walletBalancePersistService, never()).saveAll(anyMap());
+        verify(zSetOps, never()).add(eq("auction:sessions:exp"), anySet());
+        assertThat(meterRegistry.get("buzzerbidder.session.expire.backlog").gauge().value()).isEqualTo(42.0);
+    }
+
+    @Test
+    @DisplayName("DB 반영이 끝내 실패해도 스케줄러는 계속 돌고 실패 건수를 기록")
+    void recordsPersistFailure() {
+        when(redisScriptRegistry.execute(any(), anyList(), any(String[].class)))
+                .thenReturn(List.of("1"));
+        when(walletRedisService.flushExpiredSessions(List.of(1L), null))
+                .thenReturn(new WalletRedisService.SessionExpiryBatch(Map.of(1L, 5_000L), Map.of(), 0, List.of()));
+        doThrow(new IllegalStateException("db down")).when(walletBalancePersistService).saveAll(anyMap());
+
+        create(100, 10).processExpiredSessions();
+
+        assertThat(meterRegistry.get("buzzerbidder.session.expire.persist.failed").counter().count()).isEqualTo(1);
+        // 대기 해시에 남겨 복구 대상으로 둠
+        verify(walletRedisService, never()).ackFlushed(anyMap());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 커밋된 잔액만 flush 대기 해시에서 제거")
+    void acksFlushedBalancesAfterPersist() {
+        when(redisScriptRegistry.execute(any(), anyList(), any(String[].class)))
+                .thenReturn(List.of("1"));
+        when(walletRedisService.flushExpiredSessions(List.of(1L), null))
+                .thenReturn(new WalletRedisService.SessionExpiryBatch(Map.of(1L, 5_000L), Map.of(), 0, List.of()));
+
+        create(100, 10).processExpiredSessions();
+
+        verify(walletBalancePersistService).saveAll(Map.of(1L, 5_000L));
+        verify(walletRedisService).ackFlushed(Map.of(1L, 5_000L));
+    }
+
+    @Test
+    @DisplayName("DB 반영이 확인되지 않은 flush 잔액은 복구 주기에 다시 반영 후 제거")
+    void recoversStaleFlushPending() {
+        when(walletRedisService.findStaleFlushPending(60_000)).thenReturn(Map.of(1L, 5_000L));
+        SessionExpiryProcessor processor =
+                new SessionExpiryProcessor(redis, walletRedisService, walletBalancePersistService, meterRegistry, 60_000);
+
+        processor.recoverFlushPending();
+
+        verify(walletBalancePersistService).saveAll(Map.of(1L, 5_000L));
+        verify(walletRedisService).ackFlushed(Map.of(1L, 5_000L));
+        assertThat(meterRegistry.get("buzzerbidder.session.expire.persist.recovered").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복구 반영도 실패하면 대기 해시에 그대로 남김")
+    void keepsFlushPendingWhenRecoveryFails() {
+        when(walletRedisService.findStaleFlushPending(60_000)).thenReturn(Map.of(1L, 5_000L));
+        doThrow(new IllegalStateException("db down")).when(walletBalancePersistService).saveAll(anyMap());
+        SessionExpiryProcessor processor =
+                new SessionExpiryProcessor(redis, walletRedisService, walletBalancePersistService, meterRegistry, 60_000);
+
+        processor.recoverFlushPending();
+
+        verify(walletRedisService, never()).ackFlushed(anyMap());
+    }
+
+    @Test
+    @DisplayName("만료 키 이벤트가 켜져 있으면 스윕은 sweep-ms 주기로만 수행")
+    void sweepsRarelyWhenKeyspaceEventsEnabled() {
+        when(sessionExpiryListener.isEnabled()).thenReturn(true);
+        when(sessionExpiryListener.getSweepMs()).thenReturn(60_000L);
+        when(redisScriptRegistry.execute(any(), anyList(), any(String[].class))).thenReturn(List.of());
+
+        SessionExpireScheduler scheduler = create(100, 10);
+        scheduler.processExpiredSessions();
+        scheduler.processExpiredSessions();
+
+        verify(redisScriptRegistry, times(1)).execute(any(), anyList(), any(String[].class));
+    }
+}
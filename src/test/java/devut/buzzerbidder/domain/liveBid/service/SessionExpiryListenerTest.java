@@ -0,0 +1,64 @@
+package devut.buzzerbidder.domain.liveBid.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class SessionExpiryListenerTest {
+
+    private SessionExpiryProcessor processor;
+    private SessionExpiryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        processor = mock(SessionExpiryProcessor.class);
+        listener = new SessionExpiryListener(
+                processor,
+                new AuctionRedisKeys(redis, AuctionRedisKeys.Mode.SHARDED, 16),
+                redis,
+                mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(),
+                true, 10_000L, false, 100
+        );
+        listener.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    private void expired(String key) {
+        listener.onMessage(new DefaultMessage(
+                "__keyevent@0__:expired".getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8)
+        ), null);
+    }
+
+    @Test
+    @DisplayName("만료된 세션 키만 골라 바로 만료 처리로 넘김")
+    void handsExpiredSessionToProcessor() {
+        expired("auction:bizz:{w7}:7");
+        expired("auction:session:{w7}:7");
+
+        verify(processor, timeout(1_000))
+                .process(eq(List.of(7L)), eq(SessionExpiryProcessor.Source.NOTIFICATION));
+        verify(processor, never()).process(eq(List.of()), any());
+    }
+}
@@ -0,0 +1,128 @@
+package devut.buzzerbidder.domain.wallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.spring.data.connection.RedissonConnectionFactory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+class WalletEventStreamTrimmerTest {
+
+    private static final String STREAM = "auction:bizz:events";
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private RedissonClient redisson;
+    private StringRedisTemplate redisTemplate;
+    private WalletEventStreamTrimmer trimmer;
+
+    @BeforeEach
+    void setUp() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redisson = Redisson.create(config);
+
+        redisTemplate = new StringRedisTemplate(new RedissonConnectionFactory(redisson));
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.delete(STREAM);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisScriptRegistry registry = new RedisScriptRegistry(redisTemplate, meterRegistry);
+        AuctionRedisKeys keys = new AuctionRedisKeys(redisTemplate, AuctionRedisKeys.Mode.LEGACY, 16);
+        trimmer = new WalletEventStreamTrimmer(registry, keys, meterRegistry, true, 500_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisson.shutdown();
+    }
+
+    private List<RecordId> addEvents(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> redisTemplate.opsForStream()
+                        .add(StreamRecords.string(Map.of("event", "CHANGE", "n", String.valueOf(i))).withStreamKey(STREAM)))
+                .toList();
+    }
+
+    private List<MapRecord<String, Object, Object>> readGroup(String group, int count) {
+        return redisTemplate.opsForStream().read(
+                Consumer.from(group, "c1"),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM, ReadOffset.lastConsumed())
+        );
+    }
+
+    @Test
+    @DisplayName("그룹이 없으면 스트림을 자르지 않음")
+    void keepsStreamWithoutGroups() {
+        addEvents(300);
+
+        trimmer.trim();
+
+        assertThat(redisTemplate.opsForStream().size(STREAM)).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 pending 레코드 이전만 잘라내고 pending/미전달 레코드는 남김")
+    void trimsOnlyBehindOldestPending() {
+        List<RecordId> ids = addEvents(300);
+        redisTemplate.opsForStream().createGroup(STREAM, ReadOffset.from("0-0"), "wallet-history-group");
+
+        List<MapRecord<String, Object, Object>> read = readGroup("wallet-history-group", 250);
+        assertThat(read).hasSize(250);
+        // 앞 200건만 ACK -> 201번째부터 pending
+        redisTemplate.opsForStream().acknowledge(STREAM, "wallet-history-group",
+                read.subList(0, 200).stream().map(MapRecord::getId).toArray(RecordId[]::new));
+
+        trimmer.trim();
+
+        long size = redisTemplate.opsForStream().size(STREAM);
+        assertThat(size).isLessThan(300L).isGreaterThanOrEqualTo(100L);
+        List<MapRecord<String, Object, Object>> remaining =
+                redisTemplate.opsForStream().range(STREAM, Range.closed(ids.get(200).getValue(), ids.get(299).getValue()));
+        assertThat(remaining).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("아무것도 읽지 않은 그룹이 있으면 다른 그룹이 다 읽었어도 자르지 않음")
+    void keepsEventsForSlowestGroup() {
+        addEvents(300);
+        redisTemplate.opsForStream().createGroup(STREAM, ReadOffset.from("0-0"), "fast-group");
+        redisTemplate.opsForStream().createGroup(STREAM, ReadOffset.from("0-0"), "slow-group");
+
+        List<MapRecord<String, Object, Object>> read = readGroup("fast-group", 300);
+        redisTemplate.opsForStream().acknowledge(STREAM, "fast-group",
+                read.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+
+        trimmer.trim();
+
+        assertThat(redisTemplate.opsForStream().size(STREAM)).isEqualTo(300L);
+    }
+}
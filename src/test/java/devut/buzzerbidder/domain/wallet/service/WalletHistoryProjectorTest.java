@@ -0,0 +1,134 @@
+package devut.buzzerbidder.domain.wallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import devut.buzzerbidder.domain.wallet.dto.WalletHistoryEvent;
+import devut.buzzerbidder.domain.wallet.enums.WalletTransactionType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+public class WalletHistoryProjectorTest {
+
+    private static final String STREAM_KEY = "auction:bizz:events";
+
+    private MapRecord<String, String, String> record(String id, Map<String, String> body) {
+        return StreamRecords.newRecord()
+            .in(STREAM_KEY)
+            .withId(RecordId.of(id))
+            .ofStrings(body);
+    }
+
+    @Test
+    @DisplayName("CHANGE 이벤트는 reason 유형으로 히스토리 1건 투영")
+    void change_event_projects_single_history() {
+        MapRecord<String, String, String> change = record("1700000000000-0", Map.of(
+            "event", "CHANGE",
+            "userId", "7",
+            "before", "10000",
+            "after", "8000",
+            "amount", "2000",
+            "isIncrease", "0",
+            "version", "3",
+            "reason", "BID"
+        ));
+
+        List<WalletHistoryEvent> out = new ArrayList<>();
+        WalletHistoryProjector.toHistoryEvents(change, out);
+
+        assertThat(out).hasSize(1);
+        WalletHistoryEvent e = out.get(0);
+        assertThat(e.sourceEventId()).isEqualTo("1700000000000-0:7");
+        assertThat(e.userId()).isEqualTo(7L);
+        assertThat(e.type()).isEqualTo(WalletTransactionType.BID);
+        assertThat(e.amount()).isEqualTo(2000L);
+        assertThat(e.balanceBefore()).isEqualTo(10000L);
+        assertThat(e.balanceAfter()).isEqualTo(8000L);
+    }
+
+    @Test
+    @DisplayName("TRANSFER 이벤트는 송금/수신 히스토리 2건 투영")
+    void transfer_event_projects_send_and_receive() {
+        MapRecord<String, String, String> transfer = record("1700000000001-0", Map.ofEntries(
+            Map.entry("event", "TRANSFER"),
+            Map.entry("fromUserId", "1"),
+            Map.entry("toUserId", "2"),
+            Map.entry("amount", "500"),
+            Map.entry("fromBefore", "1000"),
+            Map.entry("fromAfter", "500"),
+            Map.entry("toBefore", "0"),
+            Map.entry("toAfter", "500"),
+            Map.entry("fromVersion", "1"),
+            Map.entry("toVersion", "1"),
+            Map.entry("reason", "PAY_TO_USER")
+        ));
+
+        List<WalletHistoryEvent> out = new ArrayList<>();
+        WalletHistoryProjector.toHistoryEvents(transfer, out);
+
+        assertThat(out).hasSize(2);
+        assertThat(out.get(0).type()).isEqualTo(WalletTransactionType.PAY_TO_USER);
+        assertThat(out.get(0).sourceEventId()).isEqualTo("1700000000001-0:1");
+        assertThat(out.get(1).type()).isEqualTo(WalletTransactionType.RECEIVE_FROM_USER);
+        assertThat(out.get(1).sourceEventId()).isEqualTo("1700000000001-0:2");
+        assertThat(out.get(1).balanceAfter()).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("거래 유형이 아닌 reason과 INIT/FLUSH 이벤트는 투영하지 않음")
+    void non_history_events_are_skipped() {
+        List<WalletHistoryEvent> out = new ArrayList<>();
+
+        WalletHistoryProjector.toHistoryEvents(record("1700000000002-0", Map.of(
+            "event", "CHANGE",
+            "userId", "7",
+            "before", "0",
+            "after", "100",
+            "amount", "100",
+            "reason", "TransferBizz_COMPENSATE_FAIL"
+        )), out);
+        WalletHistoryProjector.toHistoryEvents(record("1700000000003-0", Map.of(
+            "event", "INIT",
+            "userId", "7",
+            "balance", "100"
+        )), out);
+        WalletHistoryProjector.toHistoryEvents(record("1700000000004-0", Map.of(
+            "event", "FLUSH_CLEAR",
+            "userId", "7",
+            "finalBalance", "100"
+        )), out);
+
+        assertThat(out).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BID_CANCEL 이벤트는 홀드 히스토리를 지우지 않고 BID_REFUND 히스토리 1건 추가")
+    void bid_cancel_event_projects_compensating_refund() {
+        MapRecord<String, String, String> cancel = record("1700000000005-0", Map.of(
+            "event", "CHANGE",
+            "userId", "7",
+            "before", "8000",
+            "after", "10000",
+            "amount", "2000",
+            "isIncrease", "1",
+            "reason", "BID_CANCEL",
+            "cancels", "1700000000000-0"
+        ));
+
+        List<WalletHistoryEvent> out = new ArrayList<>();
+        WalletHistoryProjector.toHistoryEvents(cancel, out);
+
+        assertThat(out).hasSize(1);
+        WalletHistoryEvent e = out.get(0);
+        assertThat(e.sourceEventId()).isEqualTo("1700000000005-0:7");
+        assertThat(e.type()).isEqualTo(WalletTransactionType.BID_REFUND);
+        assertThat(e.amount()).isEqualTo(2000L);
+        assertThat(e.balanceBefore()).isEqualTo(8000L);
+        assertThat(e.balanceAfter()).isEqualTo(10000L);
+    }
+}
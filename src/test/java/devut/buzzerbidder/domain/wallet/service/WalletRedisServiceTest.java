@@ -0,0 +1,107 @@
+package devut.buzzerbidder.domain.wallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import devut.buzzerbidder.domain.wallet.repository.WalletRepository;
+import devut.buzzerbidder.global.redis.AuctionRedisKeys;
+import devut.buzzerbidder.global.redis.RedisScriptRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.spring.data.connection.RedissonConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 운영과 같은 Redisson 커넥션 팩토리로 세션 만료 파이프라인 검증
+ */
+@Testcontainers
+class WalletRedisServiceTest {
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private RedissonClient redisson;
+    private StringRedisTemplate redisTemplate;
+    private WalletRedisService walletRedisService;
+
+    @BeforeEach
+    void setUp() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redisson = Redisson.create(config);
+
+        redisTemplate = new StringRedisTemplate(new RedissonConnectionFactory(redisson));
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        walletRedisService = new WalletRedisService(
+                redisTemplate,
+                mock(WalletRepository.class),
+                new RedisScriptRegistry(redisTemplate, new SimpleMeterRegistry()),
+                mock(WalletHistoryService.class),
+                new AuctionRedisKeys(redisTemplate, AuctionRedisKeys.Mode.LEGACY, 16)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisson.shutdown();
+    }
+
+    @Test
+    @DisplayName("파이프라인 중 한 유저의 flush가 실패해도 나머지 유저의 최종 잔액은 모두 반환하고 실패 유저 키는 남김")
+    void keepsOtherFlushesWhenOneCallFails() {
+        redisTemplate.opsForValue().set("auction:bizz:1", "5000");
+        redisTemplate.opsForValue().set("auction:bizzver:1", "3");
+        // GET이 WRONGTYPE으로 실패하도록 잔액 키를 해시로 둠
+        redisTemplate.opsForHash().put("auction:bizz:2", "bizz", "6000");
+        redisTemplate.opsForValue().set("auction:bizz:3", "7000");
+        redisTemplate.opsForValue().set("auction:bizzver:3", "1");
+
+        WalletRedisService.SessionExpiryBatch batch =
+                walletRedisService.flushExpiredSessions(List.of(1L, 2L, 3L), null);
+
+        assertThat(batch.flushedBalances()).isEqualTo(Map.of(1L, 5_000L, 3L, 7_000L));
+        assertThat(batch.failedUserIds()).containsExactly(2L);
+        assertThat(redisTemplate.hasKey("auction:bizz:1")).isFalse();
+        assertThat(redisTemplate.hasKey("auction:bizz:2")).isTrue();
+        assertThat(redisTemplate.opsForStream().size("auction:bizz:events")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("flush된 잔액은 DB 반영 확인(ackFlushed) 전까지 대기 해시에 남아 복구 대상이 됨")
+    void keepsFlushedBalanceUntilAcked() {
+        redisTemplate.opsForValue().set("auction:bizz:1", "5000");
+        redisTemplate.opsForValue().set("auction:bizzver:1", "3");
+
+        walletRedisService.flushExpiredSessions(List.of(1L), null);
+
+        assertThat(redisTemplate.hasKey("auction:bizz:1")).isFalse();
+        assertThat(walletRedisService.findStaleFlushPending(0)).isEqualTo(Map.of(1L, 5_000L));
+
+        // 다른 잔액으로 ack하면 (그 사이 다시 flush된 경우) 남겨둠
+        walletRedisService.ackFlushed(Map.of(1L, 4_000L));
+        assertThat(redisTemplate.opsForHash().hasKey("auction:bizz:flush-pending", "1")).isTrue();
+
+        walletRedisService.ackFlushed(Map.of(1L, 5_000L));
+        assertThat(redisTemplate.opsForHash().hasKey("auction:bizz:flush-pending", "1")).isFalse();
+        assertThat(walletRedisService.findStaleFlushPending(0)).isEmpty();
+    }
+}
@@ -0,0 +1,136 @@
+package devut.buzzerbidder.global.config.webSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+
+class RedisBrokerBridgeTest {
+
+    private static final String DESTINATION = "/receive/auction/1";
+
+    private StringRedisTemplate redis;
+    private SimpMessagingTemplate remoteTemplate;
+    private StompSubscriptionTracker remoteTracker;
+    private SimpleMeterRegistry remoteMeters;
+
+    private RedisBrokerBridge local;
+    private RedisBrokerBridge remote;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        remoteTemplate = mock(SimpMessagingTemplate.class);
+        ObjectProvider<SimpMessagingTemplate> remoteProvider = mock(ObjectProvider.class);
+        when(remoteProvider.getObject()).thenReturn(remoteTemplate);
+
+        remoteMeters = new SimpleMeterRegistry();
+        remoteTracker = new StompSubscriptionTracker(remoteMeters);
+
+        local = new RedisBrokerBridge(redis, mock(RedisMessageListenerContainer.class), mock(ObjectProvider.class),
+                new StompSubscriptionTracker(new SimpleMeterRegistry()), new ObjectMapper(),
+                new SimpleMeterRegistry(), true);
+        remote = new RedisBrokerBridge(redis, mock(RedisMessageListenerContainer.class), remoteProvider,
+                remoteTracker, new ObjectMapper(), remoteMeters, true);
+        local.start();
+        remote.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        local.stop();
+        remote.stop();
+    }
+
+    private Message<byte[]> brokerMessage(String destination, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    // local이 발행한 Redis 메시지 본문
+    private String publishFromLocal(String body) {
+        Message<byte[]> message = brokerMessage(DESTINATION, body);
+        assertThat(local.preSend(message, null)).isSameAs(message);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redis, timeout(1_000)).convertAndSend(eq(RedisBrokerBridge.CHANNEL), json.capture());
+        return json.getValue();
+    }
+
+    private void receive(RedisBrokerBridge bridge, String json) {
+        bridge.onMessage(new DefaultMessage(
+                RedisBrokerBridge.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                json.getBytes(StandardCharsets.UTF_8)
+        ), null);
+    }
+
+    @Test
+    @DisplayName("로컬 전달은 그대로 두고 Redis로 발행, 구독자가 있는 다른 노드만 로컬 브로커로 전달")
+    @SuppressWarnings("unchecked")
+    void relaysToSubscribedNode() {
+        remoteTracker.subscribed("s1", "sub-0", DESTINATION);
+        String json = publishFromLocal("{\"price\":1000}");
+
+        receive(remote, json);
+
+        ArgumentCaptor<Message<?>> delivered = ArgumentCaptor.forClass(Message.class);
+        verify(remoteTemplate).send(eq(DESTINATION), delivered.capture());
+        assertThat(new String((byte[]) delivered.getValue().getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"price\":1000}");
+
+        // 다시 brokerChannel로 들어와도 재발행하지 않음
+        assertThat(remote.preSend(delivered.getValue(), null)).isSameAs(delivered.getValue());
+        verify(redis, timeout(1_000).times(1)).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 노드와 발행한 노드 자신은 전달하지 않음")
+    void skipsWithoutSubscribers() {
+        String json = publishFromLocal("{}");
+
+        receive(remote, json);
+        receive(local, json);
+
+        verify(remoteTemplate, never()).send(anyString(), any(Message.class));
+        assertThat(remoteMeters.get("buzzerbidder.ws.bridge.messages").tag("result", "skipped")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 해제/연결 종료 시 구독 수 감소")
+    void tracksSubscriptions() {
+        remoteTracker.subscribed("s1", "sub-0", DESTINATION);
+        remoteTracker.subscribed("s2", "sub-0", DESTINATION);
+
+        remoteTracker.unsubscribed("s1", "sub-0");
+        assertThat(remoteTracker.hasSubscribers(DESTINATION)).isTrue();
+
+        remoteTracker.disconnected("s2");
+        assertThat(remoteTracker.hasSubscribers(DESTINATION)).isFalse();
+    }
+}
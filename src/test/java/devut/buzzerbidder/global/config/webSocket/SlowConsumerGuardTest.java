@@ -0,0 +1,151 @@
+package devut.buzzerbidder.global.config.webSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+class SlowConsumerGuardTest {
+
+    private static final String SESSION = "s1";
+    private static final String ROOM = "/receive/auction/1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private MessageChannel channel;
+    private SlowConsumerGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        channel = mock(MessageChannel.class);
+        guard = new SlowConsumerGuard(meterRegistry, 2);
+    }
+
+    private Message<byte[]> outbound(String conflate, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION);
+        accessor.setDestination(ROOM);
+        if (conflate != null) {
+            accessor.setNativeHeader(SlowConsumerGuard.CONFLATE_HEADER, conflate);
+        }
+        return MessageBuilder.createMessage(body.getBytes(), accessor.getMessageHeaders());
+    }
+
+    private void handled(Message<?> message) {
+        guard.afterMessageHandled(message, channel, null, null);
+    }
+
+    @Test
+    @DisplayName("큐가 차면 입찰 갱신은 최신 1건만 보관했다가 큐가 빠지면 전송")
+    void conflatesWhileBacklogged() {
+        Message<byte[]> first = outbound("bid", "1000");
+        Message<byte[]> second = outbound("bid", "1100");
+        assertThat(guard.preSend(first, channel)).isNotNull();
+        assertThat(guard.preSend(second, channel)).isNotNull();
+
+        Message<byte[]> dropped = outbound("bid", "1200");
+        Message<byte[]> latest = outbound("bid", "1300");
+        assertThat(guard.preSend(dropped, channel)).isNull();
+        assertThat(guard.preSend(latest, channel)).isNull();
+        assertThat(guard.depth(SESSION)).isEqualTo(2);
+
+        handled(first);
+        verify(channel).send(latest);
+        verify(channel, never()).send(dropped);
+        assertThat(meterRegistry.get("buzzerbidder.ws.outbound.conflated").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("경매 종료 같은 일반 메시지는 큐가 차도 전송하고, 보관 중이던 이전 상태는 폐기")
+    void alwaysDeliversNonConflatable() {
+        guard.preSend(outbound("bid", "1000"), channel);
+        guard.preSend(outbound("bid", "1100"), channel);
+        guard.preSend(outbound("bid", "1200"), channel);
+
+        Message<byte[]> end = outbound(null, "END");
+        assertThat(guard.preSend(end, channel)).isSameAs(end);
+        assertThat(guard.depth(SESSION)).isEqualTo(3);
+
+        handled(end);
+        handled(end);
+        verify(channel, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("실행기에 넘기지 못한 메시지는 큐 깊이에서 제외")
+    void releasesOnFailedSend() {
+        Message<byte[]> message = outbound("bid", "1000");
+        guard.preSend(message, channel);
+
+        guard.afterSendCompletion(message, channel, false, new IllegalStateException());
+
+        assertThat(guard.depth(SESSION)).isZero();
+    }
+
+    @Test
+    @DisplayName("conflate 헤더는 클라이언트로 나가는 프레임에서 제거")
+    void stripsConflateHeader() {
+        Message<?> sent = guard.preSend(outbound("bid", "1000"), channel);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(sent);
+        assertThat(accessor.getFirstNativeHeader(SlowConsumerGuard.CONFLATE_HEADER)).isNull();
+        assertThat(accessor.getDestination()).isEqualTo(ROOM);
+        assertThat((byte[]) sent.getPayload()).isEqualTo("1000".getBytes());
+    }
+
+    @Test
+    @DisplayName("감싼 세션은 세션 전송 버퍼에 들어갈 때가 아니라 소켓에 쓰인 뒤에 큐 깊이를 줄임")
+    void releasesWhenWrittenToSocket() throws Exception {
+        WebSocketSession tracked = connect();
+
+        Message<byte[]> first = outbound("bid", "1000");
+        Message<byte[]> second = outbound("bid", "1100");
+        guard.preSend(first, channel);
+        guard.preSend(second, channel);
+        handled(first);
+        handled(second);
+        assertThat(guard.depth(SESSION)).isEqualTo(2);
+
+        Message<byte[]> latest = outbound("bid", "1200");
+        assertThat(guard.preSend(latest, channel)).isNull();
+
+        tracked.sendMessage(new TextMessage("CONNECTED\nversion:1.2\n\n\u0000"));
+        assertThat(guard.depth(SESSION)).isEqualTo(2);
+
+        tracked.sendMessage(new TextMessage("MESSAGE\ndestination:" + ROOM + "\n\n1000\u0000"));
+        assertThat(guard.depth(SESSION)).isEqualTo(1);
+        verify(channel).send(latest);
+    }
+
+    private WebSocketSession connect() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION);
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+
+        // 아웃바운드 채널 기록
+        guard.preSend(outbound(null, "INIT"), channel);
+        handled(outbound(null, "INIT"));
+
+        guard.decorate(handler).afterConnectionEstablished(session);
+
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        return captor.getValue();
+    }
+}
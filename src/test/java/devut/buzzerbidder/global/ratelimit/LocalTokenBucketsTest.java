@@ -0,0 +1,57 @@
+package devut.buzzerbidder.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalTokenBucketsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("버스트 용량만큼 허용한 뒤 거절")
+    void allowsBurstThenRejects() {
+        LocalTokenBuckets<Long> buckets = new LocalTokenBuckets<>(3, 1.0);
+
+        assertThat(buckets.tryAcquire(1L, 0)).isTrue();
+        assertThat(buckets.tryAcquire(1L, 0)).isTrue();
+        assertThat(buckets.tryAcquire(1L, 0)).isTrue();
+        assertThat(buckets.tryAcquire(1L, 0)).isFalse();
+
+        // 다른 key는 별도 버킷
+        assertThat(buckets.tryAcquire(2L, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 충전되고 용량을 넘지 않음")
+    void refillsOverTimeUpToCapacity() {
+        LocalTokenBuckets<Long> buckets = new LocalTokenBuckets<>(2, 2.0);
+        buckets.tryAcquire(1L, 0);
+        buckets.tryAcquire(1L, 0);
+        assertThat(buckets.tryAcquire(1L, 0)).isFalse();
+
+        // 0.5초 → 1개 충전
+        assertThat(buckets.tryAcquire(1L, SECOND / 2)).isTrue();
+        assertThat(buckets.tryAcquire(1L, SECOND / 2)).isFalse();
+
+        // 10초 방치해도 용량(2)까지만
+        long later = 10 * SECOND;
+        assertThat(buckets.tryAcquire(1L, later)).isTrue();
+        assertThat(buckets.tryAcquire(1L, later)).isTrue();
+        assertThat(buckets.tryAcquire(1L, later)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 가득 찰 만큼 쉬었던 버킷만 정리")
+    void evictsOnlyRefilledBuckets() {
+        LocalTokenBuckets<Long> buckets = new LocalTokenBuckets<>(2, 1.0);
+        buckets.tryAcquire(1L, 0);
+        buckets.tryAcquire(2L, 3 * SECOND);
+
+        // key 1: 마지막 사용 0초 → 4초 시점에 2초(가득 참) 이상 경과 / key 2: 1초 경과
+        assertThat(buckets.evictIdle(4 * SECOND)).isEqualTo(1);
+        assertThat(buckets.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,85 @@
+package devut.buzzerbidder.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.global.redis.AuctionRedisKeys.Mode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class AuctionRedisKeysTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+
+    @Test
+    @DisplayName("LEGACY 모드는 기존 단일 키 레이아웃을 그대로 사용")
+    void legacyLayout() {
+        AuctionRedisKeys keys = new AuctionRedisKeys(redis, Mode.LEGACY, 16);
+
+        AuctionRedisKeys.ItemKeys item = keys.item(42L);
+        assertThat(item.itemKey()).isEqualTo("liveItem:42");
+        assertThat(item.depositsKey()).isEqualTo("liveItem:42:deposits");
+        assertThat(item.endingKey()).isEqualTo("auction:live:ending");
+        assertThat(keys.endingKeys()).containsExactly("auction:live:ending");
+
+        AuctionRedisKeys.WalletKeys wallet = keys.wallet(15L);
+        assertThat(wallet.balanceKey()).isEqualTo("auction:bizz:15");
+        assertThat(wallet.eventStreamKey()).isEqualTo("auction:bizz:events");
+        assertThat(wallet.flushPendingKey()).isEqualTo("auction:bizz:flush-pending");
+        assertThat(keys.isSplitMode()).isFalse();
+    }
+
+    @Test
+    @DisplayName("SHARDED 모드는 아이템/지갑 키가 버킷 해시태그를 공유")
+    void shardedLayoutSharesHashTag() {
+        AuctionRedisKeys keys = new AuctionRedisKeys(redis, Mode.SHARDED, 16);
+
+        AuctionRedisKeys.ItemKeys item = keys.item(42L);
+        assertThat(item.itemKey()).isEqualTo("liveItem:{i10}:42");
+        assertThat(item.depositsKey()).isEqualTo("liveItem:{i10}:42:deposits");
+        assertThat(item.endingKey()).isEqualTo("auction:live:ending:{i10}");
+        assertThat(item.priceIndexKey()).isEqualTo("liveItems:currentPrice:{i10}");
+        assertThat(keys.endingKeys()).hasSize(16).contains("auction:live:ending:{i10}");
+
+        AuctionRedisKeys.WalletKeys wallet = keys.wallet(15L);
+        assertThat(wallet.sessionKey()).isEqualTo("auction:session:{w15}:15");
+        assertThat(wallet.eventStreamKey()).isEqualTo("auction:bizz:events:{w15}");
+        assertThat(wallet.flushPendingKey()).isEqualTo("auction:bizz:flush-pending:{w15}");
+
+        assertThat(keys.isCrossSlot(keys.wallet(1L), keys.wallet(17L))).isFalse();
+        assertThat(keys.isCrossSlot(keys.wallet(1L), keys.wallet(2L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("DUAL 모드는 LEGACY 상태가 남아있으면 LEGACY 키, 없으면 SHARDED 키를 사용")
+    void dualPrefersLiveLegacyState() {
+        AuctionRedisKeys keys = new AuctionRedisKeys(redis, Mode.DUAL, 4);
+        when(redis.hasKey("liveItem:1")).thenReturn(true);
+        when(redis.hasKey("liveItem:2")).thenReturn(false);
+        when(redis.hasKey("auction:bizz:7")).thenReturn(false);
+
+        assertThat(keys.item(1L).itemKey()).isEqualTo("liveItem:1");
+        assertThat(keys.item(2L).itemKey()).isEqualTo("liveItem:{i2}:2");
+        assertThat(keys.itemForWrite(1L).itemKey()).isEqualTo("liveItem:{i1}:1");
+        assertThat(keys.wallet(7L).balanceKey()).isEqualTo("auction:bizz:{w3}:7");
+
+        // 스케줄러/컨슈머는 LEGACY 키 + 버킷 키 전부를 스캔
+        assertThat(keys.startingKeys()).hasSize(5).first().isEqualTo("auction:live:starting");
+        assertThat(keys.walletEventStreamKeys()).hasSize(5).first().isEqualTo("auction:bizz:events");
+        assertThat(keys.isCrossSlot(keys.wallet(7L), keys.wallet(8L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 세션 키에서 userId를 꺼내고, 세션 키가 아니면 null")
+    void parsesSessionUserId() {
+        AuctionRedisKeys keys = new AuctionRedisKeys(redis, Mode.SHARDED, 16);
+
+        assertThat(keys.sessionUserId("auction:session:15")).isEqualTo(15L);
+        assertThat(keys.sessionUserId("auction:session:{w15}:15")).isEqualTo(15L);
+        assertThat(keys.sessionUserId(keys.wallet(31L).sessionKey())).isEqualTo(31L);
+        assertThat(keys.sessionUserId("auction:bizz:15")).isNull();
+        assertThat(keys.sessionUserId("auction:session:abc")).isNull();
+    }
+}
@@ -0,0 +1,45 @@
+package devut.buzzerbidder.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClockOffsetEstimatorTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("서버 시각은 왕복 중간 시점 기준, 오차 상한은 RTT/2부터 시작")
+    void anchorsAtRttMidpoint() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(200);
+        assertThat(estimator.hasSample()).isFalse();
+
+        // 로컬 1000ms에 보내고 1004ms에 받음, 서버 시각 50_000ms
+        estimator.record(1_000 * MS, 1_004 * MS, 50_000_000L);
+
+        assertThat(estimator.serverNowMs(1_002 * MS)).isEqualTo(50_000L);
+        assertThat(estimator.serverNowMs(1_102 * MS)).isEqualTo(50_100L);
+        assertThat(estimator.errorBoundMs(1_002 * MS)).isCloseTo(2.0, within(1e-9));
+        // 10초 뒤: 2ms + 10_000ms × 200ppm
+        assertThat(estimator.errorBoundMs(11_002 * MS)).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("연속 샘플로 드리프트를 추정하고 상한으로 제한")
+    void estimatesDriftWithinBound() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(200);
+
+        // 서버 시계가 10초에 1ms(100ppm) 빠름
+        estimator.record(0, 0, 0L);
+        estimator.record(10_000 * MS, 10_000 * MS, 10_001_000L);
+        assertThat(estimator.driftPpm()).isCloseTo(20.0, within(1e-6)); // 평활화 0.2
+
+        // 터무니없는 값(1초 차이)은 상한(200ppm)으로 잘림
+        ClockOffsetEstimator noisy = new ClockOffsetEstimator(200);
+        noisy.record(0, 0, 0L);
+        noisy.record(10_000 * MS, 10_000 * MS, 11_000_000L);
+        assertThat(noisy.driftPpm()).isCloseTo(200.0, within(1e-6));
+    }
+}
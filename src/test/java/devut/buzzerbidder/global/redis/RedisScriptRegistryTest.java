@@ -0,0 +1,68 @@
+package devut.buzzerbidder.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+class RedisScriptRegistryTest {
+
+    private static final RedisLuaScript<String> SCRIPT =
+            RedisLuaScript.of("test.echo", "return ARGV[1]", String.class);
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisScriptRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        registry = new RedisScriptRegistry(stringRedisTemplate, new SimpleMeterRegistry());
+    }
+
+    private List<RedisScriptRegistry.ScriptCall> calls(String... args) {
+        return Arrays.stream(args)
+                .map(arg -> new RedisScriptRegistry.ScriptCall(List.of("k:" + arg), List.of(arg)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("파이프라인 중 한 호출이 실패해도 나머지 호출 결과는 그대로 반환")
+    void returnsResultOrErrorPerCall() {
+        RedisSystemException boom = new RedisSystemException("WRONGTYPE", new IllegalStateException("WRONGTYPE"));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisPipelineException(boom, Arrays.asList("a", boom, "c")));
+
+        List<RedisScriptRegistry.ScriptResult<String>> results = registry.executePipelined(SCRIPT, calls("a", "b", "c"));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isOk()).isTrue();
+        assertThat(results.get(0).value()).isEqualTo("a");
+        assertThat(results.get(1).isOk()).isFalse();
+        assertThat(results.get(1).error()).isSameAs(boom);
+        assertThat(results.get(2).value()).isEqualTo("c");
+    }
+
+    @Test
+    @DisplayName("모두 성공하면 호출 순서대로 결과 반환")
+    void returnsResultsInCallOrder() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of("a", "b"));
+
+        List<RedisScriptRegistry.ScriptResult<String>> results = registry.executePipelined(SCRIPT, calls("a", "b"));
+
+        assertThat(results).extracting(RedisScriptRegistry.ScriptResult::value).containsExactly("a", "b");
+        assertThat(results).allMatch(RedisScriptRegistry.ScriptResult::isOk);
+    }
+}
@@ -0,0 +1,177 @@
+package devut.buzzerbidder.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.spring.data.connection.RedissonConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 운영과 같은 Redisson 커넥션 팩토리로 PEL 회수/dead-letter 경로 검증
+ */
+@Testcontainers
+class RedisStreamBatchConsumerTest {
+
+    private static final String STREAM = "test:stream";
+    private static final String OTHER_STREAM = "test:stream:other";
+    private static final String GROUP = "test-group";
+    private static final String DEAD_LETTER = "test:stream:dlq";
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private RedissonClient redisson;
+    private StringRedisTemplate redisTemplate;
+    private TestConsumer consumer;
+
+    /** down=true면 모든 배치 실패, poison 필드가 있는 레코드가 섞이면 배치 실패 */
+    private static final class TestConsumer extends RedisStreamBatchConsumer {
+
+        private final AtomicBoolean down = new AtomicBoolean();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final Map<String, Boolean> processed = new ConcurrentHashMap<>();
+
+        private TestConsumer(StringRedisTemplate redisTemplate, List<String> streamKeys) {
+            super(redisTemplate, new SimpleMeterRegistry(), new Settings(
+                    streamKeys,
+                    GROUP,
+                    "consumer-1",
+                    10,
+                    Duration.ofMillis(100),
+                    Duration.ofMillis(300),
+                    DEAD_LETTER
+            ));
+        }
+
+        @Override
+        protected void handleBatch(List<MapRecord<String, String, String>> records) {
+            attempts.incrementAndGet();
+            if (down.get()) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            if (records.stream().anyMatch(r -> r.getValue().containsKey("poison"))) {
+                throw new IllegalArgumentException("잘못된 레코드");
+            }
+            records.forEach(r -> processed.put(r.getValue().get("n"), true));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redisson = Redisson.create(config);
+
+        RedissonConnectionFactory factory = new RedissonConnectionFactory(redisson);
+        redisTemplate = new StringRedisTemplate(factory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.delete(List.of(STREAM, OTHER_STREAM, DEAD_LETTER));
+
+        consumer = new TestConsumer(redisTemplate, List.of(STREAM));
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.stop();
+        redisson.shutdown();
+    }
+
+    private void add(Map<String, String> body) {
+        add(STREAM, body);
+    }
+
+    private void add(String stream, Map<String, String> body) {
+        redisTemplate.opsForStream().add(StreamRecords.string(body).withStreamKey(stream));
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream().pending(STREAM, GROUP).getTotalPendingMessages();
+    }
+
+    private long deadLetterCount() {
+        Long size = redisTemplate.opsForStream().size(DEAD_LETTER);
+        return size == null ? 0L : size;
+    }
+
+    @Test
+    @DisplayName("전부 실패한 배치는 dead-letter 없이 PEL에 남았다가 복구 후 회수 경로에서 처리")
+    void leavesFailedBatchPendingAndReclaims() {
+        consumer.down.set(true);
+        consumer.start();
+
+        add(Map.of("n", "1"));
+        add(Map.of("n", "2"));
+        add(Map.of("n", "3"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> consumer.attempts.get() > 0 && pendingCount() == 3);
+        assertThat(deadLetterCount()).isZero();
+
+        consumer.down.set(false);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> pendingCount() == 0);
+        assertThat(consumer.processed).containsOnlyKeys("1", "2", "3");
+        assertThat(deadLetterCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 레코드는 성공하는데 혼자 실패하는 레코드만 dead-letter 후 ACK")
+    void deadLettersOnlyPoisonRecords() {
+        consumer.start();
+
+        add(Map.of("n", "1"));
+        add(Map.of("n", "bad", "poison", "true"));
+        add(Map.of("n", "2"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> deadLetterCount() == 1 && pendingCount() == 0);
+        assertThat(consumer.processed).containsOnlyKeys("1", "2");
+    }
+
+    @Test
+    @DisplayName("group이 나중에 생겨도 이미 쌓인 이벤트부터 소비")
+    void newGroupReadsExistingEvents() {
+        add(Map.of("n", "before-1"));
+        add(Map.of("n", "before-2"));
+
+        consumer.start();
+        add(Map.of("n", "after"));
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> consumer.processed.keySet().containsAll(List.of("before-1", "before-2", "after")));
+    }
+
+    @Test
+    @DisplayName("부팅 때 없던 스트림은 함께 만들고, group이 사라진 스트림은 다시 만들며 다른 스트림 소비는 계속")
+    void recreatesMissingGroupPerStream() {
+        consumer = new TestConsumer(redisTemplate, List.of(STREAM, OTHER_STREAM));
+        consumer.start();
+        assertThat(redisTemplate.hasKey(OTHER_STREAM)).isTrue();
+
+        redisTemplate.opsForStream().destroyGroup(STREAM, GROUP);
+        add(STREAM, Map.of("n", "1"));
+        add(OTHER_STREAM, Map.of("n", "2"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> consumer.processed.containsKey("2"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> consumer.processed.containsKey("1"));
+    }
+}
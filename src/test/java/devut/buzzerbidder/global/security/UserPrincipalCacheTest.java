@@ -0,0 +1,88 @@
+package devut.buzzerbidder.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import devut.buzzerbidder.domain.user.entity.User;
+import devut.buzzerbidder.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class UserPrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private StringRedisTemplate redis;
+    private UserPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        redis = mock(StringRedisTemplate.class);
+        cache = new UserPrincipalCache(
+                userRepository,
+                redis,
+                mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(),
+                true, 100, 60_000
+        );
+    }
+
+    private User user(String nickname) {
+        return User.builder()
+                .email("a@test.com")
+                .nickname(nickname)
+                .role(User.UserRole.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 사용자는 DB를 다시 조회하지 않음")
+    void cachesPrincipal() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user("닉네임")));
+
+        assertThat(cache.get(1L).nickname()).isEqualTo("닉네임");
+        assertThat(cache.get(1L).nickname()).isEqualTo("닉네임");
+
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 노드에 전파하고 다음 조회에서 새 값을 적재")
+    void invalidatesAndPublishes() {
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(user("이전")))
+                .thenReturn(Optional.of(user("변경")));
+        cache.get(1L);
+
+        cache.invalidate(1L);
+
+        verify(redis).convertAndSend(UserPrincipalCache.INVALIDATE_CHANNEL, "1");
+        assertThat(cache.get(1L).nickname()).isEqualTo("변경");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시 제거, 없는 사용자는 null")
+    void removesOnMessage() {
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(user("이전")))
+                .thenReturn(Optional.empty());
+        cache.get(1L);
+
+        cache.onMessage(new DefaultMessage(
+                UserPrincipalCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,72 @@
+package devut.buzzerbidder.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(meterRegistry, true, 100, 1_000);
+        verifications = new AtomicInteger();
+    }
+
+    private Function<String, VerifiedTokenCache.Verified> verifier(long expiresAtMs) {
+        return jwt -> {
+            verifications.incrementAndGet();
+            return jwt.startsWith("valid")
+                    ? new VerifiedTokenCache.Verified(Map.of("id", 1L), expiresAtMs)
+                    : null;
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("buzzerbidder.auth.token.cache.requests").tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 exp 전까지 재검증 없이 반환, exp 이후엔 거절")
+    void cachesUntilExp() {
+        assertThat(cache.payloadOrNull("valid.token", 0, verifier(10_000))).containsEntry("id", 1L);
+        assertThat(cache.payloadOrNull("valid.token", 9_999, verifier(10_000))).containsEntry("id", 1L);
+        assertThat(cache.payloadOrNull("valid.token", 10_000, verifier(10_000))).isNull();
+
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 negative-ttl 동안 재검증하지 않음")
+    void cachesRejection() {
+        assertThat(cache.payloadOrNull("forged.token", 0, verifier(10_000))).isNull();
+        assertThat(cache.payloadOrNull("forged.token", 500, verifier(10_000))).isNull();
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(count("negative_hit")).isEqualTo(1);
+
+        cache.payloadOrNull("forged.token", 1_000, verifier(10_000));
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 캐시하지 않음")
+    void doesNotCacheExpired() {
+        assertThat(cache.payloadOrNull("valid.expired", 5_000, verifier(1_000))).isNull();
+        assertThat(cache.payloadOrNull("valid.expired", 5_001, verifier(1_000))).isNull();
+
+        assertThat(verifications.get()).isEqualTo(1);
+    }
+}
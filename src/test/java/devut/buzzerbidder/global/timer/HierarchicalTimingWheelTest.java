@@ -0,0 +1,69 @@
+package devut.buzzerbidder.global.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START_MS = 1_700_000_000_000L;
+
+    private List<String> keys(List<HierarchicalTimingWheel.Expired<String>> expired) {
+        return expired.stream().map(HierarchicalTimingWheel.Expired::key).toList();
+    }
+
+    @Test
+    @DisplayName("데드라인이 된 tick에서만 만료")
+    void expiresAtDeadlineTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START_MS);
+        wheel.schedule("a", START_MS + 35);
+
+        assertThat(wheel.advanceTo(START_MS + 29)).isEmpty();
+
+        List<HierarchicalTimingWheel.Expired<String>> due = wheel.advanceTo(START_MS + 30);
+        assertThat(keys(due)).containsExactly("a");
+        assertThat(due.get(0).deadlineMs()).isEqualTo(START_MS + 35);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 level에 있던 데드라인도 cascade를 거쳐 정확한 tick에 만료")
+    void cascadesFromUpperLevels() {
+        // level0 = 8 tick(80ms), level1 = 64 tick(640ms), level2 = 512 tick
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START_MS);
+        wheel.schedule("mid", START_MS + 250);
+        wheel.schedule("far", START_MS + 3_000);
+
+        assertThat(wheel.advanceTo(START_MS + 240)).isEmpty();
+        assertThat(keys(wheel.advanceTo(START_MS + 250))).containsExactly("mid");
+
+        assertThat(wheel.advanceTo(START_MS + 2_990)).isEmpty();
+        assertThat(keys(wheel.advanceTo(START_MS + 3_000))).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("재등록은 기존 데드라인을 대체하고, 취소하면 만료되지 않음")
+    void rescheduleAndCancel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START_MS);
+        wheel.schedule("extended", START_MS + 50);
+        wheel.schedule("cancelled", START_MS + 50);
+
+        wheel.schedule("extended", START_MS + 1_000);
+        assertThat(wheel.cancel("cancelled")).isTrue();
+
+        assertThat(wheel.advanceTo(START_MS + 500)).isEmpty();
+        assertThat(wheel.deadlineOf("extended")).isEqualTo(START_MS + 1_000);
+        assertThat(keys(wheel.advanceTo(START_MS + 1_000))).containsExactly("extended");
+    }
+
+    @Test
+    @DisplayName("이미 지난 데드라인은 다음 advance에서 바로 만료")
+    void pastDeadlineExpiresImmediately() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START_MS);
+        wheel.schedule("late", START_MS - 1_000);
+
+        assertThat(keys(wheel.advanceTo(START_MS))).containsExactly("late");
+    }
+}